@@ -0,0 +1,32 @@
+package com.codemagic.catalog.admin.application;
+
+import com.codemagic.catalog.admin.domain.validation.Error;
+
+import java.util.Comparator;
+import java.util.List;
+
+public record BulkCreateOutput(int created, int rejected, List<Item> items) {
+
+    public static BulkCreateOutput from(final List<Item> items) {
+        final var sorted = items.stream()
+                .sorted(Comparator.comparingInt(Item::index))
+                .toList();
+        final var rejected = (int) sorted.stream().filter(Item::hasErrors).count();
+        return new BulkCreateOutput(sorted.size() - rejected, rejected, sorted);
+    }
+
+    public record Item(int index, String id, List<Error> errors) {
+
+        public static Item created(final int index, final String id) {
+            return new Item(index, id, List.of());
+        }
+
+        public static Item rejected(final int index, final List<Error> errors) {
+            return new Item(index, null, List.copyOf(errors));
+        }
+
+        public boolean hasErrors() {
+            return !errors.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.codemagic.catalog.admin.application;
+
+import com.codemagic.catalog.admin.domain.validation.Error;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+public final class BulkCreation<T> {
+
+    public static final int CHUNK_SIZE = 500;
+
+    private final List<BulkCreateOutput.Item> items = new ArrayList<>();
+    private final List<Integer> indexes = new ArrayList<>();
+    private final List<T> accepted = new ArrayList<>();
+
+    public void accept(final int index, final T aggregate) {
+        this.indexes.add(index);
+        this.accepted.add(aggregate);
+    }
+
+    public void reject(final int index, final List<Error> errors) {
+        this.items.add(BulkCreateOutput.Item.rejected(index, errors));
+    }
+
+    public BulkCreateOutput persist(final Function<List<T>, List<T>> createAll, final Function<T, String> id) {
+        for (int from = 0; from < this.accepted.size(); from += CHUNK_SIZE) {
+            final var to = Math.min(from + CHUNK_SIZE, this.accepted.size());
+            final var chunk = this.accepted.subList(from, to);
+            final var chunkIndexes = this.indexes.subList(from, to);
+
+            try {
+                createAll.apply(chunk);
+                for (int i = 0; i < chunk.size(); i++) {
+                    this.items.add(BulkCreateOutput.Item.created(chunkIndexes.get(i), id.apply(chunk.get(i))));
+                }
+            } catch (final RuntimeException e) {
+                final var errors = List.of(new Error(e.getMessage()));
+                chunkIndexes.forEach(index -> this.items.add(BulkCreateOutput.Item.rejected(index, errors)));
+            }
+        }
+        return BulkCreateOutput.from(this.items);
+    }
+}
@@ -0,0 +1,11 @@
+package com.codemagic.catalog.admin.application;
+
+import java.io.OutputStream;
+import java.time.Instant;
+
+public record ExportCommand(Instant updatedSince, OutputStream output) {
+
+    public static ExportCommand with(final Instant updatedSince, final OutputStream output) {
+        return new ExportCommand(updatedSince, output);
+    }
+}
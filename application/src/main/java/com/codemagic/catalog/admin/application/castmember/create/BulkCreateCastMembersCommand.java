@@ -0,0 +1,9 @@
+package com.codemagic.catalog.admin.application.castmember.create;
+
+import java.util.List;
+
+public record BulkCreateCastMembersCommand(List<CreateCastMemberCommand> items) {
+    public static BulkCreateCastMembersCommand with(final List<CreateCastMemberCommand> items) {
+        return new BulkCreateCastMembersCommand(items != null ? items : List.of());
+    }
+}
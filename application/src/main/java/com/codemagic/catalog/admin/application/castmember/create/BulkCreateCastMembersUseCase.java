@@ -0,0 +1,8 @@
+package com.codemagic.catalog.admin.application.castmember.create;
+
+import com.codemagic.catalog.admin.application.BulkCreateOutput;
+import com.codemagic.catalog.admin.application.UseCase;
+
+public abstract class BulkCreateCastMembersUseCase
+        extends UseCase<BulkCreateCastMembersCommand, BulkCreateOutput> {
+}
@@ -0,0 +1,45 @@
+package com.codemagic.catalog.admin.application.castmember.create;
+
+import com.codemagic.catalog.admin.application.BulkCreateOutput;
+import com.codemagic.catalog.admin.application.BulkCreation;
+import com.codemagic.catalog.admin.domain.castmember.CastMember;
+import com.codemagic.catalog.admin.domain.castmember.CastMemberGateway;
+import com.codemagic.catalog.admin.domain.validation.Error;
+import com.codemagic.catalog.admin.domain.validation.handler.Notification;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultBulkCreateCastMembersUseCase extends BulkCreateCastMembersUseCase {
+
+    private final CastMemberGateway gateway;
+
+    public DefaultBulkCreateCastMembersUseCase(final CastMemberGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public BulkCreateOutput execute(final BulkCreateCastMembersCommand command) {
+        final var creation = new BulkCreation<CastMember>();
+        final var items = command.items();
+
+        for (int index = 0; index < items.size(); index++) {
+            final var item = items.get(index);
+            if (item == null) {
+                creation.reject(index, List.of(new Error("'item' should not be null")));
+                continue;
+            }
+
+            final var notification = Notification.create();
+            final var member = notification.validate(() -> CastMember.newMember(item.name(), item.type()));
+
+            if (notification.hasErrors()) {
+                creation.reject(index, notification.getErrors());
+            } else {
+                creation.accept(index, member);
+            }
+        }
+
+        return creation.persist(this.gateway::createAll, member -> member.getId().getValue());
+    }
+}
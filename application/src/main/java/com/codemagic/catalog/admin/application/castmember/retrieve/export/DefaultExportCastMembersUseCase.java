@@ -0,0 +1,20 @@
+package com.codemagic.catalog.admin.application.castmember.retrieve.export;
+
+import com.codemagic.catalog.admin.application.ExportCommand;
+import com.codemagic.catalog.admin.domain.castmember.CastMemberExportGateway;
+
+import java.util.Objects;
+
+public class DefaultExportCastMembersUseCase extends ExportCastMembersUseCase {
+
+    private final CastMemberExportGateway gateway;
+
+    public DefaultExportCastMembersUseCase(final CastMemberExportGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public Long execute(final ExportCommand command) {
+        return this.gateway.export(command.updatedSince(), command.output());
+    }
+}
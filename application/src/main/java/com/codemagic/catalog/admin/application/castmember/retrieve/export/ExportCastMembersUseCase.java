@@ -0,0 +1,7 @@
+package com.codemagic.catalog.admin.application.castmember.retrieve.export;
+
+import com.codemagic.catalog.admin.application.ExportCommand;
+import com.codemagic.catalog.admin.application.UseCase;
+
+public abstract class ExportCastMembersUseCase extends UseCase<ExportCommand, Long> {
+}
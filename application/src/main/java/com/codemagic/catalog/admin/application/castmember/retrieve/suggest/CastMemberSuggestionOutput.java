@@ -0,0 +1,9 @@
+package com.codemagic.catalog.admin.application.castmember.retrieve.suggest;
+
+import com.codemagic.catalog.admin.domain.pagination.Suggestion;
+
+public record CastMemberSuggestionOutput(String id, String name) {
+    public static CastMemberSuggestionOutput from(final Suggestion suggestion) {
+        return new CastMemberSuggestionOutput(suggestion.id(), suggestion.name());
+    }
+}
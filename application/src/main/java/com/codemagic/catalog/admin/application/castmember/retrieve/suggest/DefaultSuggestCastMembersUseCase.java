@@ -0,0 +1,26 @@
+package com.codemagic.catalog.admin.application.castmember.retrieve.suggest;
+
+import com.codemagic.catalog.admin.domain.castmember.CastMemberGateway;
+import com.codemagic.catalog.admin.domain.pagination.SuggestionQuery;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultSuggestCastMembersUseCase extends SuggestCastMembersUseCase {
+
+    private final CastMemberGateway gateway;
+
+    public DefaultSuggestCastMembersUseCase(final CastMemberGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public List<CastMemberSuggestionOutput> execute(final SuggestionQuery query) {
+        if (query.isEmpty()) {
+            return List.of();
+        }
+        return this.gateway.suggest(query).stream()
+                .map(CastMemberSuggestionOutput::from)
+                .toList();
+    }
+}
@@ -0,0 +1,9 @@
+package com.codemagic.catalog.admin.application.castmember.retrieve.suggest;
+
+import com.codemagic.catalog.admin.application.UseCase;
+import com.codemagic.catalog.admin.domain.pagination.SuggestionQuery;
+
+import java.util.List;
+
+public abstract class SuggestCastMembersUseCase extends UseCase<SuggestionQuery, List<CastMemberSuggestionOutput>> {
+}
@@ -0,0 +1,9 @@
+package com.codemagic.catalog.admin.application.category.create;
+
+import java.util.List;
+
+public record BulkCreateCategoriesCommand(List<CreateCategoryCommand> items) {
+    public static BulkCreateCategoriesCommand with(final List<CreateCategoryCommand> items) {
+        return new BulkCreateCategoriesCommand(items != null ? items : List.of());
+    }
+}
@@ -0,0 +1,8 @@
+package com.codemagic.catalog.admin.application.category.create;
+
+import com.codemagic.catalog.admin.application.BulkCreateOutput;
+import com.codemagic.catalog.admin.application.UseCase;
+
+public abstract class BulkCreateCategoriesUseCase
+        extends UseCase<BulkCreateCategoriesCommand, BulkCreateOutput> {
+}
@@ -0,0 +1,46 @@
+package com.codemagic.catalog.admin.application.category.create;
+
+import com.codemagic.catalog.admin.application.BulkCreateOutput;
+import com.codemagic.catalog.admin.application.BulkCreation;
+import com.codemagic.catalog.admin.domain.category.Category;
+import com.codemagic.catalog.admin.domain.category.CategoryGateway;
+import com.codemagic.catalog.admin.domain.validation.Error;
+import com.codemagic.catalog.admin.domain.validation.handler.Notification;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultBulkCreateCategoriesUseCase extends BulkCreateCategoriesUseCase {
+
+    private final CategoryGateway gateway;
+
+    public DefaultBulkCreateCategoriesUseCase(final CategoryGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public BulkCreateOutput execute(final BulkCreateCategoriesCommand command) {
+        final var creation = new BulkCreation<Category>();
+        final var items = command.items();
+
+        for (int index = 0; index < items.size(); index++) {
+            final var item = items.get(index);
+            if (item == null) {
+                creation.reject(index, List.of(new Error("'item' should not be null")));
+                continue;
+            }
+
+            final var note = Notification.create();
+            final var category = Category.newCategory(item.name(), item.description());
+            category.validate(note);
+
+            if (note.hasErrors()) {
+                creation.reject(index, note.getErrors());
+            } else {
+                creation.accept(index, category);
+            }
+        }
+
+        return creation.persist(this.gateway::createAll, category -> category.getId().getValue());
+    }
+}
@@ -0,0 +1,20 @@
+package com.codemagic.catalog.admin.application.category.retrieve.export;
+
+import com.codemagic.catalog.admin.application.ExportCommand;
+import com.codemagic.catalog.admin.domain.category.CategoryExportGateway;
+
+import java.util.Objects;
+
+public class DefaultExportCategoriesUseCase extends ExportCategoriesUseCase {
+
+    private final CategoryExportGateway gateway;
+
+    public DefaultExportCategoriesUseCase(final CategoryExportGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public Long execute(final ExportCommand command) {
+        return this.gateway.export(command.updatedSince(), command.output());
+    }
+}
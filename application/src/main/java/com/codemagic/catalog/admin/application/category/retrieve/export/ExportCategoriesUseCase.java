@@ -0,0 +1,7 @@
+package com.codemagic.catalog.admin.application.category.retrieve.export;
+
+import com.codemagic.catalog.admin.application.ExportCommand;
+import com.codemagic.catalog.admin.application.UseCase;
+
+public abstract class ExportCategoriesUseCase extends UseCase<ExportCommand, Long> {
+}
@@ -0,0 +1,9 @@
+package com.codemagic.catalog.admin.application.category.retrieve.suggest;
+
+import com.codemagic.catalog.admin.domain.pagination.Suggestion;
+
+public record CategorySuggestionOutput(String id, String name) {
+    public static CategorySuggestionOutput from(final Suggestion suggestion) {
+        return new CategorySuggestionOutput(suggestion.id(), suggestion.name());
+    }
+}
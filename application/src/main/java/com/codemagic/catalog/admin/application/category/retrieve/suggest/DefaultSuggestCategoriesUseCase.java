@@ -0,0 +1,26 @@
+package com.codemagic.catalog.admin.application.category.retrieve.suggest;
+
+import com.codemagic.catalog.admin.domain.category.CategoryGateway;
+import com.codemagic.catalog.admin.domain.pagination.SuggestionQuery;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultSuggestCategoriesUseCase extends SuggestCategoriesUseCase {
+
+    private final CategoryGateway gateway;
+
+    public DefaultSuggestCategoriesUseCase(final CategoryGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public List<CategorySuggestionOutput> execute(final SuggestionQuery query) {
+        if (query.isEmpty()) {
+            return List.of();
+        }
+        return this.gateway.suggest(query).stream()
+                .map(CategorySuggestionOutput::from)
+                .toList();
+    }
+}
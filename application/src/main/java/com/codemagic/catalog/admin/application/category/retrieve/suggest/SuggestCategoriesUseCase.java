@@ -0,0 +1,9 @@
+package com.codemagic.catalog.admin.application.category.retrieve.suggest;
+
+import com.codemagic.catalog.admin.application.UseCase;
+import com.codemagic.catalog.admin.domain.pagination.SuggestionQuery;
+
+import java.util.List;
+
+public abstract class SuggestCategoriesUseCase extends UseCase<SuggestionQuery, List<CategorySuggestionOutput>> {
+}
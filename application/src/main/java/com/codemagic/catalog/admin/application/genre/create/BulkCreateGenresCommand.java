@@ -0,0 +1,9 @@
+package com.codemagic.catalog.admin.application.genre.create;
+
+import java.util.List;
+
+public record BulkCreateGenresCommand(List<CreateGenreCommand> items) {
+    public static BulkCreateGenresCommand with(final List<CreateGenreCommand> items) {
+        return new BulkCreateGenresCommand(items != null ? items : List.of());
+    }
+}
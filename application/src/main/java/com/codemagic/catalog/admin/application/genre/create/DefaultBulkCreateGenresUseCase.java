@@ -0,0 +1,84 @@
+package com.codemagic.catalog.admin.application.genre.create;
+
+import com.codemagic.catalog.admin.application.BulkCreateOutput;
+import com.codemagic.catalog.admin.application.BulkCreation;
+import com.codemagic.catalog.admin.domain.category.CategoryGateway;
+import com.codemagic.catalog.admin.domain.category.CategoryID;
+import com.codemagic.catalog.admin.domain.genre.Genre;
+import com.codemagic.catalog.admin.domain.genre.GenreGateway;
+import com.codemagic.catalog.admin.domain.validation.Error;
+import com.codemagic.catalog.admin.domain.validation.handler.Notification;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class DefaultBulkCreateGenresUseCase extends BulkCreateGenresUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+
+    public DefaultBulkCreateGenresUseCase(final CategoryGateway categoryGateway, final GenreGateway genreGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public BulkCreateOutput execute(final BulkCreateGenresCommand command) {
+        final var creation = new BulkCreation<Genre>();
+        final var items = command.items();
+        final var existing = existingCategories(items);
+
+        for (int index = 0; index < items.size(); index++) {
+            final var item = items.get(index);
+            if (item == null) {
+                creation.reject(index, List.of(new Error("'item' should not be null")));
+                continue;
+            }
+
+            final var categories = toCategoriesID(item.categories());
+            final var notification = Notification.create();
+
+            final var missingIds = categories.stream()
+                    .filter(id -> !existing.contains(id))
+                    .map(CategoryID::getValue)
+                    .collect(Collectors.joining(", "));
+            if (!missingIds.isEmpty()) {
+                notification.append(new Error("Some categories could not be found: %s".formatted(missingIds)));
+            }
+
+            final var genre = notification.validate(() -> Genre.newGenre(item.name()));
+
+            if (notification.hasErrors()) {
+                creation.reject(index, notification.getErrors());
+            } else {
+                creation.accept(index, genre.addCategories(categories));
+            }
+        }
+
+        return creation.persist(this.genreGateway::createAll, genre -> genre.getId().getValue());
+    }
+
+    private Set<CategoryID> existingCategories(final List<CreateGenreCommand> items) {
+        final var categories = items.stream()
+                .filter(Objects::nonNull)
+                .flatMap(item -> toCategoriesID(item.categories()).stream())
+                .collect(Collectors.toSet());
+
+        return categories.isEmpty()
+                ? Set.of()
+                : new HashSet<>(this.categoryGateway.existsByIds(categories));
+    }
+
+    private List<CategoryID> toCategoriesID(final List<String> categories) {
+        if (categories == null) {
+            return List.of();
+        }
+        return categories.stream()
+                .distinct()
+                .map(CategoryID::from)
+                .toList();
+    }
+}
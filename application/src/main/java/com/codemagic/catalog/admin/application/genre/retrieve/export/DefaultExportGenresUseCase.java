@@ -0,0 +1,20 @@
+package com.codemagic.catalog.admin.application.genre.retrieve.export;
+
+import com.codemagic.catalog.admin.application.ExportCommand;
+import com.codemagic.catalog.admin.domain.genre.GenreExportGateway;
+
+import java.util.Objects;
+
+public class DefaultExportGenresUseCase extends ExportGenresUseCase {
+
+    private final GenreExportGateway gateway;
+
+    public DefaultExportGenresUseCase(final GenreExportGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public Long execute(final ExportCommand command) {
+        return this.gateway.export(command.updatedSince(), command.output());
+    }
+}
@@ -0,0 +1,7 @@
+package com.codemagic.catalog.admin.application.genre.retrieve.export;
+
+import com.codemagic.catalog.admin.application.ExportCommand;
+import com.codemagic.catalog.admin.application.UseCase;
+
+public abstract class ExportGenresUseCase extends UseCase<ExportCommand, Long> {
+}
@@ -0,0 +1,26 @@
+package com.codemagic.catalog.admin.application.genre.retrieve.suggest;
+
+import com.codemagic.catalog.admin.domain.genre.GenreGateway;
+import com.codemagic.catalog.admin.domain.pagination.SuggestionQuery;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultSuggestGenresUseCase extends SuggestGenresUseCase {
+
+    private final GenreGateway gateway;
+
+    public DefaultSuggestGenresUseCase(final GenreGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public List<GenreSuggestionOutput> execute(final SuggestionQuery query) {
+        if (query.isEmpty()) {
+            return List.of();
+        }
+        return this.gateway.suggest(query).stream()
+                .map(GenreSuggestionOutput::from)
+                .toList();
+    }
+}
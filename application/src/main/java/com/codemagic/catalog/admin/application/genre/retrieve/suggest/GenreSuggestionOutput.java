@@ -0,0 +1,9 @@
+package com.codemagic.catalog.admin.application.genre.retrieve.suggest;
+
+import com.codemagic.catalog.admin.domain.pagination.Suggestion;
+
+public record GenreSuggestionOutput(String id, String name) {
+    public static GenreSuggestionOutput from(final Suggestion suggestion) {
+        return new GenreSuggestionOutput(suggestion.id(), suggestion.name());
+    }
+}
@@ -0,0 +1,9 @@
+package com.codemagic.catalog.admin.application.genre.retrieve.suggest;
+
+import com.codemagic.catalog.admin.application.UseCase;
+import com.codemagic.catalog.admin.domain.pagination.SuggestionQuery;
+
+import java.util.List;
+
+public abstract class SuggestGenresUseCase extends UseCase<SuggestionQuery, List<GenreSuggestionOutput>> {
+}
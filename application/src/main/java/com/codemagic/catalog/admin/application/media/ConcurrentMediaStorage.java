@@ -0,0 +1,162 @@
+package com.codemagic.catalog.admin.application.media;
+
+import com.codemagic.catalog.admin.domain.exceptions.InternalErrorException;
+import com.codemagic.catalog.admin.domain.resource.Resource;
+import com.codemagic.catalog.admin.domain.video.AudioMediaVideo;
+import com.codemagic.catalog.admin.domain.video.ImageMedia;
+import com.codemagic.catalog.admin.domain.video.MediaResourceGateway;
+import com.codemagic.catalog.admin.domain.video.VideoID;
+import com.codemagic.catalog.admin.domain.video.VideoResource;
+import com.codemagic.catalog.admin.domain.video.VideoResourceType;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.codemagic.catalog.admin.domain.video.VideoResourceType.TRAILER;
+import static com.codemagic.catalog.admin.domain.video.VideoResourceType.VIDEO;
+
+public class ConcurrentMediaStorage {
+
+    private final MediaResourceGateway gateway;
+    private final ExecutorService executor;
+
+    public ConcurrentMediaStorage(final MediaResourceGateway gateway, final ExecutorService executor) {
+        this.gateway = Objects.requireNonNull(gateway);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    public StoredMedias store(final VideoID id, final Map<VideoResourceType, Resource> resources) {
+        final var medias = new StoredMedias();
+        if (resources.isEmpty()) {
+            return medias;
+        }
+
+        final var completion = new ExecutorCompletionService<StoredMedia>(this.executor);
+        final var running = new CountDownLatch(resources.size());
+        final var tasks = new ArrayList<Task>(resources.size());
+        resources.forEach((type, resource) -> tasks.add(new Task(id, type, resource, running)));
+
+        try {
+            for (final var task : tasks) {
+                task.future = completion.submit(task);
+            }
+            for (int i = 0; i < tasks.size(); i++) {
+                medias.add(completion.take().get());
+            }
+            return medias;
+        } catch (final ExecutionException e) {
+            cancel(tasks, running);
+            throw propagate(id, e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(tasks, running);
+            throw propagate(id, e);
+        } catch (final RuntimeException e) {
+            cancel(tasks, running);
+            throw e;
+        }
+    }
+
+    private StoredMedia store(final VideoID id, final VideoResourceType type, final Resource resource) {
+        final var videoResource = VideoResource.with(resource, type);
+        return type == VIDEO || type == TRAILER
+                ? new StoredMedia(type, this.gateway.storeAudioVideo(id, videoResource), null)
+                : new StoredMedia(type, null, this.gateway.storeImage(id, videoResource));
+    }
+
+    private void cancel(final List<Task> tasks, final CountDownLatch running) {
+        tasks.forEach(Task::cancel);
+        try {
+            running.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private RuntimeException propagate(final VideoID id, final Throwable throwable) {
+        if (throwable instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        return InternalErrorException.with("An error on store medias was thrown [id: %s]"
+                .formatted(id.getValue()), throwable);
+    }
+
+    public static class StoredMedias {
+
+        private final Map<VideoResourceType, AudioMediaVideo> audioVideos = new EnumMap<>(VideoResourceType.class);
+        private final Map<VideoResourceType, ImageMedia> images = new EnumMap<>(VideoResourceType.class);
+
+        private void add(final StoredMedia media) {
+            if (media.audioVideo() != null) {
+                this.audioVideos.put(media.type(), media.audioVideo());
+            }
+            if (media.image() != null) {
+                this.images.put(media.type(), media.image());
+            }
+        }
+
+        public AudioMediaVideo audioVideo(final VideoResourceType type) {
+            return this.audioVideos.get(type);
+        }
+
+        public ImageMedia image(final VideoResourceType type) {
+            return this.images.get(type);
+        }
+    }
+
+    private record StoredMedia(VideoResourceType type, AudioMediaVideo audioVideo, ImageMedia image) {
+    }
+
+    private class Task implements Callable<StoredMedia> {
+
+        private final VideoID id;
+        private final VideoResourceType type;
+        private final Resource resource;
+        private final CountDownLatch running;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private Future<StoredMedia> future;
+
+        private Task(
+                final VideoID id,
+                final VideoResourceType type,
+                final Resource resource,
+                final CountDownLatch running
+        ) {
+            this.id = id;
+            this.type = type;
+            this.resource = resource;
+            this.running = running;
+        }
+
+        @Override
+        public StoredMedia call() {
+            if (!this.claimed.compareAndSet(false, true)) {
+                return null;
+            }
+            try {
+                return store(this.id, this.type, this.resource);
+            } finally {
+                this.running.countDown();
+            }
+        }
+
+        private void cancel() {
+            if (this.claimed.compareAndSet(false, true)) {
+                this.running.countDown();
+            }
+            if (this.future != null) {
+                this.future.cancel(true);
+            }
+        }
+    }
+}
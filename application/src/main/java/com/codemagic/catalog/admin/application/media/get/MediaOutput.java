@@ -2,11 +2,30 @@ package com.codemagic.catalog.admin.application.media.get;
 
 import com.codemagic.catalog.admin.domain.resource.Resource;
 
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+
 public record MediaOutput(
         String name,
         String contentType,
-        byte[] content) {
+        String checksum,
+        long length,
+        Resource resource) {
     public static MediaOutput from(final Resource resource) {
-        return new MediaOutput(resource.name(), resource.contentType(), resource.content());
+        return new MediaOutput(
+                resource.name(),
+                resource.contentType(),
+                resource.checksum(),
+                resource.length(),
+                resource
+        );
+    }
+
+    public byte[] content() {
+        return resource.content();
+    }
+
+    public ReadableByteChannel channel(final long position) throws IOException {
+        return resource.channel(position);
     }
 }
@@ -0,0 +1,7 @@
+package com.codemagic.catalog.admin.application.media.session;
+
+public record UploadSessionCommand(String videoId, String type, String sessionId) {
+    public static UploadSessionCommand with(final String videoId, final String type, final String sessionId) {
+        return new UploadSessionCommand(videoId, type, sessionId);
+    }
+}
@@ -0,0 +1,26 @@
+package com.codemagic.catalog.admin.application.media.session;
+
+import com.codemagic.catalog.admin.domain.video.UploadSession;
+import com.codemagic.catalog.admin.domain.video.VideoResourceType;
+
+import java.util.List;
+
+public record UploadSessionOutput(
+        String id,
+        String videoId,
+        VideoResourceType type,
+        long length,
+        List<UploadSession.Range> receivedRanges,
+        boolean complete
+) {
+    public static UploadSessionOutput from(final UploadSession session) {
+        return new UploadSessionOutput(
+                session.id(),
+                session.videoId().getValue(),
+                session.type(),
+                session.length(),
+                session.receivedRanges(),
+                session.isComplete()
+        );
+    }
+}
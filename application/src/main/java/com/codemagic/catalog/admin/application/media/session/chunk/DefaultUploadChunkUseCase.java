@@ -0,0 +1,35 @@
+package com.codemagic.catalog.admin.application.media.session.chunk;
+
+import com.codemagic.catalog.admin.application.media.session.UploadSessionOutput;
+import com.codemagic.catalog.admin.domain.exceptions.DomainException;
+import com.codemagic.catalog.admin.domain.exceptions.NotFoundException;
+import com.codemagic.catalog.admin.domain.validation.Error;
+import com.codemagic.catalog.admin.domain.video.UploadSessionGateway;
+
+import java.util.Objects;
+
+public final class DefaultUploadChunkUseCase extends UploadChunkUseCase {
+
+    private final UploadSessionGateway sessionGateway;
+
+    public DefaultUploadChunkUseCase(final UploadSessionGateway sessionGateway) {
+        this.sessionGateway = Objects.requireNonNull(sessionGateway);
+    }
+
+    @Override
+    public UploadSessionOutput execute(final UploadChunkCommand command) {
+        final var session = this.sessionGateway.findById(command.sessionId())
+                .filter(it -> it.belongsTo(command.videoId(), command.type()))
+                .orElseThrow(() -> NotFoundException.with(new Error("Upload session with ID %s was not found"
+                        .formatted(command.sessionId()))));
+
+        final var chunk = command.chunk();
+        if (!chunk.hasKnownLength()) {
+            throw DomainException.with(new Error("Chunk length is required"));
+        }
+
+        session.validateChunk(command.offset(), chunk.length());
+
+        return UploadSessionOutput.from(this.sessionGateway.storeChunk(session, command.offset(), chunk));
+    }
+}
@@ -0,0 +1,8 @@
+package com.codemagic.catalog.admin.application.media.session.complete;
+
+import com.codemagic.catalog.admin.application.UseCase;
+import com.codemagic.catalog.admin.application.media.session.UploadSessionCommand;
+import com.codemagic.catalog.admin.application.media.upload.UploadMediaOutput;
+
+public abstract class CompleteUploadSessionUseCase extends UseCase<UploadSessionCommand, UploadMediaOutput> {
+}
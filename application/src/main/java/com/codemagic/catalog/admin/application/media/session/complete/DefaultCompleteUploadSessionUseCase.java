@@ -0,0 +1,45 @@
+package com.codemagic.catalog.admin.application.media.session.complete;
+
+import com.codemagic.catalog.admin.application.media.session.UploadSessionCommand;
+import com.codemagic.catalog.admin.application.media.upload.UploadMediaOutput;
+import com.codemagic.catalog.admin.domain.exceptions.NotFoundException;
+import com.codemagic.catalog.admin.domain.validation.Error;
+import com.codemagic.catalog.admin.domain.video.*;
+
+import java.util.Objects;
+
+public final class DefaultCompleteUploadSessionUseCase extends CompleteUploadSessionUseCase {
+
+    private final VideoGateway videoGateway;
+    private final UploadSessionGateway sessionGateway;
+
+    public DefaultCompleteUploadSessionUseCase(final VideoGateway videoGateway,
+                                               final UploadSessionGateway sessionGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.sessionGateway = Objects.requireNonNull(sessionGateway);
+    }
+
+    @Override
+    public UploadMediaOutput execute(final UploadSessionCommand command) {
+        final var session = this.sessionGateway.findById(command.sessionId())
+                .filter(it -> it.belongsTo(command.videoId(), command.type()))
+                .orElseThrow(() -> NotFoundException.with(new Error("Upload session with ID %s was not found"
+                        .formatted(command.sessionId()))));
+
+        final var videoId = session.videoId();
+        final var video = this.videoGateway.findById(videoId)
+                .orElseThrow(() -> NotFoundException.with(Video.class, videoId));
+
+        switch (session.type()) {
+            case VIDEO -> video.setVideo(this.sessionGateway.completeAudioVideo(session));
+            case TRAILER -> video.setTrailer(this.sessionGateway.completeAudioVideo(session));
+            case BANNER -> video.setBanner(this.sessionGateway.completeImage(session));
+            case THUMBNAIL -> video.setThumbnail(this.sessionGateway.completeImage(session));
+            case THUMBNAIL_HALF -> video.setThumbnailHalf(this.sessionGateway.completeImage(session));
+        }
+
+        this.videoGateway.update(video);
+
+        return UploadMediaOutput.from(videoId, session.type());
+    }
+}
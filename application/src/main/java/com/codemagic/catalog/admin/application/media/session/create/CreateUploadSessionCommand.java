@@ -0,0 +1,21 @@
+package com.codemagic.catalog.admin.application.media.session.create;
+
+public record CreateUploadSessionCommand(
+        String videoId,
+        String type,
+        String name,
+        String contentType,
+        long length,
+        String checksum
+) {
+    public static CreateUploadSessionCommand with(
+            final String videoId,
+            final String type,
+            final String name,
+            final String contentType,
+            final long length,
+            final String checksum
+    ) {
+        return new CreateUploadSessionCommand(videoId, type, name, contentType, length, checksum);
+    }
+}
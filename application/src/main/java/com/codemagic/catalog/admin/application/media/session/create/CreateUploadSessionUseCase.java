@@ -0,0 +1,7 @@
+package com.codemagic.catalog.admin.application.media.session.create;
+
+import com.codemagic.catalog.admin.application.UseCase;
+import com.codemagic.catalog.admin.application.media.session.UploadSessionOutput;
+
+public abstract class CreateUploadSessionUseCase extends UseCase<CreateUploadSessionCommand, UploadSessionOutput> {
+}
@@ -0,0 +1,41 @@
+package com.codemagic.catalog.admin.application.media.session.create;
+
+import com.codemagic.catalog.admin.application.media.session.UploadSessionOutput;
+import com.codemagic.catalog.admin.domain.exceptions.NotFoundException;
+import com.codemagic.catalog.admin.domain.validation.Error;
+import com.codemagic.catalog.admin.domain.video.*;
+
+import java.util.Objects;
+
+public final class DefaultCreateUploadSessionUseCase extends CreateUploadSessionUseCase {
+
+    private final VideoGateway videoGateway;
+    private final UploadSessionGateway sessionGateway;
+
+    public DefaultCreateUploadSessionUseCase(final VideoGateway videoGateway,
+                                             final UploadSessionGateway sessionGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.sessionGateway = Objects.requireNonNull(sessionGateway);
+    }
+
+    @Override
+    public UploadSessionOutput execute(final CreateUploadSessionCommand command) {
+        final var videoId = VideoID.from(command.videoId());
+        final var type = VideoResourceType.of(command.type())
+                .orElseThrow(() -> NotFoundException.with(new Error("Media type '%s' does not exists".formatted(command.type()))));
+
+        this.videoGateway.findById(videoId)
+                .orElseThrow(() -> NotFoundException.with(Video.class, videoId));
+
+        final var session = UploadSession.newSession(
+                videoId,
+                type,
+                command.name(),
+                command.contentType(),
+                command.length(),
+                command.checksum()
+        );
+
+        return UploadSessionOutput.from(this.sessionGateway.create(session));
+    }
+}
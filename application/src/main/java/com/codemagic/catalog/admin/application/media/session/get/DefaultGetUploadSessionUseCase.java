@@ -0,0 +1,27 @@
+package com.codemagic.catalog.admin.application.media.session.get;
+
+import com.codemagic.catalog.admin.application.media.session.UploadSessionCommand;
+import com.codemagic.catalog.admin.application.media.session.UploadSessionOutput;
+import com.codemagic.catalog.admin.domain.exceptions.NotFoundException;
+import com.codemagic.catalog.admin.domain.validation.Error;
+import com.codemagic.catalog.admin.domain.video.UploadSessionGateway;
+
+import java.util.Objects;
+
+public final class DefaultGetUploadSessionUseCase extends GetUploadSessionUseCase {
+
+    private final UploadSessionGateway sessionGateway;
+
+    public DefaultGetUploadSessionUseCase(final UploadSessionGateway sessionGateway) {
+        this.sessionGateway = Objects.requireNonNull(sessionGateway);
+    }
+
+    @Override
+    public UploadSessionOutput execute(final UploadSessionCommand command) {
+        return this.sessionGateway.findById(command.sessionId())
+                .filter(session -> session.belongsTo(command.videoId(), command.type()))
+                .map(UploadSessionOutput::from)
+                .orElseThrow(() -> NotFoundException.with(new Error("Upload session with ID %s was not found"
+                        .formatted(command.sessionId()))));
+    }
+}
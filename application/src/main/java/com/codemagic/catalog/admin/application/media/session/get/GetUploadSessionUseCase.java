@@ -0,0 +1,8 @@
+package com.codemagic.catalog.admin.application.media.session.get;
+
+import com.codemagic.catalog.admin.application.UseCase;
+import com.codemagic.catalog.admin.application.media.session.UploadSessionCommand;
+import com.codemagic.catalog.admin.application.media.session.UploadSessionOutput;
+
+public abstract class GetUploadSessionUseCase extends UseCase<UploadSessionCommand, UploadSessionOutput> {
+}
@@ -1,13 +1,13 @@
 package com.codemagic.catalog.admin.application.media.update;
 
 import com.codemagic.catalog.admin.domain.exceptions.NotFoundException;
-import com.codemagic.catalog.admin.domain.video.*;
+import com.codemagic.catalog.admin.domain.video.MediaStatus;
+import com.codemagic.catalog.admin.domain.video.Video;
+import com.codemagic.catalog.admin.domain.video.VideoGateway;
+import com.codemagic.catalog.admin.domain.video.VideoID;
 
+import java.util.Locale;
 import java.util.Objects;
-import java.util.function.Supplier;
-
-import static com.codemagic.catalog.admin.domain.video.VideoResourceType.TRAILER;
-import static com.codemagic.catalog.admin.domain.video.VideoResourceType.VIDEO;
 
 public final class DefaultUpdateMediaStatusUseCase extends UpdateMediaStatusUseCase {
 
@@ -21,42 +21,27 @@ public final class DefaultUpdateMediaStatusUseCase extends UpdateMediaStatusUseC
     public void execute(final UpdateMediaStatusCommand command) {
         final var videoId = VideoID.from(command.videoId());
         final var status = command.status();
-        final var resourceId = command.resourceId();
-        final var folder = command.folder();
-        final var filename = command.filename();
-        final var encodedPath = "%s/%s".formatted(folder, filename);
-
-        final var video = videoGateway.findById(videoId)
-                .orElseThrow(notFound(videoId));
-
-        if (matches(resourceId, video.getVideo().orElse(null))) {
-            update(VIDEO, video, status, encodedPath);
+        if (status.predecessors().isEmpty()) {
+            requireVideo(videoId);
             return;
         }
 
-        if (matches(resourceId, video.getTrailer().orElse(null))) {
-            update(TRAILER, video, status, encodedPath);
-        }
-    }
+        final var encodedPath = status == MediaStatus.COMPLETED
+                ? "%s/%s".formatted(command.folder(), command.filename())
+                : null;
 
-    private void update(final VideoResourceType type,
-                        final Video video,
-                        final MediaStatus status,
-                        final String encodedPath) {
-        switch (status) {
-            case PENDING -> {}
-            case PROCESSING -> video.processing(type);
-            case COMPLETED -> video.completed(type, encodedPath);
-        }
-        videoGateway.update(video);
-    }
+        // Media ids are generated in lower case, so lowering the sent id keeps the match case-insensitive
+        final var resourceId = command.resourceId() != null ? command.resourceId().toLowerCase(Locale.ROOT) : null;
 
-    private boolean matches(final String resourceId, final AudioMediaVideo media) {
-        if (media == null) return false;
-        return media.id().equalsIgnoreCase(resourceId);
+        // Existence is only checked when nothing was updated, so the common path stays a single conditional update
+        if (!this.videoGateway.updateMediaStatus(videoId, resourceId, status, encodedPath)) {
+            requireVideo(videoId);
+        }
     }
 
-    private Supplier<NotFoundException> notFound(final VideoID videoId) {
-        return () -> NotFoundException.with(Video.class, videoId);
+    private void requireVideo(final VideoID videoId) {
+        if (!this.videoGateway.existsById(videoId)) {
+            throw NotFoundException.with(Video.class, videoId);
+        }
     }
 }
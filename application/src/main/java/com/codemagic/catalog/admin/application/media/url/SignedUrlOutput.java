@@ -0,0 +1,16 @@
+package com.codemagic.catalog.admin.application.media.url;
+
+import com.codemagic.catalog.admin.domain.resource.SignedUrl;
+
+import java.time.Instant;
+
+public record SignedUrlOutput(String url, String method, String contentType, Instant expiresAt) {
+    public static SignedUrlOutput from(final SignedUrl signedUrl) {
+        return new SignedUrlOutput(
+                signedUrl.url(),
+                signedUrl.method(),
+                signedUrl.contentType(),
+                signedUrl.expiresAt()
+        );
+    }
+}
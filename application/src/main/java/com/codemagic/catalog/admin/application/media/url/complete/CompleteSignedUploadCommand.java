@@ -0,0 +1,12 @@
+package com.codemagic.catalog.admin.application.media.url.complete;
+
+public record CompleteSignedUploadCommand(String videoId, String type, String name, String checksum) {
+    public static CompleteSignedUploadCommand with(
+            final String videoId,
+            final String type,
+            final String name,
+            final String checksum
+    ) {
+        return new CompleteSignedUploadCommand(videoId, type, name, checksum);
+    }
+}
@@ -0,0 +1,7 @@
+package com.codemagic.catalog.admin.application.media.url.complete;
+
+import com.codemagic.catalog.admin.application.UseCase;
+import com.codemagic.catalog.admin.application.media.upload.UploadMediaOutput;
+
+public abstract class CompleteSignedUploadUseCase extends UseCase<CompleteSignedUploadCommand, UploadMediaOutput> {
+}
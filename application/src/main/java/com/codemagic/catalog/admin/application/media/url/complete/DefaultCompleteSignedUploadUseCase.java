@@ -0,0 +1,55 @@
+package com.codemagic.catalog.admin.application.media.url.complete;
+
+import com.codemagic.catalog.admin.application.media.upload.UploadMediaOutput;
+import com.codemagic.catalog.admin.domain.exceptions.NotFoundException;
+import com.codemagic.catalog.admin.domain.validation.Error;
+import com.codemagic.catalog.admin.domain.video.*;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+public final class DefaultCompleteSignedUploadUseCase extends CompleteSignedUploadUseCase {
+
+    private final VideoGateway videoGateway;
+    private final MediaResourceGateway mediaGateway;
+
+    public DefaultCompleteSignedUploadUseCase(final VideoGateway videoGateway,
+                                              final MediaResourceGateway mediaGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.mediaGateway = Objects.requireNonNull(mediaGateway);
+    }
+
+    @Override
+    public UploadMediaOutput execute(final CompleteSignedUploadCommand command) {
+        final var videoId = VideoID.from(command.videoId());
+        final var type = VideoResourceType.of(command.type())
+                .orElseThrow(() -> NotFoundException.with(new Error("Media type '%s' does not exists".formatted(command.type()))));
+        final var name = command.name();
+        final var checksum = command.checksum();
+
+        final var video = this.videoGateway.findById(videoId)
+                .orElseThrow(() -> NotFoundException.with(Video.class, videoId));
+
+        switch (type) {
+            case VIDEO -> video.setVideo(this.mediaGateway.linkAudioVideo(videoId, type, name, checksum)
+                    .orElseThrow(notUploaded(videoId, type)));
+            case TRAILER -> video.setTrailer(this.mediaGateway.linkAudioVideo(videoId, type, name, checksum)
+                    .orElseThrow(notUploaded(videoId, type)));
+            case BANNER -> video.setBanner(this.mediaGateway.linkImage(videoId, type, name, checksum)
+                    .orElseThrow(notUploaded(videoId, type)));
+            case THUMBNAIL -> video.setThumbnail(this.mediaGateway.linkImage(videoId, type, name, checksum)
+                    .orElseThrow(notUploaded(videoId, type)));
+            case THUMBNAIL_HALF -> video.setThumbnailHalf(this.mediaGateway.linkImage(videoId, type, name, checksum)
+                    .orElseThrow(notUploaded(videoId, type)));
+        }
+
+        this.videoGateway.update(video);
+
+        return UploadMediaOutput.from(videoId, type);
+    }
+
+    private Supplier<NotFoundException> notUploaded(final VideoID id, final VideoResourceType type) {
+        return () -> NotFoundException.with(new Error("Media type '%s' was not uploaded for video %s"
+                .formatted(type.name(), id.getValue())));
+    }
+}
@@ -0,0 +1,32 @@
+package com.codemagic.catalog.admin.application.media.url.download;
+
+import com.codemagic.catalog.admin.application.media.get.GetMediaCommand;
+import com.codemagic.catalog.admin.application.media.url.SignedUrlOutput;
+import com.codemagic.catalog.admin.domain.exceptions.NotFoundException;
+import com.codemagic.catalog.admin.domain.validation.Error;
+import com.codemagic.catalog.admin.domain.video.MediaResourceGateway;
+import com.codemagic.catalog.admin.domain.video.VideoID;
+import com.codemagic.catalog.admin.domain.video.VideoResourceType;
+
+import java.util.Objects;
+
+public final class DefaultSignDownloadUrlUseCase extends SignDownloadUrlUseCase {
+
+    private final MediaResourceGateway gateway;
+
+    public DefaultSignDownloadUrlUseCase(final MediaResourceGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public SignedUrlOutput execute(final GetMediaCommand command) {
+        final var id = VideoID.from(command.id());
+        final var type = VideoResourceType.of(command.type())
+                .orElseThrow(() -> NotFoundException.with(new Error("Media type '%s' does not exists".formatted(command.type()))));
+
+        return this.gateway.signDownload(id, type)
+                .map(SignedUrlOutput::from)
+                .orElseThrow(() -> NotFoundException.with(new Error("Media type '%s' for video %s was not found"
+                        .formatted(command.type(), command.id()))));
+    }
+}
@@ -0,0 +1,8 @@
+package com.codemagic.catalog.admin.application.media.url.download;
+
+import com.codemagic.catalog.admin.application.UseCase;
+import com.codemagic.catalog.admin.application.media.get.GetMediaCommand;
+import com.codemagic.catalog.admin.application.media.url.SignedUrlOutput;
+
+public abstract class SignDownloadUrlUseCase extends UseCase<GetMediaCommand, SignedUrlOutput> {
+}
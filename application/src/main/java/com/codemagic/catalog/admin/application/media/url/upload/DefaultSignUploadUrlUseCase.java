@@ -0,0 +1,32 @@
+package com.codemagic.catalog.admin.application.media.url.upload;
+
+import com.codemagic.catalog.admin.application.media.url.SignedUrlOutput;
+import com.codemagic.catalog.admin.domain.exceptions.NotFoundException;
+import com.codemagic.catalog.admin.domain.validation.Error;
+import com.codemagic.catalog.admin.domain.video.*;
+
+import java.util.Objects;
+
+public final class DefaultSignUploadUrlUseCase extends SignUploadUrlUseCase {
+
+    private final VideoGateway videoGateway;
+    private final MediaResourceGateway mediaGateway;
+
+    public DefaultSignUploadUrlUseCase(final VideoGateway videoGateway,
+                                       final MediaResourceGateway mediaGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.mediaGateway = Objects.requireNonNull(mediaGateway);
+    }
+
+    @Override
+    public SignedUrlOutput execute(final SignUploadUrlCommand command) {
+        final var videoId = VideoID.from(command.videoId());
+        final var type = VideoResourceType.of(command.type())
+                .orElseThrow(() -> NotFoundException.with(new Error("Media type '%s' does not exists".formatted(command.type()))));
+
+        this.videoGateway.findById(videoId)
+                .orElseThrow(() -> NotFoundException.with(Video.class, videoId));
+
+        return SignedUrlOutput.from(this.mediaGateway.signUpload(videoId, type, command.contentType()));
+    }
+}
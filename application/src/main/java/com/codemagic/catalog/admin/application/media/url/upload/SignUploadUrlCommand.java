@@ -0,0 +1,7 @@
+package com.codemagic.catalog.admin.application.media.url.upload;
+
+public record SignUploadUrlCommand(String videoId, String type, String contentType) {
+    public static SignUploadUrlCommand with(final String videoId, final String type, final String contentType) {
+        return new SignUploadUrlCommand(videoId, type, contentType);
+    }
+}
@@ -0,0 +1,7 @@
+package com.codemagic.catalog.admin.application.media.url.upload;
+
+import com.codemagic.catalog.admin.application.UseCase;
+import com.codemagic.catalog.admin.application.media.url.SignedUrlOutput;
+
+public abstract class SignUploadUrlUseCase extends UseCase<SignUploadUrlCommand, SignedUrlOutput> {
+}
@@ -1,14 +1,17 @@
 package com.codemagic.catalog.admin.application.video.create;
 
+import com.codemagic.catalog.admin.application.media.ConcurrentMediaStorage;
 import com.codemagic.catalog.admin.domain.Identifier;
 import com.codemagic.catalog.admin.domain.castmember.CastMemberGateway;
 import com.codemagic.catalog.admin.domain.castmember.CastMemberID;
 import com.codemagic.catalog.admin.domain.category.CategoryGateway;
 import com.codemagic.catalog.admin.domain.category.CategoryID;
+import com.codemagic.catalog.admin.domain.exceptions.DomainException;
 import com.codemagic.catalog.admin.domain.exceptions.InternalErrorException;
 import com.codemagic.catalog.admin.domain.exceptions.NotificationException;
 import com.codemagic.catalog.admin.domain.genre.GenreGateway;
 import com.codemagic.catalog.admin.domain.genre.GenreID;
+import com.codemagic.catalog.admin.domain.resource.Resource;
 import com.codemagic.catalog.admin.domain.validation.Error;
 import com.codemagic.catalog.admin.domain.validation.ValidationHandler;
 import com.codemagic.catalog.admin.domain.validation.handler.Notification;
@@ -16,9 +19,12 @@ import com.codemagic.catalog.admin.domain.video.*;
 
 import java.time.Year;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -31,15 +37,18 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
     private final GenreGateway genreGateway;
     private final CastMemberGateway castMemberGateway;
     private final MediaResourceGateway resourceGateway;
+    private final ConcurrentMediaStorage mediaStorage;
 
     public DefaultCreateVideoUseCase(
             final VideoGateway videoGateway,
             final CategoryGateway categoryGateway,
             final GenreGateway genreGateway,
             final CastMemberGateway castMemberGateway,
-            final MediaResourceGateway resourceGateway) {
+            final MediaResourceGateway resourceGateway,
+            final ExecutorService mediaExecutor) {
         this.videoGateway = Objects.requireNonNull(videoGateway);
         this.resourceGateway = Objects.requireNonNull(resourceGateway);
+        this.mediaStorage = new ConcurrentMediaStorage(resourceGateway, mediaExecutor);
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
@@ -83,32 +92,17 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
     private Video create(final CreateVideoCommand command, final Video video) {
         final var id = video.getId();
         try {
-            final var trailerMedia = command.getTrailer()
-                    .map(it -> this.resourceGateway.storeAudioVideo(id, VideoResource.with(it, TRAILER)))
-                    .orElse(null);
-
-            final var videoMedia = command.getVideo()
-                    .map(it -> this.resourceGateway.storeAudioVideo(id, VideoResource.with(it, VIDEO)))
-                    .orElse(null);
-
-            final var bannerMedia = command.getBanner()
-                    .map(it -> this.resourceGateway.storeImage(id, VideoResource.with(it, BANNER)))
-                    .orElse(null);
-
-            final var thumbnailMedia = command.getThumbnail()
-                    .map(it -> this.resourceGateway.storeImage(id, VideoResource.with(it, THUMBNAIL)))
-                    .orElse(null);
-
-            final var thumbnailHalfMedia = command.getThumbnailHalf()
-                    .map(it -> this.resourceGateway.storeImage(id, VideoResource.with(it, THUMBNAIL_HALF)))
-                    .orElse(null);
-
-            video.setVideo(videoMedia);
-            video.setTrailer(trailerMedia);
-            video.setBanner(bannerMedia);
-            video.setThumbnail(thumbnailMedia);
-            video.setThumbnailHalf(thumbnailHalfMedia);
+            final var medias = this.mediaStorage.store(id, resources(command));
+
+            video.setVideo(medias.audioVideo(VIDEO));
+            video.setTrailer(medias.audioVideo(TRAILER));
+            video.setBanner(medias.image(BANNER));
+            video.setThumbnail(medias.image(THUMBNAIL));
+            video.setThumbnailHalf(medias.image(THUMBNAIL_HALF));
             return this.videoGateway.create(video);
+        } catch (final DomainException e) {
+            this.resourceGateway.clear(id);
+            throw e;
         } catch (final Throwable throwable) {
             this.resourceGateway.clear(id);
             throw InternalErrorException.with("An error on create video was thrown [id: %s]"
@@ -116,6 +110,16 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
         }
     }
 
+    private Map<VideoResourceType, Resource> resources(final CreateVideoCommand command) {
+        final var resources = new EnumMap<VideoResourceType, Resource>(VideoResourceType.class);
+        command.getTrailer().ifPresent(it -> resources.put(TRAILER, it));
+        command.getVideo().ifPresent(it -> resources.put(VIDEO, it));
+        command.getBanner().ifPresent(it -> resources.put(BANNER, it));
+        command.getThumbnail().ifPresent(it -> resources.put(THUMBNAIL, it));
+        command.getThumbnailHalf().ifPresent(it -> resources.put(THUMBNAIL_HALF, it));
+        return resources;
+    }
+
     private ValidationHandler validateCategories(final Set<CategoryID> categories) {
         return validateExistingIdentifiers("categories", categories, categoryGateway::existsByIds);
     }
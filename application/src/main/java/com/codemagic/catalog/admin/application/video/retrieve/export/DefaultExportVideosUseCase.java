@@ -0,0 +1,20 @@
+package com.codemagic.catalog.admin.application.video.retrieve.export;
+
+import com.codemagic.catalog.admin.application.ExportCommand;
+import com.codemagic.catalog.admin.domain.video.VideoExportGateway;
+
+import java.util.Objects;
+
+public class DefaultExportVideosUseCase extends ExportVideosUseCase {
+
+    private final VideoExportGateway gateway;
+
+    public DefaultExportVideosUseCase(final VideoExportGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public Long execute(final ExportCommand command) {
+        return this.gateway.export(command.updatedSince(), command.output());
+    }
+}
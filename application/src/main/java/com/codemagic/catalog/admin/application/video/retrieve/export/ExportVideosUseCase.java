@@ -0,0 +1,7 @@
+package com.codemagic.catalog.admin.application.video.retrieve.export;
+
+import com.codemagic.catalog.admin.application.ExportCommand;
+import com.codemagic.catalog.admin.application.UseCase;
+
+public abstract class ExportVideosUseCase extends UseCase<ExportCommand, Long> {
+}
@@ -1,6 +1,5 @@
 package com.codemagic.catalog.admin.application.video.retrieve.list;
 
-import com.codemagic.catalog.admin.domain.pagination.Pagination;
 import com.codemagic.catalog.admin.domain.video.VideoGateway;
 import com.codemagic.catalog.admin.domain.video.VideoSearchQuery;
 
@@ -15,7 +14,11 @@ public class DefaultListVideosUseCase extends ListVideosUseCase {
     }
 
     @Override
-    public Pagination<VideoListOutput> execute(final VideoSearchQuery query) {
-        return this.videoGateway.findAll(query).map(VideoListOutput::from);
+    public ListVideosOutput execute(final VideoSearchQuery query) {
+        final var page = this.videoGateway.findAll(query).map(VideoListOutput::from);
+        if (!query.hasFacets()) {
+            return ListVideosOutput.from(page);
+        }
+        return new ListVideosOutput(page, VideoFacetsOutput.from(this.videoGateway.facets(query)));
     }
 }
@@ -0,0 +1,9 @@
+package com.codemagic.catalog.admin.application.video.retrieve.list;
+
+import com.codemagic.catalog.admin.domain.pagination.Pagination;
+
+public record ListVideosOutput(Pagination<VideoListOutput> page, VideoFacetsOutput facets) {
+    public static ListVideosOutput from(final Pagination<VideoListOutput> page) {
+        return new ListVideosOutput(page, null);
+    }
+}
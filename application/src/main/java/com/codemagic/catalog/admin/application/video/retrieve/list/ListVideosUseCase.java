@@ -1,8 +1,7 @@
 package com.codemagic.catalog.admin.application.video.retrieve.list;
 
 import com.codemagic.catalog.admin.application.UseCase;
-import com.codemagic.catalog.admin.domain.pagination.Pagination;
 import com.codemagic.catalog.admin.domain.video.VideoSearchQuery;
 
-public abstract class ListVideosUseCase extends UseCase<VideoSearchQuery, Pagination<VideoListOutput>> {
+public abstract class ListVideosUseCase extends UseCase<VideoSearchQuery, ListVideosOutput> {
 }
@@ -0,0 +1,19 @@
+package com.codemagic.catalog.admin.application.video.retrieve.list;
+
+import com.codemagic.catalog.admin.domain.video.VideoFacets;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public record VideoFacetsOutput(
+        Map<String, Long> categories,
+        Map<String, Long> genres,
+        Map<String, Long> ratings,
+        Map<Integer, Long> launchYears
+) {
+    public static VideoFacetsOutput from(final VideoFacets facets) {
+        final var ratings = new LinkedHashMap<String, Long>();
+        facets.ratings().forEach((rating, count) -> ratings.put(rating.getName(), count));
+        return new VideoFacetsOutput(facets.categories(), facets.genres(), ratings, facets.launchYears());
+    }
+}
@@ -0,0 +1,52 @@
+package com.codemagic.catalog.admin.application.castmember.create;
+
+import com.codemagic.catalog.admin.application.UseCaseTest;
+import com.codemagic.catalog.admin.domain.castmember.CastMemberGateway;
+import com.codemagic.catalog.admin.domain.castmember.CastMemberType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BulkCreateCastMembersUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultBulkCreateCastMembersUseCase useCase;
+
+    @Mock
+    private CastMemberGateway gateway;
+
+    @Test
+    void givenValidAndInvalidItems_whenCallsBulkCreate_thenShouldPersistTheValidOnesAndReportErrorsPerItem() {
+        // given
+        final var items = new ArrayList<CreateCastMemberCommand>();
+        items.add(CreateCastMemberCommand.with("Harrison Ford", CastMemberType.ACTOR));
+        items.add(CreateCastMemberCommand.with("Steven Spielberg", null));
+        items.add(null);
+        items.add(CreateCastMemberCommand.with("Natalie Portman", CastMemberType.ACTOR));
+        when(gateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutput = useCase.execute(BulkCreateCastMembersCommand.with(items));
+
+        // then
+        assertEquals(2, actualOutput.created());
+        assertEquals(2, actualOutput.rejected());
+        assertFalse(actualOutput.items().get(1).errors().isEmpty());
+        assertEquals("'item' should not be null", actualOutput.items().get(2).errors().get(0).message());
+        assertNotNull(actualOutput.items().get(3).id());
+
+        verify(gateway, times(1)).createAll(argThat(members -> members.size() == 2));
+    }
+}
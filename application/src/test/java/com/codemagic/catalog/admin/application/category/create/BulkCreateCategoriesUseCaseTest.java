@@ -0,0 +1,87 @@
+package com.codemagic.catalog.admin.application.category.create;
+
+import com.codemagic.catalog.admin.application.BulkCreation;
+import com.codemagic.catalog.admin.application.UseCaseTest;
+import com.codemagic.catalog.admin.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BulkCreateCategoriesUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultBulkCreateCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway gateway;
+
+    @Test
+    void givenValidAndInvalidItems_whenCallsBulkCreate_thenShouldPersistTheValidOnesAndReportErrorsPerItem() {
+        // given
+        final var command = BulkCreateCategoriesCommand.with(List.of(
+                CreateCategoryCommand.with("Movies", "The most watched movies"),
+                CreateCategoryCommand.with("", "Without a name"),
+                CreateCategoryCommand.with("Series", null)
+        ));
+        when(gateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutput = useCase.execute(command);
+
+        // then
+        assertEquals(2, actualOutput.created());
+        assertEquals(1, actualOutput.rejected());
+        assertEquals(List.of(0, 1, 2), actualOutput.items().stream().map(item -> item.index()).toList());
+        assertNotNull(actualOutput.items().get(0).id());
+        assertNull(actualOutput.items().get(1).id());
+        assertFalse(actualOutput.items().get(1).errors().isEmpty());
+        assertNotNull(actualOutput.items().get(2).id());
+
+        verify(gateway, times(1)).createAll(argThat(categories -> categories.size() == 2
+                && categories.get(0).getName().equals("Movies")
+                && categories.get(1).getName().equals("Series")));
+    }
+
+    @Test
+    void givenMoreItemsThanAChunk_whenAChunkFails_thenShouldOnlyRejectTheItemsOfThatChunk() {
+        // given
+        final var total = BulkCreation.CHUNK_SIZE + 1;
+        final var command = BulkCreateCategoriesCommand.with(IntStream.range(0, total)
+                .mapToObj(i -> CreateCategoryCommand.with("Category " + i, null))
+                .toList());
+        when(gateway.createAll(any()))
+                .thenAnswer(returnsFirstArg())
+                .thenThrow(new IllegalStateException("Gateway error"));
+
+        // when
+        final var actualOutput = useCase.execute(command);
+
+        // then
+        assertEquals(BulkCreation.CHUNK_SIZE, actualOutput.created());
+        assertEquals(1, actualOutput.rejected());
+        assertEquals("Gateway error", actualOutput.items().get(total - 1).errors().get(0).message());
+
+        verify(gateway, times(2)).createAll(any());
+    }
+
+    @Test
+    void givenAnEmptyCommand_whenCallsBulkCreate_thenShouldNotCallTheGateway() {
+        final var actualOutput = useCase.execute(BulkCreateCategoriesCommand.with(null));
+
+        assertEquals(0, actualOutput.created());
+        assertTrue(actualOutput.items().isEmpty());
+        verify(gateway, never()).createAll(any());
+    }
+}
@@ -0,0 +1,46 @@
+package com.codemagic.catalog.admin.application.category.retrieve.export;
+
+import com.codemagic.catalog.admin.application.ExportCommand;
+import com.codemagic.catalog.admin.domain.category.CategoryExportGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ExportCategoriesUseCaseTest {
+
+    @InjectMocks
+    private DefaultExportCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryExportGateway gateway;
+
+    @BeforeEach
+    void cleanUp() {
+        reset(gateway);
+    }
+
+    @Test
+    void givenAnUpdatedSince_whenCallsExportCategories_thenShouldStreamThroughTheGateway() {
+        final var expectedUpdatedSince = Instant.parse("2024-01-01T00:00:00Z");
+        final var expectedOutput = new ByteArrayOutputStream();
+
+        when(gateway.export(eq(expectedUpdatedSince), same(expectedOutput))).thenReturn(2L);
+
+        final var actualExported = useCase.execute(ExportCommand.with(expectedUpdatedSince, expectedOutput));
+
+        assertEquals(2L, actualExported);
+        verify(gateway, times(1)).export(eq(expectedUpdatedSince), same(expectedOutput));
+    }
+}
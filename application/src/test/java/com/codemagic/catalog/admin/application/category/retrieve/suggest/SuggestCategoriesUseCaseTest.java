@@ -0,0 +1,58 @@
+package com.codemagic.catalog.admin.application.category.retrieve.suggest;
+
+import com.codemagic.catalog.admin.domain.category.CategoryGateway;
+import com.codemagic.catalog.admin.domain.pagination.Suggestion;
+import com.codemagic.catalog.admin.domain.pagination.SuggestionQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SuggestCategoriesUseCaseTest {
+
+    @InjectMocks
+    private DefaultSuggestCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway gateway;
+
+    @BeforeEach
+    void cleanUp() {
+        reset(gateway);
+    }
+
+    @Test
+    void givenATermsPrefix_whenCallsSuggestCategories_thenShouldReturnGatewaySuggestions() {
+        final var query = new SuggestionQuery("ac", 5);
+        final var suggestions = List.of(new Suggestion("1", "Action"), new Suggestion("2", "Academy"));
+
+        when(gateway.suggest(eq(query))).thenReturn(suggestions);
+
+        final var actualResult = useCase.execute(query);
+
+        assertEquals(2, actualResult.size());
+        assertEquals("1", actualResult.get(0).id());
+        assertEquals("Action", actualResult.get(0).name());
+        assertEquals("Academy", actualResult.get(1).name());
+        verify(gateway, times(1)).suggest(eq(query));
+    }
+
+    @Test
+    void givenBlankTerms_whenCallsSuggestCategories_thenShouldReturnEmptyWithoutCallingGateway() {
+        final var actualResult = useCase.execute(new SuggestionQuery("  ", 5));
+
+        assertTrue(actualResult.isEmpty());
+        verify(gateway, never()).suggest(any());
+    }
+}
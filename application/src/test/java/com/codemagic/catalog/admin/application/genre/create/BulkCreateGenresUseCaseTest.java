@@ -0,0 +1,62 @@
+package com.codemagic.catalog.admin.application.genre.create;
+
+import com.codemagic.catalog.admin.application.UseCaseTest;
+import com.codemagic.catalog.admin.domain.category.CategoryGateway;
+import com.codemagic.catalog.admin.domain.category.CategoryID;
+import com.codemagic.catalog.admin.domain.genre.GenreGateway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BulkCreateGenresUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultBulkCreateGenresUseCase useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Test
+    void givenItemsWithMissingCategories_whenCallsBulkCreate_thenShouldCheckCategoriesOnceAndRejectPerItem() {
+        // given
+        final var movies = CategoryID.from("movies");
+        final var series = CategoryID.from("series");
+        final var command = BulkCreateGenresCommand.with(List.of(
+                CreateGenreCommand.with("Drama", List.of(movies.getValue())),
+                CreateGenreCommand.with("Action", List.of(movies.getValue(), series.getValue())),
+                CreateGenreCommand.with("", List.of()),
+                CreateGenreCommand.with("Horror", null)
+        ));
+        when(categoryGateway.existsByIds(any())).thenReturn(List.of(movies));
+        when(genreGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutput = useCase.execute(command);
+
+        // then
+        assertEquals(2, actualOutput.created());
+        assertEquals(2, actualOutput.rejected());
+        assertEquals("Some categories could not be found: series",
+                actualOutput.items().get(1).errors().get(0).message());
+        assertFalse(actualOutput.items().get(2).errors().isEmpty());
+
+        verify(categoryGateway, times(1)).existsByIds(any());
+        verify(genreGateway, times(1)).createAll(argThat(genres -> genres.size() == 2
+                && genres.get(0).getCategories().equals(List.of(movies))
+                && genres.get(1).getCategories().isEmpty()));
+    }
+}
@@ -0,0 +1,128 @@
+package com.codemagic.catalog.admin.application.media;
+
+import com.codemagic.catalog.admin.Fixture;
+import com.codemagic.catalog.admin.domain.resource.Resource;
+import com.codemagic.catalog.admin.domain.video.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ConcurrentMediaStorageTest {
+
+    @Mock
+    private MediaResourceGateway mediaResourceGateway;
+
+    private ExecutorService executor;
+
+    private ConcurrentMediaStorage mediaStorage;
+
+    @BeforeEach
+    void setUp() {
+        this.executor = Executors.newFixedThreadPool(5);
+        this.mediaStorage = new ConcurrentMediaStorage(mediaResourceGateway, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    void givenAllResources_whenCallsStore_thenShouldStoreEveryMedia() {
+        // given
+        final var expectedId = VideoID.unique();
+        final var resources = new EnumMap<VideoResourceType, Resource>(VideoResourceType.class);
+        for (final var type : VideoResourceType.values()) {
+            resources.put(type, Fixture.Videos.resource(type));
+        }
+
+        when(mediaResourceGateway.storeAudioVideo(any(), any())).thenAnswer(answer -> {
+            final var resource = answer.getArgument(1, VideoResource.class).resource();
+            return AudioMediaVideo.with(resource.checksum(), resource.name(), "/videos", "", MediaStatus.PENDING);
+        });
+        when(mediaResourceGateway.storeImage(any(), any())).thenAnswer(answer -> {
+            final var resource = answer.getArgument(1, VideoResource.class).resource();
+            return ImageMedia.with(resource.checksum(), resource.name(), "/images");
+        });
+
+        // when
+        final var actualMedias = this.mediaStorage.store(expectedId, resources);
+
+        // then
+        assertEquals(resources.get(VideoResourceType.VIDEO).name(), actualMedias.audioVideo(VideoResourceType.VIDEO).name());
+        assertEquals(resources.get(VideoResourceType.TRAILER).name(), actualMedias.audioVideo(VideoResourceType.TRAILER).name());
+        assertEquals(resources.get(VideoResourceType.BANNER).name(), actualMedias.image(VideoResourceType.BANNER).name());
+        assertEquals(resources.get(VideoResourceType.THUMBNAIL).name(), actualMedias.image(VideoResourceType.THUMBNAIL).name());
+        assertEquals(resources.get(VideoResourceType.THUMBNAIL_HALF).name(), actualMedias.image(VideoResourceType.THUMBNAIL_HALF).name());
+
+        verify(mediaResourceGateway, times(2)).storeAudioVideo(eq(expectedId), any());
+        verify(mediaResourceGateway, times(3)).storeImage(eq(expectedId), any());
+    }
+
+    @Test
+    void givenNoResources_whenCallsStore_thenShouldNotCallGateway() {
+        // given
+        final var expectedId = VideoID.unique();
+
+        // when
+        final var actualMedias = this.mediaStorage.store(expectedId, Map.of());
+
+        // then
+        assertNull(actualMedias.audioVideo(VideoResourceType.VIDEO));
+        assertNull(actualMedias.image(VideoResourceType.BANNER));
+
+        verifyNoInteractions(mediaResourceGateway);
+    }
+
+    @Test
+    void givenAFailingUpload_whenCallsStore_thenShouldCancelPendingUploadsAndRethrow() {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedErrorMessage = "Upload failed";
+        final var resources = Map.of(
+                VideoResourceType.VIDEO, Fixture.Videos.resource(VideoResourceType.VIDEO),
+                VideoResourceType.BANNER, Fixture.Videos.resource(VideoResourceType.BANNER)
+        );
+
+        final var started = new CountDownLatch(1);
+        final var interrupted = new AtomicBoolean(false);
+
+        when(mediaResourceGateway.storeAudioVideo(any(), any())).thenAnswer(answer -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (final InterruptedException e) {
+                interrupted.set(true);
+            }
+            return null;
+        });
+        when(mediaResourceGateway.storeImage(any(), any())).thenAnswer(answer -> {
+            started.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException(expectedErrorMessage);
+        });
+
+        // when
+        final var actualException = assertThrows(IllegalStateException.class,
+                () -> this.mediaStorage.store(expectedId, resources));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        assertTrue(interrupted.get());
+    }
+}
@@ -43,6 +43,8 @@ public class GetMediaUseCaseTest extends UseCaseTest {
         verify(gateway, times(1)).getResource(eq(expectedId), eq(expectedMediaType));
         assertEquals(expectedResource.name(), actualOutput.name());
         assertEquals(expectedResource.contentType(), actualOutput.contentType());
+        assertEquals(expectedResource.checksum(), actualOutput.checksum());
+        assertEquals(expectedResource.length(), actualOutput.length());
         assertEquals(expectedResource.content(), actualOutput.content());
     }
 
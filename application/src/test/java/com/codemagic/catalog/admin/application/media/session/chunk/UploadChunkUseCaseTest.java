@@ -0,0 +1,102 @@
+package com.codemagic.catalog.admin.application.media.session.chunk;
+
+import com.codemagic.catalog.admin.application.UseCaseTest;
+import com.codemagic.catalog.admin.domain.exceptions.DomainException;
+import com.codemagic.catalog.admin.domain.exceptions.NotFoundException;
+import com.codemagic.catalog.admin.domain.resource.Resource;
+import com.codemagic.catalog.admin.domain.video.UploadSession;
+import com.codemagic.catalog.admin.domain.video.UploadSessionGateway;
+import com.codemagic.catalog.admin.domain.video.VideoID;
+import com.codemagic.catalog.admin.domain.video.VideoResourceType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UploadChunkUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultUploadChunkUseCase useCase;
+
+    @Mock
+    private UploadSessionGateway sessionGateway;
+
+    @Test
+    void givenAValidChunk_whenCallsUploadChunk_thenShouldReturnReceivedRanges() {
+        // given
+        final var session = UploadSession.newSession(VideoID.unique(), VideoResourceType.VIDEO,
+                "master.mp4", "video/mp4", 30, null);
+        final var chunk = Resource.with(null, new byte[10], "application/octet-stream", session.id());
+
+        when(this.sessionGateway.findById(session.id())).thenReturn(Optional.of(session));
+        when(this.sessionGateway.storeChunk(any(), anyLong(), any())).thenAnswer(answer ->
+                session.withPart(UploadSession.Range.of(0, 10)).withPart(UploadSession.Range.of(10, 10)));
+
+        // when
+        final var actualOutput = this.useCase.execute(
+                UploadChunkCommand.with(session.videoId().getValue(), "VIDEO", session.id(), 10, chunk));
+
+        // then
+        assertEquals(List.of(UploadSession.Range.of(0, 20)), actualOutput.receivedRanges());
+        assertFalse(actualOutput.complete());
+        verify(this.sessionGateway, times(1)).storeChunk(eq(session), eq(10L), eq(chunk));
+    }
+
+    @Test
+    void givenAChunkOutsideTheSession_whenCallsUploadChunk_thenShouldReturnADomainException() {
+        // given
+        final var session = UploadSession.newSession(VideoID.unique(), VideoResourceType.BANNER,
+                "banner.png", "image/png", 15, null);
+        final var chunk = Resource.with(null, new byte[10], "application/octet-stream", session.id());
+
+        when(this.sessionGateway.findById(session.id())).thenReturn(Optional.of(session));
+
+        // when
+        assertThrows(DomainException.class,
+                () -> this.useCase.execute(UploadChunkCommand.with(session.videoId().getValue(), "BANNER", session.id(), 10, chunk)));
+
+        // then
+        verify(this.sessionGateway, never()).storeChunk(any(), anyLong(), any());
+    }
+
+    @Test
+    void givenASessionOfAnotherMediaType_whenCallsUploadChunk_thenShouldReturnNotFound() {
+        // given
+        final var session = UploadSession.newSession(VideoID.unique(), VideoResourceType.TRAILER,
+                "trailer.mp4", "video/mp4", 30, null);
+        final var chunk = Resource.with(null, new byte[10], "application/octet-stream", session.id());
+
+        when(this.sessionGateway.findById(session.id())).thenReturn(Optional.of(session));
+
+        // when
+        assertThrows(NotFoundException.class,
+                () -> this.useCase.execute(UploadChunkCommand.with(session.videoId().getValue(), "VIDEO", session.id(), 0, chunk)));
+
+        // then
+        verify(this.sessionGateway, never()).storeChunk(any(), anyLong(), any());
+    }
+
+    @Test
+    void givenAnInvalidSessionId_whenCallsUploadChunk_thenShouldReturnNotFound() {
+        // given
+        final var chunk = Resource.with(null, new byte[10], "application/octet-stream", "chunk");
+        when(this.sessionGateway.findById(any())).thenReturn(Optional.empty());
+
+        // when
+        final var actualException = assertThrows(NotFoundException.class,
+                () -> this.useCase.execute(UploadChunkCommand.with("123", "VIDEO", "123", 0, chunk)));
+
+        // then
+        assertEquals("Upload session with ID 123 was not found", actualException.getMessage());
+    }
+}
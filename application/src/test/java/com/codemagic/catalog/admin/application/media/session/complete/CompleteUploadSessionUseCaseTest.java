@@ -0,0 +1,120 @@
+package com.codemagic.catalog.admin.application.media.session.complete;
+
+import com.codemagic.catalog.admin.Fixture;
+import com.codemagic.catalog.admin.application.UseCaseTest;
+import com.codemagic.catalog.admin.application.media.session.UploadSessionCommand;
+import com.codemagic.catalog.admin.domain.exceptions.NotFoundException;
+import com.codemagic.catalog.admin.domain.video.UploadSession;
+import com.codemagic.catalog.admin.domain.video.UploadSessionGateway;
+import com.codemagic.catalog.admin.domain.video.VideoGateway;
+import com.codemagic.catalog.admin.domain.video.VideoID;
+import com.codemagic.catalog.admin.domain.video.VideoResourceType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CompleteUploadSessionUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultCompleteUploadSessionUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Mock
+    private UploadSessionGateway sessionGateway;
+
+    @Test
+    void givenACompleteSession_whenCallsComplete_thenShouldSetTheTrailer() {
+        // given
+        final var video = Fixture.Videos.video();
+        final var expectedId = video.getId();
+        final var expectedType = VideoResourceType.TRAILER;
+        final var expectedMedia = Fixture.Videos.audioMedia(expectedType);
+        final var session = UploadSession.newSession(expectedId, expectedType, "trailer.mp4", "video/mp4", 10, null)
+                .withPart(UploadSession.Range.of(0, 10));
+
+        when(this.sessionGateway.findById(session.id())).thenReturn(Optional.of(session));
+        when(this.videoGateway.findById(expectedId)).thenReturn(Optional.of(video));
+        when(this.sessionGateway.completeAudioVideo(session)).thenReturn(expectedMedia);
+        when(this.videoGateway.update(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutput = this.useCase.execute(UploadSessionCommand.with(expectedId.getValue(), "trailer", session.id()));
+
+        // then
+        assertEquals(expectedId.getValue(), actualOutput.id());
+        assertEquals(expectedType, actualOutput.mediaType());
+
+        verify(this.sessionGateway, never()).completeImage(any());
+        verify(this.videoGateway, times(1)).update(argThat(actualVideo ->
+                Objects.equals(expectedMedia, actualVideo.getTrailer().orElseThrow())
+                        && actualVideo.getVideo().isEmpty()));
+    }
+
+    @Test
+    void givenACompleteSession_whenCallsComplete_thenShouldSetTheBanner() {
+        // given
+        final var video = Fixture.Videos.video();
+        final var expectedId = video.getId();
+        final var expectedType = VideoResourceType.BANNER;
+        final var expectedMedia = Fixture.Videos.image(expectedType);
+        final var session = UploadSession.newSession(expectedId, expectedType, "banner.png", "image/png", 10, null)
+                .withPart(UploadSession.Range.of(0, 10));
+
+        when(this.sessionGateway.findById(session.id())).thenReturn(Optional.of(session));
+        when(this.videoGateway.findById(expectedId)).thenReturn(Optional.of(video));
+        when(this.sessionGateway.completeImage(session)).thenReturn(expectedMedia);
+        when(this.videoGateway.update(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        this.useCase.execute(UploadSessionCommand.with(expectedId.getValue(), expectedType.name(), session.id()));
+
+        // then
+        verify(this.videoGateway, times(1)).update(argThat(actualVideo ->
+                Objects.equals(expectedMedia, actualVideo.getBanner().orElseThrow())));
+    }
+
+    @Test
+    void givenAnInvalidSessionId_whenCallsComplete_thenShouldReturnNotFound() {
+        // given
+        when(this.sessionGateway.findById(any())).thenReturn(Optional.empty());
+
+        // when
+        assertThrows(NotFoundException.class, () -> this.useCase.execute(UploadSessionCommand.with("123", "VIDEO", "123")));
+
+        // then
+        verifyNoInteractions(this.videoGateway);
+    }
+
+    @Test
+    void givenASessionOfAnotherVideo_whenCallsComplete_thenShouldReturnNotFound() {
+        // given
+        final var session = UploadSession.newSession(Fixture.Videos.video().getId(), VideoResourceType.VIDEO,
+                "master.mp4", "video/mp4", 10, null)
+                .withPart(UploadSession.Range.of(0, 10));
+
+        when(this.sessionGateway.findById(session.id())).thenReturn(Optional.of(session));
+
+        // when
+        final var actualException = assertThrows(NotFoundException.class, () -> this.useCase.execute(
+                UploadSessionCommand.with(VideoID.unique().getValue(), VideoResourceType.VIDEO.name(), session.id())));
+
+        // then
+        assertEquals("Upload session with ID %s was not found".formatted(session.id()), actualException.getMessage());
+        verify(this.sessionGateway, never()).completeAudioVideo(any());
+        verifyNoInteractions(this.videoGateway);
+    }
+}
@@ -0,0 +1,97 @@
+package com.codemagic.catalog.admin.application.media.session.create;
+
+import com.codemagic.catalog.admin.Fixture;
+import com.codemagic.catalog.admin.application.UseCaseTest;
+import com.codemagic.catalog.admin.domain.exceptions.NotFoundException;
+import com.codemagic.catalog.admin.domain.video.UploadSessionGateway;
+import com.codemagic.catalog.admin.domain.video.VideoGateway;
+import com.codemagic.catalog.admin.domain.video.VideoID;
+import com.codemagic.catalog.admin.domain.video.VideoResourceType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CreateUploadSessionUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultCreateUploadSessionUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Mock
+    private UploadSessionGateway sessionGateway;
+
+    @Test
+    void givenAValidCommand_whenCallsCreateUploadSession_thenShouldOpenASession() {
+        // given
+        final var video = Fixture.Videos.video();
+        final var expectedId = video.getId();
+        final var expectedLength = 6L * 1024 * 1024 * 1024;
+
+        when(this.videoGateway.findById(expectedId)).thenReturn(Optional.of(video));
+        when(this.sessionGateway.create(any())).thenAnswer(returnsFirstArg());
+
+        final var command = CreateUploadSessionCommand.with(
+                expectedId.getValue(), "video", "master.mp4", "video/mp4", expectedLength, null);
+
+        // when
+        final var actualOutput = this.useCase.execute(command);
+
+        // then
+        assertNotNull(actualOutput.id());
+        assertEquals(expectedId.getValue(), actualOutput.videoId());
+        assertEquals(VideoResourceType.VIDEO, actualOutput.type());
+        assertEquals(expectedLength, actualOutput.length());
+        assertTrue(actualOutput.receivedRanges().isEmpty());
+        assertFalse(actualOutput.complete());
+
+        verify(this.sessionGateway, times(1)).create(argThat(session ->
+                session.videoId().equals(expectedId)
+                        && session.type() == VideoResourceType.VIDEO
+                        && session.name().equals("master.mp4")));
+    }
+
+    @Test
+    void givenAnInvalidVideoId_whenCallsCreateUploadSession_thenShouldReturnNotFound() {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedErrorMessage = "Video with ID %s was not found".formatted(expectedId.getValue());
+
+        when(this.videoGateway.findById(expectedId)).thenReturn(Optional.empty());
+
+        final var command = CreateUploadSessionCommand.with(
+                expectedId.getValue(), "VIDEO", "master.mp4", "video/mp4", 10, null);
+
+        // when
+        final var actualException = assertThrows(NotFoundException.class, () -> this.useCase.execute(command));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        verify(this.sessionGateway, never()).create(any());
+    }
+
+    @Test
+    void givenAnInvalidType_whenCallsCreateUploadSession_thenShouldReturnNotFound() {
+        // given
+        final var command = CreateUploadSessionCommand.with(
+                VideoID.unique().getValue(), "poster", "poster.png", "image/png", 10, null);
+
+        // when
+        final var actualException = assertThrows(NotFoundException.class, () -> this.useCase.execute(command));
+
+        // then
+        assertEquals("Media type 'poster' does not exists", actualException.getMessage());
+        verifyNoInteractions(this.videoGateway, this.sessionGateway);
+    }
+}
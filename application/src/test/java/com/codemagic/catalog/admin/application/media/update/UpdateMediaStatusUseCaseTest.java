@@ -2,23 +2,23 @@ package com.codemagic.catalog.admin.application.media.update;
 
 import com.codemagic.catalog.admin.Fixture;
 import com.codemagic.catalog.admin.application.UseCaseTest;
+import com.codemagic.catalog.admin.domain.exceptions.NotFoundException;
 import com.codemagic.catalog.admin.domain.video.MediaStatus;
-import com.codemagic.catalog.admin.domain.video.Video;
 import com.codemagic.catalog.admin.domain.video.VideoGateway;
+import com.codemagic.catalog.admin.domain.video.VideoID;
 import com.codemagic.catalog.admin.domain.video.VideoResourceType;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
-
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,15 +34,13 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
     void givenAValidCommand_whenUpdateVideoCompleted_thenShouldUpdateStatusAndEncodedLocation() {
         // given
         final var expectedStatus = MediaStatus.COMPLETED;
-        final var expectedType = VideoResourceType.VIDEO;
         final var expectedFolder = "encoded";
         final var expectedFilename = "filename.mp4";
-        final var expectedMedia = Fixture.Videos.audioMedia(expectedType);
+        final var expectedMedia = Fixture.Videos.audioMedia(VideoResourceType.VIDEO);
         final var expectedVideo = Fixture.Videos.video().setVideo(expectedMedia);
         final var expectedId = expectedVideo.getId();
 
-        when(gateway.findById(any())).thenReturn(Optional.of(expectedVideo));
-        when(gateway.update(any())).thenAnswer(returnsFirstArg());
+        when(gateway.updateMediaStatus(any(), any(), any(), any())).thenReturn(true);
 
         final var command = UpdateMediaStatusCommand.with(
                 expectedId.getValue(),
@@ -55,85 +53,52 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         useCase.execute(command);
 
         // then
-        final var captor = ArgumentCaptor.forClass(Video.class);
-
-        verify(gateway, times(1)).findById(eq(expectedId));
-
-        verify(gateway, times(1)).update(captor.capture());
-
-        final var actualVideo = captor.getValue();
-        final var actualMedia = actualVideo.getVideo().orElseThrow();
-
-        assertTrue(actualVideo.getTrailer().isEmpty());
-
-        assertEquals(expectedMedia.id(), actualMedia.id());
-        assertEquals(expectedMedia.name(), actualMedia.name());
-        assertEquals(expectedMedia.checksum(), actualMedia.checksum());
-        assertEquals(expectedMedia.rawLocation(), actualMedia.rawLocation());
-        assertEquals(expectedStatus, actualMedia.status());
-        assertEquals(expectedFolder.concat("/").concat(expectedFilename), actualMedia.encodedLocation());
+        verify(gateway, times(1)).updateMediaStatus(
+                eq(expectedId),
+                eq(expectedMedia.id()),
+                eq(expectedStatus),
+                eq(expectedFolder.concat("/").concat(expectedFilename)));
+        verify(gateway, never()).findById(any());
+        verify(gateway, never()).update(any());
     }
 
     @Test
-    void givenAValidCommand_whenUpdateTrailerCompleted_thenShouldUpdateStatusAndEncodedLocation() {
+    void givenAValidCommand_whenUpdateTrailerProcessing_thenShouldUpdateStatusOnly() {
         // given
-        final var expectedStatus = MediaStatus.COMPLETED;
-        final var expectedType = VideoResourceType.TRAILER;
-        final var expectedFolder = "encoded";
-        final var expectedFilename = "filename.mp4";
-        final var expectedMedia = Fixture.Videos.audioMedia(expectedType);
+        final var expectedStatus = MediaStatus.PROCESSING;
+        final var expectedMedia = Fixture.Videos.audioMedia(VideoResourceType.TRAILER);
         final var expectedVideo = Fixture.Videos.video().setTrailer(expectedMedia);
         final var expectedId = expectedVideo.getId();
 
-        when(gateway.findById(any())).thenReturn(Optional.of(expectedVideo));
-        when(gateway.update(any())).thenAnswer(returnsFirstArg());
+        when(gateway.updateMediaStatus(any(), any(), any(), any())).thenReturn(true);
 
         final var command = UpdateMediaStatusCommand.with(
                 expectedId.getValue(),
                 expectedMedia.id(),
                 expectedStatus,
-                expectedFolder,
-                expectedFilename);
+                null,
+                null);
 
         // when
         useCase.execute(command);
 
         // then
-        final var captor = ArgumentCaptor.forClass(Video.class);
-
-        verify(gateway, times(1)).findById(eq(expectedId));
-
-        verify(gateway, times(1)).update(captor.capture());
-
-        final var actualVideo = captor.getValue();
-        final var actualMedia = actualVideo.getTrailer().orElseThrow();
-
-        assertTrue(actualVideo.getVideo().isEmpty());
-
-        assertEquals(expectedMedia.id(), actualMedia.id());
-        assertEquals(expectedMedia.name(), actualMedia.name());
-        assertEquals(expectedMedia.checksum(), actualMedia.checksum());
-        assertEquals(expectedMedia.rawLocation(), actualMedia.rawLocation());
-        assertEquals(expectedStatus, actualMedia.status());
-        assertEquals(expectedFolder.concat("/").concat(expectedFilename), actualMedia.encodedLocation());
+        verify(gateway, times(1)).updateMediaStatus(eq(expectedId), eq(expectedMedia.id()), eq(expectedStatus), isNull());
+        verify(gateway, never()).findById(any());
+        verify(gateway, never()).update(any());
     }
 
     @Test
-    void givenAValidCommand_whenUpdateVideoProcessing_thenShouldUpdateStatusOnly() {
+    void givenAPendingCommand_whenCallsUpdateMediaStatus_thenShouldDoNothing() {
         // given
-        final var expectedStatus = MediaStatus.PROCESSING;
-        final var expectedType = VideoResourceType.VIDEO;
-        final var expectedMedia = Fixture.Videos.audioMedia(expectedType);
-        final var expectedVideo = Fixture.Videos.video().setVideo(expectedMedia);
-        final var expectedId = expectedVideo.getId();
+        final var expectedVideo = Fixture.Videos.video();
 
-        when(gateway.findById(any())).thenReturn(Optional.of(expectedVideo));
-        when(gateway.update(any())).thenAnswer(returnsFirstArg());
+        when(gateway.existsById(any())).thenReturn(true);
 
         final var command = UpdateMediaStatusCommand.with(
-                expectedId.getValue(),
-                expectedMedia.id(),
-                expectedStatus,
+                expectedVideo.getId().getValue(),
+                "media-id",
+                MediaStatus.PENDING,
                 null,
                 null);
 
@@ -141,93 +106,78 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         useCase.execute(command);
 
         // then
-        final var captor = ArgumentCaptor.forClass(Video.class);
+        verify(gateway, never()).updateMediaStatus(any(), any(), any(), any());
+    }
 
-        verify(gateway, times(1)).findById(eq(expectedId));
+    @Test
+    void givenAValidCommand_whenUpdateWithInvalidMediaId_thenShouldDoNothing() {
+        // given
+        final var expectedVideo = Fixture.Videos.video();
+        final var expectedId = expectedVideo.getId();
 
-        verify(gateway, times(1)).update(captor.capture());
+        when(gateway.updateMediaStatus(any(), anyString(), any(), any())).thenReturn(false);
+        when(gateway.existsById(any())).thenReturn(true);
 
-        final var actualVideo = captor.getValue();
-        final var actualMedia = actualVideo.getVideo().orElseThrow();
+        final var command = UpdateMediaStatusCommand.with(
+                expectedId.getValue(),
+                "invalid-media-id",
+                MediaStatus.COMPLETED,
+                "encoded",
+                "filename.mp4");
 
-        assertTrue(actualVideo.getTrailer().isEmpty());
+        // when
+        assertDoesNotThrow(() -> useCase.execute(command));
 
-        assertEquals(expectedMedia.id(), actualMedia.id());
-        assertEquals(expectedMedia.name(), actualMedia.name());
-        assertEquals(expectedMedia.checksum(), actualMedia.checksum());
-        assertEquals(expectedMedia.rawLocation(), actualMedia.rawLocation());
-        assertEquals(expectedStatus, actualMedia.status());
-        assertTrue(actualMedia.encodedLocation().isBlank());
+        // then
+        verify(gateway, times(1)).updateMediaStatus(eq(expectedId), eq("invalid-media-id"), eq(MediaStatus.COMPLETED), any());
+        verify(gateway, times(1)).existsById(eq(expectedId));
+        verify(gateway, never()).update(any());
     }
 
     @Test
-    void givenAValidCommand_whenUpdateTrailerProcessing_thenShouldUpdateStatusOnly() {
+    void givenAnUnknownVideo_whenCallsUpdateMediaStatus_thenShouldReturnNotFound() {
         // given
-        final var expectedStatus = MediaStatus.PROCESSING;
-        final var expectedType = VideoResourceType.TRAILER;
-        final var expectedMedia = Fixture.Videos.audioMedia(expectedType);
-        final var expectedVideo = Fixture.Videos.video().setTrailer(expectedMedia);
-        final var expectedId = expectedVideo.getId();
+        final var expectedId = VideoID.unique();
+        final var expectedErrorMessage = "Video with ID %s was not found".formatted(expectedId.getValue());
 
-        when(gateway.findById(any())).thenReturn(Optional.of(expectedVideo));
-        when(gateway.update(any())).thenAnswer(returnsFirstArg());
+        when(gateway.updateMediaStatus(any(), anyString(), any(), any())).thenReturn(false);
+        when(gateway.existsById(any())).thenReturn(false);
 
         final var command = UpdateMediaStatusCommand.with(
                 expectedId.getValue(),
-                expectedMedia.id(),
-                expectedStatus,
+                "media-id",
+                MediaStatus.PROCESSING,
                 null,
                 null);
 
         // when
-        useCase.execute(command);
+        final var actualException = assertThrows(NotFoundException.class, () -> useCase.execute(command));
 
         // then
-        final var captor = ArgumentCaptor.forClass(Video.class);
-
-        verify(gateway, times(1)).findById(eq(expectedId));
-
-        verify(gateway, times(1)).update(captor.capture());
-
-        final var actualVideo = captor.getValue();
-        final var actualMedia = actualVideo.getTrailer().orElseThrow();
-
-        assertTrue(actualVideo.getVideo().isEmpty());
-
-        assertEquals(expectedMedia.id(), actualMedia.id());
-        assertEquals(expectedMedia.name(), actualMedia.name());
-        assertEquals(expectedMedia.checksum(), actualMedia.checksum());
-        assertEquals(expectedMedia.rawLocation(), actualMedia.rawLocation());
-        assertEquals(expectedStatus, actualMedia.status());
-        assertTrue(actualMedia.encodedLocation().isBlank());
+        assertEquals(expectedErrorMessage, actualException.getMessage());
     }
 
     @Test
-    void givenAValidCommand_whenUpdateWithInvalidMediaId_thenShouldDoNothing() {
+    void givenAnUpperCaseMediaId_whenCallsUpdateMediaStatus_thenShouldMatchIgnoringCase() {
         // given
-        final var expectedStatus = MediaStatus.COMPLETED;
-        final var expectedType = VideoResourceType.TRAILER;
-        final var expectedFolder = "encoded";
-        final var expectedFilename = "filename.mp4";
-        final var expectedMedia = Fixture.Videos.audioMedia(expectedType);
-        final var expectedVideo = Fixture.Videos.video().setTrailer(expectedMedia);
-        final var expectedId = expectedVideo.getId();
+        final var expectedMedia = Fixture.Videos.audioMedia(VideoResourceType.VIDEO);
+        final var expectedId = VideoID.unique();
 
-        when(gateway.findById(any())).thenReturn(Optional.of(expectedVideo));
+        when(gateway.updateMediaStatus(any(), any(), any(), any())).thenReturn(true);
 
         final var command = UpdateMediaStatusCommand.with(
                 expectedId.getValue(),
-                "invalid-media-id",
-                expectedStatus,
-                expectedFolder,
-                expectedFilename);
+                expectedMedia.id().toUpperCase(),
+                MediaStatus.PROCESSING,
+                null,
+                null);
 
         // when
         useCase.execute(command);
 
         // then
-        verify(gateway, times(1)).findById(eq(expectedId));
-        verify(gateway, never()).update(any());
+        verify(gateway, times(1)).updateMediaStatus(eq(expectedId), eq(expectedMedia.id()), eq(MediaStatus.PROCESSING), isNull());
+        verify(gateway, never()).existsById(any());
     }
 
 }
@@ -0,0 +1,84 @@
+package com.codemagic.catalog.admin.application.media.url.complete;
+
+import com.codemagic.catalog.admin.Fixture;
+import com.codemagic.catalog.admin.application.UseCaseTest;
+import com.codemagic.catalog.admin.domain.exceptions.NotFoundException;
+import com.codemagic.catalog.admin.domain.video.MediaResourceGateway;
+import com.codemagic.catalog.admin.domain.video.VideoGateway;
+import com.codemagic.catalog.admin.domain.video.VideoResourceType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CompleteSignedUploadUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultCompleteSignedUploadUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Mock
+    private MediaResourceGateway mediaGateway;
+
+    @Test
+    void givenAnUploadedVideo_whenCallsComplete_thenShouldSetTheVideo() {
+        // given
+        final var video = Fixture.Videos.video();
+        final var expectedId = video.getId();
+        final var expectedType = VideoResourceType.VIDEO;
+        final var expectedMedia = Fixture.Videos.audioMedia(expectedType);
+
+        when(this.videoGateway.findById(expectedId)).thenReturn(Optional.of(video));
+        when(this.mediaGateway.linkAudioVideo(expectedId, expectedType, "master.mp4", expectedMedia.checksum()))
+                .thenReturn(Optional.of(expectedMedia));
+        when(this.videoGateway.update(any())).thenAnswer(returnsFirstArg());
+
+        final var command = CompleteSignedUploadCommand.with(
+                expectedId.getValue(), "video", "master.mp4", expectedMedia.checksum());
+
+        // when
+        final var actualOutput = this.useCase.execute(command);
+
+        // then
+        assertEquals(expectedId.getValue(), actualOutput.id());
+        assertEquals(expectedType, actualOutput.mediaType());
+
+        verify(this.videoGateway, times(1)).update(argThat(actualVideo ->
+                Objects.equals(expectedMedia, actualVideo.getVideo().orElseThrow())
+                        && actualVideo.getTrailer().isEmpty()));
+    }
+
+    @Test
+    void givenAMissingUpload_whenCallsComplete_thenShouldReturnNotFound() {
+        // given
+        final var video = Fixture.Videos.video();
+        final var expectedId = video.getId();
+        final var expectedErrorMessage = "Media type 'THUMBNAIL' was not uploaded for video %s"
+                .formatted(expectedId.getValue());
+
+        when(this.videoGateway.findById(expectedId)).thenReturn(Optional.of(video));
+        when(this.mediaGateway.linkImage(any(), any(), any(), any())).thenReturn(Optional.empty());
+
+        final var command = CompleteSignedUploadCommand.with(expectedId.getValue(), "thumbnail", "thumb.png", null);
+
+        // when
+        final var actualException = assertThrows(NotFoundException.class, () -> this.useCase.execute(command));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        verify(this.videoGateway, never()).update(any());
+    }
+}
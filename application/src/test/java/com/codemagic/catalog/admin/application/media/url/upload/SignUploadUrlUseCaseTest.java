@@ -0,0 +1,74 @@
+package com.codemagic.catalog.admin.application.media.url.upload;
+
+import com.codemagic.catalog.admin.Fixture;
+import com.codemagic.catalog.admin.application.UseCaseTest;
+import com.codemagic.catalog.admin.domain.exceptions.NotFoundException;
+import com.codemagic.catalog.admin.domain.resource.SignedUrl;
+import com.codemagic.catalog.admin.domain.video.MediaResourceGateway;
+import com.codemagic.catalog.admin.domain.video.VideoGateway;
+import com.codemagic.catalog.admin.domain.video.VideoID;
+import com.codemagic.catalog.admin.domain.video.VideoResourceType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SignUploadUrlUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultSignUploadUrlUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Mock
+    private MediaResourceGateway mediaGateway;
+
+    @Test
+    void givenAValidCommand_whenCallsSignUploadUrl_thenShouldReturnASignedUrl() {
+        // given
+        final var video = Fixture.Videos.video();
+        final var expectedId = video.getId();
+        final var expectedType = VideoResourceType.VIDEO;
+        final var expectedUrl = SignedUrl.upload("https://storage/video?signature=1", "video/mp4", Instant.now());
+
+        when(this.videoGateway.findById(expectedId)).thenReturn(Optional.of(video));
+        when(this.mediaGateway.signUpload(expectedId, expectedType, "video/mp4")).thenReturn(expectedUrl);
+
+        // when
+        final var actualOutput = this.useCase.execute(SignUploadUrlCommand.with(expectedId.getValue(), "video", "video/mp4"));
+
+        // then
+        assertEquals(expectedUrl.url(), actualOutput.url());
+        assertEquals("PUT", actualOutput.method());
+        assertEquals("video/mp4", actualOutput.contentType());
+        assertEquals(expectedUrl.expiresAt(), actualOutput.expiresAt());
+    }
+
+    @Test
+    void givenAnInvalidVideoId_whenCallsSignUploadUrl_thenShouldReturnNotFound() {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedErrorMessage = "Video with ID %s was not found".formatted(expectedId.getValue());
+
+        when(this.videoGateway.findById(expectedId)).thenReturn(Optional.empty());
+
+        // when
+        final var actualException = assertThrows(NotFoundException.class,
+                () -> this.useCase.execute(SignUploadUrlCommand.with(expectedId.getValue(), "BANNER", "image/png")));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        verify(this.mediaGateway, never()).signUpload(any(), any(), any());
+    }
+}
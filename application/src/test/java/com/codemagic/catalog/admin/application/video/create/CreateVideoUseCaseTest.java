@@ -8,20 +8,25 @@ import com.codemagic.catalog.admin.domain.castmember.CastMemberID;
 import com.codemagic.catalog.admin.domain.category.Category;
 import com.codemagic.catalog.admin.domain.category.CategoryGateway;
 import com.codemagic.catalog.admin.domain.category.CategoryID;
+import com.codemagic.catalog.admin.domain.exceptions.DomainException;
 import com.codemagic.catalog.admin.domain.exceptions.InternalErrorException;
 import com.codemagic.catalog.admin.domain.exceptions.NotificationException;
 import com.codemagic.catalog.admin.domain.genre.Genre;
 import com.codemagic.catalog.admin.domain.genre.GenreGateway;
 import com.codemagic.catalog.admin.domain.genre.GenreID;
 import com.codemagic.catalog.admin.domain.resource.Resource;
+import com.codemagic.catalog.admin.domain.validation.Error;
 import com.codemagic.catalog.admin.domain.video.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
@@ -31,7 +36,6 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 public class CreateVideoUseCaseTest extends UseCaseTest {
 
-    @InjectMocks
     private DefaultCreateVideoUseCase useCase;
 
     @Mock
@@ -49,6 +53,26 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
     @Mock
     private MediaResourceGateway mediaResourceGateway;
 
+    private ExecutorService mediaExecutor;
+
+    @BeforeEach
+    void setUp() {
+        this.mediaExecutor = Executors.newFixedThreadPool(5);
+        this.useCase = new DefaultCreateVideoUseCase(
+                videoGateway,
+                categoryGateway,
+                genreGateway,
+                castMemberGateway,
+                mediaResourceGateway,
+                mediaExecutor
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.mediaExecutor.shutdownNow();
+    }
+
     @Test
     void givenAValidParams_whenCallsCreateVideo_thenShouldCreateANewVideo() {
         // given
@@ -1170,6 +1194,44 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(mediaResourceGateway, never()).storeAudioVideo(any(), any());
     }
 
+    @Test
+    void givenAChecksumMismatch_whenCallsCreateVideo_thenShouldRethrowTheDomainExceptionAndClearResources() {
+        // given
+        final Resource expectedBanner = Fixture.Videos.resource(VideoResourceType.BANNER);
+        final var expectedErrorMessage = "Checksum mismatch for %s".formatted(expectedBanner.name());
+
+        final var command = CreateVideoCommand.with(
+                Fixture.Videos.title(),
+                Fixture.Videos.description(),
+                Fixture.Videos.launchedAt(),
+                Fixture.Videos.duration(),
+                Fixture.Videos.rating().name(),
+                Fixture.Videos.opened(),
+                Fixture.Videos.published(),
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                null,
+                null,
+                expectedBanner,
+                null,
+                null
+        );
+
+        when(mediaResourceGateway.storeImage(any(), any()))
+                .thenThrow(DomainException.with(new Error(expectedErrorMessage)));
+
+        // when
+        final var actualException = assertThrows(DomainException.class, () -> this.useCase.execute(command));
+
+        // then
+        assertEquals(DomainException.class, actualException.getClass());
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+
+        verify(mediaResourceGateway, times(1)).clear(any());
+        verify(videoGateway, never()).create(any());
+    }
+
     private void mockImageMedia() {
         when(this.mediaResourceGateway.storeImage(any(), any())).thenAnswer(answer -> {
             final var videoResource = answer.getArgument(1, VideoResource.class);
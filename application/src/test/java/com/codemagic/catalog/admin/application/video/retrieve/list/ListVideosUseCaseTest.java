@@ -3,7 +3,9 @@ package com.codemagic.catalog.admin.application.video.retrieve.list;
 import com.codemagic.catalog.admin.Fixture;
 import com.codemagic.catalog.admin.application.UseCaseTest;
 import com.codemagic.catalog.admin.domain.pagination.Pagination;
+import com.codemagic.catalog.admin.domain.video.Rating;
 import com.codemagic.catalog.admin.domain.video.Video;
+import com.codemagic.catalog.admin.domain.video.VideoFacets;
 import com.codemagic.catalog.admin.domain.video.VideoGateway;
 import com.codemagic.catalog.admin.domain.video.VideoPreview;
 import com.codemagic.catalog.admin.domain.video.VideoSearchQuery;
@@ -15,6 +17,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -54,12 +57,13 @@ public class ListVideosUseCaseTest extends UseCaseTest {
 
         // then
         assertNotNull(actualOutput);
-        assertEquals(expectedPage, actualOutput.currentPage());
-        assertEquals(expectedPerPage, actualOutput.perPage());
-        assertEquals(expectedCount, actualOutput.total());
-        assertEquals(expectedItemsCount, actualOutput.items().size());
-        assertEquals(expectedItemsCount, actualOutput.items().size());
-        assertEquals(expectedItems, actualOutput.items());
+        assertNull(actualOutput.facets());
+        assertEquals(expectedPage, actualOutput.page().currentPage());
+        assertEquals(expectedPerPage, actualOutput.page().perPage());
+        assertEquals(expectedCount, actualOutput.page().total());
+        assertEquals(expectedItemsCount, actualOutput.page().items().size());
+        assertEquals(expectedItemsCount, actualOutput.page().items().size());
+        assertEquals(expectedItems, actualOutput.page().items());
 
         verify(videoGateway, times(1)).findAll(eq(expectedQuery));
     }
@@ -87,12 +91,13 @@ public class ListVideosUseCaseTest extends UseCaseTest {
 
         // then
         assertNotNull(actualOutput);
-        assertEquals(expectedPage, actualOutput.currentPage());
-        assertEquals(expectedPerPage, actualOutput.perPage());
-        assertEquals(expectedCount, actualOutput.total());
-        assertEquals(expectedItemsCount, actualOutput.items().size());
-        assertEquals(expectedItemsCount, actualOutput.items().size());
-        assertEquals(expectedItems, actualOutput.items());
+        assertNull(actualOutput.facets());
+        assertEquals(expectedPage, actualOutput.page().currentPage());
+        assertEquals(expectedPerPage, actualOutput.page().perPage());
+        assertEquals(expectedCount, actualOutput.page().total());
+        assertEquals(expectedItemsCount, actualOutput.page().items().size());
+        assertEquals(expectedItemsCount, actualOutput.page().items().size());
+        assertEquals(expectedItems, actualOutput.page().items());
 
         verify(videoGateway, times(1)).findAll(eq(expectedQuery));
     }
@@ -123,4 +128,48 @@ public class ListVideosUseCaseTest extends UseCaseTest {
         verify(videoGateway, times(1)).findAll(eq(expectedQuery));
     }
 
+    @Test
+    void givenAQueryWithFacets_whenCallsListVideos_thenShouldReturnThePageAndFacetCounts() {
+        // given
+        final var videos = List.of(VideoPreview.from(Fixture.Videos.video()));
+        final var expectedQuery = new VideoSearchQuery(0, 10, "", "title", "asc",
+                Collections.emptySet(), Collections.emptySet(), Collections.emptySet()).withFacets(5);
+        final var expectedFacets = new VideoFacets(
+                Map.of("movies", 3L),
+                Map.of("drama", 2L),
+                Map.of(Rating.AGE_12, 1L),
+                Map.of(2024, 3L)
+        );
+
+        when(videoGateway.findAll(any())).thenReturn(new Pagination<>(0, 10, 1, videos));
+        when(videoGateway.facets(any())).thenReturn(expectedFacets);
+
+        // when
+        final var actualOutput = this.useCase.execute(expectedQuery);
+
+        // then
+        assertEquals(1, actualOutput.page().items().size());
+        assertEquals(Map.of("movies", 3L), actualOutput.facets().categories());
+        assertEquals(Map.of("drama", 2L), actualOutput.facets().genres());
+        assertEquals(Map.of("12", 1L), actualOutput.facets().ratings());
+        assertEquals(Map.of(2024, 3L), actualOutput.facets().launchYears());
+
+        verify(videoGateway, times(1)).findAll(eq(expectedQuery));
+        verify(videoGateway, times(1)).facets(eq(expectedQuery));
+    }
+
+    @Test
+    void givenAQueryWithoutFacets_whenCallsListVideos_thenShouldNotComputeFacets() {
+        // given
+        final var query = new VideoSearchQuery(0, 10, "", "title", "asc",
+                Collections.emptySet(), Collections.emptySet(), Collections.emptySet());
+        when(videoGateway.findAll(any())).thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        // when
+        this.useCase.execute(query);
+
+        // then
+        verify(videoGateway, never()).facets(any());
+    }
+
 }
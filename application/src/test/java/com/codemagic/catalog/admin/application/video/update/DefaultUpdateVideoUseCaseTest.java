@@ -15,13 +15,16 @@ import com.codemagic.catalog.admin.domain.genre.GenreGateway;
 import com.codemagic.catalog.admin.domain.genre.GenreID;
 import com.codemagic.catalog.admin.domain.resource.Resource;
 import com.codemagic.catalog.admin.domain.video.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
@@ -31,7 +34,6 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 public class DefaultUpdateVideoUseCaseTest extends UseCaseTest {
 
-    @InjectMocks
     private DefaultUpdateVideoUseCase useCase;
 
     @Mock
@@ -49,6 +51,26 @@ public class DefaultUpdateVideoUseCaseTest extends UseCaseTest {
     @Mock
     private MediaResourceGateway mediaResourceGateway;
 
+    private ExecutorService mediaExecutor;
+
+    @BeforeEach
+    void setUp() {
+        this.mediaExecutor = Executors.newFixedThreadPool(5);
+        this.useCase = new DefaultUpdateVideoUseCase(
+                videoGateway,
+                categoryGateway,
+                genreGateway,
+                castMemberGateway,
+                mediaResourceGateway,
+                mediaExecutor
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.mediaExecutor.shutdownNow();
+    }
+
     @Test
     void givenAValidCommand_whenCallUpdateVideo_thenShouldUpdateAVideo() {
         // given
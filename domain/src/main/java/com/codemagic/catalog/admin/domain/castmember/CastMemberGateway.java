@@ -2,15 +2,19 @@ package com.codemagic.catalog.admin.domain.castmember;
 
 import com.codemagic.catalog.admin.domain.pagination.Pagination;
 import com.codemagic.catalog.admin.domain.pagination.SearchQuery;
+import com.codemagic.catalog.admin.domain.pagination.Suggestion;
+import com.codemagic.catalog.admin.domain.pagination.SuggestionQuery;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface CastMemberGateway {
     CastMember create(final CastMember member);
+    List<CastMember> createAll(final List<CastMember> members);
     CastMember update(final CastMember member);
     Optional<CastMember> findById(final String id);
     Pagination<CastMember> findAll(final SearchQuery query);
+    List<Suggestion> suggest(final SuggestionQuery query);
     void deleteById(final String id);
     List<CastMemberID> existsByIds(final Iterable<CastMemberID> members);
 }
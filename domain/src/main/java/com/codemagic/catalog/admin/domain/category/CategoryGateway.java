@@ -2,15 +2,19 @@ package com.codemagic.catalog.admin.domain.category;
 
 import com.codemagic.catalog.admin.domain.pagination.SearchQuery;
 import com.codemagic.catalog.admin.domain.pagination.Pagination;
+import com.codemagic.catalog.admin.domain.pagination.Suggestion;
+import com.codemagic.catalog.admin.domain.pagination.SuggestionQuery;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface CategoryGateway {
     Category create(final Category category);
+    List<Category> createAll(final List<Category> categories);
     void deleteById(final CategoryID categoryID);
     Optional<Category> findById(final CategoryID categoryID);
     Category update(final Category category);
     Pagination<Category> findAll(final SearchQuery query);
+    List<Suggestion> suggest(final SuggestionQuery query);
     List<CategoryID> existsByIds(final Iterable<CategoryID> categories);
 }
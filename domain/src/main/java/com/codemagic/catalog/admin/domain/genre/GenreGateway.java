@@ -2,15 +2,19 @@ package com.codemagic.catalog.admin.domain.genre;
 
 import com.codemagic.catalog.admin.domain.pagination.Pagination;
 import com.codemagic.catalog.admin.domain.pagination.SearchQuery;
+import com.codemagic.catalog.admin.domain.pagination.Suggestion;
+import com.codemagic.catalog.admin.domain.pagination.SuggestionQuery;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface GenreGateway {
     Genre create(final Genre genre);
+    List<Genre> createAll(final List<Genre> genres);
     Genre update(final Genre genre);
     Optional<Genre> findById(final GenreID id);
     Pagination<Genre> findAll(final SearchQuery query);
+    List<Suggestion> suggest(final SuggestionQuery query);
     void deleteById(final GenreID id);
     List<GenreID> existsByIds(final Iterable<GenreID> genres);
 }
@@ -7,13 +7,34 @@ public record Pagination<T>(
         int currentPage,
         int perPage,
         long total,
-        List<T> items
+        List<T> items,
+        String next,
+        TotalMode totalMode,
+        boolean hasNext
 ) {
+    public static final long UNKNOWN_TOTAL = -1;
+
+    public Pagination(final int currentPage, final int perPage, final long total, final List<T> items) {
+        this(currentPage, perPage, total, items, null, TotalMode.EXACT, (long) (currentPage + 1) * perPage < total);
+    }
+
+    public static <T> Pagination<T> cursor(final int perPage, final List<T> items, final String next) {
+        return new Pagination<>(0, perPage, UNKNOWN_TOTAL, items, next, TotalMode.NONE, next != null);
+    }
+
+    public static <T> Pagination<T> slice(final int currentPage, final int perPage, final List<T> items, final boolean hasNext) {
+        return new Pagination<>(currentPage, perPage, UNKNOWN_TOTAL, items, null, TotalMode.NONE, hasNext);
+    }
+
+    public Pagination<T> withTotal(final long total, final TotalMode totalMode) {
+        return new Pagination<>(currentPage(), perPage(), total, items(), next(), totalMode, hasNext());
+    }
+
     public <R> Pagination<R> map(Function<T, R> mapper) {
         List<R> newList = this.items
                 .stream()
                 .map(mapper)
                 .toList();
-        return new Pagination<>(currentPage(), perPage(), total(), newList);
+        return new Pagination<>(currentPage(), perPage(), total(), newList, next(), totalMode(), hasNext());
     }
 }
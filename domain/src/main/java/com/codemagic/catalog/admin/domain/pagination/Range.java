@@ -0,0 +1,29 @@
+package com.codemagic.catalog.admin.domain.pagination;
+
+import com.codemagic.catalog.admin.domain.exceptions.DomainException;
+import com.codemagic.catalog.admin.domain.validation.Error;
+
+public record Range<T extends Comparable<? super T>>(T from, T to) {
+
+    public Range {
+        if (from != null && to != null && from.compareTo(to) > 0) {
+            throw DomainException.with(new Error("Invalid range, '%s' is greater than '%s'".formatted(from, to)));
+        }
+    }
+
+    public static <T extends Comparable<? super T>> Range<T> between(final T from, final T to) {
+        return new Range<>(from, to);
+    }
+
+    public static <T extends Comparable<? super T>> Range<T> unbounded() {
+        return new Range<>(null, null);
+    }
+
+    public boolean isUnbounded() {
+        return from == null && to == null;
+    }
+
+    public boolean contains(final T value) {
+        return (from == null || from.compareTo(value) <= 0) && (to == null || to.compareTo(value) >= 0);
+    }
+}
@@ -5,6 +5,32 @@ public record SearchQuery(
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        String after,
+        TotalMode totalMode
 ) {
+    public SearchQuery {
+        if (totalMode == null) {
+            totalMode = after != null ? TotalMode.NONE : TotalMode.EXACT;
+        }
+    }
+
+    public SearchQuery(final int page, final int perPage, final String terms, final String sort, final String direction) {
+        this(page, perPage, terms, sort, direction, null, null);
+    }
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String after
+    ) {
+        this(page, perPage, terms, sort, direction, after, null);
+    }
+
+    public boolean isCursor() {
+        return after != null;
+    }
 }
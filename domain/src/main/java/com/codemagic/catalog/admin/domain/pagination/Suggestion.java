@@ -0,0 +1,4 @@
+package com.codemagic.catalog.admin.domain.pagination;
+
+public record Suggestion(String id, String name) {
+}
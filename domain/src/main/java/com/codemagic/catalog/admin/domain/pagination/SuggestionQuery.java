@@ -0,0 +1,18 @@
+package com.codemagic.catalog.admin.domain.pagination;
+
+public record SuggestionQuery(String terms, int limit) {
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+
+    public SuggestionQuery {
+        if (limit <= 0) {
+            limit = DEFAULT_LIMIT;
+        }
+        limit = Math.min(limit, MAX_LIMIT);
+    }
+
+    public boolean isEmpty() {
+        return terms == null || terms.isBlank();
+    }
+}
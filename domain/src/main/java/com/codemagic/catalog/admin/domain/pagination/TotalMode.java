@@ -0,0 +1,28 @@
+package com.codemagic.catalog.admin.domain.pagination;
+
+import com.codemagic.catalog.admin.domain.exceptions.DomainException;
+import com.codemagic.catalog.admin.domain.validation.Error;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum TotalMode {
+
+    EXACT,
+    ESTIMATED,
+    NONE;
+
+    public static Optional<TotalMode> of(final String name) {
+        return Arrays.stream(TotalMode.values())
+                .filter(it -> it.name().equalsIgnoreCase(name))
+                .findFirst();
+    }
+
+    public static TotalMode from(final String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        return of(name).orElseThrow(() -> DomainException.with(new Error("Invalid total mode '%s'".formatted(name))));
+    }
+
+}
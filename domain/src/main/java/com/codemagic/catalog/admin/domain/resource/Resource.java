@@ -2,28 +2,99 @@ package com.codemagic.catalog.admin.domain.resource;
 
 import com.codemagic.catalog.admin.domain.ValueObject;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.util.Objects;
 
 public class Resource extends ValueObject {
 
+    public static final long UNKNOWN_LENGTH = -1;
+
     private final String checksum;
     private final byte[] content;
+    private final Source source;
+    private final long length;
     private final String contentType;
     private final String name;
 
-    private Resource(final String checksum, final byte[] content, final String contentType, final String name) {
-        this.checksum = Objects.requireNonNull(checksum);
-        this.content = Objects.requireNonNull(content);
+    private Resource(
+            final String checksum,
+            final byte[] content,
+            final Source source,
+            final long length,
+            final String contentType,
+            final String name
+    ) {
+        this.checksum = checksum;
+        this.content = content;
+        this.source = Objects.requireNonNull(source);
+        this.length = length;
         this.contentType = Objects.requireNonNull(contentType);
         this.name = Objects.requireNonNull(name);
     }
 
     public static Resource with(final String checksum, final byte[] content, final String contentType, final String name) {
-        return new Resource(checksum, content, contentType, name);
+        Objects.requireNonNull(content);
+        return new Resource(checksum, content, new BytesSource(content), content.length, contentType, name);
+    }
+
+    public static Resource with(
+            final String checksum,
+            final Source source,
+            final long length,
+            final String contentType,
+            final String name
+    ) {
+        return new Resource(checksum, null, source, length < 0 ? UNKNOWN_LENGTH : length, contentType, name);
+    }
+
+    public static Resource with(
+            final String checksum,
+            final InputStream stream,
+            final long length,
+            final String contentType,
+            final String name
+    ) {
+        Objects.requireNonNull(stream);
+        return with(checksum, () -> Channels.newChannel(stream), length, contentType, name);
+    }
+
+    public ReadableByteChannel channel() throws IOException {
+        return source.open();
+    }
+
+    public ReadableByteChannel channel(final long position) throws IOException {
+        return position > 0 ? source.open(position) : source.open();
+    }
+
+    public boolean isStreaming() {
+        return content == null;
+    }
+
+    public boolean hasKnownLength() {
+        return length != UNKNOWN_LENGTH;
+    }
+
+    public long length() {
+        return length;
     }
 
     public byte[] content() {
-        return content;
+        if (content != null) {
+            return content;
+        }
+
+        try (final var stream = Channels.newInputStream(channel())) {
+            return stream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     public String contentType() {
@@ -38,6 +109,10 @@ public class Resource extends ValueObject {
         return checksum;
     }
 
+    public boolean hasChecksum() {
+        return checksum != null && !checksum.isBlank();
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
@@ -50,4 +125,44 @@ public class Resource extends ValueObject {
     public int hashCode() {
         return Objects.hash(checksum, name);
     }
+
+    @FunctionalInterface
+    public interface Source {
+        ReadableByteChannel open() throws IOException;
+
+        default ReadableByteChannel open(final long position) throws IOException {
+            final var channel = open();
+
+            if (channel instanceof SeekableByteChannel seekable) {
+                seekable.position(position);
+                return seekable;
+            }
+
+            final var buffer = ByteBuffer.allocate(8192);
+            var remaining = position;
+            while (remaining > 0) {
+                buffer.clear().limit((int) Math.min(buffer.capacity(), remaining));
+                final var read = channel.read(buffer);
+                if (read < 0) {
+                    break;
+                }
+                remaining -= read;
+            }
+            return channel;
+        }
+    }
+
+    private record BytesSource(byte[] content) implements Source {
+
+        @Override
+        public ReadableByteChannel open() {
+            return open(0);
+        }
+
+        @Override
+        public ReadableByteChannel open(final long position) {
+            final var offset = (int) Math.min(position, content.length);
+            return Channels.newChannel(new ByteArrayInputStream(content, offset, content.length - offset));
+        }
+    }
 }
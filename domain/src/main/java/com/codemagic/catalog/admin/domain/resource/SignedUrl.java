@@ -0,0 +1,58 @@
+package com.codemagic.catalog.admin.domain.resource;
+
+import com.codemagic.catalog.admin.domain.ValueObject;
+
+import java.time.Instant;
+import java.util.Objects;
+
+public class SignedUrl extends ValueObject {
+
+    private final String url;
+    private final String method;
+    private final String contentType;
+    private final Instant expiresAt;
+
+    private SignedUrl(final String url, final String method, final String contentType, final Instant expiresAt) {
+        this.url = Objects.requireNonNull(url);
+        this.method = Objects.requireNonNull(method);
+        this.contentType = contentType;
+        this.expiresAt = Objects.requireNonNull(expiresAt);
+    }
+
+    public static SignedUrl upload(final String url, final String contentType, final Instant expiresAt) {
+        return new SignedUrl(url, "PUT", Objects.requireNonNull(contentType), expiresAt);
+    }
+
+    public static SignedUrl download(final String url, final Instant expiresAt) {
+        return new SignedUrl(url, "GET", null, expiresAt);
+    }
+
+    public String url() {
+        return url;
+    }
+
+    public String method() {
+        return method;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public Instant expiresAt() {
+        return expiresAt;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final SignedUrl that = (SignedUrl) o;
+        return Objects.equals(url, that.url) && Objects.equals(method, that.method);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(url, method);
+    }
+}
@@ -0,0 +1,24 @@
+package com.codemagic.catalog.admin.domain.util;
+
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+public final class ChecksumUtil {
+
+    private ChecksumUtil() {
+    }
+
+    public static String crc32c(final byte[] content) {
+        final var checksum = new CRC32C();
+        checksum.update(content);
+        return toHex(checksum);
+    }
+
+    public static String toHex(final Checksum checksum) {
+        return "%08x".formatted(checksum.getValue());
+    }
+
+    public static boolean matches(final String expected, final String actual) {
+        return expected != null && expected.equalsIgnoreCase(actual);
+    }
+}
@@ -1,6 +1,7 @@
 package com.codemagic.catalog.admin.domain.video;
 
 import com.codemagic.catalog.admin.domain.resource.Resource;
+import com.codemagic.catalog.admin.domain.resource.SignedUrl;
 
 import java.util.Optional;
 
@@ -9,4 +10,8 @@ public interface MediaResourceGateway {
     ImageMedia storeImage(final VideoID id, final VideoResource resource);
     void clear(final VideoID id);
     Optional<Resource> getResource(final VideoID id, final VideoResourceType type);
+    SignedUrl signUpload(final VideoID id, final VideoResourceType type, final String contentType);
+    Optional<SignedUrl> signDownload(final VideoID id, final VideoResourceType type);
+    Optional<AudioMediaVideo> linkAudioVideo(final VideoID id, final VideoResourceType type, final String name, final String checksum);
+    Optional<ImageMedia> linkImage(final VideoID id, final VideoResourceType type, final String name, final String checksum);
 }
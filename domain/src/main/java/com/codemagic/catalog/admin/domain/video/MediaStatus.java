@@ -1,5 +1,15 @@
 package com.codemagic.catalog.admin.domain.video;
 
+import java.util.Set;
+
 public enum MediaStatus {
-    PENDING, PROCESSING, COMPLETED
+    PENDING, PROCESSING, COMPLETED;
+
+    public Set<MediaStatus> predecessors() {
+        return switch (this) {
+            case PENDING -> Set.of();
+            case PROCESSING -> Set.of(PENDING);
+            case COMPLETED -> Set.of(PENDING, PROCESSING);
+        };
+    }
 }
@@ -0,0 +1,205 @@
+package com.codemagic.catalog.admin.domain.video;
+
+import com.codemagic.catalog.admin.domain.ValueObject;
+import com.codemagic.catalog.admin.domain.exceptions.DomainException;
+import com.codemagic.catalog.admin.domain.util.IdentifierUtil;
+import com.codemagic.catalog.admin.domain.validation.Error;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+
+public class UploadSession extends ValueObject {
+
+    private final String id;
+    private final VideoID videoId;
+    private final VideoResourceType type;
+    private final String name;
+    private final String contentType;
+    private final long length;
+    private final String checksum;
+    private final List<Range> parts;
+
+    private UploadSession(
+            final String id,
+            final VideoID videoId,
+            final VideoResourceType type,
+            final String name,
+            final String contentType,
+            final long length,
+            final String checksum,
+            final List<Range> parts
+    ) {
+        this.id = Objects.requireNonNull(id);
+        this.videoId = Objects.requireNonNull(videoId);
+        this.type = Objects.requireNonNull(type);
+        this.name = Objects.requireNonNull(name);
+        this.contentType = Objects.requireNonNull(contentType);
+        this.length = length;
+        this.checksum = checksum;
+        this.parts = parts.stream().sorted(Comparator.comparingLong(Range::offset)).toList();
+
+        if (length <= 0) {
+            throw DomainException.with(new Error("'length' should be greater than zero"));
+        }
+    }
+
+    public static UploadSession newSession(
+            final VideoID videoId,
+            final VideoResourceType type,
+            final String name,
+            final String contentType,
+            final long length,
+            final String checksum
+    ) {
+        return new UploadSession(IdentifierUtil.uuid(), videoId, type, name, contentType, length, checksum, List.of());
+    }
+
+    public static UploadSession with(
+            final String id,
+            final VideoID videoId,
+            final VideoResourceType type,
+            final String name,
+            final String contentType,
+            final long length,
+            final String checksum,
+            final List<Range> parts
+    ) {
+        return new UploadSession(id, videoId, type, name, contentType, length, checksum, parts);
+    }
+
+    public UploadSession withPart(final Range part) {
+        final var parts = new ArrayList<>(this.parts);
+        parts.remove(part);
+        parts.add(part);
+        return new UploadSession(id, videoId, type, name, contentType, length, checksum, parts);
+    }
+
+    public boolean belongsTo(final String videoId, final String type) {
+        return this.videoId.getValue().equals(videoId) && VideoResourceType.of(type).filter(this.type::equals).isPresent();
+    }
+
+    public void validateChunk(final long offset, final long chunkLength) {
+        if (offset < 0 || chunkLength <= 0 || offset + chunkLength > this.length) {
+            throw DomainException.with(new Error("Chunk bytes %d-%d are outside of upload session %s with %d bytes"
+                    .formatted(offset, offset + chunkLength - 1, this.id, this.length)));
+        }
+    }
+
+    public List<Range> receivedRanges() {
+        final var ranges = new ArrayList<Range>();
+        for (final var part : this.parts) {
+            final var last = ranges.isEmpty() ? null : ranges.get(ranges.size() - 1);
+            if (last != null && part.offset() <= last.end() + 1) {
+                ranges.set(ranges.size() - 1, Range.of(last.offset(), Math.max(last.end(), part.end()) - last.offset() + 1));
+            } else {
+                ranges.add(part);
+            }
+        }
+        return ranges;
+    }
+
+    /**
+     * Picks parts that tile the whole upload end to end. Retried chunks may overlap with different boundaries, so
+     * this searches for a chain instead of taking the first part at each offset, trying the furthest reaching first.
+     */
+    public List<Range> assemblyParts() {
+        final var startingAt = new HashMap<Long, List<Range>>();
+        for (final var part : this.parts) {
+            startingAt.computeIfAbsent(part.offset(), offset -> new ArrayList<>()).add(part);
+        }
+
+        final var reachedBy = new HashMap<Long, Range>();
+        final var pending = new ArrayDeque<Long>();
+        pending.push(0L);
+        while (!pending.isEmpty() && !reachedBy.containsKey(this.length)) {
+            final var candidates = startingAt.getOrDefault(pending.pop(), List.of()).stream()
+                    .sorted(Comparator.comparingLong(Range::end))
+                    .toList();
+            for (final var part : candidates) {
+                final var next = part.end() + 1;
+                if (!reachedBy.containsKey(next)) {
+                    reachedBy.put(next, part);
+                    pending.push(next);
+                }
+            }
+        }
+
+        if (!reachedBy.containsKey(this.length)) {
+            final var cursor = reachedBy.keySet().stream().max(Long::compare).orElse(0L);
+            throw DomainException.with(new Error("Upload session %s is incomplete, bytes %d-%d were not received as contiguous chunks"
+                    .formatted(this.id, cursor, this.length - 1)));
+        }
+
+        final var selected = new LinkedList<Range>();
+        for (var cursor = this.length; cursor > 0; cursor = selected.getFirst().offset()) {
+            selected.addFirst(reachedBy.get(cursor));
+        }
+        return List.copyOf(selected);
+    }
+
+    public boolean isComplete() {
+        final var ranges = receivedRanges();
+        return ranges.size() == 1 && ranges.get(0).offset() == 0 && ranges.get(0).length() == this.length;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public VideoID videoId() {
+        return videoId;
+    }
+
+    public VideoResourceType type() {
+        return type;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public long length() {
+        return length;
+    }
+
+    public String checksum() {
+        return checksum;
+    }
+
+    public List<Range> parts() {
+        return parts;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final UploadSession that = (UploadSession) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    public record Range(long offset, long length) {
+
+        public static Range of(final long offset, final long length) {
+            return new Range(offset, length);
+        }
+
+        public long end() {
+            return offset + length - 1;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.codemagic.catalog.admin.domain.video;
+
+import com.codemagic.catalog.admin.domain.resource.Resource;
+
+import java.util.Optional;
+
+public interface UploadSessionGateway {
+    UploadSession create(final UploadSession session);
+    Optional<UploadSession> findById(final String id);
+    UploadSession storeChunk(final UploadSession session, final long offset, final Resource chunk);
+    AudioMediaVideo completeAudioVideo(final UploadSession session);
+    ImageMedia completeImage(final UploadSession session);
+}
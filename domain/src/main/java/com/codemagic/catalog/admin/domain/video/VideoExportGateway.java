@@ -0,0 +1,13 @@
+package com.codemagic.catalog.admin.domain.video;
+
+import java.io.OutputStream;
+import java.time.Instant;
+
+public interface VideoExportGateway {
+
+    /**
+     * Streams the videos updated since the given instant, or all of them when it is null, as one line each and
+     * returns how many were written.
+     */
+    long export(final Instant updatedSince, final OutputStream out);
+}
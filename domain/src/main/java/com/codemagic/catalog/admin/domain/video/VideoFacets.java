@@ -0,0 +1,11 @@
+package com.codemagic.catalog.admin.domain.video;
+
+import java.util.Map;
+
+public record VideoFacets(
+        Map<String, Long> categories,
+        Map<String, Long> genres,
+        Map<Rating, Long> ratings,
+        Map<Integer, Long> launchYears
+) {
+}
@@ -8,6 +8,9 @@ public interface VideoGateway {
     Video create(final Video video);
     Video update(final Video video);
     Optional<Video> findById(final VideoID videoID);
+    boolean existsById(final VideoID videoID);
     Pagination<VideoPreview> findAll(final VideoSearchQuery query);
+    VideoFacets facets(final VideoSearchQuery query);
     void deleteById(final VideoID videoID);
+    boolean updateMediaStatus(final VideoID videoID, final String resourceId, final MediaStatus status, final String encodedPath);
 }
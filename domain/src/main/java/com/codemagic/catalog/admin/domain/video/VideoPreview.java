@@ -5,10 +5,9 @@ import java.time.Instant;
 public record VideoPreview(
         String id,
         String title,
-        String description,
         Instant createdAt,
         Instant updatedAt) {
     public static VideoPreview from(final Video video) {
-        return new VideoPreview(video.getId().getValue(), video.getTitle(), video.getDescription(), video.getCreatedAt(), video.getUpdatedAt());
+        return new VideoPreview(video.getId().getValue(), video.getTitle(), video.getCreatedAt(), video.getUpdatedAt());
     }
 }
@@ -3,6 +3,8 @@ package com.codemagic.catalog.admin.domain.video;
 import com.codemagic.catalog.admin.domain.castmember.CastMemberID;
 import com.codemagic.catalog.admin.domain.category.CategoryID;
 import com.codemagic.catalog.admin.domain.genre.GenreID;
+import com.codemagic.catalog.admin.domain.pagination.Range;
+import com.codemagic.catalog.admin.domain.pagination.TotalMode;
 
 import java.util.Set;
 
@@ -14,5 +16,103 @@ public record VideoSearchQuery(
         String direction,
         Set<CastMemberID> members,
         Set<CategoryID> categories,
-        Set<GenreID> genres) {
+        Set<GenreID> genres,
+        Set<Rating> ratings,
+        Range<Integer> launchYears,
+        Range<Double> durations,
+        Boolean published,
+        Boolean opened,
+        String after,
+        TotalMode totalMode,
+        int facets) {
+
+    public static final int MAX_FACETS = 100;
+
+    public VideoSearchQuery {
+        if (ratings == null) {
+            ratings = Set.of();
+        }
+        if (launchYears == null) {
+            launchYears = Range.unbounded();
+        }
+        if (durations == null) {
+            durations = Range.unbounded();
+        }
+        if (totalMode == null) {
+            totalMode = after != null ? TotalMode.NONE : TotalMode.EXACT;
+        }
+        facets = Math.max(0, Math.min(facets, MAX_FACETS));
+    }
+
+    public VideoSearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final Set<CastMemberID> members,
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final Set<Rating> ratings,
+            final Range<Integer> launchYears,
+            final Range<Double> durations,
+            final Boolean published,
+            final Boolean opened,
+            final String after,
+            final TotalMode totalMode) {
+        this(page, perPage, terms, sort, direction, members, categories, genres,
+                ratings, launchYears, durations, published, opened, after, totalMode, 0);
+    }
+
+    public VideoSearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final Set<CastMemberID> members,
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres) {
+        this(page, perPage, terms, sort, direction, members, categories, genres, null, null, null, null, null, null, null);
+    }
+
+    public VideoSearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final Set<CastMemberID> members,
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final String after) {
+        this(page, perPage, terms, sort, direction, members, categories, genres, null, null, null, null, null, after, null);
+    }
+
+    public VideoSearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final Set<CastMemberID> members,
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final String after,
+            final TotalMode totalMode) {
+        this(page, perPage, terms, sort, direction, members, categories, genres, null, null, null, null, null, after, totalMode);
+    }
+
+    public boolean isCursor() {
+        return after != null;
+    }
+
+    public boolean hasFacets() {
+        return facets > 0;
+    }
+
+    public VideoSearchQuery withFacets(final int facets) {
+        return new VideoSearchQuery(page, perPage, terms, sort, direction, members, categories, genres,
+                ratings, launchYears, durations, published, opened, after, totalMode, facets);
+    }
 }
@@ -4,7 +4,7 @@ import com.codemagic.catalog.admin.domain.castmember.CastMember;
 import com.codemagic.catalog.admin.domain.castmember.CastMemberType;
 import com.codemagic.catalog.admin.domain.category.Category;
 import com.codemagic.catalog.admin.domain.genre.Genre;
-import com.codemagic.catalog.admin.domain.util.IdentifierUtil;
+import com.codemagic.catalog.admin.domain.util.ChecksumUtil;
 import com.codemagic.catalog.admin.domain.video.*;
 import com.codemagic.catalog.admin.domain.resource.Resource;
 import net.datafaker.Faker;
@@ -162,7 +162,7 @@ public final class Fixture {
                     .anyMatch(t -> t.equals(VideoResourceType.TRAILER) || t.equals(VideoResourceType.VIDEO))
                     ? "video/mp4" : "image/jpeg";
             final var content = FAKER.avatar().image().getBytes();
-            return Resource.with(IdentifierUtil.uuid(), content, contentType, type.name());
+            return Resource.with(ChecksumUtil.crc32c(content), content, contentType, type.name());
         }
 
         public static com.codemagic.catalog.admin.domain.video.AudioMediaVideo
@@ -0,0 +1,106 @@
+package com.codemagic.catalog.admin.domain;
+
+import com.codemagic.catalog.admin.domain.resource.Resource;
+import com.codemagic.catalog.admin.domain.util.IdentifierUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResourceTest {
+
+    @Test
+    void givenAValidContent_whenCallsWith_thenShouldReturnAnInMemoryResource() {
+        // given
+        final var expectedChecksum = IdentifierUtil.uuid();
+        final var expectedContent = "content".getBytes();
+        final var expectedContentType = "image/png";
+        final var expectedName = "banner.png";
+
+        // when
+        final var actualResource = Resource.with(expectedChecksum, expectedContent, expectedContentType, expectedName);
+
+        // then
+        assertNotNull(actualResource);
+        assertFalse(actualResource.isStreaming());
+        assertTrue(actualResource.hasKnownLength());
+        assertEquals(expectedContent.length, actualResource.length());
+        assertSame(expectedContent, actualResource.content());
+        assertEquals(expectedChecksum, actualResource.checksum());
+        assertEquals(expectedContentType, actualResource.contentType());
+        assertEquals(expectedName, actualResource.name());
+    }
+
+    @Test
+    void givenAStreamWithUnknownLength_whenCallsWith_thenShouldReturnAStreamingResource() throws Exception {
+        // given
+        final var expectedContent = "streamed content".getBytes();
+        final var stream = new ByteArrayInputStream(expectedContent);
+
+        // when
+        final var actualResource = Resource.with(IdentifierUtil.uuid(), stream, Resource.UNKNOWN_LENGTH, "video/mp4", "video.mp4");
+
+        // then
+        assertTrue(actualResource.isStreaming());
+        assertFalse(actualResource.hasKnownLength());
+        assertEquals(Resource.UNKNOWN_LENGTH, actualResource.length());
+
+        try (final var actualStream = Channels.newInputStream(actualResource.channel())) {
+            assertArrayEquals(expectedContent, actualStream.readAllBytes());
+        }
+    }
+
+    @Test
+    void givenAChannelSource_whenCallsContent_thenShouldReadTheWholeSource() {
+        // given
+        final var expectedContent = "streamed content".getBytes();
+
+        // when
+        final var actualResource = Resource.with(IdentifierUtil.uuid(),
+                () -> Channels.newChannel(new ByteArrayInputStream(expectedContent)),
+                expectedContent.length, "video/mp4", "video.mp4");
+
+        // then
+        assertTrue(actualResource.isStreaming());
+        assertEquals(expectedContent.length, actualResource.length());
+        assertArrayEquals(expectedContent, actualResource.content());
+    }
+
+    @Test
+    void givenAPosition_whenCallsChannel_thenShouldReadFromThatPosition() throws Exception {
+        // given
+        final var content = "0123456789".getBytes();
+        final var inMemory = Resource.with(IdentifierUtil.uuid(), content, "video/mp4", "video.mp4");
+        final var streaming = Resource.with(IdentifierUtil.uuid(), new ByteArrayInputStream(content),
+                content.length, "video/mp4", "video.mp4");
+
+        // when
+        try (final var actualInMemory = Channels.newInputStream(inMemory.channel(6));
+             final var actualStreaming = Channels.newInputStream(streaming.channel(6))) {
+
+            // then
+            assertArrayEquals("6789".getBytes(), actualInMemory.readAllBytes());
+            assertArrayEquals("6789".getBytes(), actualStreaming.readAllBytes());
+        }
+    }
+
+    @Test
+    void givenANullChecksum_whenCallsWith_thenShouldCreateAResourceWithoutChecksum() {
+        final var actualResource = Resource.with(null, "content".getBytes(), "image/png", "banner.png");
+
+        assertNull(actualResource.checksum());
+        assertFalse(actualResource.hasChecksum());
+    }
+
+    @Test
+    void givenANullParams_whenCallsWith_thenShouldThrowsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                Resource.with(IdentifierUtil.uuid(), (byte[]) null, "image/png", "banner.png"));
+
+        assertThrows(NullPointerException.class, () ->
+                Resource.with(IdentifierUtil.uuid(), (Resource.Source) null, 10, "image/png", "banner.png"));
+    }
+
+}
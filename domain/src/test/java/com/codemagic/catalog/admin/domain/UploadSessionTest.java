@@ -0,0 +1,126 @@
+package com.codemagic.catalog.admin.domain;
+
+import com.codemagic.catalog.admin.domain.exceptions.DomainException;
+import com.codemagic.catalog.admin.domain.video.UploadSession;
+import com.codemagic.catalog.admin.domain.video.VideoID;
+import com.codemagic.catalog.admin.domain.video.VideoResourceType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UploadSessionTest {
+
+    @Test
+    void givenValidParams_whenCallsNewSession_thenShouldInstantiateAnEmptySession() {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var expectedType = VideoResourceType.VIDEO;
+        final var expectedLength = 100L;
+
+        // when
+        final var actualSession = UploadSession.newSession(expectedVideoId, expectedType,
+                "master.mp4", "video/mp4", expectedLength, null);
+
+        // then
+        assertNotNull(actualSession.id());
+        assertEquals(expectedVideoId, actualSession.videoId());
+        assertEquals(expectedType, actualSession.type());
+        assertEquals(expectedLength, actualSession.length());
+        assertTrue(actualSession.receivedRanges().isEmpty());
+        assertFalse(actualSession.isComplete());
+    }
+
+    @Test
+    void givenAnInvalidLength_whenCallsNewSession_thenShouldReceiveAnError() {
+        // when
+        final var actualException = assertThrows(DomainException.class, () -> UploadSession.newSession(
+                VideoID.unique(), VideoResourceType.VIDEO, "master.mp4", "video/mp4", 0, null));
+
+        // then
+        assertEquals("'length' should be greater than zero", actualException.getMessage());
+    }
+
+    @Test
+    void givenOutOfOrderParts_whenCallsReceivedRanges_thenShouldMergeAdjacentRanges() {
+        // given
+        final var session = UploadSession.newSession(VideoID.unique(), VideoResourceType.VIDEO,
+                "master.mp4", "video/mp4", 100, null)
+                .withPart(UploadSession.Range.of(60, 40))
+                .withPart(UploadSession.Range.of(0, 20))
+                .withPart(UploadSession.Range.of(20, 20));
+
+        // when
+        final var actualRanges = session.receivedRanges();
+
+        // then
+        assertEquals(List.of(UploadSession.Range.of(0, 40), UploadSession.Range.of(60, 40)), actualRanges);
+        assertFalse(session.isComplete());
+    }
+
+    @Test
+    void givenAllParts_whenCallsAssemblyParts_thenShouldReturnContiguousParts() {
+        // given
+        final var session = UploadSession.newSession(VideoID.unique(), VideoResourceType.VIDEO,
+                "master.mp4", "video/mp4", 100, null)
+                .withPart(UploadSession.Range.of(50, 50))
+                .withPart(UploadSession.Range.of(0, 50))
+                .withPart(UploadSession.Range.of(0, 50));
+
+        // when
+        final var actualParts = session.assemblyParts();
+
+        // then
+        assertTrue(session.isComplete());
+        assertEquals(List.of(UploadSession.Range.of(0, 50), UploadSession.Range.of(50, 50)), actualParts);
+    }
+
+    @Test
+    void givenRetriedChunksWithDifferentBoundaries_whenCallsAssemblyParts_thenShouldFindAContiguousChain() {
+        // given
+        final var session = UploadSession.newSession(VideoID.unique(), VideoResourceType.VIDEO,
+                "master.mp4", "video/mp4", 100, null)
+                .withPart(UploadSession.Range.of(0, 30))
+                .withPart(UploadSession.Range.of(0, 60))
+                .withPart(UploadSession.Range.of(30, 20))
+                .withPart(UploadSession.Range.of(30, 70));
+
+        // when
+        final var actualParts = session.assemblyParts();
+
+        // then
+        assertEquals(List.of(UploadSession.Range.of(0, 30), UploadSession.Range.of(30, 70)), actualParts);
+    }
+
+    @Test
+    void givenAMissingPart_whenCallsAssemblyParts_thenShouldReceiveAnError() {
+        // given
+        final var session = UploadSession.newSession(VideoID.unique(), VideoResourceType.VIDEO,
+                "master.mp4", "video/mp4", 100, null)
+                .withPart(UploadSession.Range.of(0, 50));
+        final var expectedErrorMessage = "Upload session %s is incomplete, bytes 50-99 were not received as contiguous chunks"
+                .formatted(session.id());
+
+        // when
+        final var actualException = assertThrows(DomainException.class, session::assemblyParts);
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    void givenAChunkBeyondTheLength_whenCallsValidateChunk_thenShouldReceiveAnError() {
+        // given
+        final var session = UploadSession.newSession(VideoID.unique(), VideoResourceType.VIDEO,
+                "master.mp4", "video/mp4", 100, null);
+
+        // when
+        assertDoesNotThrow(() -> session.validateChunk(90, 10));
+        final var actualException = assertThrows(DomainException.class, () -> session.validateChunk(90, 11));
+
+        // then
+        assertEquals("Chunk bytes 90-100 are outside of upload session %s with 100 bytes".formatted(session.id()),
+                actualException.getMessage());
+    }
+}
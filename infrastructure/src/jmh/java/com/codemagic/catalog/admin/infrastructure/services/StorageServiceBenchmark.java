@@ -0,0 +1,100 @@
+package com.codemagic.catalog.admin.infrastructure.services;
+
+import com.codemagic.catalog.admin.domain.resource.Resource;
+import com.codemagic.catalog.admin.infrastructure.services.impl.FileSystemStorageService;
+import com.codemagic.catalog.admin.infrastructure.services.impl.LocalStorageService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StorageServiceBenchmark {
+
+    private static final String PAYLOAD = "benchmark/type-VIDEO";
+
+    @Param({"memory", "filesystem"})
+    private String implementation;
+
+    @Param({"65536", "8388608"})
+    private int payloadSize;
+
+    @Param({"10000"})
+    private int videos;
+
+    private Path root;
+    private StorageService service;
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        this.payload = new byte[this.payloadSize];
+        ThreadLocalRandom.current().nextBytes(this.payload);
+
+        if ("filesystem".equals(this.implementation)) {
+            this.root = Files.createTempDirectory("storage-benchmark");
+            this.service = new FileSystemStorageService(this.root);
+        } else {
+            this.service = new LocalStorageService();
+        }
+
+        final var thumbnail = new byte[128];
+        for (int i = 0; i < this.videos; i++) {
+            this.service.store("videoId-%06d/type-THUMBNAIL".formatted(i),
+                    Resource.with("checksum", thumbnail, "image/jpeg", "THUMBNAIL"));
+        }
+
+        this.service.store(PAYLOAD, resource());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (this.root == null) {
+            return;
+        }
+
+        try (final Stream<Path> files = Files.walk(this.root)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void store() {
+        this.service.store(PAYLOAD, resource());
+    }
+
+    @Benchmark
+    public void read(final Blackhole blackhole) throws IOException {
+        final var resource = this.service.get(PAYLOAD).orElseThrow();
+        final var buffer = ByteBuffer.allocate(64 * 1024);
+
+        try (final var channel = resource.channel()) {
+            long total = 0;
+            int read;
+            while ((read = channel.read(buffer)) >= 0) {
+                total += read;
+                buffer.clear();
+            }
+            blackhole.consume(total);
+        }
+    }
+
+    @Benchmark
+    public void list(final Blackhole blackhole) {
+        final var video = ThreadLocalRandom.current().nextInt(this.videos);
+        blackhole.consume(this.service.list("videoId-%06d".formatted(video)));
+    }
+
+    private Resource resource() {
+        return Resource.with("checksum", this.payload, "video/mp4", "VIDEO");
+    }
+}
@@ -0,0 +1,357 @@
+package com.codemagic.catalog.admin.infrastructure.video;
+
+import com.codemagic.catalog.admin.domain.castmember.CastMemberID;
+import com.codemagic.catalog.admin.domain.category.CategoryID;
+import com.codemagic.catalog.admin.domain.genre.GenreID;
+import com.codemagic.catalog.admin.domain.util.IdentifierUtil;
+import com.codemagic.catalog.admin.domain.video.VideoPreview;
+import com.codemagic.catalog.admin.domain.video.VideoSearchQuery;
+import com.codemagic.catalog.admin.infrastructure.video.persistence.VideoLink;
+import com.codemagic.catalog.admin.infrastructure.video.search.VideoBitmapIndex;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationVersion;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VideoListingBenchmark {
+
+    private static final int PER_PAGE = 25;
+    private static final String INDEXES_VERSION = "8";
+
+    private static final String BEFORE_SELECT = """
+            select distinct v.id, v.title, v.description, v.created_at, v.updated_at
+            """;
+
+    private static final String BEFORE_FILTER = """
+            from videos v
+                left join videos_categories vc on vc.video_id = v.id
+                left join videos_genres vg on vg.video_id = v.id
+                left join videos_cast_members vm on vm.video_id = v.id
+            where
+                ( ? is null or vm.cast_member_id = ? ) and
+                ( ? is null or vc.category_id = ? ) and
+                ( ? is null or vg.genre_id = ? )
+            """;
+
+    private static final String AFTER_SELECT = """
+            select v.id, v.title, v.created_at, v.updated_at
+            """;
+
+    private static final String AFTER_FILTER = """
+            from videos v
+            where
+                ( ? is null or exists (
+                    select 1 from videos_cast_members vm where vm.video_id = v.id and vm.cast_member_id = ? ) ) and
+                ( ? is null or exists (
+                    select 1 from videos_categories vc where vc.video_id = v.id and vc.category_id = ? ) ) and
+                ( ? is null or exists (
+                    select 1 from videos_genres vg where vg.video_id = v.id and vg.genre_id = ? ) )
+            """;
+
+    private static final String PAGE_BY_IDS = "select v.id, v.title, v.created_at, v.updated_at from videos v where v.id in (%s)";
+
+    @Param({"before", "after", "bitmap"})
+    private String variant;
+
+    @Param({"category", "genre", "member", "combined"})
+    private String filter;
+
+    @Param({"20000"})
+    private int videos;
+
+    @Param({"40"})
+    private int categoriesCount;
+
+    @Param({"30"})
+    private int genresCount;
+
+    @Param({"2000"})
+    private int membersCount;
+
+    private Connection connection;
+    private List<String> categories;
+    private List<String> genres;
+    private List<String> members;
+    private VideoBitmapIndex bitmaps;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        final var url = System.getProperty("benchmark.jdbc.url",
+                "jdbc:h2:mem:video_listing_%s;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"
+                        .formatted(IdentifierUtil.uuid()));
+        final var user = System.getProperty("benchmark.jdbc.user", "root");
+        final var password = System.getProperty("benchmark.jdbc.password", "root");
+
+        final var flyway = Flyway.configure()
+                .dataSource(url, user, password)
+                .cleanDisabled(false);
+        if ("before".equals(this.variant)) {
+            flyway.target(MigrationVersion.fromVersion(INDEXES_VERSION));
+        }
+        final var migrations = flyway.load();
+        migrations.clean();
+        migrations.migrate();
+
+        this.connection = DriverManager.getConnection(url, user, password);
+        seed();
+        if ("bitmap".equals(this.variant)) {
+            loadBitmaps();
+        } else {
+            explain();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        this.connection.close();
+    }
+
+    @Benchmark
+    public void list(final Blackhole blackhole) throws SQLException {
+        final var random = ThreadLocalRandom.current();
+        final var member = "member".equals(this.filter) || "combined".equals(this.filter)
+                ? this.members.get(random.nextInt(this.members.size())) : null;
+        final var category = "category".equals(this.filter) || "combined".equals(this.filter)
+                ? this.categories.get(random.nextInt(this.categories.size())) : null;
+        final var genre = "genre".equals(this.filter) || "combined".equals(this.filter)
+                ? this.genres.get(random.nextInt(this.genres.size())) : null;
+
+        if (this.bitmaps != null) {
+            listByBitmaps(blackhole, member, category, genre);
+            return;
+        }
+
+        try (final var page = this.connection.prepareStatement(pageQuery())) {
+            bind(page, member, category, genre);
+            try (final var rows = page.executeQuery()) {
+                while (rows.next()) {
+                    blackhole.consume(rows.getString(1));
+                }
+            }
+        }
+
+        try (final var count = this.connection.prepareStatement(countQuery())) {
+            bind(count, member, category, genre);
+            try (final var rows = count.executeQuery()) {
+                rows.next();
+                blackhole.consume(rows.getLong(1));
+            }
+        }
+    }
+
+    private void listByBitmaps(
+            final Blackhole blackhole,
+            final String member,
+            final String category,
+            final String genre
+    ) throws SQLException {
+        final var hits = this.bitmaps.search(new VideoSearchQuery(0, PER_PAGE, "", "title", "asc",
+                member == null ? Set.of() : Set.of(CastMemberID.from(member)),
+                category == null ? Set.of() : Set.of(CategoryID.from(category)),
+                genre == null ? Set.of() : Set.of(GenreID.from(genre))));
+        blackhole.consume(hits.total());
+
+        if (hits.ids().isEmpty()) {
+            return;
+        }
+
+        final var placeholders = String.join(", ", Collections.nCopies(hits.ids().size(), "?"));
+        try (final var page = this.connection.prepareStatement(PAGE_BY_IDS.formatted(placeholders))) {
+            for (int i = 0; i < hits.ids().size(); i++) {
+                page.setString(i + 1, hits.ids().get(i));
+            }
+            try (final var rows = page.executeQuery()) {
+                while (rows.next()) {
+                    blackhole.consume(rows.getString(1));
+                }
+            }
+        }
+    }
+
+    private void loadBitmaps() throws SQLException {
+        final var started = System.nanoTime();
+        final var previews = select("select id, title, created_at, updated_at from videos", rows -> new VideoPreview(
+                rows.getString(1), rows.getString(2), rows.getTimestamp(3).toInstant(), rows.getTimestamp(4).toInstant()));
+        final var categories = select("select video_id, category_id from videos_categories", VideoListingBenchmark::link);
+        final var genres = select("select video_id, genre_id from videos_genres", VideoListingBenchmark::link);
+        final var members = select("select video_id, cast_member_id from videos_cast_members", VideoListingBenchmark::link);
+
+        this.bitmaps = new VideoBitmapIndex();
+        this.bitmaps.load(previews::stream, categories::stream, genres::stream, members::stream);
+        System.out.printf("%n[bitmap/%s] loaded %d videos in %d ms%n",
+                this.filter, this.bitmaps.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private <T> List<T> select(final String sql, final RowMapper<T> mapper) throws SQLException {
+        final var result = new ArrayList<T>();
+        try (final var statement = this.connection.prepareStatement(sql);
+             final var rows = statement.executeQuery()) {
+            while (rows.next()) {
+                result.add(mapper.map(rows));
+            }
+        }
+        return result;
+    }
+
+    private static VideoLink link(final ResultSet rows) throws SQLException {
+        return new VideoLink(rows.getString(1), rows.getString(2));
+    }
+
+    private String pageQuery() {
+        return "before".equals(this.variant)
+                ? BEFORE_SELECT + BEFORE_FILTER + " order by v.title asc limit " + PER_PAGE
+                : AFTER_SELECT + AFTER_FILTER + " order by v.title asc limit " + PER_PAGE;
+    }
+
+    private String countQuery() {
+        return "before".equals(this.variant)
+                ? "select count(distinct v.id) " + BEFORE_FILTER
+                : "select count(*) " + AFTER_FILTER;
+    }
+
+    private static void bind(
+            final PreparedStatement statement,
+            final String member,
+            final String category,
+            final String genre
+    ) throws SQLException {
+        statement.setString(1, member);
+        statement.setString(2, member);
+        statement.setString(3, category);
+        statement.setString(4, category);
+        statement.setString(5, genre);
+        statement.setString(6, genre);
+    }
+
+    private void explain() throws SQLException {
+        final var member = this.members.get(0);
+        final var category = this.categories.get(0);
+        final var genre = this.genres.get(0);
+
+        for (final var query : List.of(pageQuery(), countQuery())) {
+            try (final var explain = this.connection.prepareStatement("explain " + query)) {
+                bind(explain, member, category, genre);
+                try (final var rows = explain.executeQuery()) {
+                    final var columns = rows.getMetaData().getColumnCount();
+                    final var plan = new StringBuilder("%n[%s/%s] plan:%n".formatted(this.variant, this.filter));
+                    while (rows.next()) {
+                        for (int column = 1; column <= columns; column++) {
+                            plan.append(rows.getMetaData().getColumnLabel(column)).append('=')
+                                    .append(rows.getString(column)).append(' ');
+                        }
+                        plan.append(System.lineSeparator());
+                    }
+                    System.out.print(plan);
+                }
+            }
+        }
+    }
+
+    private void seed() throws SQLException {
+        final var now = Timestamp.from(Instant.now());
+        this.connection.setAutoCommit(false);
+
+        this.categories = insertNamed("insert into categories (id, name, description, active, created_at, updated_at) values (?, ?, null, true, ?, ?)",
+                this.categoriesCount, now);
+        this.genres = insertNamed("insert into genres (id, name, active, created_at, updated_at) values (?, ?, true, ?, ?)",
+                this.genresCount, now);
+        this.members = insertNamed("insert into cast_members (id, name, type, created_at, updated_at) values (?, ?, 'ACTOR', ?, ?)",
+                this.membersCount, now);
+
+        final var random = ThreadLocalRandom.current();
+        try (final var video = this.connection.prepareStatement("""
+                insert into videos (id, title, description, launch_year, rating, duration, opened, published, created_at, updated_at)
+                values (?, ?, ?, 2024, 'L', 120.0, false, true, ?, ?)
+                """);
+             final var category = this.connection.prepareStatement("insert into videos_categories (video_id, category_id) values (?, ?)");
+             final var genre = this.connection.prepareStatement("insert into videos_genres (video_id, genre_id) values (?, ?)");
+             final var member = this.connection.prepareStatement("insert into videos_cast_members (video_id, cast_member_id) values (?, ?)")) {
+
+            final var description = "d".repeat(2000);
+            for (int i = 0; i < this.videos; i++) {
+                final var id = IdentifierUtil.uuid();
+                video.setString(1, id);
+                video.setString(2, "Video %06d".formatted(random.nextInt(1_000_000)));
+                video.setString(3, description);
+                video.setTimestamp(4, now);
+                video.setTimestamp(5, now);
+                video.addBatch();
+
+                link(category, id, this.categories, 3);
+                link(genre, id, this.genres, 2);
+                link(member, id, this.members, 6);
+
+                if (i % 500 == 499) {
+                    video.executeBatch();
+                    category.executeBatch();
+                    genre.executeBatch();
+                    member.executeBatch();
+                    this.connection.commit();
+                }
+            }
+
+            video.executeBatch();
+            category.executeBatch();
+            genre.executeBatch();
+            member.executeBatch();
+            this.connection.commit();
+        }
+
+        this.connection.setAutoCommit(true);
+    }
+
+    private List<String> insertNamed(final String sql, final int count, final Timestamp now) throws SQLException {
+        final var ids = new ArrayList<String>(count);
+        try (final var statement = this.connection.prepareStatement(sql)) {
+            for (int i = 0; i < count; i++) {
+                final var id = IdentifierUtil.uuid();
+                statement.setString(1, id);
+                statement.setString(2, "Name %d".formatted(i));
+                statement.setTimestamp(3, now);
+                statement.setTimestamp(4, now);
+                statement.addBatch();
+                ids.add(id);
+            }
+            statement.executeBatch();
+        }
+        this.connection.commit();
+        return ids;
+    }
+
+    private static void link(
+            final PreparedStatement statement,
+            final String videoId,
+            final List<String> targets,
+            final int links
+    ) throws SQLException {
+        final var random = ThreadLocalRandom.current();
+        final var start = random.nextInt(targets.size());
+        for (int i = 0; i < Math.min(links, targets.size()); i++) {
+            statement.setString(1, videoId);
+            statement.setString(2, targets.get((start + i) % targets.size()));
+            statement.addBatch();
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowMapper<T> {
+        T map(ResultSet rows) throws SQLException;
+    }
+}
@@ -1,8 +1,10 @@
 package com.codemagic.catalog.admin.infrastructure.api;
 
 import com.codemagic.catalog.admin.domain.pagination.Pagination;
+import com.codemagic.catalog.admin.infrastructure.category.models.CategorySuggestionResponse;
 import com.codemagic.catalog.admin.infrastructure.category.models.CreateCategoryRequest;
 import com.codemagic.catalog.admin.infrastructure.category.models.UpdateCategoryRequest;
+import com.codemagic.catalog.admin.infrastructure.export.JdbcExport;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -10,6 +12,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Instant;
+import java.util.List;
 
 @RequestMapping(value = "categories")
 @Tag(name = "Categories")
@@ -26,6 +32,28 @@ public interface CategoryAPI {
     })
     ResponseEntity<?> create(@RequestBody CreateCategoryRequest input);
 
+    @PostMapping(
+            path = "bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Create categories in bulk")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "All categories created successfully"),
+            @ApiResponse(responseCode = "207", description = "Some categories were rejected, see the errors of each item"),
+            @ApiResponse(responseCode = "500", description = "A internal server error was thrown")
+    })
+    ResponseEntity<?> bulkCreate(@RequestBody List<CreateCategoryRequest> input);
+
+    @GetMapping(path = "export", produces = JdbcExport.NDJSON)
+    @Operation(summary = "Export all categories as newline delimited JSON")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Categories streamed successfully"),
+            @ApiResponse(responseCode = "500", description = "A internal server error was thrown")
+    })
+    ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "updated_since", required = false) final Instant updatedSince
+    );
+
     @GetMapping(
             path = "{id}",
             produces = MediaType.APPLICATION_JSON_VALUE
@@ -62,7 +90,23 @@ public interface CategoryAPI {
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "terms", required = false, defaultValue = "") final String terms,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "direction", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "direction", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "after", required = false) final String after,
+            @RequestParam(name = "total", required = false) final String total
+    );
+
+    @GetMapping(
+            path = "suggestions",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Suggest categories whose name has a word starting with the given terms")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Suggestions returned successfully"),
+            @ApiResponse(responseCode = "500", description = "A internal server error was thrown")
+    })
+    List<CategorySuggestionResponse> suggest(
+            @RequestParam(name = "terms", required = false, defaultValue = "") final String terms,
+            @RequestParam(name = "limit", required = false, defaultValue = "10") final int limit
     );
 
     @DeleteMapping(path = "{id}")
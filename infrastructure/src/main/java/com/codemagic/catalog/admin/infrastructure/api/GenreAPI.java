@@ -1,6 +1,8 @@
 package com.codemagic.catalog.admin.infrastructure.api;
 
 import com.codemagic.catalog.admin.domain.pagination.Pagination;
+import com.codemagic.catalog.admin.infrastructure.export.JdbcExport;
+import com.codemagic.catalog.admin.infrastructure.genre.models.GenreSuggestionResponse;
 import com.codemagic.catalog.admin.infrastructure.genre.models.CreateGenreRequest;
 import com.codemagic.catalog.admin.infrastructure.genre.models.GenreListResponse;
 import com.codemagic.catalog.admin.infrastructure.genre.models.GenreResponse;
@@ -12,6 +14,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Instant;
+import java.util.List;
 
 @RequestMapping(value = "genres")
 @Tag(name = "Genres")
@@ -28,6 +34,28 @@ public interface GenreAPI {
     })
     ResponseEntity<?> create(@RequestBody CreateGenreRequest input);
 
+    @PostMapping(
+            path = "bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Create genres in bulk")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "All genres created successfully"),
+            @ApiResponse(responseCode = "207", description = "Some genres were rejected, see the errors of each item"),
+            @ApiResponse(responseCode = "500", description = "A internal server error was thrown")
+    })
+    ResponseEntity<?> bulkCreate(@RequestBody List<CreateGenreRequest> input);
+
+    @GetMapping(path = "export", produces = JdbcExport.NDJSON)
+    @Operation(summary = "Export all genres as newline delimited JSON")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Genres streamed successfully"),
+            @ApiResponse(responseCode = "500", description = "A internal server error was thrown")
+    })
+    ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "updated_since", required = false) final Instant updatedSince
+    );
+
     @GetMapping(
             path = "{id}",
             produces = MediaType.APPLICATION_JSON_VALUE
@@ -64,7 +92,23 @@ public interface GenreAPI {
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "terms", required = false, defaultValue = "") final String terms,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "direction", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "direction", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "after", required = false) final String after,
+            @RequestParam(name = "total", required = false) final String total
+    );
+
+    @GetMapping(
+            path = "suggestions",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Suggest genres whose name has a word starting with the given terms")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Suggestions returned successfully"),
+            @ApiResponse(responseCode = "500", description = "A internal server error was thrown")
+    })
+    List<GenreSuggestionResponse> suggest(
+            @RequestParam(name = "terms", required = false, defaultValue = "") final String terms,
+            @RequestParam(name = "limit", required = false, defaultValue = "10") final int limit
     );
 
     @DeleteMapping(path = "{id}")
@@ -0,0 +1,156 @@
+package com.codemagic.catalog.admin.infrastructure.api;
+
+import com.codemagic.catalog.admin.infrastructure.video.models.CompleteSignedUploadRequest;
+import com.codemagic.catalog.admin.infrastructure.video.models.CreateUploadSessionRequest;
+import com.codemagic.catalog.admin.infrastructure.video.models.SignUploadUrlRequest;
+import com.codemagic.catalog.admin.infrastructure.video.models.SignedUrlResponse;
+import com.codemagic.catalog.admin.infrastructure.video.models.UploadMediaResponse;
+import com.codemagic.catalog.admin.infrastructure.video.models.UploadSessionResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+
+@RequestMapping(value = "videos")
+@Tag(name = "Medias")
+public interface MediaAPI {
+
+    @GetMapping(path = "{id}/medias/{type}")
+    @Operation(summary = "Stream a video media, honoring Range and If-Range headers")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Media streamed successfully"),
+            @ApiResponse(responseCode = "206", description = "Requested ranges streamed successfully"),
+            @ApiResponse(responseCode = "404", description = "Media not found"),
+            @ApiResponse(responseCode = "416", description = "Requested ranges are not satisfiable"),
+            @ApiResponse(responseCode = "500", description = "A internal server error was thrown")
+    })
+    ResponseEntity<StreamingResponseBody> getMedia(
+            @PathVariable("id") final String id,
+            @PathVariable("type") final String type,
+            @RequestHeader final HttpHeaders headers
+    );
+
+    @PostMapping(
+            path = "{id}/medias/{type}/uploads",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Open a resumable upload session for a video media")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Upload session created successfully"),
+            @ApiResponse(responseCode = "404", description = "Video or media type not found"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "500", description = "A internal server error was thrown")
+    })
+    ResponseEntity<UploadSessionResponse> createUploadSession(
+            @PathVariable("id") final String id,
+            @PathVariable("type") final String type,
+            @RequestBody final CreateUploadSessionRequest input
+    );
+
+    @GetMapping(
+            path = "{id}/medias/{type}/uploads/{sessionId}",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the byte ranges already received by an upload session")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Upload session returned successfully"),
+            @ApiResponse(responseCode = "404", description = "Upload session not found"),
+            @ApiResponse(responseCode = "500", description = "A internal server error was thrown")
+    })
+    UploadSessionResponse getUploadSession(
+            @PathVariable("id") final String id,
+            @PathVariable("type") final String type,
+            @PathVariable("sessionId") final String sessionId
+    );
+
+    @PutMapping(
+            path = "{id}/medias/{type}/uploads/{sessionId}",
+            consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Upload one chunk of an upload session, addressed by its Content-Range header")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Chunk stored successfully"),
+            @ApiResponse(responseCode = "404", description = "Upload session not found"),
+            @ApiResponse(responseCode = "422", description = "The chunk range is invalid"),
+            @ApiResponse(responseCode = "500", description = "A internal server error was thrown")
+    })
+    UploadSessionResponse uploadChunk(
+            @PathVariable("id") final String id,
+            @PathVariable("type") final String type,
+            @PathVariable("sessionId") final String sessionId,
+            @RequestHeader(HttpHeaders.CONTENT_RANGE) final String contentRange,
+            final InputStream body
+    );
+
+    @PostMapping(
+            path = "{id}/medias/{type}/uploads/{sessionId}/complete",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Assemble the received chunks and attach the media to the video")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Media assembled successfully"),
+            @ApiResponse(responseCode = "404", description = "Upload session or video not found"),
+            @ApiResponse(responseCode = "422", description = "The upload session is incomplete"),
+            @ApiResponse(responseCode = "500", description = "A internal server error was thrown")
+    })
+    UploadMediaResponse completeUploadSession(
+            @PathVariable("id") final String id,
+            @PathVariable("type") final String type,
+            @PathVariable("sessionId") final String sessionId
+    );
+
+    @PostMapping(
+            path = "{id}/medias/{type}/upload-url",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Issue a time-limited URL to upload a video media directly to the object store")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Upload URL signed successfully"),
+            @ApiResponse(responseCode = "404", description = "Video or media type not found"),
+            @ApiResponse(responseCode = "422", description = "Signed URLs are disabled"),
+            @ApiResponse(responseCode = "500", description = "A internal server error was thrown")
+    })
+    SignedUrlResponse signUploadUrl(
+            @PathVariable("id") final String id,
+            @PathVariable("type") final String type,
+            @RequestBody final SignUploadUrlRequest input
+    );
+
+    @PostMapping(
+            path = "{id}/medias/{type}/upload-url/complete",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Attach a media uploaded through a signed URL to the video")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Media attached successfully"),
+            @ApiResponse(responseCode = "404", description = "Video or uploaded media not found"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "500", description = "A internal server error was thrown")
+    })
+    UploadMediaResponse completeSignedUpload(
+            @PathVariable("id") final String id,
+            @PathVariable("type") final String type,
+            @RequestBody final CompleteSignedUploadRequest input
+    );
+
+    @GetMapping(
+            path = "{id}/medias/{type}/download-url",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Issue a time-limited URL to download a video media directly from the object store")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Download URL signed successfully"),
+            @ApiResponse(responseCode = "404", description = "Media not found"),
+            @ApiResponse(responseCode = "422", description = "Signed URLs are disabled"),
+            @ApiResponse(responseCode = "500", description = "A internal server error was thrown")
+    })
+    SignedUrlResponse signDownloadUrl(
+            @PathVariable("id") final String id,
+            @PathVariable("type") final String type
+    );
+
+}
@@ -0,0 +1,29 @@
+package com.codemagic.catalog.admin.infrastructure.api;
+
+import com.codemagic.catalog.admin.infrastructure.export.JdbcExport;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Instant;
+
+@RequestMapping(value = "videos")
+@Tag(name = "Videos")
+public interface VideoAPI {
+
+    @GetMapping(path = "export", produces = JdbcExport.NDJSON)
+    @Operation(summary = "Export all videos, with their categories, genres and cast members, as newline delimited JSON")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Videos streamed successfully"),
+            @ApiResponse(responseCode = "500", description = "A internal server error was thrown")
+    })
+    ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "updated_since", required = false) final Instant updatedSince
+    );
+}
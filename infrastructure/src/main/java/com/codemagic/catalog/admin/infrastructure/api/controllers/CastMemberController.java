@@ -1,44 +1,67 @@
 package com.codemagic.catalog.admin.infrastructure.api.controllers;
 
+import com.codemagic.catalog.admin.application.ExportCommand;
+import com.codemagic.catalog.admin.application.castmember.create.BulkCreateCastMembersCommand;
+import com.codemagic.catalog.admin.application.castmember.create.BulkCreateCastMembersUseCase;
 import com.codemagic.catalog.admin.application.castmember.create.CreateCastMemberCommand;
 import com.codemagic.catalog.admin.application.castmember.create.CreateCastMemberUseCase;
 import com.codemagic.catalog.admin.application.castmember.delete.DeleteCastMemberUseCase;
+import com.codemagic.catalog.admin.application.castmember.retrieve.export.ExportCastMembersUseCase;
 import com.codemagic.catalog.admin.application.castmember.retrieve.get.GetCastMemberByIDUseCase;
 import com.codemagic.catalog.admin.application.castmember.retrieve.list.ListCastMembersUseCase;
+import com.codemagic.catalog.admin.application.castmember.retrieve.suggest.SuggestCastMembersUseCase;
 import com.codemagic.catalog.admin.application.castmember.update.UpdateCastMemberCommand;
 import com.codemagic.catalog.admin.application.castmember.update.UpdateCastMemberUseCase;
 import com.codemagic.catalog.admin.domain.pagination.Pagination;
 import com.codemagic.catalog.admin.domain.pagination.SearchQuery;
+import com.codemagic.catalog.admin.domain.pagination.SuggestionQuery;
+import com.codemagic.catalog.admin.domain.pagination.TotalMode;
 import com.codemagic.catalog.admin.infrastructure.api.CastMemberAPI;
 import com.codemagic.catalog.admin.infrastructure.castmember.models.CastMemberListResponse;
 import com.codemagic.catalog.admin.infrastructure.castmember.models.CastMemberResponse;
+import com.codemagic.catalog.admin.infrastructure.castmember.models.CastMemberSuggestionResponse;
 import com.codemagic.catalog.admin.infrastructure.castmember.models.CreateCastMemberRequest;
 import com.codemagic.catalog.admin.infrastructure.castmember.models.UpdateCastMemberRequest;
 import com.codemagic.catalog.admin.infrastructure.castmember.presenters.CastMemberApiPresenter;
+import com.codemagic.catalog.admin.infrastructure.export.JdbcExport;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
+import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
 
 @RestController
 public class CastMemberController implements CastMemberAPI {
 
     private final CreateCastMemberUseCase createCastMemberUseCase;
+    private final BulkCreateCastMembersUseCase bulkCreateCastMembersUseCase;
     private final UpdateCastMemberUseCase updateCastMemberUseCase;
     private final GetCastMemberByIDUseCase getCastMemberByIDUseCase;
     private final DeleteCastMemberUseCase deleteCastMemberUseCase;
     private final ListCastMembersUseCase listCastMembersUseCase;
+    private final SuggestCastMembersUseCase suggestCastMembersUseCase;
+    private final ExportCastMembersUseCase exportCastMembersUseCase;
 
     public CastMemberController(final CreateCastMemberUseCase createCastMemberUseCase,
+                                final BulkCreateCastMembersUseCase bulkCreateCastMembersUseCase,
                                 final UpdateCastMemberUseCase updateCastMemberUseCase,
                                 final GetCastMemberByIDUseCase getCastMemberByIDUseCase,
-                                final DeleteCastMemberUseCase deleteCastMemberUseCase, ListCastMembersUseCase listCastMembersUseCase) {
+                                final DeleteCastMemberUseCase deleteCastMemberUseCase, ListCastMembersUseCase listCastMembersUseCase,
+                                final SuggestCastMembersUseCase suggestCastMembersUseCase,
+                                final ExportCastMembersUseCase exportCastMembersUseCase) {
         this.createCastMemberUseCase = Objects.requireNonNull(createCastMemberUseCase);
+        this.bulkCreateCastMembersUseCase = Objects.requireNonNull(bulkCreateCastMembersUseCase);
         this.updateCastMemberUseCase = Objects.requireNonNull(updateCastMemberUseCase);
         this.getCastMemberByIDUseCase = Objects.requireNonNull(getCastMemberByIDUseCase);
         this.deleteCastMemberUseCase = Objects.requireNonNull(deleteCastMemberUseCase);
         this.listCastMembersUseCase = Objects.requireNonNull(listCastMembersUseCase);
+        this.suggestCastMembersUseCase = Objects.requireNonNull(suggestCastMembersUseCase);
+        this.exportCastMembersUseCase = Objects.requireNonNull(exportCastMembersUseCase);
     }
 
     @Override
@@ -50,6 +73,17 @@ public class CastMemberController implements CastMemberAPI {
         return ResponseEntity.created(URI.create("/cast-members/".concat(output.id()))).body(output);
     }
 
+    @Override
+    public ResponseEntity<?> bulkCreate(final List<CreateCastMemberRequest> input) {
+        final var command = BulkCreateCastMembersCommand.with(input == null ? null : input.stream()
+                .map(item -> item == null ? null : CreateCastMemberCommand.with(item.name(), item.type()))
+                .toList());
+        final var output = this.bulkCreateCastMembersUseCase.execute(command);
+        return ResponseEntity
+                .status(output.rejected() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS)
+                .body(output);
+    }
+
     @Override
     public ResponseEntity<CastMemberResponse> get(final String id) {
         final var output = this.getCastMemberByIDUseCase.execute(id);
@@ -64,15 +98,29 @@ public class CastMemberController implements CastMemberAPI {
     }
 
     @Override
-    public Pagination<CastMemberListResponse> list(int page, int perPage, String terms, String sort, String direction) {
+    public Pagination<CastMemberListResponse> list(int page, int perPage, String terms, String sort, String direction, String after, String total) {
         return listCastMembersUseCase
-                .execute(new SearchQuery(page, perPage, terms, sort, direction))
+                .execute(new SearchQuery(page, perPage, terms, sort, direction, after, TotalMode.from(total)))
                 .map(CastMemberApiPresenter::present) ;
     }
 
+    @Override
+    public List<CastMemberSuggestionResponse> suggest(final String terms, final int limit) {
+        return suggestCastMembersUseCase.execute(new SuggestionQuery(terms, limit)).stream()
+                .map(CastMemberApiPresenter::present)
+                .toList();
+    }
+
     @Override
     public ResponseEntity<Void> delete(final String id) {
         this.deleteCastMemberUseCase.execute(id);
         return ResponseEntity.noContent().build();
     }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(final Instant updatedSince) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(JdbcExport.NDJSON))
+                .body(out -> this.exportCastMembersUseCase.execute(ExportCommand.with(updatedSince, out)));
+    }
 }
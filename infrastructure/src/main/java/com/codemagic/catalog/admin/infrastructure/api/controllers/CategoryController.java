@@ -1,26 +1,40 @@
 package com.codemagic.catalog.admin.infrastructure.api.controllers;
 
+import com.codemagic.catalog.admin.application.ExportCommand;
+import com.codemagic.catalog.admin.application.category.create.BulkCreateCategoriesCommand;
+import com.codemagic.catalog.admin.application.category.create.BulkCreateCategoriesUseCase;
 import com.codemagic.catalog.admin.application.category.create.CreateCategoryCommand;
 import com.codemagic.catalog.admin.application.category.create.CreateCategoryOutput;
 import com.codemagic.catalog.admin.application.category.create.CreateCategoryUseCase;
 import com.codemagic.catalog.admin.application.category.delete.DeleteCategoryUseCase;
+import com.codemagic.catalog.admin.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.codemagic.catalog.admin.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.codemagic.catalog.admin.application.category.retrieve.list.ListCategoriesUseCase;
+import com.codemagic.catalog.admin.application.category.retrieve.suggest.SuggestCategoriesUseCase;
 import com.codemagic.catalog.admin.application.category.update.UpdateCategoryCommand;
 import com.codemagic.catalog.admin.application.category.update.UpdateCategoryOutput;
 import com.codemagic.catalog.admin.application.category.update.UpdateCategoryUseCase;
 import com.codemagic.catalog.admin.domain.pagination.SearchQuery;
+import com.codemagic.catalog.admin.domain.pagination.TotalMode;
 import com.codemagic.catalog.admin.domain.pagination.Pagination;
+import com.codemagic.catalog.admin.domain.pagination.SuggestionQuery;
 import com.codemagic.catalog.admin.domain.validation.handler.Notification;
 import com.codemagic.catalog.admin.infrastructure.api.CategoryAPI;
 import com.codemagic.catalog.admin.infrastructure.category.models.CategoryListResponse;
+import com.codemagic.catalog.admin.infrastructure.category.models.CategorySuggestionResponse;
 import com.codemagic.catalog.admin.infrastructure.category.models.CreateCategoryRequest;
 import com.codemagic.catalog.admin.infrastructure.category.models.UpdateCategoryRequest;
 import com.codemagic.catalog.admin.infrastructure.category.presenters.CategoryApiPresenter;
+import com.codemagic.catalog.admin.infrastructure.export.JdbcExport;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
+import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -28,21 +42,30 @@ import java.util.function.Function;
 public class CategoryController implements CategoryAPI {
 
     private final CreateCategoryUseCase createCategoryUseCase;
+    private final BulkCreateCategoriesUseCase bulkCreateCategoriesUseCase;
     private final GetCategoryByIdUseCase getCategoryByIdUseCase;
     private final UpdateCategoryUseCase updateCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
     private final ListCategoriesUseCase listCategoriesUseCase;
+    private final SuggestCategoriesUseCase suggestCategoriesUseCase;
+    private final ExportCategoriesUseCase exportCategoriesUseCase;
 
     public CategoryController(final CreateCategoryUseCase createCategoryUseCase,
+                              final BulkCreateCategoriesUseCase bulkCreateCategoriesUseCase,
                               final GetCategoryByIdUseCase getCategoryByIdUseCase,
                               final UpdateCategoryUseCase updateCategoryUseCase,
                               final DeleteCategoryUseCase deleteCategoryUseCase,
-                              final ListCategoriesUseCase listCategoriesUseCase) {
+                              final ListCategoriesUseCase listCategoriesUseCase,
+                              final SuggestCategoriesUseCase suggestCategoriesUseCase,
+                              final ExportCategoriesUseCase exportCategoriesUseCase) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
+        this.bulkCreateCategoriesUseCase = Objects.requireNonNull(bulkCreateCategoriesUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.suggestCategoriesUseCase = Objects.requireNonNull(suggestCategoriesUseCase);
+        this.exportCategoriesUseCase = Objects.requireNonNull(exportCategoriesUseCase);
     }
 
     @Override
@@ -63,6 +86,17 @@ public class CategoryController implements CategoryAPI {
         return this.createCategoryUseCase.execute(command).fold(onError, onSuccess);
     }
 
+    @Override
+    public ResponseEntity<?> bulkCreate(final List<CreateCategoryRequest> input) {
+        final var command = BulkCreateCategoriesCommand.with(input == null ? null : input.stream()
+                .map(item -> item == null ? null : CreateCategoryCommand.with(item.name(), item.description()))
+                .toList());
+        final var output = this.bulkCreateCategoriesUseCase.execute(command);
+        return ResponseEntity
+                .status(output.rejected() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS)
+                .body(output);
+    }
+
     @Override
     public ResponseEntity<?> get(final String id) {
         return ResponseEntity.ok(CategoryApiPresenter
@@ -99,11 +133,29 @@ public class CategoryController implements CategoryAPI {
                                                  final int perPage,
                                                  final String terms,
                                                  final String sort,
-                                                 final String direction) {
-        final var query = new SearchQuery(page, perPage, terms, sort, direction);
+                                                 final String direction,
+                                                 final String after,
+                                                 final String total) {
+        final var query = new SearchQuery(page, perPage, terms, sort, direction, after, TotalMode.from(total));
         return this.listCategoriesUseCase
                 .execute(query)
                 .map(CategoryApiPresenter::present);
     }
+
+    @Override
+    public List<CategorySuggestionResponse> suggest(final String terms, final int limit) {
+        return this.suggestCategoriesUseCase
+                .execute(new SuggestionQuery(terms, limit))
+                .stream()
+                .map(CategoryApiPresenter::present)
+                .toList();
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(final Instant updatedSince) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(JdbcExport.NDJSON))
+                .body(out -> this.exportCategoriesUseCase.execute(ExportCommand.with(updatedSince, out)));
+    }
 }
 
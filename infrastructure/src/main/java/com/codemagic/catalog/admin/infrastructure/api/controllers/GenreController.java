@@ -1,45 +1,68 @@
 package com.codemagic.catalog.admin.infrastructure.api.controllers;
 
+import com.codemagic.catalog.admin.application.ExportCommand;
+import com.codemagic.catalog.admin.application.genre.create.BulkCreateGenresCommand;
+import com.codemagic.catalog.admin.application.genre.create.BulkCreateGenresUseCase;
 import com.codemagic.catalog.admin.application.genre.create.CreateGenreCommand;
 import com.codemagic.catalog.admin.application.genre.create.CreateGenreUseCase;
 import com.codemagic.catalog.admin.application.genre.delete.DeleteGenreUseCase;
+import com.codemagic.catalog.admin.application.genre.retrieve.export.ExportGenresUseCase;
 import com.codemagic.catalog.admin.application.genre.retrieve.get.GetGenreByIDUseCase;
 import com.codemagic.catalog.admin.application.genre.retrieve.list.ListGenresUseCase;
+import com.codemagic.catalog.admin.application.genre.retrieve.suggest.SuggestGenresUseCase;
 import com.codemagic.catalog.admin.application.genre.update.UpdateGenreCommand;
 import com.codemagic.catalog.admin.application.genre.update.UpdateGenreUseCase;
 import com.codemagic.catalog.admin.domain.pagination.Pagination;
 import com.codemagic.catalog.admin.domain.pagination.SearchQuery;
+import com.codemagic.catalog.admin.domain.pagination.SuggestionQuery;
+import com.codemagic.catalog.admin.domain.pagination.TotalMode;
 import com.codemagic.catalog.admin.infrastructure.api.GenreAPI;
+import com.codemagic.catalog.admin.infrastructure.export.JdbcExport;
 import com.codemagic.catalog.admin.infrastructure.genre.models.CreateGenreRequest;
 import com.codemagic.catalog.admin.infrastructure.genre.models.GenreListResponse;
 import com.codemagic.catalog.admin.infrastructure.genre.models.GenreResponse;
+import com.codemagic.catalog.admin.infrastructure.genre.models.GenreSuggestionResponse;
 import com.codemagic.catalog.admin.infrastructure.genre.models.UpdateGenreRequest;
 import com.codemagic.catalog.admin.infrastructure.genre.presenters.GenreApiPresenter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
+import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
 
 @RestController
 public class GenreController implements GenreAPI {
 
     private final CreateGenreUseCase createGenreUseCase;
+    private final BulkCreateGenresUseCase bulkCreateGenresUseCase;
     private final GetGenreByIDUseCase getGenreByIDUseCase;
     private final UpdateGenreUseCase updateGenreUseCase;
     private final DeleteGenreUseCase deleteGenreUseCase;
     private final ListGenresUseCase listGenresUseCase;
+    private final SuggestGenresUseCase suggestGenresUseCase;
+    private final ExportGenresUseCase exportGenresUseCase;
 
     public GenreController(final CreateGenreUseCase createGenreUseCase,
+                           final BulkCreateGenresUseCase bulkCreateGenresUseCase,
                            final GetGenreByIDUseCase getGenreByIDUseCase,
                            final UpdateGenreUseCase updateGenreUseCase,
                            final DeleteGenreUseCase deleteGenreUseCase,
-                           final ListGenresUseCase listGenresUseCase) {
+                           final ListGenresUseCase listGenresUseCase,
+                           final SuggestGenresUseCase suggestGenresUseCase,
+                           final ExportGenresUseCase exportGenresUseCase) {
         this.createGenreUseCase = Objects.requireNonNull(createGenreUseCase);
+        this.bulkCreateGenresUseCase = Objects.requireNonNull(bulkCreateGenresUseCase);
         this.getGenreByIDUseCase = Objects.requireNonNull(getGenreByIDUseCase);
         this.updateGenreUseCase = Objects.requireNonNull(updateGenreUseCase);
         this.deleteGenreUseCase = Objects.requireNonNull(deleteGenreUseCase);
         this.listGenresUseCase = Objects.requireNonNull(listGenresUseCase);
+        this.suggestGenresUseCase = Objects.requireNonNull(suggestGenresUseCase);
+        this.exportGenresUseCase = Objects.requireNonNull(exportGenresUseCase);
     }
 
     @Override
@@ -51,6 +74,17 @@ public class GenreController implements GenreAPI {
                 .body(output);
     }
 
+    @Override
+    public ResponseEntity<?> bulkCreate(final List<CreateGenreRequest> input) {
+        final var command = BulkCreateGenresCommand.with(input == null ? null : input.stream()
+                .map(item -> item == null ? null : CreateGenreCommand.with(item.name(), item.categories()))
+                .toList());
+        final var output = this.bulkCreateGenresUseCase.execute(command);
+        return ResponseEntity
+                .status(output.rejected() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS)
+                .body(output);
+    }
+
     @Override
     public ResponseEntity<GenreResponse> get(final String id) {
         return ResponseEntity.ok(
@@ -70,15 +104,29 @@ public class GenreController implements GenreAPI {
     }
 
     @Override
-    public Pagination<GenreListResponse> list(int page, int perPage, String terms, String sort, String direction) {
-        final var query = new SearchQuery(page, perPage, terms, sort, direction);
+    public Pagination<GenreListResponse> list(int page, int perPage, String terms, String sort, String direction, String after, String total) {
+        final var query = new SearchQuery(page, perPage, terms, sort, direction, after, TotalMode.from(total));
         return this.listGenresUseCase.execute(query)
                 .map(GenreApiPresenter::present);
     }
 
+    @Override
+    public List<GenreSuggestionResponse> suggest(final String terms, final int limit) {
+        return this.suggestGenresUseCase.execute(new SuggestionQuery(terms, limit)).stream()
+                .map(GenreApiPresenter::present)
+                .toList();
+    }
+
     @Override
     public ResponseEntity<Void> delete(final String id) {
         this.deleteGenreUseCase.execute(id);
         return ResponseEntity.noContent().build();
     }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(final Instant updatedSince) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(JdbcExport.NDJSON))
+                .body(out -> this.exportGenresUseCase.execute(ExportCommand.with(updatedSince, out)));
+    }
 }
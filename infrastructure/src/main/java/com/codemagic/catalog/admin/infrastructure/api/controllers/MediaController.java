@@ -0,0 +1,148 @@
+package com.codemagic.catalog.admin.infrastructure.api.controllers;
+
+import com.codemagic.catalog.admin.application.media.get.GetMediaCommand;
+import com.codemagic.catalog.admin.application.media.get.GetMediaUseCase;
+import com.codemagic.catalog.admin.application.media.session.UploadSessionCommand;
+import com.codemagic.catalog.admin.application.media.session.chunk.UploadChunkCommand;
+import com.codemagic.catalog.admin.application.media.session.chunk.UploadChunkUseCase;
+import com.codemagic.catalog.admin.application.media.session.complete.CompleteUploadSessionUseCase;
+import com.codemagic.catalog.admin.application.media.session.create.CreateUploadSessionCommand;
+import com.codemagic.catalog.admin.application.media.session.create.CreateUploadSessionUseCase;
+import com.codemagic.catalog.admin.application.media.session.get.GetUploadSessionUseCase;
+import com.codemagic.catalog.admin.application.media.url.complete.CompleteSignedUploadCommand;
+import com.codemagic.catalog.admin.application.media.url.complete.CompleteSignedUploadUseCase;
+import com.codemagic.catalog.admin.application.media.url.download.SignDownloadUrlUseCase;
+import com.codemagic.catalog.admin.application.media.url.upload.SignUploadUrlCommand;
+import com.codemagic.catalog.admin.application.media.url.upload.SignUploadUrlUseCase;
+import com.codemagic.catalog.admin.domain.exceptions.DomainException;
+import com.codemagic.catalog.admin.domain.resource.Resource;
+import com.codemagic.catalog.admin.domain.validation.Error;
+import com.codemagic.catalog.admin.infrastructure.api.MediaAPI;
+import com.codemagic.catalog.admin.infrastructure.video.models.CompleteSignedUploadRequest;
+import com.codemagic.catalog.admin.infrastructure.video.models.CreateUploadSessionRequest;
+import com.codemagic.catalog.admin.infrastructure.video.models.SignUploadUrlRequest;
+import com.codemagic.catalog.admin.infrastructure.video.models.SignedUrlResponse;
+import com.codemagic.catalog.admin.infrastructure.video.models.UploadMediaResponse;
+import com.codemagic.catalog.admin.infrastructure.video.models.UploadSessionResponse;
+import com.codemagic.catalog.admin.infrastructure.video.presenters.MediaApiPresenter;
+import com.codemagic.catalog.admin.infrastructure.video.presenters.SignedUrlApiPresenter;
+import com.codemagic.catalog.admin.infrastructure.video.presenters.UploadMediaApiPresenter;
+import com.codemagic.catalog.admin.infrastructure.video.presenters.UploadSessionApiPresenter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+@RestController
+public class MediaController implements MediaAPI {
+
+    private static final Pattern CONTENT_RANGE = Pattern.compile("^bytes (\\d+)-(\\d+)/(\\d+|\\*)$");
+
+    private final GetMediaUseCase getMediaUseCase;
+    private final CreateUploadSessionUseCase createUploadSessionUseCase;
+    private final GetUploadSessionUseCase getUploadSessionUseCase;
+    private final UploadChunkUseCase uploadChunkUseCase;
+    private final CompleteUploadSessionUseCase completeUploadSessionUseCase;
+    private final SignUploadUrlUseCase signUploadUrlUseCase;
+    private final CompleteSignedUploadUseCase completeSignedUploadUseCase;
+    private final SignDownloadUrlUseCase signDownloadUrlUseCase;
+
+    public MediaController(final GetMediaUseCase getMediaUseCase,
+                           final CreateUploadSessionUseCase createUploadSessionUseCase,
+                           final GetUploadSessionUseCase getUploadSessionUseCase,
+                           final UploadChunkUseCase uploadChunkUseCase,
+                           final CompleteUploadSessionUseCase completeUploadSessionUseCase,
+                           final SignUploadUrlUseCase signUploadUrlUseCase,
+                           final CompleteSignedUploadUseCase completeSignedUploadUseCase,
+                           final SignDownloadUrlUseCase signDownloadUrlUseCase) {
+        this.getMediaUseCase = Objects.requireNonNull(getMediaUseCase);
+        this.createUploadSessionUseCase = Objects.requireNonNull(createUploadSessionUseCase);
+        this.getUploadSessionUseCase = Objects.requireNonNull(getUploadSessionUseCase);
+        this.uploadChunkUseCase = Objects.requireNonNull(uploadChunkUseCase);
+        this.completeUploadSessionUseCase = Objects.requireNonNull(completeUploadSessionUseCase);
+        this.signUploadUrlUseCase = Objects.requireNonNull(signUploadUrlUseCase);
+        this.completeSignedUploadUseCase = Objects.requireNonNull(completeSignedUploadUseCase);
+        this.signDownloadUrlUseCase = Objects.requireNonNull(signDownloadUrlUseCase);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> getMedia(final String id, final String type, final HttpHeaders headers) {
+        final var output = this.getMediaUseCase.execute(GetMediaCommand.with(id, type));
+        return MediaApiPresenter.present(output, headers);
+    }
+
+    @Override
+    public ResponseEntity<UploadSessionResponse> createUploadSession(
+            final String id,
+            final String type,
+            final CreateUploadSessionRequest input
+    ) {
+        final var command = CreateUploadSessionCommand.with(
+                id,
+                type,
+                input.name(),
+                input.contentType() != null ? input.contentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE,
+                input.length() != null ? input.length() : 0,
+                input.checksum()
+        );
+
+        final var output = this.createUploadSessionUseCase.execute(command);
+        return ResponseEntity
+                .created(URI.create("/videos/%s/medias/%s/uploads/%s".formatted(id, type, output.id())))
+                .body(UploadSessionApiPresenter.present(output));
+    }
+
+    @Override
+    public UploadSessionResponse getUploadSession(final String id, final String type, final String sessionId) {
+        return UploadSessionApiPresenter.present(this.getUploadSessionUseCase.execute(UploadSessionCommand.with(id, type, sessionId)));
+    }
+
+    @Override
+    public UploadSessionResponse uploadChunk(
+            final String id,
+            final String type,
+            final String sessionId,
+            final String contentRange,
+            final InputStream body
+    ) {
+        final var range = CONTENT_RANGE.matcher(contentRange == null ? "" : contentRange.trim());
+        if (!range.matches()) {
+            throw DomainException.with(new Error("Invalid Content-Range '%s'".formatted(contentRange)));
+        }
+
+        final var offset = Long.parseLong(range.group(1));
+        final var length = Long.parseLong(range.group(2)) - offset + 1;
+        final var chunk = Resource.with(null, body, length, MediaType.APPLICATION_OCTET_STREAM_VALUE, sessionId);
+
+        return UploadSessionApiPresenter.present(this.uploadChunkUseCase.execute(UploadChunkCommand.with(id, type, sessionId, offset, chunk)));
+    }
+
+    @Override
+    public UploadMediaResponse completeUploadSession(final String id, final String type, final String sessionId) {
+        return UploadMediaApiPresenter.present(this.completeUploadSessionUseCase.execute(UploadSessionCommand.with(id, type, sessionId)));
+    }
+
+    @Override
+    public SignedUrlResponse signUploadUrl(final String id, final String type, final SignUploadUrlRequest input) {
+        final var contentType = input.contentType() != null ? input.contentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        return SignedUrlApiPresenter.present(this.signUploadUrlUseCase.execute(SignUploadUrlCommand.with(id, type, contentType)));
+    }
+
+    @Override
+    public UploadMediaResponse completeSignedUpload(final String id, final String type, final CompleteSignedUploadRequest input) {
+        final var name = input.name() != null ? input.name() : type;
+        return UploadMediaApiPresenter.present(this.completeSignedUploadUseCase.execute(
+                CompleteSignedUploadCommand.with(id, type, name, input.checksum())));
+    }
+
+    @Override
+    public SignedUrlResponse signDownloadUrl(final String id, final String type) {
+        return SignedUrlApiPresenter.present(this.signDownloadUrlUseCase.execute(GetMediaCommand.with(id, type)));
+    }
+}
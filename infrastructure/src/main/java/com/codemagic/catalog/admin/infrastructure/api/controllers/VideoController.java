@@ -0,0 +1,30 @@
+package com.codemagic.catalog.admin.infrastructure.api.controllers;
+
+import com.codemagic.catalog.admin.application.ExportCommand;
+import com.codemagic.catalog.admin.application.video.retrieve.export.ExportVideosUseCase;
+import com.codemagic.catalog.admin.infrastructure.api.VideoAPI;
+import com.codemagic.catalog.admin.infrastructure.export.JdbcExport;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Instant;
+import java.util.Objects;
+
+@RestController
+public class VideoController implements VideoAPI {
+
+    private final ExportVideosUseCase exportVideosUseCase;
+
+    public VideoController(final ExportVideosUseCase exportVideosUseCase) {
+        this.exportVideosUseCase = Objects.requireNonNull(exportVideosUseCase);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(final Instant updatedSince) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(JdbcExport.NDJSON))
+                .body(out -> this.exportVideosUseCase.execute(ExportCommand.with(updatedSince, out)));
+    }
+}
@@ -0,0 +1,40 @@
+package com.codemagic.catalog.admin.infrastructure.castmember;
+
+import com.codemagic.catalog.admin.domain.castmember.CastMemberExportGateway;
+import com.codemagic.catalog.admin.domain.castmember.CastMemberType;
+import com.codemagic.catalog.admin.infrastructure.castmember.models.CastMemberListResponse;
+import com.codemagic.catalog.admin.infrastructure.export.JdbcExport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.function.Function;
+
+import static com.codemagic.catalog.admin.infrastructure.export.JdbcExport.instant;
+
+@Component
+public class CastMemberExporter implements CastMemberExportGateway {
+
+    private static final String SELECT = """
+            select id, name, type, created_at
+            from cast_members
+            """;
+
+    private final JdbcExport export;
+
+    public CastMemberExporter(final JdbcTemplate jdbcTemplate, final ObjectMapper mapper) {
+        this.export = new JdbcExport(jdbcTemplate, mapper);
+    }
+
+    @Override
+    public long export(final Instant updatedSince, final OutputStream out) {
+        return this.export.write(out, SELECT, updatedSince, (rs, row) -> new CastMemberListResponse(
+                rs.getString("id"),
+                rs.getString("name"),
+                CastMemberType.valueOf(rs.getString("type")),
+                instant(rs, "created_at")
+        ), Function.identity());
+    }
+}
@@ -5,37 +5,84 @@ import com.codemagic.catalog.admin.domain.castmember.CastMemberGateway;
 import com.codemagic.catalog.admin.domain.castmember.CastMemberID;
 import com.codemagic.catalog.admin.domain.pagination.Pagination;
 import com.codemagic.catalog.admin.domain.pagination.SearchQuery;
+import com.codemagic.catalog.admin.domain.pagination.Suggestion;
+import com.codemagic.catalog.admin.domain.pagination.SuggestionQuery;
+import com.codemagic.catalog.admin.domain.pagination.TotalMode;
 import com.codemagic.catalog.admin.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import com.codemagic.catalog.admin.infrastructure.castmember.persistence.CastMemberRepository;
-import com.codemagic.catalog.admin.infrastructure.util.SpecificationUtil;
+import com.codemagic.catalog.admin.infrastructure.pagination.Keyset;
+import com.codemagic.catalog.admin.infrastructure.pagination.OffsetSlice;
+import com.codemagic.catalog.admin.infrastructure.pagination.Totals;
+import com.codemagic.catalog.admin.infrastructure.search.FullTextSearch;
+import com.codemagic.catalog.admin.infrastructure.search.NameIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 
+import static com.codemagic.catalog.admin.infrastructure.util.TransactionUtil.afterCommit;
 import static org.springframework.data.jpa.domain.Specification.where;
 
 @Component
 public class CastMemberMySQLGateway implements CastMemberGateway {
 
-    private final CastMemberRepository repository;
+    private static final Map<String, Function<CastMemberJpaEntity, Object>> KEYSET_SORTS = Map.of(
+            "name", CastMemberJpaEntity::getName,
+            "createdAt", CastMemberJpaEntity::getCreatedAt
+    );
+
+    private static final String[] SEARCH_COLUMNS = {"name"};
 
-    public CastMemberMySQLGateway(final CastMemberRepository repository) {
+    private final CastMemberRepository repository;
+    private final EntityManager entityManager;
+    private final Totals totals;
+    private final FullTextSearch search;
+    private final NameIndex names = new NameIndex();
+
+    public CastMemberMySQLGateway(
+            final CastMemberRepository repository,
+            final EntityManager entityManager,
+            final JdbcTemplate jdbcTemplate,
+            @Value("${search.full-text:false}") final boolean fullText) {
         this.repository = Objects.requireNonNull(repository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.totals = new Totals(jdbcTemplate, "cast_members");
+        this.search = new FullTextSearch(fullText);
     }
 
     @Override
     public CastMember create(final CastMember member) {
-        return save(member);
+        return save(CastMemberJpaEntity.from(member).markNew());
+    }
+
+    @Override
+    @Transactional
+    public List<CastMember> createAll(final List<CastMember> members) {
+        final var saved = this.repository
+                .saveAllAndFlush(members.stream().map(it -> CastMemberJpaEntity.from(it).markNew()).toList())
+                .stream()
+                .map(CastMemberJpaEntity::toAggregate)
+                .toList();
+        afterCommit(() -> saved.forEach(member -> this.names.put(member.getId().getValue(), member.getName())));
+        return saved;
     }
 
     @Override
     public CastMember update(CastMember member) {
-        return save(member);
+        return save(CastMemberJpaEntity.from(member));
     }
 
     @Override
@@ -46,18 +93,37 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
 
     @Override
     public Pagination<CastMember> findAll(final SearchQuery query) {
-        final var page = PageRequest.of(
-                query.page(),
-                query.perPage(),
-                Sort.by(Sort.Direction.fromString(query.direction()), query.sort())
-        );
-
         final var where = Optional.ofNullable(query.terms())
                 .filter(filter -> !filter.isBlank())
                 .map(this::assembleFilter)
                 .orElse(null);
 
-        final var result = this.repository.findAll(where(where), page);
+        final var mode = Totals.resolve(query.totalMode(), where != null);
+        final LongSupplier count = () -> this.repository.count(where(where));
+
+        if (query.isCursor()) {
+            final var keyset = Keyset.of(KEYSET_SORTS, CastMemberJpaEntity::getId,
+                    query.perPage(), query.sort(), query.direction(), query.after());
+            return this.totals.apply(keyset.page(keyset.find(this.repository, where)), mode, count)
+                    .map(CastMemberJpaEntity::toAggregate);
+        }
+
+        final var relevance = FullTextSearch.isRelevance(query.sort());
+        final var sort = relevance
+                ? Sort.unsorted()
+                : Sort.by(Sort.Direction.fromString(query.direction()), query.sort());
+        final var ordered = relevance
+                ? where(where).and(this.search.<CastMemberJpaEntity>rankedBy(query.terms(), SEARCH_COLUMNS))
+                : where;
+
+        if (mode != TotalMode.EXACT) {
+            final var slice = OffsetSlice.find(this.entityManager, CastMemberJpaEntity.class, ordered, sort, query.page(), query.perPage());
+            return this.totals.apply(slice, mode, count).map(CastMemberJpaEntity::toAggregate);
+        }
+
+        final var page = PageRequest.of(query.page(), query.perPage(), sort);
+
+        final var result = this.repository.findAll(where(ordered), page);
 
         return new Pagination<>(
                 result.getNumber(),
@@ -72,6 +138,17 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
     @Override
     public void deleteById(final String id) {
         this.repository.deleteById(id);
+        afterCommit(() -> this.names.remove(id));
+    }
+
+    @Override
+    public List<Suggestion> suggest(final SuggestionQuery query) {
+        return this.names.suggest(query.terms(), query.limit());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadNames() {
+        this.names.load(this.repository::findAllNames);
     }
 
     @Override
@@ -79,11 +156,13 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
         return List.of();
     }
 
-    private CastMember save(final CastMember member) {
-        return this.repository.save(CastMemberJpaEntity.from(member)).toAggregate();
+    private CastMember save(final CastMemberJpaEntity member) {
+        final var saved = this.repository.save(member).toAggregate();
+        afterCommit(() -> this.names.put(saved.getId().getValue(), saved.getName()));
+        return saved;
     }
 
     private Specification<CastMemberJpaEntity> assembleFilter(final String terms) {
-        return SpecificationUtil.like("name", terms);
+        return this.search.matching(terms, SEARCH_COLUMNS);
     }
 }
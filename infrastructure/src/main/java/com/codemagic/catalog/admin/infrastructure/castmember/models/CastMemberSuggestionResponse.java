@@ -0,0 +1,9 @@
+package com.codemagic.catalog.admin.infrastructure.castmember.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CastMemberSuggestionResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("name") String name
+) {
+}
@@ -4,12 +4,13 @@ import com.codemagic.catalog.admin.domain.castmember.CastMember;
 import com.codemagic.catalog.admin.domain.castmember.CastMemberID;
 import com.codemagic.catalog.admin.domain.castmember.CastMemberType;
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
 
 import java.time.Instant;
 
 @Entity(name = "CastMember")
 @Table(name = "cast_members")
-public class CastMemberJpaEntity {
+public class CastMemberJpaEntity implements Persistable<String> {
 
     @Id
     private String id;
@@ -27,6 +28,9 @@ public class CastMemberJpaEntity {
     @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
     private Instant updatedAt;
 
+    @Transient
+    private boolean isNew;
+
     public CastMemberJpaEntity() {}
 
     private CastMemberJpaEntity(
@@ -62,6 +66,22 @@ public class CastMemberJpaEntity {
         );
     }
 
+    public CastMemberJpaEntity markNew() {
+        this.isNew = true;
+        return this;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     public String getId() {
         return id;
     }
@@ -1,10 +1,18 @@
 package com.codemagic.catalog.admin.infrastructure.castmember.persistence;
 
+import com.codemagic.catalog.admin.domain.pagination.Suggestion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
-public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity, String> {
+import java.util.List;
+
+public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity, String>, JpaSpecificationExecutor<CastMemberJpaEntity> {
     Page<CastMemberJpaEntity> findAll(final Specification<CastMemberJpaEntity> where, final Pageable page);
+
+    @Query("select new com.codemagic.catalog.admin.domain.pagination.Suggestion(m.id, m.name) from CastMember m")
+    List<Suggestion> findAllNames();
 }
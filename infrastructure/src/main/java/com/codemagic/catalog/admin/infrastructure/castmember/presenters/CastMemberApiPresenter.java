@@ -2,7 +2,9 @@ package com.codemagic.catalog.admin.infrastructure.castmember.presenters;
 
 import com.codemagic.catalog.admin.application.castmember.retrieve.get.CastMemberOutput;
 import com.codemagic.catalog.admin.application.castmember.retrieve.list.ListCastMembersOutput;
+import com.codemagic.catalog.admin.application.castmember.retrieve.suggest.CastMemberSuggestionOutput;
 import com.codemagic.catalog.admin.infrastructure.castmember.models.CastMemberListResponse;
+import com.codemagic.catalog.admin.infrastructure.castmember.models.CastMemberSuggestionResponse;
 import com.codemagic.catalog.admin.infrastructure.castmember.models.CastMemberResponse;
 
 public interface CastMemberApiPresenter {
@@ -24,4 +26,8 @@ public interface CastMemberApiPresenter {
                 output.createdAt()
         );
     }
+
+    static CastMemberSuggestionResponse present(final CastMemberSuggestionOutput output) {
+        return new CastMemberSuggestionResponse(output.id(), output.name());
+    }
 }
@@ -0,0 +1,42 @@
+package com.codemagic.catalog.admin.infrastructure.category;
+
+import com.codemagic.catalog.admin.domain.category.CategoryExportGateway;
+import com.codemagic.catalog.admin.infrastructure.category.models.CategoryListResponse;
+import com.codemagic.catalog.admin.infrastructure.export.JdbcExport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.function.Function;
+
+import static com.codemagic.catalog.admin.infrastructure.export.JdbcExport.instant;
+
+@Component
+public class CategoryExporter implements CategoryExportGateway {
+
+    private static final String SELECT = """
+            select id, name, description, active, created_at, updated_at, deleted_at
+            from categories
+            """;
+
+    private final JdbcExport export;
+
+    public CategoryExporter(final JdbcTemplate jdbcTemplate, final ObjectMapper mapper) {
+        this.export = new JdbcExport(jdbcTemplate, mapper);
+    }
+
+    @Override
+    public long export(final Instant updatedSince, final OutputStream out) {
+        return this.export.write(out, SELECT, updatedSince, (rs, row) -> new CategoryListResponse(
+                rs.getString("id"),
+                rs.getString("name"),
+                rs.getString("description"),
+                rs.getBoolean("active"),
+                instant(rs, "created_at"),
+                instant(rs, "updated_at"),
+                instant(rs, "deleted_at")
+        ), Function.identity());
+    }
+}
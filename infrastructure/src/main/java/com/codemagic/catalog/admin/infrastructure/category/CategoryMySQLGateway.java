@@ -4,45 +4,94 @@ import com.codemagic.catalog.admin.domain.category.Category;
 import com.codemagic.catalog.admin.domain.category.CategoryGateway;
 import com.codemagic.catalog.admin.domain.category.CategoryID;
 import com.codemagic.catalog.admin.domain.pagination.SearchQuery;
+import com.codemagic.catalog.admin.domain.pagination.Suggestion;
+import com.codemagic.catalog.admin.domain.pagination.SuggestionQuery;
+import com.codemagic.catalog.admin.domain.pagination.TotalMode;
 import com.codemagic.catalog.admin.domain.pagination.Pagination;
 import com.codemagic.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
 import com.codemagic.catalog.admin.infrastructure.category.persistence.CategoryRepository;
+import com.codemagic.catalog.admin.infrastructure.pagination.Keyset;
+import com.codemagic.catalog.admin.infrastructure.pagination.OffsetSlice;
+import com.codemagic.catalog.admin.infrastructure.pagination.Totals;
+import com.codemagic.catalog.admin.infrastructure.search.FullTextSearch;
+import com.codemagic.catalog.admin.infrastructure.search.NameIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.stream.StreamSupport;
 
-import static com.codemagic.catalog.admin.infrastructure.util.SpecificationUtil.like;
+import static com.codemagic.catalog.admin.infrastructure.util.TransactionUtil.afterCommit;
 import static org.springframework.data.jpa.domain.Specification.where;
 
 @Component
 public class CategoryMySQLGateway implements CategoryGateway {
 
-    private final CategoryRepository repository;
+    private static final Map<String, Function<CategoryJpaEntity, Object>> KEYSET_SORTS = Map.of(
+            "name", CategoryJpaEntity::getName,
+            "createdAt", CategoryJpaEntity::getCreatedAt
+    );
+
+    private static final String[] SEARCH_COLUMNS = {"name", "description"};
 
-    public CategoryMySQLGateway(final CategoryRepository repository) {
+    private final CategoryRepository repository;
+    private final EntityManager entityManager;
+    private final Totals totals;
+    private final FullTextSearch search;
+    private final NameIndex names = new NameIndex();
+
+    public CategoryMySQLGateway(
+            final CategoryRepository repository,
+            final EntityManager entityManager,
+            final JdbcTemplate jdbcTemplate,
+            @Value("${search.full-text:false}") final boolean fullText) {
         this.repository = Objects.requireNonNull(repository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.totals = new Totals(jdbcTemplate, "categories");
+        this.search = new FullTextSearch(fullText);
     }
 
-    private Category save(final Category category) {
-        return this.repository
-                .save(CategoryJpaEntity.from(category))
+    private Category save(final CategoryJpaEntity category) {
+        final var saved = this.repository
+                .save(category)
                 .toAggregate();
+        afterCommit(() -> this.names.put(saved.getId().getValue(), saved.getName()));
+        return saved;
     }
 
     @Override
     public Category create(Category category) {
-        return this.save(category);
+        return this.save(CategoryJpaEntity.from(category).markNew());
+    }
+
+    @Override
+    @Transactional
+    public List<Category> createAll(final List<Category> categories) {
+        final var saved = this.repository
+                .saveAllAndFlush(categories.stream().map(it -> CategoryJpaEntity.from(it).markNew()).toList())
+                .stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
+        afterCommit(() -> saved.forEach(category -> this.names.put(category.getId().getValue(), category.getName())));
+        return saved;
     }
 
     @Override
     public Category update(Category category) {
-        return this.save(category);
+        return this.save(CategoryJpaEntity.from(category));
     }
 
     @Override
@@ -51,6 +100,7 @@ public class CategoryMySQLGateway implements CategoryGateway {
         if (this.repository.existsById(id)) {
             this.repository.deleteById(id);
         }
+        afterCommit(() -> this.names.remove(id));
     }
 
     @Override
@@ -62,18 +112,37 @@ public class CategoryMySQLGateway implements CategoryGateway {
 
     @Override
     public Pagination<Category> findAll(SearchQuery query) {
-        final var page = PageRequest.of(
-                query.page(),
-                query.perPage(),
-                Sort.by(Sort.Direction.fromString(query.direction()), query.sort())
-        );
-
         final var where = Optional.ofNullable(query.terms())
                 .filter(term -> !term.isBlank())
                 .map(this::assembleFilter)
                 .orElse(null);
 
-        final var result = this.repository.findAll(where(where), page);
+        final var mode = Totals.resolve(query.totalMode(), where != null);
+        final LongSupplier count = () -> this.repository.count(where(where));
+
+        if (query.isCursor()) {
+            final var keyset = Keyset.of(KEYSET_SORTS, CategoryJpaEntity::getId,
+                    query.perPage(), query.sort(), query.direction(), query.after());
+            return this.totals.apply(keyset.page(keyset.find(this.repository, where)), mode, count)
+                    .map(CategoryJpaEntity::toAggregate);
+        }
+
+        final var relevance = FullTextSearch.isRelevance(query.sort());
+        final var sort = relevance
+                ? Sort.unsorted()
+                : Sort.by(Sort.Direction.fromString(query.direction()), query.sort());
+        final var ordered = relevance
+                ? where(where).and(this.search.<CategoryJpaEntity>rankedBy(query.terms(), SEARCH_COLUMNS))
+                : where;
+
+        if (mode != TotalMode.EXACT) {
+            final var slice = OffsetSlice.find(this.entityManager, CategoryJpaEntity.class, ordered, sort, query.page(), query.perPage());
+            return this.totals.apply(slice, mode, count).map(CategoryJpaEntity::toAggregate);
+        }
+
+        final var page = PageRequest.of(query.page(), query.perPage(), sort);
+
+        final var result = this.repository.findAll(where(ordered), page);
 
         return new Pagination<>(
                 result.getNumber(),
@@ -83,6 +152,16 @@ public class CategoryMySQLGateway implements CategoryGateway {
         );
     }
 
+    @Override
+    public List<Suggestion> suggest(final SuggestionQuery query) {
+        return this.names.suggest(query.terms(), query.limit());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadNames() {
+        this.names.load(this.repository::findAllNames);
+    }
+
     @Override
     public List<CategoryID> existsByIds(final Iterable<CategoryID> categories) {
         final var ids = StreamSupport
@@ -96,7 +175,6 @@ public class CategoryMySQLGateway implements CategoryGateway {
     }
 
     private Specification<CategoryJpaEntity> assembleFilter(final String terms) {
-        final Specification<CategoryJpaEntity> nameLike = like("name", terms);
-        return nameLike.or(like("description", terms));
+        return this.search.matching(terms, SEARCH_COLUMNS);
     }
 }
@@ -5,13 +5,17 @@ import com.codemagic.catalog.admin.domain.category.CategoryID;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
 
 import java.time.Instant;
 
 @Entity(name = "Category")
 @Table(name = "categories")
-public class CategoryJpaEntity {
+public class CategoryJpaEntity implements Persistable<String> {
     @Id
     private String id;
 
@@ -33,6 +37,9 @@ public class CategoryJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    @Transient
+    private boolean isNew;
+
     public static CategoryJpaEntity from(final Category category) {
         return new CategoryJpaEntity(
                 category.getId().getValue(),
@@ -75,6 +82,22 @@ public class CategoryJpaEntity {
     public CategoryJpaEntity() {
     }
 
+    public CategoryJpaEntity markNew() {
+        this.isNew = true;
+        return this;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     public String getId() {
         return id;
     }
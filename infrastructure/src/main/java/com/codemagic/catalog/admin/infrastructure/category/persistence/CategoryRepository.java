@@ -1,18 +1,23 @@
 package com.codemagic.catalog.admin.infrastructure.category.persistence;
 
+import com.codemagic.catalog.admin.domain.pagination.Suggestion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
-public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
+public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String>, JpaSpecificationExecutor<CategoryJpaEntity> {
 
    @Query("select c.id from Category c where c.id in :ids")
    List<String> existsByIds(@Param("ids") final List<String> ids);
 
    Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> where, Pageable page);
+
+   @Query("select new com.codemagic.catalog.admin.domain.pagination.Suggestion(c.id, c.name) from Category c")
+   List<Suggestion> findAllNames();
 }
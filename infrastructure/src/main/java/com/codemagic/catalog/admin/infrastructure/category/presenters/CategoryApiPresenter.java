@@ -2,8 +2,10 @@ package com.codemagic.catalog.admin.infrastructure.category.presenters;
 
 import com.codemagic.catalog.admin.application.category.retrieve.get.CategoryOutput;
 import com.codemagic.catalog.admin.application.category.retrieve.list.CategoryListOutput;
+import com.codemagic.catalog.admin.application.category.retrieve.suggest.CategorySuggestionOutput;
 import com.codemagic.catalog.admin.infrastructure.category.models.CategoryResponse;
 import com.codemagic.catalog.admin.infrastructure.category.models.CategoryListResponse;
+import com.codemagic.catalog.admin.infrastructure.category.models.CategorySuggestionResponse;
 
 public interface CategoryApiPresenter {
 
@@ -30,4 +32,7 @@ public interface CategoryApiPresenter {
         );
     }
 
+    static CategorySuggestionResponse present(final CategorySuggestionOutput output) {
+        return new CategorySuggestionResponse(output.id(), output.name());
+    }
 }
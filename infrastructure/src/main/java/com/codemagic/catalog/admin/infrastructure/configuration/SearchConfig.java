@@ -0,0 +1,49 @@
+package com.codemagic.catalog.admin.infrastructure.configuration;
+
+import com.codemagic.catalog.admin.infrastructure.video.persistence.VideoRepository;
+import com.codemagic.catalog.admin.infrastructure.video.search.LuceneVideoIndex;
+import com.codemagic.catalog.admin.infrastructure.video.search.VideoBitmapIndex;
+import com.codemagic.catalog.admin.infrastructure.video.search.VideoBitmapIndexer;
+import com.codemagic.catalog.admin.infrastructure.video.search.VideoIndexer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+public class SearchConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "search.lucene", name = "directory")
+    public LuceneVideoIndex luceneVideoIndex(@Value("${search.lucene.directory}") final String directory) throws IOException {
+        return LuceneVideoIndex.open(Path.of(directory));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "search.lucene", name = "directory")
+    public VideoIndexer videoIndexer(
+            final LuceneVideoIndex index,
+            final VideoRepository repository,
+            final PlatformTransactionManager transactionManager) {
+        return new VideoIndexer(index, repository, transactionManager);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "search.bitmap", name = "enabled", havingValue = "true")
+    public VideoBitmapIndex videoBitmapIndex() {
+        return new VideoBitmapIndex();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "search.bitmap", name = "enabled", havingValue = "true")
+    public VideoBitmapIndexer videoBitmapIndexer(
+            final VideoBitmapIndex index,
+            final VideoRepository repository,
+            final PlatformTransactionManager transactionManager) {
+        return new VideoBitmapIndexer(index, repository, transactionManager);
+    }
+}
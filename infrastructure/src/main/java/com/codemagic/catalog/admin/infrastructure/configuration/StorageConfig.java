@@ -3,15 +3,27 @@ package com.codemagic.catalog.admin.infrastructure.configuration;
 import com.codemagic.catalog.admin.infrastructure.configuration.properties.google.GoogleStorageProperties;
 import com.codemagic.catalog.admin.infrastructure.configuration.properties.storage.StorageProperties;
 import com.codemagic.catalog.admin.infrastructure.services.StorageService;
+import com.codemagic.catalog.admin.infrastructure.services.UrlSigner;
+import com.codemagic.catalog.admin.infrastructure.services.impl.FileSystemStorageService;
 import com.codemagic.catalog.admin.infrastructure.services.impl.GoogleStorageService;
+import com.codemagic.catalog.admin.infrastructure.services.impl.GoogleUrlSigner;
 import com.codemagic.catalog.admin.infrastructure.services.impl.LocalStorageService;
 import com.google.cloud.storage.Storage;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Configuration
 public class StorageConfig {
 
@@ -26,7 +38,19 @@ public class StorageConfig {
     public StorageService googleStorageService(
             final GoogleStorageProperties props,
             final Storage storage) {
-        return new GoogleStorageService(props.getBucket(), storage);
+        return new GoogleStorageService(
+                props.getBucket(),
+                storage,
+                props.getUploadChunkSize(),
+                props.getDownloadChunkSize()
+        );
+    }
+
+    @Bean(name = "storageService")
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "storage.catalog-media", name = "root-directory")
+    public StorageService fileSystemStorageService(final StorageProperties props) {
+        return new FileSystemStorageService(Path.of(props.getRootDirectory()));
     }
 
     @Bean(name = "storageService")
@@ -35,4 +59,31 @@ public class StorageConfig {
         return new LocalStorageService();
     }
 
+    @Bean(name = "mediaStorageExecutor", destroyMethod = "shutdown")
+    public ExecutorService mediaStorageExecutor(final StorageProperties props) {
+        final var counter = new AtomicInteger();
+        final ThreadFactory factory = runnable -> {
+            final var thread = new Thread(runnable, "media-storage-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(
+                props.getUploadThreads(),
+                props.getUploadThreads(),
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(props.getUploadQueueSize()),
+                factory,
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    @Bean(name = "urlSigner")
+    @Profile({"development", "production"})
+    public UrlSigner googleUrlSigner(
+            final GoogleStorageProperties props,
+            final Storage storage) {
+        return new GoogleUrlSigner(props.getBucket(), storage);
+    }
+
 }
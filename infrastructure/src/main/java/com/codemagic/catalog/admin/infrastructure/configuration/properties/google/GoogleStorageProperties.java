@@ -15,6 +15,8 @@ public class GoogleStorageProperties implements InitializingBean {
     private int retryMaxAttempts;
     private int retryMaxDelay;
     private int retryMultiplier;
+    private int uploadChunkSize;
+    private int downloadChunkSize;
 
     @Override
     public void afterPropertiesSet() throws Exception {
@@ -31,6 +33,8 @@ public class GoogleStorageProperties implements InitializingBean {
                 ", retryMaxAttempts=" + retryMaxAttempts +
                 ", retryMaxDelay=" + retryMaxDelay +
                 ", retryMultiplier=" + retryMultiplier +
+                ", uploadChunkSize=" + uploadChunkSize +
+                ", downloadChunkSize=" + downloadChunkSize +
                 '}';
     }
 
@@ -90,4 +94,20 @@ public class GoogleStorageProperties implements InitializingBean {
         this.retryMultiplier = retryMultiplier;
     }
 
+    public int getUploadChunkSize() {
+        return uploadChunkSize;
+    }
+
+    public void setUploadChunkSize(int uploadChunkSize) {
+        this.uploadChunkSize = uploadChunkSize;
+    }
+
+    public int getDownloadChunkSize() {
+        return downloadChunkSize;
+    }
+
+    public void setDownloadChunkSize(int downloadChunkSize) {
+        this.downloadChunkSize = downloadChunkSize;
+    }
+
 }
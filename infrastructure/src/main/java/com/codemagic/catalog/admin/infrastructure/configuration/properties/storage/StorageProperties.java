@@ -4,12 +4,27 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 
+import java.time.Duration;
+
 public class StorageProperties implements InitializingBean {
 
     private static final Logger log = LoggerFactory.getLogger(StorageProperties.class);
 
     private String filenamePattern;
     private String locationPattern;
+    private String rootDirectory;
+    private boolean verifyChecksum = true;
+    private boolean contentAddressed;
+    private boolean signedUrls;
+    private Duration signedUrlTtl = Duration.ofMinutes(15);
+    private Duration uploadSessionTtl = Duration.ofDays(7);
+    private int cleanupBatchSize = 50;
+    private int cleanupMaxAttempts = 10;
+    private boolean orphanSweepDryRun = true;
+    private Duration orphanSweepGracePeriod = Duration.ofHours(48);
+    private int orphanSweepBatchSize = 1000;
+    private int uploadThreads = 10;
+    private int uploadQueueSize = 100;
 
     public StorageProperties() {}
 
@@ -18,6 +33,19 @@ public class StorageProperties implements InitializingBean {
         return "StorageProperties {" +
                 "filenamePattern='" + filenamePattern + '\'' +
                 ", locationPattern='" + locationPattern + '\'' +
+                ", rootDirectory='" + rootDirectory + '\'' +
+                ", verifyChecksum=" + verifyChecksum +
+                ", contentAddressed=" + contentAddressed +
+                ", signedUrls=" + signedUrls +
+                ", signedUrlTtl=" + signedUrlTtl +
+                ", uploadSessionTtl=" + uploadSessionTtl +
+                ", cleanupBatchSize=" + cleanupBatchSize +
+                ", cleanupMaxAttempts=" + cleanupMaxAttempts +
+                ", orphanSweepDryRun=" + orphanSweepDryRun +
+                ", orphanSweepGracePeriod=" + orphanSweepGracePeriod +
+                ", orphanSweepBatchSize=" + orphanSweepBatchSize +
+                ", uploadThreads=" + uploadThreads +
+                ", uploadQueueSize=" + uploadQueueSize +
                 '}';
     }
 
@@ -41,4 +69,108 @@ public class StorageProperties implements InitializingBean {
     public void setLocationPattern(String locationPattern) {
         this.locationPattern = locationPattern;
     }
+
+    public String getRootDirectory() {
+        return rootDirectory;
+    }
+
+    public void setRootDirectory(String rootDirectory) {
+        this.rootDirectory = rootDirectory;
+    }
+
+    public boolean isVerifyChecksum() {
+        return verifyChecksum;
+    }
+
+    public void setVerifyChecksum(boolean verifyChecksum) {
+        this.verifyChecksum = verifyChecksum;
+    }
+
+    public boolean isContentAddressed() {
+        return contentAddressed;
+    }
+
+    public void setContentAddressed(boolean contentAddressed) {
+        this.contentAddressed = contentAddressed;
+    }
+
+    public boolean isSignedUrls() {
+        return signedUrls;
+    }
+
+    public void setSignedUrls(boolean signedUrls) {
+        this.signedUrls = signedUrls;
+    }
+
+    public Duration getSignedUrlTtl() {
+        return signedUrlTtl;
+    }
+
+    public void setSignedUrlTtl(Duration signedUrlTtl) {
+        this.signedUrlTtl = signedUrlTtl;
+    }
+
+    public Duration getUploadSessionTtl() {
+        return uploadSessionTtl;
+    }
+
+    public void setUploadSessionTtl(Duration uploadSessionTtl) {
+        this.uploadSessionTtl = uploadSessionTtl;
+    }
+
+    public int getCleanupBatchSize() {
+        return cleanupBatchSize;
+    }
+
+    public void setCleanupBatchSize(int cleanupBatchSize) {
+        this.cleanupBatchSize = cleanupBatchSize;
+    }
+
+    public int getCleanupMaxAttempts() {
+        return cleanupMaxAttempts;
+    }
+
+    public void setCleanupMaxAttempts(int cleanupMaxAttempts) {
+        this.cleanupMaxAttempts = cleanupMaxAttempts;
+    }
+
+    public boolean isOrphanSweepDryRun() {
+        return orphanSweepDryRun;
+    }
+
+    public void setOrphanSweepDryRun(boolean orphanSweepDryRun) {
+        this.orphanSweepDryRun = orphanSweepDryRun;
+    }
+
+    public Duration getOrphanSweepGracePeriod() {
+        return orphanSweepGracePeriod;
+    }
+
+    public void setOrphanSweepGracePeriod(Duration orphanSweepGracePeriod) {
+        this.orphanSweepGracePeriod = orphanSweepGracePeriod;
+    }
+
+    public int getOrphanSweepBatchSize() {
+        return orphanSweepBatchSize;
+    }
+
+    public void setOrphanSweepBatchSize(int orphanSweepBatchSize) {
+        this.orphanSweepBatchSize = orphanSweepBatchSize;
+    }
+
+    public int getUploadThreads() {
+        return uploadThreads;
+    }
+
+    public void setUploadThreads(int uploadThreads) {
+        this.uploadThreads = uploadThreads;
+    }
+
+    public int getUploadQueueSize() {
+        return uploadQueueSize;
+    }
+
+    public void setUploadQueueSize(int uploadQueueSize) {
+        this.uploadQueueSize = uploadQueueSize;
+    }
 }
@@ -1,6 +1,8 @@
 package com.codemagic.catalog.admin.infrastructure.configuration.usecases;
 
+import com.codemagic.catalog.admin.application.castmember.create.BulkCreateCastMembersUseCase;
 import com.codemagic.catalog.admin.application.castmember.create.CreateCastMemberUseCase;
+import com.codemagic.catalog.admin.application.castmember.create.DefaultBulkCreateCastMembersUseCase;
 import com.codemagic.catalog.admin.application.castmember.create.DefaultCreateCastMemberUseCase;
 import com.codemagic.catalog.admin.application.castmember.delete.DefaultDeleteCastMemberUseCase;
 import com.codemagic.catalog.admin.application.castmember.delete.DeleteCastMemberUseCase;
@@ -10,7 +12,12 @@ import com.codemagic.catalog.admin.application.castmember.retrieve.list.DefaultL
 import com.codemagic.catalog.admin.application.castmember.retrieve.list.ListCastMembersUseCase;
 import com.codemagic.catalog.admin.application.castmember.update.DefaultUpdateCastMemberUseCase;
 import com.codemagic.catalog.admin.application.castmember.update.UpdateCastMemberUseCase;
+import com.codemagic.catalog.admin.application.castmember.retrieve.export.DefaultExportCastMembersUseCase;
+import com.codemagic.catalog.admin.application.castmember.retrieve.export.ExportCastMembersUseCase;
+import com.codemagic.catalog.admin.domain.castmember.CastMemberExportGateway;
 import com.codemagic.catalog.admin.domain.castmember.CastMemberGateway;
+import com.codemagic.catalog.admin.application.castmember.retrieve.suggest.DefaultSuggestCastMembersUseCase;
+import com.codemagic.catalog.admin.application.castmember.retrieve.suggest.SuggestCastMembersUseCase;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -20,9 +27,11 @@ import java.util.Objects;
 public class CastMemberUseCaseConfig {
 
     private final CastMemberGateway gateway;
+    private final CastMemberExportGateway exportGateway;
 
-    public CastMemberUseCaseConfig(final CastMemberGateway gateway) {
+    public CastMemberUseCaseConfig(final CastMemberGateway gateway, final CastMemberExportGateway exportGateway) {
         this.gateway = Objects.requireNonNull(gateway);
+        this.exportGateway = Objects.requireNonNull(exportGateway);
     }
 
     @Bean
@@ -30,6 +39,11 @@ public class CastMemberUseCaseConfig {
         return new DefaultCreateCastMemberUseCase(gateway);
     }
 
+    @Bean
+    public BulkCreateCastMembersUseCase bulkCreateCastMembersUseCase() {
+        return new DefaultBulkCreateCastMembersUseCase(gateway);
+    }
+
     @Bean
     public UpdateCastMemberUseCase updateCastMemberUseCase() {
         return new DefaultUpdateCastMemberUseCase(gateway);
@@ -50,5 +64,13 @@ public class CastMemberUseCaseConfig {
         return new DefaultListCastMembersUseCase(gateway);
     }
 
-}
+    @Bean
+    public SuggestCastMembersUseCase suggestCastMembersUseCase() {
+        return new DefaultSuggestCastMembersUseCase(gateway);
+    }
 
+    @Bean
+    public ExportCastMembersUseCase exportCastMembersUseCase() {
+        return new DefaultExportCastMembersUseCase(exportGateway);
+    }
+}
@@ -1,6 +1,8 @@
 package com.codemagic.catalog.admin.infrastructure.configuration.usecases;
 
+import com.codemagic.catalog.admin.application.category.create.BulkCreateCategoriesUseCase;
 import com.codemagic.catalog.admin.application.category.create.CreateCategoryUseCase;
+import com.codemagic.catalog.admin.application.category.create.DefaultBulkCreateCategoriesUseCase;
 import com.codemagic.catalog.admin.application.category.create.DefaultCreateCategoryUseCase;
 import com.codemagic.catalog.admin.application.category.delete.DefaultDeleteCategoryUseCase;
 import com.codemagic.catalog.admin.application.category.delete.DeleteCategoryUseCase;
@@ -10,7 +12,12 @@ import com.codemagic.catalog.admin.application.category.retrieve.list.DefaultLis
 import com.codemagic.catalog.admin.application.category.retrieve.list.ListCategoriesUseCase;
 import com.codemagic.catalog.admin.application.category.update.DefaultUpdateCategoryUseCase;
 import com.codemagic.catalog.admin.application.category.update.UpdateCategoryUseCase;
+import com.codemagic.catalog.admin.application.category.retrieve.export.DefaultExportCategoriesUseCase;
+import com.codemagic.catalog.admin.application.category.retrieve.export.ExportCategoriesUseCase;
+import com.codemagic.catalog.admin.domain.category.CategoryExportGateway;
 import com.codemagic.catalog.admin.domain.category.CategoryGateway;
+import com.codemagic.catalog.admin.application.category.retrieve.suggest.DefaultSuggestCategoriesUseCase;
+import com.codemagic.catalog.admin.application.category.retrieve.suggest.SuggestCategoriesUseCase;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -20,9 +27,11 @@ import java.util.Objects;
 public class CategoryUseCaseConfig {
 
     private final CategoryGateway gateway;
+    private final CategoryExportGateway exportGateway;
 
-    public CategoryUseCaseConfig(final CategoryGateway gateway) {
+    public CategoryUseCaseConfig(final CategoryGateway gateway, final CategoryExportGateway exportGateway) {
         this.gateway = Objects.requireNonNull(gateway);
+        this.exportGateway = Objects.requireNonNull(exportGateway);
     }
 
     @Bean
@@ -30,6 +39,11 @@ public class CategoryUseCaseConfig {
         return new DefaultCreateCategoryUseCase(gateway);
     }
 
+    @Bean
+    public BulkCreateCategoriesUseCase bulkCreateCategoriesUseCase() {
+        return new DefaultBulkCreateCategoriesUseCase(gateway);
+    }
+
     @Bean
     public UpdateCategoryUseCase updateCategoryUseCase() {
         return new DefaultUpdateCategoryUseCase(gateway);
@@ -49,4 +63,14 @@ public class CategoryUseCaseConfig {
     public ListCategoriesUseCase listCategoriesUseCase() {
         return new DefaultListCategoriesUseCase(gateway);
     }
+
+    @Bean
+    public SuggestCategoriesUseCase suggestCategoriesUseCase() {
+        return new DefaultSuggestCategoriesUseCase(gateway);
+    }
+
+    @Bean
+    public ExportCategoriesUseCase exportCategoriesUseCase() {
+        return new DefaultExportCategoriesUseCase(exportGateway);
+    }
 }
@@ -1,9 +1,13 @@
 package com.codemagic.catalog.admin.infrastructure.configuration.usecases;
 
+import com.codemagic.catalog.admin.application.genre.create.BulkCreateGenresUseCase;
 import com.codemagic.catalog.admin.application.genre.create.CreateGenreUseCase;
+import com.codemagic.catalog.admin.application.genre.create.DefaultBulkCreateGenresUseCase;
 import com.codemagic.catalog.admin.application.genre.create.DefaultCreateGenreUseCase;
 import com.codemagic.catalog.admin.application.genre.delete.DefaultDeleteGenreUseCase;
 import com.codemagic.catalog.admin.application.genre.delete.DeleteGenreUseCase;
+import com.codemagic.catalog.admin.application.genre.retrieve.export.DefaultExportGenresUseCase;
+import com.codemagic.catalog.admin.application.genre.retrieve.export.ExportGenresUseCase;
 import com.codemagic.catalog.admin.application.genre.retrieve.get.DefaultGetGenreByIDUseCase;
 import com.codemagic.catalog.admin.application.genre.retrieve.get.GetGenreByIDUseCase;
 import com.codemagic.catalog.admin.application.genre.retrieve.list.DefaultListGenresUseCase;
@@ -11,7 +15,10 @@ import com.codemagic.catalog.admin.application.genre.retrieve.list.ListGenresUse
 import com.codemagic.catalog.admin.application.genre.update.DefaultUpdateGenreUseCase;
 import com.codemagic.catalog.admin.application.genre.update.UpdateGenreUseCase;
 import com.codemagic.catalog.admin.domain.category.CategoryGateway;
+import com.codemagic.catalog.admin.domain.genre.GenreExportGateway;
 import com.codemagic.catalog.admin.domain.genre.GenreGateway;
+import com.codemagic.catalog.admin.application.genre.retrieve.suggest.DefaultSuggestGenresUseCase;
+import com.codemagic.catalog.admin.application.genre.retrieve.suggest.SuggestGenresUseCase;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -22,11 +29,17 @@ public class GenreUseCaseConfig {
 
     private final CategoryGateway categoryGateway;
     private final GenreGateway genreGateway;
+    private final GenreExportGateway genreExportGateway;
 
 
-    public GenreUseCaseConfig(final CategoryGateway categoryGateway, final GenreGateway genreGateway) {
+    public GenreUseCaseConfig(
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final GenreExportGateway genreExportGateway
+    ) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.genreExportGateway = Objects.requireNonNull(genreExportGateway);
     }
 
     @Bean
@@ -34,6 +47,11 @@ public class GenreUseCaseConfig {
         return new DefaultCreateGenreUseCase(categoryGateway, genreGateway);
     }
 
+    @Bean
+    public BulkCreateGenresUseCase bulkCreateGenresUseCase() {
+        return new DefaultBulkCreateGenresUseCase(categoryGateway, genreGateway);
+    }
+
     @Bean
     public UpdateGenreUseCase updateGenreUseCase() {
         return new DefaultUpdateGenreUseCase(genreGateway, categoryGateway);
@@ -54,4 +72,13 @@ public class GenreUseCaseConfig {
         return new DefaultListGenresUseCase(genreGateway);
     }
 
+    @Bean
+    public SuggestGenresUseCase suggestGenresUseCase() {
+        return new DefaultSuggestGenresUseCase(genreGateway);
+    }
+
+    @Bean
+    public ExportGenresUseCase exportGenresUseCase() {
+        return new DefaultExportGenresUseCase(genreExportGateway);
+    }
 }
@@ -0,0 +1,140 @@
+package com.codemagic.catalog.admin.infrastructure.configuration.usecases;
+
+import com.codemagic.catalog.admin.application.media.get.DefaultGetMediaUseCase;
+import com.codemagic.catalog.admin.application.media.get.GetMediaUseCase;
+import com.codemagic.catalog.admin.application.media.session.chunk.DefaultUploadChunkUseCase;
+import com.codemagic.catalog.admin.application.media.session.chunk.UploadChunkUseCase;
+import com.codemagic.catalog.admin.application.media.session.complete.CompleteUploadSessionUseCase;
+import com.codemagic.catalog.admin.application.media.session.complete.DefaultCompleteUploadSessionUseCase;
+import com.codemagic.catalog.admin.application.media.session.create.CreateUploadSessionUseCase;
+import com.codemagic.catalog.admin.application.media.session.create.DefaultCreateUploadSessionUseCase;
+import com.codemagic.catalog.admin.application.media.session.get.DefaultGetUploadSessionUseCase;
+import com.codemagic.catalog.admin.application.media.session.get.GetUploadSessionUseCase;
+import com.codemagic.catalog.admin.application.media.url.complete.CompleteSignedUploadUseCase;
+import com.codemagic.catalog.admin.application.media.url.complete.DefaultCompleteSignedUploadUseCase;
+import com.codemagic.catalog.admin.application.media.url.download.DefaultSignDownloadUrlUseCase;
+import com.codemagic.catalog.admin.application.media.url.download.SignDownloadUrlUseCase;
+import com.codemagic.catalog.admin.application.media.url.upload.DefaultSignUploadUrlUseCase;
+import com.codemagic.catalog.admin.application.media.url.upload.SignUploadUrlUseCase;
+import com.codemagic.catalog.admin.application.video.create.CreateVideoUseCase;
+import com.codemagic.catalog.admin.application.video.create.DefaultCreateVideoUseCase;
+import com.codemagic.catalog.admin.application.video.retrieve.export.DefaultExportVideosUseCase;
+import com.codemagic.catalog.admin.application.video.retrieve.export.ExportVideosUseCase;
+import com.codemagic.catalog.admin.application.video.update.DefaultUpdateVideoUseCase;
+import com.codemagic.catalog.admin.application.video.update.UpdateVideoUseCase;
+import com.codemagic.catalog.admin.domain.castmember.CastMemberGateway;
+import com.codemagic.catalog.admin.domain.category.CategoryGateway;
+import com.codemagic.catalog.admin.domain.genre.GenreGateway;
+import com.codemagic.catalog.admin.domain.video.MediaResourceGateway;
+import com.codemagic.catalog.admin.domain.video.UploadSessionGateway;
+import com.codemagic.catalog.admin.domain.video.VideoExportGateway;
+import com.codemagic.catalog.admin.domain.video.VideoGateway;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+
+@Configuration
+public class VideoUseCaseConfig {
+
+    private final VideoGateway videoGateway;
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+    private final CastMemberGateway castMemberGateway;
+    private final MediaResourceGateway mediaResourceGateway;
+    private final UploadSessionGateway uploadSessionGateway;
+    private final VideoExportGateway videoExportGateway;
+    private final ExecutorService mediaStorageExecutor;
+
+    public VideoUseCaseConfig(
+            final VideoGateway videoGateway,
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final CastMemberGateway castMemberGateway,
+            final MediaResourceGateway mediaResourceGateway,
+            final UploadSessionGateway uploadSessionGateway,
+            final VideoExportGateway videoExportGateway,
+            @Qualifier("mediaStorageExecutor") final ExecutorService mediaStorageExecutor
+    ) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.uploadSessionGateway = Objects.requireNonNull(uploadSessionGateway);
+        this.videoExportGateway = Objects.requireNonNull(videoExportGateway);
+        this.mediaStorageExecutor = Objects.requireNonNull(mediaStorageExecutor);
+    }
+
+    @Bean
+    public CreateVideoUseCase createVideoUseCase() {
+        return new DefaultCreateVideoUseCase(
+                videoGateway,
+                categoryGateway,
+                genreGateway,
+                castMemberGateway,
+                mediaResourceGateway,
+                mediaStorageExecutor
+        );
+    }
+
+    @Bean
+    public UpdateVideoUseCase updateVideoUseCase() {
+        return new DefaultUpdateVideoUseCase(
+                videoGateway,
+                categoryGateway,
+                genreGateway,
+                castMemberGateway,
+                mediaResourceGateway,
+                mediaStorageExecutor
+        );
+    }
+
+    @Bean
+    public GetMediaUseCase getMediaUseCase() {
+        return new DefaultGetMediaUseCase(mediaResourceGateway);
+    }
+
+    @Bean
+    public CreateUploadSessionUseCase createUploadSessionUseCase() {
+        return new DefaultCreateUploadSessionUseCase(videoGateway, uploadSessionGateway);
+    }
+
+    @Bean
+    public GetUploadSessionUseCase getUploadSessionUseCase() {
+        return new DefaultGetUploadSessionUseCase(uploadSessionGateway);
+    }
+
+    @Bean
+    public UploadChunkUseCase uploadChunkUseCase() {
+        return new DefaultUploadChunkUseCase(uploadSessionGateway);
+    }
+
+    @Bean
+    public CompleteUploadSessionUseCase completeUploadSessionUseCase() {
+        return new DefaultCompleteUploadSessionUseCase(videoGateway, uploadSessionGateway);
+    }
+
+    @Bean
+    public SignUploadUrlUseCase signUploadUrlUseCase() {
+        return new DefaultSignUploadUrlUseCase(videoGateway, mediaResourceGateway);
+    }
+
+    @Bean
+    public CompleteSignedUploadUseCase completeSignedUploadUseCase() {
+        return new DefaultCompleteSignedUploadUseCase(videoGateway, mediaResourceGateway);
+    }
+
+    @Bean
+    public SignDownloadUrlUseCase signDownloadUrlUseCase() {
+        return new DefaultSignDownloadUrlUseCase(mediaResourceGateway);
+    }
+
+    @Bean
+    public ExportVideosUseCase exportVideosUseCase() {
+        return new DefaultExportVideosUseCase(videoExportGateway);
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.codemagic.catalog.admin.infrastructure.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+public class JdbcExport {
+
+    public static final String NDJSON = "application/x-ndjson";
+
+    private static final int FETCH_SIZE = 1000;
+    private static final int CHUNK_SIZE = 500;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final ObjectWriter writer;
+
+    public JdbcExport(final JdbcTemplate jdbcTemplate, final ObjectMapper mapper) {
+        final var dataSource = Objects.requireNonNull(jdbcTemplate.getDataSource());
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.writer = mapper.writer();
+    }
+
+    public static Instant instant(final ResultSet rs, final String column) throws SQLException {
+        final var timestamp = rs.getTimestamp(column);
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+
+    public <T, R> long write(
+            final OutputStream out,
+            final String select,
+            final Instant updatedSince,
+            final RowMapper<T> rows,
+            final Function<List<T>, List<R>> chunk
+    ) {
+        final var sql = updatedSince == null
+                ? select + " order by updated_at, id"
+                : select + " where updated_at >= ? order by updated_at, id";
+        final var args = updatedSince == null ? new Object[0] : new Object[]{Timestamp.from(updatedSince)};
+
+        final var lines = new Lines<>(new BufferedOutputStream(out, BUFFER_SIZE), rows, chunk);
+        this.jdbcTemplate.query(sql, lines, args);
+        lines.flush();
+        return lines.count;
+    }
+
+    public Map<String, List<String>> links(final String sql, final Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        final var links = new HashMap<String, List<String>>();
+        this.namedJdbcTemplate.query(sql, Map.of("ids", ids), (RowCallbackHandler) rs ->
+                links.computeIfAbsent(rs.getString(1), key -> new ArrayList<>()).add(rs.getString(2)));
+        return links;
+    }
+
+    private class Lines<T, R> implements RowCallbackHandler {
+
+        private final OutputStream out;
+        private final RowMapper<T> rows;
+        private final Function<List<T>, List<R>> chunk;
+        private final List<T> buffer = new ArrayList<>(CHUNK_SIZE);
+        private long count;
+
+        private Lines(final OutputStream out, final RowMapper<T> rows, final Function<List<T>, List<R>> chunk) {
+            this.out = out;
+            this.rows = rows;
+            this.chunk = chunk;
+        }
+
+        @Override
+        public void processRow(final ResultSet rs) throws SQLException {
+            this.buffer.add(this.rows.mapRow(rs, this.buffer.size()));
+            if (this.buffer.size() == CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            try {
+                for (final var line : this.chunk.apply(this.buffer)) {
+                    this.out.write(writer.writeValueAsBytes(line));
+                    this.out.write('\n');
+                }
+                this.out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.count += this.buffer.size();
+            this.buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.codemagic.catalog.admin.infrastructure.genre;
+
+import com.codemagic.catalog.admin.domain.genre.GenreExportGateway;
+import com.codemagic.catalog.admin.infrastructure.export.JdbcExport;
+import com.codemagic.catalog.admin.infrastructure.genre.models.GenreListResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.List;
+
+import static com.codemagic.catalog.admin.infrastructure.export.JdbcExport.instant;
+
+@Component
+public class GenreExporter implements GenreExportGateway {
+
+    private static final String SELECT = """
+            select id, name, active, created_at
+            from genres
+            """;
+
+    private static final String CATEGORIES = "select genre_id, category_id from genres_categories where genre_id in (:ids)";
+
+    private final JdbcExport export;
+
+    public GenreExporter(final JdbcTemplate jdbcTemplate, final ObjectMapper mapper) {
+        this.export = new JdbcExport(jdbcTemplate, mapper);
+    }
+
+    @Override
+    public long export(final Instant updatedSince, final OutputStream out) {
+        return this.export.write(out, SELECT, updatedSince, (rs, row) -> new GenreListResponse(
+                rs.getString("id"),
+                rs.getString("name"),
+                rs.getBoolean("active"),
+                instant(rs, "created_at"),
+                List.of()
+        ), this::withCategories);
+    }
+
+    private List<GenreListResponse> withCategories(final List<GenreListResponse> genres) {
+        final var categories = this.export.links(CATEGORIES, genres.stream().map(GenreListResponse::id).toList());
+        return genres.stream()
+                .map(genre -> new GenreListResponse(
+                        genre.id(),
+                        genre.name(),
+                        genre.active(),
+                        genre.createdAt(),
+                        categories.getOrDefault(genre.id(), List.of())
+                ))
+                .toList();
+    }
+}
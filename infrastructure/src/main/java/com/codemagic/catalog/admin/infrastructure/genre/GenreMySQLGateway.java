@@ -1,41 +1,95 @@
 package com.codemagic.catalog.admin.infrastructure.genre;
 
+import com.codemagic.catalog.admin.domain.category.CategoryID;
 import com.codemagic.catalog.admin.domain.genre.Genre;
 import com.codemagic.catalog.admin.domain.genre.GenreGateway;
 import com.codemagic.catalog.admin.domain.genre.GenreID;
 import com.codemagic.catalog.admin.domain.pagination.Pagination;
 import com.codemagic.catalog.admin.domain.pagination.SearchQuery;
+import com.codemagic.catalog.admin.domain.pagination.Suggestion;
+import com.codemagic.catalog.admin.domain.pagination.SuggestionQuery;
+import com.codemagic.catalog.admin.domain.pagination.TotalMode;
+import com.codemagic.catalog.admin.infrastructure.genre.persistence.GenreCategoryLink;
 import com.codemagic.catalog.admin.infrastructure.genre.persistence.GenreJpaEntity;
 import com.codemagic.catalog.admin.infrastructure.genre.persistence.GenreRepository;
-import com.codemagic.catalog.admin.infrastructure.util.SpecificationUtil;
+import com.codemagic.catalog.admin.infrastructure.pagination.Keyset;
+import com.codemagic.catalog.admin.infrastructure.pagination.OffsetSlice;
+import com.codemagic.catalog.admin.infrastructure.pagination.Totals;
+import com.codemagic.catalog.admin.infrastructure.search.FullTextSearch;
+import com.codemagic.catalog.admin.infrastructure.search.NameIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
 
+import static com.codemagic.catalog.admin.infrastructure.util.TransactionUtil.afterCommit;
 import static org.springframework.data.jpa.domain.Specification.where;
 
 @Component
 public class GenreMySQLGateway implements GenreGateway {
 
-    private final GenreRepository repository;
+    private static final Map<String, Function<GenreJpaEntity, Object>> KEYSET_SORTS = Map.of(
+            "name", GenreJpaEntity::getName,
+            "createdAt", GenreJpaEntity::getCreatedAt
+    );
+
+    private static final String[] SEARCH_COLUMNS = {"name"};
 
-    public GenreMySQLGateway(final GenreRepository repository) {
+    private final GenreRepository repository;
+    private final EntityManager entityManager;
+    private final Totals totals;
+    private final FullTextSearch search;
+    private final NameIndex names = new NameIndex();
+
+    public GenreMySQLGateway(
+            final GenreRepository repository,
+            final EntityManager entityManager,
+            final JdbcTemplate jdbcTemplate,
+            @Value("${search.full-text:false}") final boolean fullText) {
         this.repository = Objects.requireNonNull(repository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.totals = new Totals(jdbcTemplate, "genres");
+        this.search = new FullTextSearch(fullText);
     }
 
     @Override
     public Genre create(final Genre genre) {
-        return save(genre);
+        return save(GenreJpaEntity.from(genre).markNew());
+    }
+
+    @Override
+    @Transactional
+    public List<Genre> createAll(final List<Genre> genres) {
+        final var saved = this.repository
+                .saveAllAndFlush(genres.stream().map(it -> GenreJpaEntity.from(it).markNew()).toList())
+                .stream()
+                .map(GenreJpaEntity::toAggregate)
+                .toList();
+        afterCommit(() -> saved.forEach(genre -> this.names.put(genre.getId().getValue(), genre.getName())));
+        return saved;
     }
 
     @Override
+    @Transactional
     public Genre update(final Genre genre) {
-        return save(genre);
+        final var entity = this.repository.findById(genre.getId().getValue())
+                .map(existing -> existing.update(genre))
+                .orElseGet(() -> GenreJpaEntity.from(genre));
+        return save(entity);
     }
 
     @Override
@@ -47,29 +101,58 @@ public class GenreMySQLGateway implements GenreGateway {
 
     @Override
     public Pagination<Genre> findAll(final SearchQuery query) {
-       final var page = PageRequest.of(
-               query.page(),
-               query.perPage(),
-               Sort.by(Sort.Direction.fromString(query.direction()),query.sort()));
-
         final var where = Optional.ofNullable(query.terms())
                 .filter(term -> !term.isBlank())
                 .map(this::assembleFilter)
                 .orElse(null);
 
+        final var mode = Totals.resolve(query.totalMode(), where != null);
+        final LongSupplier count = () -> this.repository.count(where(where));
+
+        if (query.isCursor()) {
+            final var keyset = Keyset.of(KEYSET_SORTS, GenreJpaEntity::getId,
+                    query.perPage(), query.sort(), query.direction(), query.after());
+            return withCategories(this.totals.apply(keyset.page(keyset.find(this.repository, where)), mode, count));
+        }
+
+        final var relevance = FullTextSearch.isRelevance(query.sort());
+        final var sort = relevance
+                ? Sort.unsorted()
+                : Sort.by(Sort.Direction.fromString(query.direction()), query.sort());
+        final var ordered = relevance
+                ? where(where).and(this.search.<GenreJpaEntity>rankedBy(query.terms(), SEARCH_COLUMNS))
+                : where;
+
+        if (mode != TotalMode.EXACT) {
+            final var slice = OffsetSlice.find(this.entityManager, GenreJpaEntity.class, ordered, sort, query.page(), query.perPage());
+            return withCategories(this.totals.apply(slice, mode, count));
+        }
 
-        final var result = this.repository.findAll(where(where), page);
-        return new Pagination<>(
+        final var page = PageRequest.of(query.page(), query.perPage(), sort);
+
+        final var result = this.repository.findAll(where(ordered), page);
+        return withCategories(new Pagination<>(
                 result.getNumber(),
                 result.getSize(),
                 result.getTotalElements(),
-                result.map(GenreJpaEntity::toAggregate).toList()
-        );
+                result.toList()
+        ));
     }
 
     @Override
     public void deleteById(GenreID id) {
         this.repository.deleteById(id.getValue());
+        afterCommit(() -> this.names.remove(id.getValue()));
+    }
+
+    @Override
+    public List<Suggestion> suggest(final SuggestionQuery query) {
+        return this.names.suggest(query.terms(), query.limit());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadNames() {
+        this.names.load(this.repository::findAllNames);
     }
 
     @Override
@@ -77,12 +160,25 @@ public class GenreMySQLGateway implements GenreGateway {
         return List.of();
     }
 
-    private Genre save(final Genre genre) {
-        return this.repository.save(GenreJpaEntity.from(genre)).toAggregate();
+    private Genre save(final GenreJpaEntity genre) {
+        final var saved = this.repository.save(genre).toAggregate();
+        afterCommit(() -> this.names.put(saved.getId().getValue(), saved.getName()));
+        return saved;
+    }
+
+    private Pagination<Genre> withCategories(final Pagination<GenreJpaEntity> page) {
+        final var ids = page.items().stream().map(GenreJpaEntity::getId).toList();
+        final var categories = ids.isEmpty()
+                ? Map.<String, List<CategoryID>>of()
+                : this.repository.findCategoryLinks(ids).stream().collect(Collectors.groupingBy(
+                        GenreCategoryLink::genreId,
+                        Collectors.mapping(link -> CategoryID.from(link.categoryId()), Collectors.toList())));
+
+        return page.map(genre -> genre.toAggregate(categories.getOrDefault(genre.getId(), List.of())));
     }
 
     private Specification<GenreJpaEntity> assembleFilter(final String terms) {
-        return SpecificationUtil.like("name", terms);
+        return this.search.matching(terms, SEARCH_COLUMNS);
     }
 
 }
@@ -0,0 +1,9 @@
+package com.codemagic.catalog.admin.infrastructure.genre.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record GenreSuggestionResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("name") String name
+) {
+}
@@ -0,0 +1,4 @@
+package com.codemagic.catalog.admin.infrastructure.genre.persistence;
+
+public record GenreCategoryLink(String genreId, String categoryId) {
+}
@@ -3,16 +3,20 @@ package com.codemagic.catalog.admin.infrastructure.genre.persistence;
 import com.codemagic.catalog.admin.domain.category.CategoryID;
 import com.codemagic.catalog.admin.domain.genre.Genre;
 import com.codemagic.catalog.admin.domain.genre.GenreID;
+import com.codemagic.catalog.admin.infrastructure.util.AssociationUtil;
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
 
 import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import static com.codemagic.catalog.admin.domain.util.CollectionUtil.mapTo;
+
 @Entity
 @Table(name = "genres")
-public class GenreJpaEntity {
+public class GenreJpaEntity implements Persistable<String> {
 
     @Id
     @Column(name = "id", nullable = false)
@@ -24,7 +28,7 @@ public class GenreJpaEntity {
     @Column(name = "active", nullable = false)
     private boolean active;
 
-    @OneToMany(mappedBy = "genre", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToMany(mappedBy = "genre", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private Set<GenreCategoryJpaEntity> categories;
 
     @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
@@ -36,6 +40,9 @@ public class GenreJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    @Transient
+    private boolean isNew;
+
     public GenreJpaEntity() {}
 
     private GenreJpaEntity(final String id,
@@ -74,12 +81,27 @@ public class GenreJpaEntity {
         return entity;
     }
 
+    public GenreJpaEntity update(final Genre genre) {
+        this.name = genre.getName();
+        this.active = genre.isActive();
+        this.updatedAt = genre.getUpdatedAt();
+        this.deletedAt = genre.getDeletedAt();
+
+        AssociationUtil.sync(this.categories, mapTo(Set.copyOf(genre.getCategories()), CategoryID::getValue),
+                it -> it.getId().getCategoryID(), id -> GenreCategoryJpaEntity.from(this, CategoryID.from(id)));
+        return this;
+    }
+
     public Genre toAggregate() {
+        return toAggregate(getCategoriesID());
+    }
+
+    public Genre toAggregate(final List<CategoryID> categories) {
         return new Genre(
                 GenreID.from(this.getId()),
                 this.getName(),
                 this.isActive(),
-                getCategoriesID(),
+                categories,
                 this.getCreatedAt(),
                 this.getUpdatedAt(),
                 this.getDeletedAt());
@@ -91,6 +113,22 @@ public class GenreJpaEntity {
                 .toList();
     }
 
+    public GenreJpaEntity markNew() {
+        this.isNew = true;
+        return this;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     public String getId() {
         return id;
     }
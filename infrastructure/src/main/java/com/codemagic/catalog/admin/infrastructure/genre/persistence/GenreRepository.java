@@ -1,10 +1,29 @@
 package com.codemagic.catalog.admin.infrastructure.genre.persistence;
 
+import com.codemagic.catalog.admin.domain.pagination.Suggestion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface GenreRepository extends JpaRepository<GenreJpaEntity, String>, JpaSpecificationExecutor<GenreJpaEntity> {
     Page<GenreJpaEntity> findAll(Specification<GenreJpaEntity> where, Pageable page);
+
+    @Override
+    @EntityGraph(attributePaths = "categories")
+    Optional<GenreJpaEntity> findById(String id);
+
+    @Query("select new com.codemagic.catalog.admin.infrastructure.genre.persistence.GenreCategoryLink(gc.id.genreID, gc.id.categoryID) from GenreCategoryJpaEntity gc where gc.id.genreID in :ids")
+    List<GenreCategoryLink> findCategoryLinks(@Param("ids") Collection<String> ids);
+
+    @Query("select new com.codemagic.catalog.admin.domain.pagination.Suggestion(g.id, g.name) from GenreJpaEntity g")
+    List<Suggestion> findAllNames();
 }
@@ -2,7 +2,9 @@ package com.codemagic.catalog.admin.infrastructure.genre.presenters;
 
 import com.codemagic.catalog.admin.application.genre.retrieve.get.GenreOutput;
 import com.codemagic.catalog.admin.application.genre.retrieve.list.GenreListOutput;
+import com.codemagic.catalog.admin.application.genre.retrieve.suggest.GenreSuggestionOutput;
 import com.codemagic.catalog.admin.infrastructure.genre.models.GenreListResponse;
+import com.codemagic.catalog.admin.infrastructure.genre.models.GenreSuggestionResponse;
 import com.codemagic.catalog.admin.infrastructure.genre.models.GenreResponse;
 
 public interface GenreApiPresenter {
@@ -25,4 +27,8 @@ public interface GenreApiPresenter {
                 output.categories()
         );
     }
+
+    static GenreSuggestionResponse present(final GenreSuggestionOutput output) {
+        return new GenreSuggestionResponse(output.id(), output.name());
+    }
 }
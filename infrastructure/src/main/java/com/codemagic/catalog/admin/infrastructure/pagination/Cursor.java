@@ -0,0 +1,82 @@
+package com.codemagic.catalog.admin.infrastructure.pagination;
+
+import com.codemagic.catalog.admin.domain.exceptions.DomainException;
+import com.codemagic.catalog.admin.domain.validation.Error;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Optional;
+
+public record Cursor(String sort, Sort.Direction direction, String value, String id) {
+
+    private static final String SEPARATOR = ".";
+
+    public Cursor {
+        Objects.requireNonNull(sort);
+        Objects.requireNonNull(direction);
+        Objects.requireNonNull(value);
+        Objects.requireNonNull(id);
+    }
+
+    public static Cursor of(final String sort, final Sort.Direction direction, final Object value, final String id) {
+        return new Cursor(sort, direction, String.valueOf(value), id);
+    }
+
+    public static Optional<Cursor> decode(final String token, final String sort, final Sort.Direction direction) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        final var parts = token.split("\\.", -1);
+        if (parts.length != 4) {
+            throw invalid();
+        }
+
+        try {
+            final var cursor = new Cursor(
+                    decodePart(parts[0]),
+                    Sort.Direction.fromString(decodePart(parts[1])),
+                    decodePart(parts[2]),
+                    decodePart(parts[3])
+            );
+
+            if (!cursor.sort().equals(sort) || cursor.direction() != direction) {
+                throw DomainException.with(new Error("Cursor was issued for a different sort, restart the listing"));
+            }
+            return Optional.of(cursor);
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+    }
+
+    public String encode() {
+        return String.join(SEPARATOR, encodePart(sort), encodePart(direction.name()), encodePart(value), encodePart(id));
+    }
+
+    public Object value(final Class<?> type) {
+        if (Instant.class.equals(type)) {
+            try {
+                return Instant.parse(value);
+            } catch (DateTimeParseException e) {
+                throw invalid();
+            }
+        }
+        return value;
+    }
+
+    private static String encodePart(final String part) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(part.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodePart(final String part) {
+        return new String(Base64.getUrlDecoder().decode(part), StandardCharsets.UTF_8);
+    }
+
+    private static DomainException invalid() {
+        return DomainException.with(new Error("Invalid pagination cursor"));
+    }
+}
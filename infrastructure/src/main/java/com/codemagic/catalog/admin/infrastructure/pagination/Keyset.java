@@ -0,0 +1,86 @@
+package com.codemagic.catalog.admin.infrastructure.pagination;
+
+import com.codemagic.catalog.admin.domain.exceptions.DomainException;
+import com.codemagic.catalog.admin.domain.pagination.Pagination;
+import com.codemagic.catalog.admin.domain.validation.Error;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.springframework.data.jpa.domain.Specification.where;
+
+public record Keyset<T>(
+        String sort,
+        Sort.Direction direction,
+        int perPage,
+        Cursor after,
+        Function<T, Object> key,
+        Function<T, String> id
+) {
+
+    public static <T> Keyset<T> of(
+            final Map<String, Function<T, Object>> keys,
+            final Function<T, String> id,
+            final int perPage,
+            final String sort,
+            final String direction,
+            final String after
+    ) {
+        final var key = keys.get(sort);
+        if (key == null) {
+            throw DomainException.with(new Error("Cursor pagination is not supported for sort '%s'".formatted(sort)));
+        }
+
+        final var actualDirection = Sort.Direction.fromString(direction);
+        return new Keyset<>(sort, actualDirection, perPage, Cursor.decode(after, sort, actualDirection).orElse(null), key, id);
+    }
+
+    public Sort order() {
+        return Sort.by(direction, sort, "id");
+    }
+
+    public int limit() {
+        return perPage + 1;
+    }
+
+    public List<T> find(final JpaSpecificationExecutor<T> repository, final Specification<T> where) {
+        final Specification<T> seek = after != null ? seek(after) : null;
+        return repository.findBy(where(where).and(seek), query -> query.sortBy(order()).limit(limit()).all());
+    }
+
+    public Pagination<T> page(final List<T> rows) {
+        if (rows.size() <= perPage) {
+            return Pagination.cursor(perPage, rows, null);
+        }
+
+        final var items = rows.subList(0, perPage);
+        final var last = items.get(items.size() - 1);
+        return Pagination.cursor(perPage, items, Cursor.of(sort, direction, key.apply(last), id.apply(last)).encode());
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static <T> Specification<T> seek(final Cursor cursor) {
+        return (root, query, criteria) -> {
+            final Path<Comparable> key = root.get(cursor.sort());
+            final Path<String> id = root.get("id");
+            final var value = (Comparable) cursor.value(key.getJavaType());
+
+            if (cursor.direction().isAscending()) {
+                return criteria.and(
+                        criteria.greaterThanOrEqualTo(key, value),
+                        criteria.or(criteria.greaterThan(key, value), criteria.greaterThan(id, cursor.id()))
+                );
+            }
+
+            return criteria.and(
+                    criteria.lessThanOrEqualTo(key, value),
+                    criteria.or(criteria.lessThan(key, value), criteria.lessThan(id, cursor.id()))
+            );
+        };
+    }
+}
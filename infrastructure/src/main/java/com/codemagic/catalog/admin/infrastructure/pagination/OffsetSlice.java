@@ -0,0 +1,51 @@
+package com.codemagic.catalog.admin.infrastructure.pagination;
+
+import com.codemagic.catalog.admin.domain.pagination.Pagination;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+public final class OffsetSlice {
+
+    private OffsetSlice() {}
+
+    public static <T> Pagination<T> find(
+            final EntityManager entityManager,
+            final Class<T> type,
+            final Specification<T> where,
+            final Sort sort,
+            final int page,
+            final int perPage
+    ) {
+        final var criteria = entityManager.getCriteriaBuilder();
+        final var query = criteria.createQuery(type);
+        final var root = query.from(type);
+
+        if (where != null) {
+            final var predicate = where.toPredicate(root, query, criteria);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, criteria));
+        }
+
+        final var rows = entityManager.createQuery(query)
+                .setFirstResult(page * perPage)
+                .setMaxResults(perPage + 1)
+                .getResultList();
+
+        return of(page, perPage, rows);
+    }
+
+    public static <T> Pagination<T> of(final int page, final int perPage, final List<T> rows) {
+        if (rows.size() <= perPage) {
+            return Pagination.slice(page, perPage, rows, false);
+        }
+        return Pagination.slice(page, perPage, rows.subList(0, perPage), true);
+    }
+}
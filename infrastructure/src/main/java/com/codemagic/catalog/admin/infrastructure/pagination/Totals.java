@@ -0,0 +1,68 @@
+package com.codemagic.catalog.admin.infrastructure.pagination;
+
+import com.codemagic.catalog.admin.domain.pagination.Pagination;
+import com.codemagic.catalog.admin.domain.pagination.TotalMode;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+public class Totals {
+
+    private static final Duration ESTIMATE_TTL = Duration.ofMinutes(1);
+    private static final String TABLE_ROWS = """
+            select table_rows from information_schema.tables
+            where table_schema = database() and table_name = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+    private volatile Estimate estimate;
+
+    public Totals(final JdbcTemplate jdbcTemplate, final String table) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.table = Objects.requireNonNull(table);
+    }
+
+    public static TotalMode resolve(final TotalMode requested, final boolean filtered) {
+        if (requested == TotalMode.ESTIMATED && filtered) {
+            return TotalMode.EXACT;
+        }
+        return requested;
+    }
+
+    public <T> Pagination<T> apply(final Pagination<T> page, final TotalMode mode, final LongSupplier count) {
+        return switch (mode) {
+            case EXACT -> page.withTotal(count.getAsLong(), TotalMode.EXACT);
+            case ESTIMATED -> page.withTotal(estimate(count), TotalMode.ESTIMATED);
+            case NONE -> page;
+        };
+    }
+
+    private long estimate(final LongSupplier count) {
+        final var now = Instant.now();
+        final var current = this.estimate;
+        if (current != null && current.expiresAt().isAfter(now)) {
+            return current.rows();
+        }
+
+        final var rows = tableRows().orElseGet(count::getAsLong);
+        this.estimate = new Estimate(rows, now.plus(ESTIMATE_TTL));
+        return rows;
+    }
+
+    private Optional<Long> tableRows() {
+        try {
+            return Optional.ofNullable(this.jdbcTemplate.queryForObject(TABLE_ROWS, Long.class, this.table));
+        } catch (DataAccessException e) {
+            return Optional.empty();
+        }
+    }
+
+    private record Estimate(long rows, Instant expiresAt) {
+    }
+}
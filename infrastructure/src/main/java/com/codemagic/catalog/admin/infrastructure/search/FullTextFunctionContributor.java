@@ -0,0 +1,20 @@
+package com.codemagic.catalog.admin.infrastructure.search;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(final FunctionContributions functions) {
+        final var relevance = functions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.DOUBLE);
+
+        functions.getFunctionRegistry()
+                .registerPattern(FullTextSearch.function(1), "match(?1) against(?2 in boolean mode)", relevance);
+        functions.getFunctionRegistry()
+                .registerPattern(FullTextSearch.function(2), "match(?1, ?2) against(?3 in boolean mode)", relevance);
+    }
+}
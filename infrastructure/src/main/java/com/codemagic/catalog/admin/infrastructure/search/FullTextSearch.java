@@ -0,0 +1,115 @@
+package com.codemagic.catalog.admin.infrastructure.search;
+
+import com.codemagic.catalog.admin.infrastructure.util.SpecificationUtil;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+public class FullTextSearch {
+
+    public static final String RELEVANCE = "relevance";
+
+    private static final int MIN_TOKEN_SIZE = 3;
+    private static final Pattern SEPARATORS = Pattern.compile("[\\s+\\-<>()~*\"@]+");
+
+    private final boolean enabled;
+
+    public FullTextSearch(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public static String function(final int columns) {
+        return "match_against_" + columns;
+    }
+
+    public static boolean isRelevance(final String sort) {
+        return RELEVANCE.equals(sort);
+    }
+
+    public String against(final String terms) {
+        if (!this.enabled || terms == null || terms.isBlank()) {
+            return null;
+        }
+
+        final var words = Arrays.stream(SEPARATORS.split(terms.trim()))
+                .filter(word -> word.length() >= MIN_TOKEN_SIZE)
+                .map(word -> "+" + word + "*")
+                .collect(Collectors.joining(" "));
+
+        return words.isEmpty() ? null : words;
+    }
+
+    public <T> Specification<T> matching(final String terms, final String... columns) {
+        final var against = against(terms);
+
+        if (against == null) {
+            return Arrays.stream(columns)
+                    .map(column -> SpecificationUtil.<T>like(column, terms))
+                    .reduce(Specification::or)
+                    .orElseThrow();
+        }
+
+        return (root, query, criteria) ->
+                criteria.greaterThan(match(root, criteria, against, columns), 0d);
+    }
+
+    public <T> Specification<T> rankedBy(final String terms, final String... columns) {
+        return (root, query, criteria) -> {
+            if (Long.class.equals(query.getResultType())) {
+                return null;
+            }
+
+            if (terms == null || terms.isBlank()) {
+                query.orderBy(criteria.asc(root.get(columns[0])), criteria.asc(root.get("id")));
+                return null;
+            }
+
+            query.orderBy(
+                    criteria.desc(relevance(root, criteria, terms, columns)),
+                    criteria.asc(root.get(columns[0])),
+                    criteria.asc(root.get("id"))
+            );
+            return null;
+        };
+    }
+
+    private Expression<Double> relevance(
+            final Root<?> root,
+            final CriteriaBuilder criteria,
+            final String terms,
+            final String... columns
+    ) {
+        final var against = against(terms);
+        if (against != null) {
+            return match(root, criteria, against, columns);
+        }
+
+        Expression<Double> score = criteria.literal(0d);
+        for (int i = 0; i < columns.length; i++) {
+            final var hit = criteria.<Double>selectCase()
+                    .when(criteria.like(criteria.upper(root.get(columns[i])), SpecificationUtil.like(terms.toUpperCase())), (double) (columns.length - i))
+                    .otherwise(0d);
+            score = criteria.sum(score, hit);
+        }
+        return score;
+    }
+
+    private static Expression<Double> match(
+            final Root<?> root,
+            final CriteriaBuilder criteria,
+            final String against,
+            final String... columns
+    ) {
+        final var arguments = new Expression<?>[columns.length + 1];
+        for (int i = 0; i < columns.length; i++) {
+            arguments[i] = root.get(columns[i]);
+        }
+        arguments[columns.length] = criteria.literal(against);
+        return criteria.function(function(columns.length), Double.class, arguments);
+    }
+}
@@ -0,0 +1,133 @@
+package com.codemagic.catalog.admin.infrastructure.search;
+
+import com.codemagic.catalog.admin.domain.pagination.Suggestion;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+public class NameIndex {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+    private static final char SEPARATOR = '\u0000';
+
+    private volatile ConcurrentSkipListMap<String, Suggestion> entries = new ConcurrentSkipListMap<>();
+    private volatile Map<String, List<String>> keys = new ConcurrentHashMap<>();
+    // Latest change per id made while a load is running, an empty value being a removal
+    private Map<String, Optional<Suggestion>> pending;
+
+    /**
+     * Reads the names outside the lock so puts and removes are not blocked meanwhile. Those arriving after the load
+     * started are recorded and replayed onto the loaded names before they are swapped in, so the supplier must only
+     * run the query from inside this method for the replay to cover everything its snapshot misses.
+     */
+    public void load(final Supplier<? extends Collection<Suggestion>> suggestions) {
+        synchronized (this) {
+            this.pending = new LinkedHashMap<>();
+        }
+        try {
+            final var entries = new ConcurrentSkipListMap<String, Suggestion>();
+            final var keys = new ConcurrentHashMap<String, List<String>>();
+            suggestions.get().forEach(suggestion -> add(entries, keys, suggestion));
+
+            synchronized (this) {
+                this.pending.forEach((id, suggestion) -> {
+                    remove(entries, keys, id);
+                    suggestion.ifPresent(it -> add(entries, keys, it));
+                });
+                this.entries = entries;
+                this.keys = keys;
+            }
+        } finally {
+            synchronized (this) {
+                this.pending = null;
+            }
+        }
+    }
+
+    public synchronized void put(final String id, final String name) {
+        final var suggestion = new Suggestion(id, name);
+        remove(this.entries, this.keys, id);
+        add(this.entries, this.keys, suggestion);
+        record(id, Optional.of(suggestion));
+    }
+
+    public synchronized void remove(final String id) {
+        remove(this.entries, this.keys, id);
+        record(id, Optional.empty());
+    }
+
+    public List<Suggestion> suggest(final String terms, final int limit) {
+        final var prefix = normalize(terms);
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+
+        final var found = new LinkedHashMap<String, Suggestion>();
+        for (final var entry : this.entries.tailMap(prefix).entrySet()) {
+            if (found.size() >= limit || !entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            found.putIfAbsent(entry.getValue().id(), entry.getValue());
+        }
+        return List.copyOf(found.values());
+    }
+
+    public int size() {
+        return this.keys.size();
+    }
+
+    static String normalize(final String value) {
+        if (value == null) {
+            return "";
+        }
+        final var unaccented = MARKS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        return SPACES.matcher(unaccented).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+    }
+
+    private void record(final String id, final Optional<Suggestion> suggestion) {
+        if (this.pending != null) {
+            this.pending.remove(id);
+            this.pending.put(id, suggestion);
+        }
+    }
+
+    private static void remove(final Map<String, Suggestion> entries, final Map<String, List<String>> keys, final String id) {
+        final var previous = keys.remove(id);
+        if (previous != null) {
+            previous.forEach(entries::remove);
+        }
+    }
+
+    private static void add(
+            final Map<String, Suggestion> entries,
+            final Map<String, List<String>> keys,
+            final Suggestion suggestion
+    ) {
+        final var name = normalize(suggestion.name());
+        final var words = new ArrayList<String>();
+
+        var start = 0;
+        while (start < name.length()) {
+            words.add(name.substring(start) + SEPARATOR + suggestion.id());
+            final var next = name.indexOf(' ', start);
+            if (next < 0) {
+                break;
+            }
+            start = next + 1;
+        }
+
+        words.forEach(key -> entries.put(key, suggestion));
+        keys.put(suggestion.id(), words);
+    }
+}
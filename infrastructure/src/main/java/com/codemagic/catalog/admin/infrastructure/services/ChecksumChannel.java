@@ -0,0 +1,46 @@
+package com.codemagic.catalog.admin.infrastructure.services;
+
+import com.codemagic.catalog.admin.domain.util.ChecksumUtil;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Objects;
+import java.util.zip.CRC32C;
+
+public class ChecksumChannel implements ReadableByteChannel {
+
+    private final ReadableByteChannel delegate;
+    private final CRC32C crc32c;
+
+    public ChecksumChannel(final ReadableByteChannel delegate) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.crc32c = new CRC32C();
+    }
+
+    @Override
+    public int read(final ByteBuffer target) throws IOException {
+        final var position = target.position();
+        final var read = this.delegate.read(target);
+        if (read > 0) {
+            final var chunk = target.duplicate();
+            chunk.limit(position + read).position(position);
+            this.crc32c.update(chunk);
+        }
+        return read;
+    }
+
+    public String checksum() {
+        return ChecksumUtil.toHex(this.crc32c);
+    }
+
+    @Override
+    public boolean isOpen() {
+        return this.delegate.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.delegate.close();
+    }
+}
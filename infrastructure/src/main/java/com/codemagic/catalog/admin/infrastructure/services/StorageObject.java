@@ -0,0 +1,6 @@
+package com.codemagic.catalog.admin.infrastructure.services;
+
+import java.time.Instant;
+
+public record StorageObject(String name, Instant updatedAt) {
+}
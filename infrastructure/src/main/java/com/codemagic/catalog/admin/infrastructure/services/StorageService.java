@@ -2,9 +2,16 @@ package com.codemagic.catalog.admin.infrastructure.services;
 
 import com.codemagic.catalog.admin.domain.resource.Resource;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.util.Enumeration;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 public interface StorageService {
 
@@ -14,6 +21,51 @@ public interface StorageService {
 
     Set<String> list(final String prefix);
 
-    void store(final String name, final Resource resource);
+    Stream<StorageObject> objects(final String prefix);
+
+    /**
+     * Writes the resource under the given name and returns the CRC32C of what was read. When the resource carries an
+     * expected checksum the content does not match, nothing is written and the object already stored under that name
+     * is kept, the returned checksum telling the caller the content was rejected.
+     */
+    String store(final String name, final Resource resource);
+
+    default void move(final String source, final String target) {
+        final var resource = get(source)
+                .orElseThrow(() -> new IllegalStateException("Storage object '%s' was not found".formatted(source)));
+        store(target, resource);
+        deleteAll(Set.of(source));
+    }
+
+    default String compose(
+            final String name,
+            final String contentType,
+            final String resourceName,
+            final List<String> sources
+    ) {
+        final Resource.Source concatenated = () -> {
+            final var parts = sources.iterator();
+            return Channels.newChannel(new SequenceInputStream(new Enumeration<InputStream>() {
+                @Override
+                public boolean hasMoreElements() {
+                    return parts.hasNext();
+                }
+
+                @Override
+                public InputStream nextElement() {
+                    final var part = parts.next();
+                    final var resource = get(part)
+                            .orElseThrow(() -> new IllegalStateException("Storage object '%s' was not found".formatted(part)));
+                    try {
+                        return Channels.newInputStream(resource.channel());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            }));
+        };
+
+        return store(name, Resource.with(null, concatenated, Resource.UNKNOWN_LENGTH, contentType, resourceName));
+    }
 
 }
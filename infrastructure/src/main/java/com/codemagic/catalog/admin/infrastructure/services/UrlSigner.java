@@ -0,0 +1,13 @@
+package com.codemagic.catalog.admin.infrastructure.services;
+
+import com.codemagic.catalog.admin.domain.resource.SignedUrl;
+
+import java.time.Duration;
+
+public interface UrlSigner {
+
+    SignedUrl signUpload(final String name, final String contentType, final Duration ttl);
+
+    SignedUrl signDownload(final String name, final Duration ttl);
+
+}
@@ -0,0 +1,296 @@
+package com.codemagic.catalog.admin.infrastructure.services.impl;
+
+import com.codemagic.catalog.admin.domain.resource.Resource;
+import com.codemagic.catalog.admin.domain.util.ChecksumUtil;
+import com.codemagic.catalog.admin.infrastructure.services.ChecksumChannel;
+import com.codemagic.catalog.admin.infrastructure.services.StorageObject;
+import com.codemagic.catalog.admin.infrastructure.services.StorageService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public class FileSystemStorageService implements StorageService {
+
+    private static final String HIDDEN_PREFIX = ".";
+    private static final String METADATA_SUFFIX = ".properties";
+    private static final String CHECKSUM = "checksum";
+    private static final String CONTENT_TYPE = "contentType";
+    private static final String NAME = "name";
+
+    private final Path root;
+
+    public FileSystemStorageService(final Path root) {
+        this.root = root.toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(this.root);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void deleteAll(final Set<String> names) {
+        names.forEach(name -> {
+            final var file = resolve(name);
+            try {
+                Files.deleteIfExists(file);
+                Files.deleteIfExists(metadata(file));
+                deleteEmptyParents(file.getParent());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Override
+    public Optional<Resource> get(final String name) {
+        final var file = resolve(name);
+        final var metadata = metadata(file);
+
+        if (!Files.isRegularFile(file) || !Files.isRegularFile(metadata)) {
+            return Optional.empty();
+        }
+
+        try (final var reader = Files.newBufferedReader(metadata)) {
+            final var props = new Properties();
+            props.load(reader);
+
+            return Optional.of(Resource.with(
+                    props.getProperty(CHECKSUM),
+                    () -> FileChannel.open(file, StandardOpenOption.READ),
+                    Files.size(file),
+                    props.getProperty(CONTENT_TYPE),
+                    props.getProperty(NAME)
+            ));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Set<String> list(final String prefix) {
+        final var names = new HashSet<String>();
+
+        final var folder = folder(prefix);
+        if (folder.isPresent()) {
+            try (final var files = Files.walk(folder.get())) {
+                collect(files, names);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return names;
+        }
+
+        final var separator = prefix.lastIndexOf('/');
+        final var directory = separator < 0 ? this.root : resolve(prefix.substring(0, separator));
+        final var namePrefix = prefix.substring(separator + 1);
+
+        if (!Files.isDirectory(directory)) {
+            return names;
+        }
+
+        try (final var entries = Files.newDirectoryStream(directory, entry -> isVisible(entry)
+                && entry.getFileName().toString().startsWith(namePrefix))) {
+            for (final var entry : entries) {
+                if (Files.isDirectory(entry)) {
+                    try (final var files = Files.walk(entry)) {
+                        collect(files, names);
+                    }
+                } else {
+                    names.add(name(entry));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return names;
+    }
+
+    @Override
+    public Stream<StorageObject> objects(final String prefix) {
+        final var separator = prefix.lastIndexOf('/');
+        final var directory = folder(prefix)
+                .orElseGet(() -> separator < 0 ? this.root : resolve(prefix.substring(0, separator)));
+
+        if (!Files.isDirectory(directory)) {
+            return Stream.empty();
+        }
+
+        try {
+            return Files.walk(directory)
+                    .filter(Files::isRegularFile)
+                    .filter(this::isVisible)
+                    .map(file -> new StorageObject(name(file), lastModified(file)))
+                    .filter(object -> object.name().startsWith(prefix));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String store(final String name, final Resource resource) {
+        final var file = resolve(name);
+        final var temporaries = new ArrayList<Path>(2);
+
+        try {
+            Files.createDirectories(file.getParent());
+
+            final var content = temporary(file, temporaries);
+            final String checksum;
+            try (final var source = new ChecksumChannel(resource.channel());
+                 final var target = FileChannel.open(content, StandardOpenOption.WRITE)) {
+                var position = 0L;
+                long transferred;
+                while ((transferred = target.transferFrom(source, position, Long.MAX_VALUE - position)) > 0) {
+                    position += transferred;
+                }
+                target.force(true);
+                checksum = source.checksum();
+            }
+
+            if (resource.hasChecksum() && !ChecksumUtil.matches(resource.checksum(), checksum)) {
+                return checksum;
+            }
+
+            final var props = new Properties();
+            props.setProperty(CHECKSUM, checksum);
+            props.setProperty(CONTENT_TYPE, resource.contentType());
+            props.setProperty(NAME, resource.name());
+
+            final var metadata = temporary(file, temporaries);
+            try (final var writer = Files.newBufferedWriter(metadata)) {
+                props.store(writer, null);
+            }
+
+            replace(content, metadata, file);
+            return checksum;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            // Already moved into place when the store succeeded, otherwise partial content that must not pile up
+            temporaries.forEach(this::deleteQuietly);
+        }
+    }
+
+    @Override
+    public void move(final String source, final String target) {
+        final var from = resolve(source);
+        final var to = resolve(target);
+
+        try {
+            Files.createDirectories(to.getParent());
+            replace(from, metadata(from), to);
+            deleteEmptyParents(from.getParent());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * A prefix naming an existing folder, such as {@code videoId-<id>} or {@code uploads/<id>/}, is served from that
+     * folder alone instead of scanning its parent for every entry sharing the prefix. Folder names embed fixed length
+     * ids, so no sibling name can extend them.
+     */
+    private Optional<Path> folder(final String prefix) {
+        if (prefix.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final var folder = resolve(prefix);
+        return Files.isDirectory(folder) ? Optional.of(folder) : Optional.empty();
+    }
+
+    private void collect(final Stream<Path> files, final Set<String> names) {
+        files.filter(Files::isRegularFile)
+                .filter(this::isVisible)
+                .map(this::name)
+                .forEach(names::add);
+    }
+
+    private void deleteEmptyParents(final Path directory) throws IOException {
+        var current = directory;
+        while (current != null && !current.equals(this.root)) {
+            try {
+                Files.deleteIfExists(current);
+            } catch (DirectoryNotEmptyException e) {
+                return;
+            }
+            current = current.getParent();
+        }
+    }
+
+    private Instant lastModified(final Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant();
+        } catch (IOException e) {
+            return Instant.now();
+        }
+    }
+
+    private boolean isVisible(final Path path) {
+        return !path.getFileName().toString().startsWith(HIDDEN_PREFIX);
+    }
+
+    private Path metadata(final Path file) {
+        return file.resolveSibling(HIDDEN_PREFIX + file.getFileName() + METADATA_SUFFIX);
+    }
+
+    /**
+     * Readers only serve content that has metadata beside it, so the previous metadata goes first, the content
+     * follows and the new metadata lands last. A crash in between leaves the object absent instead of pairing the new
+     * content with the previous checksum.
+     */
+    private void replace(final Path content, final Path metadata, final Path file) throws IOException {
+        Files.deleteIfExists(metadata(file));
+        move(content, file);
+        move(metadata, metadata(file));
+    }
+
+    private void move(final Path source, final Path target) throws IOException {
+        Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private String name(final Path file) {
+        return this.root.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+    }
+
+    private Path resolve(final String name) {
+        final var file = this.root.resolve(name).normalize();
+        if (!file.startsWith(this.root) || file.equals(this.root)) {
+            throw new IllegalArgumentException("Invalid storage name '%s'".formatted(name));
+        }
+        return file;
+    }
+
+    private Path temporary(final Path file, final List<Path> temporaries) throws IOException {
+        final var temporary = Files.createTempFile(file.getParent(), HIDDEN_PREFIX + file.getFileName(), ".tmp");
+        temporaries.add(temporary);
+        return temporary;
+    }
+
+    private void deleteQuietly(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // Hidden temporaries are never listed, a leftover only costs disk space
+        }
+    }
+}
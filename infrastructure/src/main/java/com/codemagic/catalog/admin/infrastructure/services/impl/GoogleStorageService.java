@@ -1,25 +1,63 @@
 package com.codemagic.catalog.admin.infrastructure.services.impl;
 
 import com.codemagic.catalog.admin.domain.resource.Resource;
+import com.codemagic.catalog.admin.domain.util.ChecksumUtil;
+import com.codemagic.catalog.admin.infrastructure.services.ChecksumChannel;
+import com.codemagic.catalog.admin.infrastructure.services.StorageObject;
 import com.codemagic.catalog.admin.infrastructure.services.StorageService;
+import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.Storage.BlobWriteOption;
+import com.google.cloud.storage.StorageException;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 public class GoogleStorageService implements StorageService {
 
+    private static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+    private static final int DEFAULT_READ_CHUNK_SIZE = 2 * 1024 * 1024;
+    private static final int TRANSFER_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_COMPOSE_SOURCES = 32;
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final long LIST_PAGE_SIZE = 1000;
+
     private final String bucket;
     private final Storage storage;
+    private final int chunkSize;
+    private final int readChunkSize;
 
     public GoogleStorageService(final String bucket, final Storage storage) {
+        this(bucket, storage, DEFAULT_CHUNK_SIZE, DEFAULT_READ_CHUNK_SIZE);
+    }
+
+    public GoogleStorageService(final String bucket, final Storage storage, final int chunkSize) {
+        this(bucket, storage, chunkSize, DEFAULT_READ_CHUNK_SIZE);
+    }
+
+    public GoogleStorageService(
+            final String bucket,
+            final Storage storage,
+            final int chunkSize,
+            final int readChunkSize
+    ) {
         this.bucket = bucket;
         this.storage = storage;
+        this.chunkSize = chunkSize > 0 ? chunkSize : DEFAULT_CHUNK_SIZE;
+        this.readChunkSize = readChunkSize > 0 ? readChunkSize : DEFAULT_READ_CHUNK_SIZE;
     }
 
     @Override
@@ -28,7 +66,9 @@ public class GoogleStorageService implements StorageService {
                 .map(name -> BlobId.of(this.bucket, name))
                 .toList();
 
-        this.storage.delete(blobs);
+        for (int from = 0; from < blobs.size(); from += MAX_BATCH_SIZE) {
+            this.storage.delete(blobs.subList(from, Math.min(from + MAX_BATCH_SIZE, blobs.size())));
+        }
     }
 
     @Override
@@ -36,11 +76,31 @@ public class GoogleStorageService implements StorageService {
         return Optional.ofNullable(this.storage.get(this.bucket, name))
                 .map(blob -> Resource.with(
                         blob.getCrc32cToHexString(),
-                        blob.getContent(),
+                        reader(BlobId.of(this.bucket, name, blob.getGeneration())),
+                        blob.getSize() != null ? blob.getSize() : Resource.UNKNOWN_LENGTH,
                         blob.getContentType(),
                         blob.getName()));
     }
 
+    private Resource.Source reader(final BlobId id) {
+        return new Resource.Source() {
+            @Override
+            public ReadableByteChannel open() throws IOException {
+                return open(0);
+            }
+
+            @Override
+            public ReadableByteChannel open(final long position) throws IOException {
+                final var reader = storage.reader(id);
+                reader.setChunkSize(readChunkSize);
+                if (position > 0) {
+                    reader.seek(position);
+                }
+                return reader;
+            }
+        };
+    }
+
     @Override
     public Set<String> list(final String prefix) {
         final var page = this.storage.list(this.bucket, Storage.BlobListOption.prefix(prefix));
@@ -52,10 +112,123 @@ public class GoogleStorageService implements StorageService {
     }
 
     @Override
-    public void store(String name, Resource resource) {
-        this.storage.create(BlobInfo.newBuilder(this.bucket, name)
-                .setContentType(resource.contentType())
-                .setCrc32cFromHexString(resource.checksum())
-                .build(), resource.content());
+    public Stream<StorageObject> objects(final String prefix) {
+        final var page = this.storage.list(this.bucket,
+                Storage.BlobListOption.prefix(prefix),
+                Storage.BlobListOption.pageSize(LIST_PAGE_SIZE),
+                Storage.BlobListOption.fields(Storage.BlobField.NAME, Storage.BlobField.UPDATED));
+
+        return StreamSupport.stream(page.iterateAll().spliterator(), false)
+                .map(blob -> new StorageObject(blob.getName(), Optional.ofNullable(blob.getUpdateTimeOffsetDateTime())
+                        .map(OffsetDateTime::toInstant)
+                        .orElseGet(Instant::now)));
+    }
+
+    @Override
+    public String store(String name, Resource resource) {
+        final var info = BlobInfo.newBuilder(this.bucket, name)
+                .setContentType(resource.contentType());
+
+        if (resource.isStreaming()) {
+            return write(info, resource);
+        }
+
+        final var content = resource.content();
+        final var checksum = ChecksumUtil.crc32c(content);
+        if (rejects(resource, checksum)) {
+            return checksum;
+        }
+        this.storage.create(info.setCrc32cFromHexString(checksum).build(), content);
+        return checksum;
+    }
+
+    @Override
+    public String compose(
+            final String name,
+            final String contentType,
+            final String resourceName,
+            final List<String> sources
+    ) {
+        final var intermediates = new ArrayList<String>();
+        var pending = sources;
+
+        while (pending.size() > MAX_COMPOSE_SOURCES) {
+            final var next = new ArrayList<String>();
+            for (int i = 0; i < pending.size(); i += MAX_COMPOSE_SOURCES) {
+                final var intermediate = "%s.compose-%d-%d".formatted(name, intermediates.size(), i);
+                compose(intermediate, contentType, pending.subList(i, Math.min(i + MAX_COMPOSE_SOURCES, pending.size())));
+                intermediates.add(intermediate);
+                next.add(intermediate);
+            }
+            pending = next;
+        }
+
+        final var blob = compose(name, contentType, pending);
+
+        if (!intermediates.isEmpty()) {
+            deleteAll(Set.copyOf(intermediates));
+        }
+
+        return blob.getCrc32cToHexString();
+    }
+
+    @Override
+    public void move(final String source, final String target) {
+        this.storage.copy(Storage.CopyRequest.of(this.bucket, source, BlobId.of(this.bucket, target))).getResult();
+        this.storage.delete(BlobId.of(this.bucket, source));
+    }
+
+    private Blob compose(final String name, final String contentType, final List<String> sources) {
+        final var target = BlobInfo.newBuilder(this.bucket, name)
+                .setContentType(contentType)
+                .build();
+
+        return this.storage.compose(Storage.ComposeRequest.newBuilder()
+                .addSource(sources)
+                .setTarget(target)
+                .build());
+    }
+
+    /**
+     * Streams the content in chunks. An expected checksum is sent along with the upload, so the bucket refuses to
+     * finalize an object whose bytes do not match it and the object under that name is left untouched.
+     */
+    private String write(final BlobInfo.Builder info, final Resource resource) {
+        final var buffer = ByteBuffer.allocate(Math.min(TRANSFER_BUFFER_SIZE, this.chunkSize));
+        final var options = resource.hasChecksum()
+                ? new BlobWriteOption[]{BlobWriteOption.crc32cMatch()}
+                : new BlobWriteOption[0];
+        if (resource.hasChecksum()) {
+            info.setCrc32cFromHexString(resource.checksum());
+        }
+
+        try (final var source = new ChecksumChannel(resource.channel())) {
+            var drained = false;
+            try (final var writer = this.storage.writer(info.build(), options)) {
+                writer.setChunkSize(this.chunkSize);
+
+                while (source.read(buffer) >= 0) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        writer.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                drained = true;
+            } catch (IOException | StorageException e) {
+                // Finalizing is where the bucket compares checksums, any earlier failure is not a mismatch
+                if (drained && rejects(resource, source.checksum())) {
+                    return source.checksum();
+                }
+                throw e;
+            }
+            return source.checksum();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean rejects(final Resource resource, final String checksum) {
+        return resource.hasChecksum() && !ChecksumUtil.matches(resource.checksum(), checksum);
     }
 }
@@ -0,0 +1,56 @@
+package com.codemagic.catalog.admin.infrastructure.services.impl;
+
+import com.codemagic.catalog.admin.domain.resource.SignedUrl;
+import com.codemagic.catalog.admin.infrastructure.services.UrlSigner;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.HttpMethod;
+import com.google.cloud.storage.Storage;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+public class GoogleUrlSigner implements UrlSigner {
+
+    private final String bucket;
+    private final Storage storage;
+    private final Clock clock;
+
+    public GoogleUrlSigner(final String bucket, final Storage storage) {
+        this(bucket, storage, Clock.systemUTC());
+    }
+
+    public GoogleUrlSigner(final String bucket, final Storage storage, final Clock clock) {
+        this.bucket = Objects.requireNonNull(bucket);
+        this.storage = Objects.requireNonNull(storage);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    @Override
+    public SignedUrl signUpload(final String name, final String contentType, final Duration ttl) {
+        final var expiresAt = this.clock.instant().plus(ttl);
+        final var info = BlobInfo.newBuilder(this.bucket, name)
+                .setContentType(contentType)
+                .build();
+
+        final var url = this.storage.signUrl(info, ttl.toSeconds(), TimeUnit.SECONDS,
+                Storage.SignUrlOption.httpMethod(HttpMethod.PUT),
+                Storage.SignUrlOption.withContentType(),
+                Storage.SignUrlOption.withV4Signature());
+
+        return SignedUrl.upload(url.toString(), contentType, expiresAt);
+    }
+
+    @Override
+    public SignedUrl signDownload(final String name, final Duration ttl) {
+        final var expiresAt = this.clock.instant().plus(ttl);
+        final var info = BlobInfo.newBuilder(this.bucket, name).build();
+
+        final var url = this.storage.signUrl(info, ttl.toSeconds(), TimeUnit.SECONDS,
+                Storage.SignUrlOption.httpMethod(HttpMethod.GET),
+                Storage.SignUrlOption.withV4Signature());
+
+        return SignedUrl.download(url.toString(), expiresAt);
+    }
+}
@@ -1,21 +1,29 @@
 package com.codemagic.catalog.admin.infrastructure.services.impl;
 
 import com.codemagic.catalog.admin.domain.resource.Resource;
+import com.codemagic.catalog.admin.domain.util.ChecksumUtil;
+import com.codemagic.catalog.admin.infrastructure.services.StorageObject;
 import com.codemagic.catalog.admin.infrastructure.services.StorageService;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class LocalStorageService implements StorageService {
 
     private final Map<String, Resource> storage;
+    private final Map<String, Instant> updatedAt;
+    private final Clock clock;
 
     public void clear() {
         this.storage.clear();
+        this.updatedAt.clear();
     }
 
     public Map<String, Resource> storage() {
@@ -23,12 +31,21 @@ public class LocalStorageService implements StorageService {
     }
 
     public LocalStorageService() {
+        this(Clock.systemUTC());
+    }
+
+    public LocalStorageService(final Clock clock) {
         this.storage = new ConcurrentHashMap<>();
+        this.updatedAt = new ConcurrentHashMap<>();
+        this.clock = clock;
     }
 
     @Override
     public void deleteAll(Set<String> names) {
-        names.forEach(storage::remove);
+        names.forEach(name -> {
+            storage.remove(name);
+            updatedAt.remove(name);
+        });
     }
 
     @Override
@@ -44,8 +61,36 @@ public class LocalStorageService implements StorageService {
     }
 
     @Override
-    public void store(String name, Resource resource) {
+    public Stream<StorageObject> objects(String prefix) {
+        return storage.keySet().stream()
+                .filter(name -> name.startsWith(prefix))
+                .sorted()
+                .map(name -> new StorageObject(name, updatedAt.getOrDefault(name, clock.instant())));
+    }
+
+    @Override
+    public String store(String name, Resource resource) {
+        final var content = resource.content();
+        final var checksum = ChecksumUtil.crc32c(content);
+        if (resource.hasChecksum() && !ChecksumUtil.matches(resource.checksum(), checksum)) {
+            return checksum;
+        }
+
         storage.remove(name);
-        storage.put(name, resource);
+        storage.put(name, Resource.with(checksum, content, resource.contentType(), resource.name()));
+        updatedAt.put(name, clock.instant());
+        return checksum;
+    }
+
+    @Override
+    public void move(String source, String target) {
+        final var resource = storage.remove(source);
+        if (resource == null) {
+            throw new IllegalStateException("Storage object '%s' was not found".formatted(source));
+        }
+
+        updatedAt.remove(source);
+        storage.put(target, resource);
+        updatedAt.put(target, clock.instant());
     }
 }
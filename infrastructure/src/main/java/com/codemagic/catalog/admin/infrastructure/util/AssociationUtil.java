@@ -0,0 +1,29 @@
+package com.codemagic.catalog.admin.infrastructure.util;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+public class AssociationUtil {
+
+    private AssociationUtil() {}
+
+    public static <T, K> void sync(
+            final Collection<T> current,
+            final Set<K> wanted,
+            final Function<T, K> key,
+            final Function<K, T> create
+    ) {
+        final var kept = new HashSet<K>();
+        current.removeIf(link -> {
+            final var id = key.apply(link);
+            return !wanted.contains(id) || !kept.add(id);
+        });
+        wanted.stream()
+                .filter(id -> !kept.contains(id))
+                .map(create)
+                .forEach(current::add);
+    }
+
+}
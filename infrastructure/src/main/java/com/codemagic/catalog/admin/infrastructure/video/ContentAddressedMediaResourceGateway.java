@@ -0,0 +1,340 @@
+package com.codemagic.catalog.admin.infrastructure.video;
+
+import com.codemagic.catalog.admin.domain.resource.Resource;
+import com.codemagic.catalog.admin.domain.resource.SignedUrl;
+import com.codemagic.catalog.admin.domain.util.IdentifierUtil;
+import com.codemagic.catalog.admin.domain.video.*;
+import com.codemagic.catalog.admin.infrastructure.configuration.properties.storage.StorageProperties;
+import com.codemagic.catalog.admin.infrastructure.services.ChecksumChannel;
+import com.codemagic.catalog.admin.infrastructure.services.StorageService;
+import com.codemagic.catalog.admin.infrastructure.services.UrlSigner;
+import com.codemagic.catalog.admin.infrastructure.video.persistence.MediaBlobJpaEntity;
+import com.codemagic.catalog.admin.infrastructure.video.persistence.MediaBlobRepository;
+import com.codemagic.catalog.admin.infrastructure.video.persistence.VideoMediaManifestID;
+import com.codemagic.catalog.admin.infrastructure.video.persistence.VideoMediaManifestJpaEntity;
+import com.codemagic.catalog.admin.infrastructure.video.persistence.VideoMediaManifestRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+@Component
+@ConditionalOnProperty(prefix = "storage.catalog-media", name = "content-addressed", havingValue = "true")
+public class ContentAddressedMediaResourceGateway implements MediaResourceGateway {
+
+    private static final String BLOBS_FOLDER = "blobs/";
+    private static final String DIRECT_UPLOADS_FOLDER = "uploads/direct/";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final boolean verifyChecksum;
+    private final Duration signedUrlTtl;
+    private final StorageService service;
+    private final UrlSigner signer;
+    private final MediaCleanupQueue cleanupQueue;
+    private final MediaBlobRepository blobRepository;
+    private final VideoMediaManifestRepository manifestRepository;
+    private final TransactionTemplate transaction;
+
+    public ContentAddressedMediaResourceGateway(
+            final StorageProperties props,
+            final StorageService service,
+            final ObjectProvider<UrlSigner> signers,
+            final MediaCleanupQueue cleanupQueue,
+            final MediaBlobRepository blobRepository,
+            final VideoMediaManifestRepository manifestRepository,
+            final PlatformTransactionManager transactionManager) {
+        this.verifyChecksum = props.isVerifyChecksum();
+        this.signedUrlTtl = props.getSignedUrlTtl();
+        this.service = Objects.requireNonNull(service);
+        this.signer = MediaChecks.signer(props, signers);
+        this.cleanupQueue = Objects.requireNonNull(cleanupQueue);
+        this.blobRepository = Objects.requireNonNull(blobRepository);
+        this.manifestRepository = Objects.requireNonNull(manifestRepository);
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public AudioMediaVideo storeAudioVideo(final VideoID id, final VideoResource videoResource) {
+        final var resource = videoResource.resource();
+        final var blob = store(id, videoResource.type(), resource);
+        return AudioMediaVideo.with(blob.getChecksum(), resource.name(), blob.getLocation());
+    }
+
+    @Override
+    public ImageMedia storeImage(final VideoID id, final VideoResource videoResource) {
+        final var resource = videoResource.resource();
+        final var blob = store(id, videoResource.type(), resource);
+        return ImageMedia.with(blob.getChecksum(), resource.name(), blob.getLocation());
+    }
+
+    @Override
+    public void clear(final VideoID id) {
+        this.transaction.executeWithoutResult(status -> {
+            final var entries = this.manifestRepository.findAllByIdVideoId(id.getValue());
+            this.manifestRepository.deleteAll(entries);
+            this.manifestRepository.flush();
+
+            entries.stream()
+                    .map(VideoMediaManifestJpaEntity::getBlobId)
+                    .distinct()
+                    .forEach(this::release);
+        });
+    }
+
+    @Override
+    public Optional<Resource> getResource(final VideoID id, final VideoResourceType type) {
+        return location(id, type).flatMap(this.service::get);
+    }
+
+    @Override
+    public SignedUrl signUpload(final VideoID id, final VideoResourceType type, final String contentType) {
+        return MediaChecks.requireSigner(this.signer).signUpload(directUpload(id, type), contentType, this.signedUrlTtl);
+    }
+
+    @Override
+    public Optional<SignedUrl> signDownload(final VideoID id, final VideoResourceType type) {
+        final var signer = MediaChecks.requireSigner(this.signer);
+        return location(id, type)
+                .map(location -> signer.signDownload(location, this.signedUrlTtl));
+    }
+
+    @Override
+    public Optional<AudioMediaVideo> linkAudioVideo(
+            final VideoID id,
+            final VideoResourceType type,
+            final String name,
+            final String checksum) {
+        return linkDirectUpload(id, type, name, checksum)
+                .map(blob -> AudioMediaVideo.with(blob.getChecksum(), name, blob.getLocation()));
+    }
+
+    @Override
+    public Optional<ImageMedia> linkImage(
+            final VideoID id,
+            final VideoResourceType type,
+            final String name,
+            final String checksum) {
+        return linkDirectUpload(id, type, name, checksum)
+                .map(blob -> ImageMedia.with(blob.getChecksum(), name, blob.getLocation()));
+    }
+
+    private Optional<String> location(final VideoID id, final VideoResourceType type) {
+        return this.manifestRepository.findById(VideoMediaManifestID.from(id.getValue(), type.name()))
+                .flatMap(entry -> this.blobRepository.findById(entry.getBlobId()))
+                .map(MediaBlobJpaEntity::getLocation);
+    }
+
+    private Optional<MediaBlobJpaEntity> linkDirectUpload(
+            final VideoID id,
+            final VideoResourceType type,
+            final String name,
+            final String checksum) {
+        final var location = directUpload(id, type);
+        return this.service.get(location).map(uploaded -> {
+            try {
+                // The bytes are already in the store, so they are only read to be hashed and a new blob is moved
+                final var digest = Digest.of(uploaded, null);
+                MediaChecks.verify(this.verifyChecksum, name, checksum, digest.checksum());
+                return linkKnown(id, type, digest).orElseGet(() -> {
+                    final var blob = BLOBS_FOLDER.concat(IdentifierUtil.uuid());
+                    this.service.move(location, blob);
+                    return linkNew(id, type, MediaBlobJpaEntity.with(digest.sha256(), digest.checksum(), digest.length(), blob));
+                });
+            } finally {
+                this.service.deleteAll(Set.of(location));
+            }
+        });
+    }
+
+    private String directUpload(final VideoID id, final VideoResourceType type) {
+        return DIRECT_UPLOADS_FOLDER.concat(id.getValue()).concat("/").concat(type.name());
+    }
+
+    private MediaBlobJpaEntity store(final VideoID id, final VideoResourceType type, final Resource resource) {
+        try (final var spool = Spool.of(resource)) {
+            final var digest = spool.digest();
+            MediaChecks.verify(this.verifyChecksum, resource.name(), resource.checksum(), digest.checksum());
+
+            return linkKnown(id, type, digest).orElseGet(() -> {
+                final var location = BLOBS_FOLDER.concat(IdentifierUtil.uuid());
+                final var checksum = this.service.store(location, spool.resource());
+                MediaChecks.verify(this.service, true, location, resource.name(), digest.checksum(), checksum);
+                return linkNew(id, type, MediaBlobJpaEntity.with(digest.sha256(), checksum, digest.length(), location));
+            });
+        }
+    }
+
+    /**
+     * Known content only gains a manifest entry, its bytes are never written to the store again.
+     */
+    private Optional<MediaBlobJpaEntity> linkKnown(final VideoID id, final VideoResourceType type, final Digest digest) {
+        return Optional.ofNullable(this.transaction.execute(status -> this.blobRepository.findLockedById(digest.sha256())
+                .map(blob -> linkEntry(id, type, blob))
+                .orElse(null)));
+    }
+
+    private MediaBlobJpaEntity linkNew(final VideoID id, final VideoResourceType type, final MediaBlobJpaEntity uploaded) {
+        final var location = uploaded.getLocation();
+        MediaBlobJpaEntity linked = null;
+        try {
+            linked = link(id, type, uploaded);
+            return linked;
+        } finally {
+            if (linked == null || !location.equals(linked.getLocation())) {
+                this.service.deleteAll(Set.of(location));
+            }
+        }
+    }
+
+    private MediaBlobJpaEntity link(final VideoID id, final VideoResourceType type, final MediaBlobJpaEntity uploaded) {
+        try {
+            return this.transaction.execute(status -> linkEntry(id, type, this.blobRepository.findLockedById(uploaded.getId())
+                    .orElseGet(() -> this.blobRepository.saveAndFlush(uploaded))));
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent first upload of the same content inserted the blob row first, so link to that one
+            return this.transaction.execute(status -> linkEntry(id, type, this.blobRepository.findLockedById(uploaded.getId())
+                    .orElseThrow(() -> e)));
+        }
+    }
+
+    private MediaBlobJpaEntity linkEntry(final VideoID id, final VideoResourceType type, final MediaBlobJpaEntity blob) {
+        final var entry = VideoMediaManifestJpaEntity.with(id, type, blob.getId());
+        final var previous = this.manifestRepository.findById(entry.getId())
+                .map(VideoMediaManifestJpaEntity::getBlobId)
+                .filter(blobId -> !blobId.equals(blob.getId()));
+
+        this.manifestRepository.saveAndFlush(entry);
+        previous.ifPresent(this::release);
+        return blob;
+    }
+
+    private void release(final String blobId) {
+        this.blobRepository.findLockedById(blobId)
+                .filter(blob -> this.manifestRepository.countByBlobId(blobId) == 0)
+                .ifPresent(blob -> {
+                    this.blobRepository.delete(blob);
+                    this.cleanupQueue.enqueueObjects(Set.of(blob.getLocation()));
+                });
+    }
+
+    private record Digest(String sha256, String checksum, long length) {
+
+        /**
+         * Reads the content once, computing its SHA-256 and CRC32C and copying it to the given sink when there is one.
+         */
+        private static Digest of(final Resource resource, final WritableByteChannel sink) {
+            final var sha256 = sha256();
+            try (final var channel = new ChecksumChannel(resource.channel())) {
+                final var buffer = ByteBuffer.allocate(BUFFER_SIZE);
+                var length = 0L;
+                while (channel.read(buffer) >= 0) {
+                    buffer.flip();
+                    sha256.update(buffer.duplicate());
+                    length += buffer.remaining();
+                    while (sink != null && buffer.hasRemaining()) {
+                        sink.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                return new Digest(HexFormat.of().formatHex(sha256.digest()), channel.checksum(), length);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static MessageDigest sha256() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Hashes a resource before anything is written to the store. Streamed content is copied to a local temporary file
+     * on the way, so it can still be stored when it turns out to be new; content already in memory is hashed in place.
+     * The resource to store carries the computed checksum, which the store checks the written bytes against.
+     */
+    private static final class Spool implements AutoCloseable {
+
+        private final Resource resource;
+        private final Digest digest;
+        private final Path file;
+
+        private Spool(final Resource resource, final Digest digest, final Path file) {
+            this.resource = resource;
+            this.digest = digest;
+            this.file = file;
+        }
+
+        private static Spool of(final Resource resource) {
+            if (!resource.isStreaming()) {
+                final var digest = Digest.of(resource, null);
+                return new Spool(Resource.with(digest.checksum(), resource.content(), resource.contentType(), resource.name()),
+                        digest, null);
+            }
+
+            final Path file;
+            try {
+                file = Files.createTempFile("media-", ".spool");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            try (final var sink = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                final var digest = Digest.of(resource, sink);
+                return new Spool(Resource.with(digest.checksum(), () -> FileChannel.open(file, StandardOpenOption.READ),
+                        digest.length(), resource.contentType(), resource.name()), digest, file);
+            } catch (IOException e) {
+                deleteQuietly(file);
+                throw new UncheckedIOException(e);
+            } catch (RuntimeException e) {
+                deleteQuietly(file);
+                throw e;
+            }
+        }
+
+        private Resource resource() {
+            return this.resource;
+        }
+
+        private Digest digest() {
+            return this.digest;
+        }
+
+        @Override
+        public void close() {
+            deleteQuietly(this.file);
+        }
+
+        private static void deleteQuietly(final Path file) {
+            if (file == null) {
+                return;
+            }
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                file.toFile().deleteOnExit();
+            }
+        }
+    }
+}
@@ -1,46 +1,63 @@
 package com.codemagic.catalog.admin.infrastructure.video;
 
 import com.codemagic.catalog.admin.domain.resource.Resource;
+import com.codemagic.catalog.admin.domain.resource.SignedUrl;
 import com.codemagic.catalog.admin.domain.video.*;
 import com.codemagic.catalog.admin.infrastructure.configuration.properties.storage.StorageProperties;
 import com.codemagic.catalog.admin.infrastructure.services.StorageService;
+import com.codemagic.catalog.admin.infrastructure.services.UrlSigner;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.Optional;
 
 @Component
+@ConditionalOnProperty(prefix = "storage.catalog-media", name = "content-addressed", havingValue = "false", matchIfMissing = true)
 public class DefaultMediaResourceGateway implements MediaResourceGateway {
 
     private final String filenamePattern;
     private final String locationPattern;
+    private final boolean verifyChecksum;
+    private final Duration signedUrlTtl;
     private final StorageService service;
+    private final UrlSigner signer;
+    private final MediaCleanupQueue cleanupQueue;
 
-    public DefaultMediaResourceGateway(final StorageProperties props, final StorageService service) {
+    public DefaultMediaResourceGateway(
+            final StorageProperties props,
+            final StorageService service,
+            final ObjectProvider<UrlSigner> signers,
+            final MediaCleanupQueue cleanupQueue) {
         this.filenamePattern = props.getFilenamePattern();
         this.locationPattern = props.getLocationPattern();
+        this.verifyChecksum = props.isVerifyChecksum();
+        this.signedUrlTtl = props.getSignedUrlTtl();
         this.service = service;
+        this.signer = MediaChecks.signer(props, signers);
+        this.cleanupQueue = cleanupQueue;
     }
 
     @Override
     public AudioMediaVideo storeAudioVideo(final VideoID id, final VideoResource videoResource) {
         final var filepath = filepath(id, videoResource.type());
         final var resource = videoResource.resource();
-        store(filepath, resource);
-        return AudioMediaVideo.with(resource.checksum(), resource.name(), filepath);
+        final var checksum = store(filepath, resource);
+        return AudioMediaVideo.with(checksum, resource.name(), filepath);
     }
 
     @Override
     public ImageMedia storeImage(VideoID id, VideoResource videoResource) {
         final var filepath = filepath(id, videoResource.type());
         final var resource = videoResource.resource();
-        store(filepath, resource);
-        return ImageMedia.with(resource.checksum(), resource.name(), filepath);
+        final var checksum = store(filepath, resource);
+        return ImageMedia.with(checksum, resource.name(), filepath);
     }
 
     @Override
     public void clear(final VideoID id) {
-        final var ids = this.service.list(folder(id));
-        this.service.deleteAll(ids);
+        this.cleanupQueue.enqueuePrefix(folder(id));
     }
 
     @Override
@@ -48,8 +65,59 @@ public class DefaultMediaResourceGateway implements MediaResourceGateway {
         return this.service.get(filepath(id, type));
     }
 
-    private void store(final String filepath, final Resource resource) {
-        this.service.store(filepath,resource);
+    @Override
+    public SignedUrl signUpload(final VideoID id, final VideoResourceType type, final String contentType) {
+        return MediaChecks.requireSigner(this.signer).signUpload(filepath(id, type), contentType, this.signedUrlTtl);
+    }
+
+    @Override
+    public Optional<SignedUrl> signDownload(final VideoID id, final VideoResourceType type) {
+        final var signer = MediaChecks.requireSigner(this.signer);
+        final var filepath = filepath(id, type);
+        return this.service.get(filepath)
+                .map(resource -> signer.signDownload(filepath, this.signedUrlTtl));
+    }
+
+    @Override
+    public Optional<AudioMediaVideo> linkAudioVideo(
+            final VideoID id,
+            final VideoResourceType type,
+            final String name,
+            final String checksum) {
+        final var filepath = filepath(id, type);
+        return this.service.get(filepath)
+                .map(resource -> AudioMediaVideo.with(verify(filepath, name, checksum, resource.checksum()), name, filepath));
+    }
+
+    @Override
+    public Optional<ImageMedia> linkImage(
+            final VideoID id,
+            final VideoResourceType type,
+            final String name,
+            final String checksum) {
+        final var filepath = filepath(id, type);
+        return this.service.get(filepath)
+                .map(resource -> ImageMedia.with(verify(filepath, name, checksum, resource.checksum()), name, filepath));
+    }
+
+    private String store(final String filepath, final Resource resource) {
+        // Written straight to its key, the store refuses content not matching the expected checksum and keeps the
+        // media currently served, so a corrupted upload is only reported
+        final var checksum = this.service.store(filepath, this.verifyChecksum ? resource : withoutChecksum(resource));
+        return MediaChecks.verify(this.verifyChecksum, resource.name(), resource.checksum(), checksum);
+    }
+
+    private static Resource withoutChecksum(final Resource resource) {
+        if (!resource.hasChecksum()) {
+            return resource;
+        }
+        return resource.isStreaming()
+                ? Resource.with(null, resource::channel, resource.length(), resource.contentType(), resource.name())
+                : Resource.with(null, resource.content(), resource.contentType(), resource.name());
+    }
+
+    private String verify(final String filepath, final String name, final String expected, final String checksum) {
+        return MediaChecks.verify(this.service, this.verifyChecksum, filepath, name, expected, checksum);
     }
 
     private String filename(final VideoResourceType type) {
@@ -0,0 +1,212 @@
+package com.codemagic.catalog.admin.infrastructure.video;
+
+import com.codemagic.catalog.admin.domain.exceptions.DomainException;
+import com.codemagic.catalog.admin.domain.resource.Resource;
+import com.codemagic.catalog.admin.domain.validation.Error;
+import com.codemagic.catalog.admin.domain.video.*;
+import com.codemagic.catalog.admin.infrastructure.configuration.properties.storage.StorageProperties;
+import com.codemagic.catalog.admin.infrastructure.services.StorageObject;
+import com.codemagic.catalog.admin.infrastructure.services.StorageService;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+public class DefaultUploadSessionGateway implements UploadSessionGateway {
+
+    private static final String SESSIONS_FOLDER = "uploads/";
+    private static final String SESSION_FILE = "session";
+    private static final String PART_PREFIX = "part-";
+    private static final String ASSEMBLED_FILE = "assembled";
+    private static final Pattern PART_NAME = Pattern.compile(".*/part-(\\d+)-(\\d+)$");
+
+    private final String filenamePattern;
+    private final String locationPattern;
+    private final boolean verifyChecksum;
+    private final boolean contentAddressed;
+    private final Duration sessionTtl;
+    private final StorageService service;
+    private final MediaResourceGateway mediaResourceGateway;
+
+    public DefaultUploadSessionGateway(
+            final StorageProperties props,
+            final StorageService service,
+            final MediaResourceGateway mediaResourceGateway) {
+        this.filenamePattern = props.getFilenamePattern();
+        this.locationPattern = props.getLocationPattern();
+        this.verifyChecksum = props.isVerifyChecksum();
+        this.contentAddressed = props.isContentAddressed();
+        this.sessionTtl = props.getUploadSessionTtl();
+        this.service = Objects.requireNonNull(service);
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+    }
+
+    @Override
+    public UploadSession create(final UploadSession session) {
+        final var props = new Properties();
+        props.setProperty("videoId", session.videoId().getValue());
+        props.setProperty("type", session.type().name());
+        props.setProperty("name", session.name());
+        props.setProperty("contentType", session.contentType());
+        props.setProperty("length", String.valueOf(session.length()));
+        if (session.checksum() != null) {
+            props.setProperty("checksum", session.checksum());
+        }
+
+        final var content = new StringWriter();
+        try {
+            props.store(content, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        this.service.store(
+                folder(session.id()).concat(SESSION_FILE),
+                Resource.with(null, content.toString().getBytes(StandardCharsets.UTF_8), "text/plain", SESSION_FILE)
+        );
+        return session;
+    }
+
+    @Override
+    public Optional<UploadSession> findById(final String id) {
+        if (id == null || !id.matches("[0-9a-f]{32}")) {
+            return Optional.empty();
+        }
+
+        final List<StorageObject> objects;
+        try (final var stream = this.service.objects(folder(id))) {
+            objects = stream.toList();
+        }
+
+        // Sessions idle past the TTL are left to the orphan sweeper, resuming them could race its deletes
+        final var cutoff = Instant.now().minus(this.sessionTtl);
+        if (objects.stream().noneMatch(object -> object.updatedAt().isAfter(cutoff))) {
+            return Optional.empty();
+        }
+
+        return this.service.get(folder(id).concat(SESSION_FILE))
+                .map(resource -> toSession(id, resource, objects));
+    }
+
+    @Override
+    public UploadSession storeChunk(final UploadSession session, final long offset, final Resource chunk) {
+        final var part = UploadSession.Range.of(offset, chunk.length());
+        final var name = partName(session.id(), part);
+
+        this.service.store(name, chunk);
+
+        final var stored = this.service.get(name).map(Resource::length).orElse(Resource.UNKNOWN_LENGTH);
+        if (stored != part.length()) {
+            this.service.deleteAll(Set.of(name));
+            throw DomainException.with(new Error("Chunk at offset %d declared %d bytes but %d were received"
+                    .formatted(offset, part.length(), stored)));
+        }
+
+        return findById(session.id()).orElse(session.withPart(part));
+    }
+
+    @Override
+    public AudioMediaVideo completeAudioVideo(final UploadSession session) {
+        final AudioMediaVideo media;
+        if (this.contentAddressed) {
+            media = this.mediaResourceGateway.storeAudioVideo(session.videoId(), assemble(session));
+        } else {
+            final var location = filepath(session.videoId(), session.type());
+            media = AudioMediaVideo.with(compose(session, location), session.name(), location);
+        }
+
+        discard(session);
+        return media;
+    }
+
+    @Override
+    public ImageMedia completeImage(final UploadSession session) {
+        final ImageMedia media;
+        if (this.contentAddressed) {
+            media = this.mediaResourceGateway.storeImage(session.videoId(), assemble(session));
+        } else {
+            final var location = filepath(session.videoId(), session.type());
+            media = ImageMedia.with(compose(session, location), session.name(), location);
+        }
+
+        discard(session);
+        return media;
+    }
+
+    private VideoResource assemble(final UploadSession session) {
+        final var location = folder(session.id()).concat(ASSEMBLED_FILE);
+        compose(session, location);
+        final var resource = this.service.get(location)
+                .orElseThrow(() -> new IllegalStateException("Assembled upload %s was not found".formatted(location)));
+        return VideoResource.with(resource, session.type());
+    }
+
+    private String compose(final UploadSession session, final String location) {
+        final var parts = session.assemblyParts().stream()
+                .map(part -> partName(session.id(), part))
+                .toList();
+
+        final var checksum = this.service.compose(location, session.contentType(), session.name(), parts);
+
+        return MediaChecks.verify(this.service, this.verifyChecksum, location, session.name(), session.checksum(), checksum);
+    }
+
+    private void discard(final UploadSession session) {
+        this.service.deleteAll(this.service.list(folder(session.id())));
+    }
+
+    private UploadSession toSession(final String id, final Resource resource, final List<StorageObject> objects) {
+        final var props = new Properties();
+        try {
+            props.load(new StringReader(new String(resource.content(), StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final var parts = objects.stream()
+                .map(StorageObject::name)
+                .filter(name -> name.startsWith(folder(id).concat(PART_PREFIX)))
+                .map(PART_NAME::matcher)
+                .filter(Matcher::matches)
+                .map(matcher -> UploadSession.Range.of(Long.parseLong(matcher.group(1)), Long.parseLong(matcher.group(2))))
+                .toList();
+
+        return UploadSession.with(
+                id,
+                VideoID.from(props.getProperty("videoId")),
+                VideoResourceType.valueOf(props.getProperty("type")),
+                props.getProperty("name"),
+                props.getProperty("contentType"),
+                Long.parseLong(props.getProperty("length")),
+                props.getProperty("checksum"),
+                parts
+        );
+    }
+
+    private String folder(final String sessionId) {
+        return SESSIONS_FOLDER.concat(sessionId).concat("/");
+    }
+
+    private String partName(final String sessionId, final UploadSession.Range part) {
+        return "%s%s%020d-%d".formatted(folder(sessionId), PART_PREFIX, part.offset(), part.length());
+    }
+
+    private String filepath(final VideoID id, final VideoResourceType type) {
+        return locationPattern.replace("{videoId}", id.getValue())
+                .concat("/")
+                .concat(filenamePattern.replace("{type}", type.name()));
+    }
+}
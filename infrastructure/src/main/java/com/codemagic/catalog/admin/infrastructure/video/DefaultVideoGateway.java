@@ -1,41 +1,90 @@
 package com.codemagic.catalog.admin.infrastructure.video;
 
-import com.codemagic.catalog.admin.domain.Identifier;
 import com.codemagic.catalog.admin.domain.pagination.Pagination;
+import com.codemagic.catalog.admin.domain.pagination.TotalMode;
+import com.codemagic.catalog.admin.domain.util.InstantUtil;
 import com.codemagic.catalog.admin.domain.video.*;
+import com.codemagic.catalog.admin.infrastructure.pagination.Keyset;
+import com.codemagic.catalog.admin.infrastructure.pagination.OffsetSlice;
+import com.codemagic.catalog.admin.infrastructure.pagination.Totals;
+import com.codemagic.catalog.admin.infrastructure.search.FullTextSearch;
 import com.codemagic.catalog.admin.infrastructure.video.persistence.VideoJpaEntity;
+import com.codemagic.catalog.admin.infrastructure.video.persistence.VideoPreviewFilter;
 import com.codemagic.catalog.admin.infrastructure.video.persistence.VideoRepository;
+import com.codemagic.catalog.admin.infrastructure.video.search.LuceneVideoIndex;
+import com.codemagic.catalog.admin.infrastructure.video.search.VideoBitmapIndex;
+import com.codemagic.catalog.admin.infrastructure.video.search.VideoDocument;
 import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-
-import static com.codemagic.catalog.admin.domain.util.CollectionUtil.mapTo;
-import static com.codemagic.catalog.admin.domain.util.CollectionUtil.nullIfEmpty;
-import static com.codemagic.catalog.admin.domain.util.SQLUtil.like;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
 
 @Component
 public class DefaultVideoGateway implements VideoGateway {
 
+    private static final Logger log = LoggerFactory.getLogger(DefaultVideoGateway.class);
+
+    private static final Map<String, Function<VideoPreview, Object>> KEYSET_SORTS = Map.of(
+            "title", VideoPreview::title,
+            "createdAt", VideoPreview::createdAt
+    );
+
+    private static final Sort RELEVANCE_SORT = Sort.by(
+            Sort.Order.desc(FullTextSearch.RELEVANCE),
+            Sort.Order.asc("title"),
+            Sort.Order.asc("id")
+    );
+
     private final VideoRepository repository;
+    private final Totals totals;
+    private final FullTextSearch search;
+    private final Optional<LuceneVideoIndex> index;
+    private final Optional<VideoBitmapIndex> bitmaps;
 
-    public DefaultVideoGateway(final VideoRepository repository) {
+    public DefaultVideoGateway(
+            final VideoRepository repository,
+            final JdbcTemplate jdbcTemplate,
+            final Optional<LuceneVideoIndex> index,
+            final Optional<VideoBitmapIndex> bitmaps,
+            @Value("${search.full-text:false}") final boolean fullText) {
         this.repository = Objects.requireNonNull(repository);
+        this.totals = new Totals(jdbcTemplate, "videos");
+        this.index = Objects.requireNonNull(index);
+        this.bitmaps = Objects.requireNonNull(bitmaps);
+        this.search = new FullTextSearch(fullText);
     }
 
     @Override
     @Transactional
     public Video create(final Video video) {
-        return save(video);
+        return index(save(VideoJpaEntity.from(video).markNew()));
     }
 
     @Override
     @Transactional
     public Video update(final Video video) {
-        return save(video);
+        final var entity = this.repository.findById(video.getId().getValue())
+                .map(existing -> existing.update(video))
+                .orElseGet(() -> VideoJpaEntity.from(video));
+        return index(save(entity));
+    }
+
+    @Override
+    public boolean existsById(final VideoID videoId) {
+        return this.repository.existsById(videoId.getValue());
     }
 
     @Override
@@ -48,18 +97,42 @@ public class DefaultVideoGateway implements VideoGateway {
 
     @Override
     public Pagination<VideoPreview> findAll(final VideoSearchQuery query) {
-        final var page = PageRequest.of(
-                query.page(),
-                query.perPage(),
-                Sort.by(Sort.Direction.fromString(query.direction()), query.sort())
-        );
+        if (this.index.isPresent() && isIndexed(query)) {
+            final var exact = Totals.resolve(query.totalMode(), true) == TotalMode.EXACT;
+            return this.index.get().search(query, exact);
+        }
+
+        if (this.bitmaps.isPresent() && this.bitmaps.get().isReady() && VideoBitmapIndex.supports(query)) {
+            return findAllByBitmaps(query, this.bitmaps.get());
+        }
+
+        final var filter = VideoPreviewFilter.from(query, this.search);
+        final var mode = Totals.resolve(query.totalMode(), !filter.isEmpty());
+        final LongSupplier count = () -> this.repository.countPreviews(filter);
+
+        if (query.isCursor()) {
+            final var keyset = Keyset.of(KEYSET_SORTS, VideoPreview::id,
+                    query.perPage(), query.sort(), query.direction(), query.after());
+            return this.totals.apply(keyset.page(this.repository.seekPreviews(filter, keyset)), mode, count);
+        }
+
+        final var relevance = FullTextSearch.isRelevance(query.sort());
+        final var sort = relevance
+                ? RELEVANCE_SORT
+                : Sort.by(Sort.Direction.fromString(query.direction()), query.sort());
+
+        if (mode != TotalMode.EXACT || relevance || filter.match() != null || filter.hasAttributeFilters()) {
+            final var rows = this.repository.slicePreviews(
+                    filter, sort, (long) query.page() * query.perPage(), query.perPage() + 1);
+            return this.totals.apply(OffsetSlice.of(query.page(), query.perPage(), rows), mode, count);
+        }
 
         final var actualPage = this.repository.findAll(
-                like(query.terms()),
-                nullIfEmpty(mapTo(query.members(), Identifier::getValue)),
-                nullIfEmpty(mapTo(query.categories(), Identifier::getValue)),
-                nullIfEmpty(mapTo(query.genres(), Identifier::getValue)),
-                page
+                filter.terms(),
+                filter.members(),
+                filter.categories(),
+                filter.genres(),
+                PageRequest.of(query.page(), query.perPage(), sort)
         );
 
         return new Pagination<>(
@@ -70,16 +143,106 @@ public class DefaultVideoGateway implements VideoGateway {
         );
     }
 
+    @Override
+    public VideoFacets facets(final VideoSearchQuery query) {
+        return this.repository.facets(VideoPreviewFilter.from(query, this.search), query.facets());
+    }
+
     @Override
     @Transactional
     public void deleteById(final VideoID videoId) {
         this.repository.deleteById(videoId.getValue());
+        this.index.ifPresent(index -> afterCommit(() -> index.delete(videoId.getValue())));
+        this.bitmaps.ifPresent(bitmaps -> afterCommit(() -> bitmaps.remove(videoId.getValue())));
     }
 
-    private Video save(final Video video) {
+    @Override
+    @Transactional
+    public boolean updateMediaStatus(
+            final VideoID videoId,
+            final String resourceId,
+            final MediaStatus status,
+            final String encodedPath
+    ) {
+        final var predecessors = status.predecessors();
+        if (predecessors.isEmpty()) {
+            return false;
+        }
+
+        final var id = videoId.getValue();
+        if (this.repository.updateMediaStatus(id, resourceId, status, predecessors, encodedPath) == 0) {
+            return false;
+        }
+
+        final var updatedAt = InstantUtil.now();
+        this.repository.touch(id, updatedAt);
+
+        // Only updatedAt of the indexed document changes, bitmap membership does not depend on media status
+        this.index.ifPresent(index -> afterCommit(() -> index.touch(id, updatedAt)));
+        return true;
+    }
+
+    private Video save(final VideoJpaEntity video) {
         return this.repository
-                .save(VideoJpaEntity.from(video))
+                .save(video)
                 .toDomain();
     }
 
+    private Video index(final Video video) {
+        this.index.ifPresent(index -> afterCommit(() -> index.index(VideoDocument.from(video))));
+        this.bitmaps.ifPresent(bitmaps -> afterCommit(() -> bitmaps.put(VideoDocument.from(video))));
+        return video;
+    }
+
+    private Pagination<VideoPreview> findAllByBitmaps(final VideoSearchQuery query, final VideoBitmapIndex bitmaps) {
+        final var hits = bitmaps.search(query);
+        final var previews = hits.ids().isEmpty()
+                ? Map.<String, VideoPreview>of()
+                : this.repository.findPreviews(hits.ids()).stream()
+                        .collect(Collectors.toMap(VideoPreview::id, Function.identity()));
+
+        final var rows = hits.ids().stream()
+                .map(previews::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        final var page = OffsetSlice.of(query.page(), query.perPage(), rows);
+        return Totals.resolve(query.totalMode(), true) == TotalMode.NONE
+                ? page
+                : page.withTotal(hits.total(), TotalMode.EXACT);
+    }
+
+    private static boolean isIndexed(final VideoSearchQuery query) {
+        return query.terms() != null
+                && !query.terms().isBlank()
+                && !query.isCursor()
+                && query.launchYears().isUnbounded()
+                && query.durations().isUnbounded()
+                && query.published() == null
+                && query.opened() == null
+                && LuceneVideoIndex.supports(query.sort());
+    }
+
+    private static void afterCommit(final Runnable action) {
+        final Runnable guarded = () -> {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                log.warn("Video search index is out of sync with the database until it is rebuilt", e);
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            guarded.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                guarded.run();
+            }
+        });
+    }
+
 }
@@ -0,0 +1,71 @@
+package com.codemagic.catalog.admin.infrastructure.video;
+
+import com.codemagic.catalog.admin.domain.exceptions.DomainException;
+import com.codemagic.catalog.admin.domain.util.ChecksumUtil;
+import com.codemagic.catalog.admin.domain.validation.Error;
+import com.codemagic.catalog.admin.infrastructure.configuration.properties.storage.StorageProperties;
+import com.codemagic.catalog.admin.infrastructure.services.StorageService;
+import com.codemagic.catalog.admin.infrastructure.services.UrlSigner;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Set;
+
+final class MediaChecks {
+
+    private MediaChecks() {
+    }
+
+    /**
+     * Resolves the signer once at startup, so enabling signed URLs without an object store able to sign them fails
+     * the boot instead of handing out URLs nothing serves. Returns null while signed URLs are disabled.
+     */
+    static UrlSigner signer(final StorageProperties props, final ObjectProvider<UrlSigner> signers) {
+        if (!props.isSignedUrls()) {
+            return null;
+        }
+
+        final var signer = signers.getIfAvailable();
+        if (signer == null) {
+            throw new IllegalStateException("storage.catalog-media.signed-urls requires an object store that signs URLs");
+        }
+        return signer;
+    }
+
+    static UrlSigner requireSigner(final UrlSigner signer) {
+        if (signer == null) {
+            throw DomainException.with(new Error("Signed URLs are disabled"));
+        }
+        return signer;
+    }
+
+    /**
+     * Deletes what was stored under the given location and rejects it when the client sent a checksum the stored
+     * bytes do not match.
+     */
+    static String verify(
+            final StorageService service,
+            final boolean enabled,
+            final String location,
+            final String name,
+            final String expected,
+            final String actual) {
+        try {
+            return verify(enabled, name, expected, actual);
+        } catch (DomainException e) {
+            service.deleteAll(Set.of(location));
+            throw e;
+        }
+    }
+
+    /**
+     * Rejects content the client sent a checksum for that the computed one does not match, before it is stored.
+     */
+    static String verify(final boolean enabled, final String name, final String expected, final String actual) {
+        if (enabled && expected != null && !expected.isBlank() && !ChecksumUtil.matches(expected, actual)) {
+            throw DomainException.with(new Error("Checksum mismatch for %s: expected %s but was %s"
+                    .formatted(name, expected, actual)));
+        }
+
+        return actual;
+    }
+}
@@ -0,0 +1,166 @@
+package com.codemagic.catalog.admin.infrastructure.video;
+
+import com.codemagic.catalog.admin.infrastructure.configuration.properties.storage.StorageProperties;
+import com.codemagic.catalog.admin.infrastructure.services.StorageService;
+import com.codemagic.catalog.admin.infrastructure.video.persistence.MediaCleanupTaskJpaEntity;
+import com.codemagic.catalog.admin.infrastructure.video.persistence.MediaCleanupTaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class MediaCleanupQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaCleanupQueue.class);
+
+    private static final int DELETE_BATCH_SIZE = 100;
+    private static final Duration LEASE = Duration.ofMinutes(5);
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(10);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final StorageService service;
+    private final MediaCleanupTaskRepository repository;
+    private final TransactionTemplate transaction;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong dead = new AtomicLong();
+    private final Counter deleted;
+    private final Counter failures;
+
+    public MediaCleanupQueue(
+            final StorageProperties props,
+            final StorageService service,
+            final MediaCleanupTaskRepository repository,
+            final PlatformTransactionManager transactionManager,
+            final MeterRegistry registry) {
+        this.batchSize = props.getCleanupBatchSize();
+        this.maxAttempts = props.getCleanupMaxAttempts();
+        this.service = Objects.requireNonNull(service);
+        this.repository = Objects.requireNonNull(repository);
+        this.transaction = new TransactionTemplate(transactionManager);
+
+        Gauge.builder("media.cleanup.queue.depth", this.pending, AtomicLong::get)
+                .description("Media cleanup tasks waiting to be processed")
+                .register(registry);
+        Gauge.builder("media.cleanup.queue.dead", this.dead, AtomicLong::get)
+                .description("Media cleanup tasks that exhausted their attempts")
+                .register(registry);
+        this.deleted = Counter.builder("media.cleanup.objects.deleted")
+                .description("Storage objects deleted by the media cleanup queue")
+                .register(registry);
+        this.failures = Counter.builder("media.cleanup.failures")
+                .description("Media cleanup task attempts that failed and were rescheduled")
+                .register(registry);
+    }
+
+    public void enqueuePrefix(final String prefix) {
+        this.repository.save(MediaCleanupTaskJpaEntity.prefix(prefix));
+        this.pending.incrementAndGet();
+    }
+
+    public void enqueueObjects(final Set<String> names) {
+        this.repository.saveAll(names.stream().map(MediaCleanupTaskJpaEntity::object).toList());
+        this.pending.addAndGet(names.size());
+    }
+
+    @Scheduled(fixedDelayString = "${storage.catalog-media.cleanup-poll-interval:PT5S}")
+    public void drain() {
+        while (process() == this.batchSize) {
+            log.debug("Media cleanup queue still has due tasks, processing next batch");
+        }
+    }
+
+    public int process() {
+        final var now = Instant.now();
+        final var tasks = claim(now);
+
+        if (!tasks.isEmpty()) {
+            complete(tasks, delete(tasks), now);
+        }
+
+        this.pending.set(this.repository.countByAttemptsLessThan(this.maxAttempts));
+        this.dead.set(this.repository.countByAttemptsGreaterThanEqual(this.maxAttempts));
+        return tasks.size();
+    }
+
+    private List<MediaCleanupTaskJpaEntity> claim(final Instant now) {
+        return this.transaction.execute(status -> {
+            final var tasks = this.repository.findDue(now, this.maxAttempts, PageRequest.of(0, this.batchSize));
+            tasks.forEach(task -> task.setNextAttemptAt(now.plus(LEASE)));
+            return tasks;
+        });
+    }
+
+    private Map<String, String> delete(final List<MediaCleanupTaskJpaEntity> tasks) {
+        final var errors = new HashMap<String, String>();
+        final var owners = new LinkedHashMap<String, List<String>>();
+
+        for (final var task : tasks) {
+            try {
+                final var names = task.isPrefix() ? this.service.list(task.getTarget()) : Set.of(task.getTarget());
+                names.forEach(name -> owners.computeIfAbsent(name, key -> new ArrayList<>()).add(task.getId()));
+            } catch (RuntimeException e) {
+                errors.put(task.getId(), describe(e));
+            }
+        }
+
+        final var names = new ArrayList<>(owners.keySet());
+        for (int from = 0; from < names.size(); from += DELETE_BATCH_SIZE) {
+            final var batch = names.subList(from, Math.min(from + DELETE_BATCH_SIZE, names.size()));
+            try {
+                this.service.deleteAll(new HashSet<>(batch));
+                this.deleted.increment(batch.size());
+            } catch (RuntimeException e) {
+                final var error = describe(e);
+                batch.forEach(name -> owners.get(name).forEach(id -> errors.putIfAbsent(id, error)));
+            }
+        }
+
+        return errors;
+    }
+
+    private void complete(final List<MediaCleanupTaskJpaEntity> tasks, final Map<String, String> errors, final Instant now) {
+        final var done = new ArrayList<String>();
+        final var retries = new ArrayList<MediaCleanupTaskJpaEntity>();
+
+        for (final var task : tasks) {
+            final var error = errors.get(task.getId());
+            if (error == null) {
+                done.add(task.getId());
+            } else {
+                task.failed(error, now.plus(backoff(task.getAttempts() + 1)));
+                retries.add(task);
+                log.warn("Media cleanup of {} failed on attempt {}: {}", task.getTarget(), task.getAttempts(), error);
+            }
+        }
+
+        this.transaction.executeWithoutResult(status -> {
+            this.repository.deleteAllByIdInBatch(done);
+            this.repository.saveAll(retries);
+        });
+        this.failures.increment(retries.size());
+    }
+
+    private static Duration backoff(final int attempts) {
+        final var factor = 1L << Math.min(attempts - 1, 20);
+        final var delay = INITIAL_BACKOFF.multipliedBy(factor);
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private static String describe(final RuntimeException e) {
+        return e.getClass().getSimpleName() + ": " + e.getMessage();
+    }
+}
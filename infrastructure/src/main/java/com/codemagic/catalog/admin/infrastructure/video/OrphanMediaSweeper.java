@@ -0,0 +1,175 @@
+package com.codemagic.catalog.admin.infrastructure.video;
+
+import com.codemagic.catalog.admin.infrastructure.configuration.properties.storage.StorageProperties;
+import com.codemagic.catalog.admin.infrastructure.services.StorageObject;
+import com.codemagic.catalog.admin.infrastructure.services.StorageService;
+import com.codemagic.catalog.admin.infrastructure.video.persistence.MediaBlobRepository;
+import com.codemagic.catalog.admin.infrastructure.video.persistence.VideoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+@Component
+public class OrphanMediaSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(OrphanMediaSweeper.class);
+
+    private static final int SAMPLE_SIZE = 100;
+    private static final List<String> SWEPT_FOLDERS = List.of("blobs/", "uploads/");
+    private static final Pattern UPLOAD_SESSION = Pattern.compile("^(uploads/[0-9a-f]{32}/).+");
+
+    private final boolean dryRun;
+    private final Duration gracePeriod;
+    private final Duration uploadSessionTtl;
+    private final int batchSize;
+    private final Pattern mediaLayout;
+    private final StorageService service;
+    private final VideoRepository videoRepository;
+    private final MediaBlobRepository blobRepository;
+
+    public OrphanMediaSweeper(
+            final StorageProperties props,
+            final StorageService service,
+            final VideoRepository videoRepository,
+            final MediaBlobRepository blobRepository) {
+        this.dryRun = props.isOrphanSweepDryRun();
+        this.gracePeriod = props.getOrphanSweepGracePeriod();
+        this.uploadSessionTtl = props.getUploadSessionTtl();
+        this.batchSize = props.getOrphanSweepBatchSize();
+        this.mediaLayout = layout(props.getLocationPattern(), props.getFilenamePattern());
+        this.service = Objects.requireNonNull(service);
+        this.videoRepository = Objects.requireNonNull(videoRepository);
+        this.blobRepository = Objects.requireNonNull(blobRepository);
+    }
+
+    @Scheduled(cron = "${storage.catalog-media.orphan-sweep-cron:-}")
+    public void scheduledSweep() {
+        sweep(this.dryRun);
+    }
+
+    public OrphanSweepReport sweep(final boolean dryRun) {
+        final var cutoff = Instant.now().minus(this.gracePeriod);
+        final var sessionCutoff = Instant.now().minus(this.uploadSessionTtl);
+        final var sessionActivity = new HashMap<String, Instant>();
+        final var sweep = new Sweep(dryRun);
+        final var batch = new ArrayList<String>(this.batchSize);
+
+        try (final var objects = this.service.objects("")) {
+            objects.forEach(object -> {
+                sweep.scanned++;
+                if (!isSweepable(object)) {
+                    sweep.ignored++;
+                } else if (object.updatedAt().isAfter(cutoff)
+                        || lastUploadActivity(object, sessionActivity).isAfter(sessionCutoff)) {
+                    sweep.recent++;
+                } else {
+                    batch.add(object.name());
+                    if (batch.size() >= this.batchSize) {
+                        sweep(batch, sweep);
+                        batch.clear();
+                    }
+                }
+            });
+        }
+        sweep(batch, sweep);
+
+        final var report = sweep.report();
+        log.info("Orphan media sweep {}: scanned={}, ignored={}, recent={}, referenced={}, orphans={}, deleted={}, sample={}",
+                dryRun ? "dry run" : "finished", report.scanned(), report.ignored(), report.recent(),
+                report.referenced(), report.orphans(), report.deleted(), report.sample());
+        return report;
+    }
+
+    private void sweep(final List<String> candidates, final Sweep sweep) {
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        final var referenced = new HashSet<String>();
+        referenced.addAll(this.videoRepository.findReferencedAudioVideoPaths(candidates));
+        referenced.addAll(this.videoRepository.findReferencedImagePaths(candidates));
+        referenced.addAll(this.blobRepository.findReferencedLocations(candidates));
+
+        final var orphans = new HashSet<String>();
+        for (final var name : candidates) {
+            if (!referenced.contains(name)) {
+                orphans.add(name);
+                if (sweep.sample.size() < SAMPLE_SIZE) {
+                    sweep.sample.add(name);
+                }
+            }
+        }
+
+        sweep.referenced += candidates.size() - orphans.size();
+        sweep.orphans += orphans.size();
+
+        if (!sweep.dryRun && !orphans.isEmpty()) {
+            this.service.deleteAll(orphans);
+            sweep.deleted += orphans.size();
+        }
+    }
+
+    private boolean isSweepable(final StorageObject object) {
+        final var name = object.name();
+        return SWEPT_FOLDERS.stream().anyMatch(name::startsWith) || this.mediaLayout.matcher(name).matches();
+    }
+
+    /**
+     * Upload objects stay until their upload has been idle for the upload session TTL: a resumable session is as
+     * recent as its latest part, a direct upload as its own object. Objects outside {@code uploads/} never expire here.
+     */
+    private Instant lastUploadActivity(final StorageObject object, final Map<String, Instant> sessionActivity) {
+        if (!object.name().startsWith("uploads/")) {
+            return Instant.MIN;
+        }
+
+        final var session = UPLOAD_SESSION.matcher(object.name());
+        if (!session.matches()) {
+            return object.updatedAt();
+        }
+
+        return sessionActivity.computeIfAbsent(session.group(1), folder -> {
+            try (final var objects = this.service.objects(folder)) {
+                return objects.map(StorageObject::updatedAt).max(Comparator.naturalOrder()).orElse(Instant.MIN);
+            }
+        });
+    }
+
+    private static Pattern layout(final String locationPattern, final String filenamePattern) {
+        final var layout = Pattern.quote(locationPattern + "/" + filenamePattern)
+                .replace("{videoId}", "\\E[0-9a-f]{32}\\Q")
+                .replace("{type}", "\\E[A-Z_]+\\Q");
+        return Pattern.compile(layout);
+    }
+
+    private static final class Sweep {
+        private final boolean dryRun;
+        private final List<String> sample = new ArrayList<>();
+        private long scanned;
+        private long ignored;
+        private long recent;
+        private long referenced;
+        private long orphans;
+        private long deleted;
+
+        private Sweep(final boolean dryRun) {
+            this.dryRun = dryRun;
+        }
+
+        private OrphanSweepReport report() {
+            return new OrphanSweepReport(dryRun, scanned, ignored, recent, referenced, orphans, deleted, List.copyOf(sample));
+        }
+    }
+}
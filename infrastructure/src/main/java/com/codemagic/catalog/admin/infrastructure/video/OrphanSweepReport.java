@@ -0,0 +1,15 @@
+package com.codemagic.catalog.admin.infrastructure.video;
+
+import java.util.List;
+
+public record OrphanSweepReport(
+        boolean dryRun,
+        long scanned,
+        long ignored,
+        long recent,
+        long referenced,
+        long orphans,
+        long deleted,
+        List<String> sample
+) {
+}
@@ -0,0 +1,69 @@
+package com.codemagic.catalog.admin.infrastructure.video;
+
+import com.codemagic.catalog.admin.domain.video.VideoExportGateway;
+import com.codemagic.catalog.admin.infrastructure.export.JdbcExport;
+import com.codemagic.catalog.admin.infrastructure.video.models.VideoExportResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.List;
+
+import static com.codemagic.catalog.admin.infrastructure.export.JdbcExport.instant;
+
+@Component
+public class VideoExporter implements VideoExportGateway {
+
+    private static final String SELECT = """
+            select id, title, description, launch_year, duration, rating, opened, published, created_at, updated_at
+            from videos
+            """;
+
+    private static final String CATEGORIES = "select video_id, category_id from videos_categories where video_id in (:ids)";
+    private static final String GENRES = "select video_id, genre_id from videos_genres where video_id in (:ids)";
+    private static final String MEMBERS = "select video_id, cast_member_id from videos_cast_members where video_id in (:ids)";
+
+    private final JdbcExport export;
+
+    public VideoExporter(final JdbcTemplate jdbcTemplate, final ObjectMapper mapper) {
+        this.export = new JdbcExport(jdbcTemplate, mapper);
+    }
+
+    @Override
+    public long export(final Instant updatedSince, final OutputStream out) {
+        return this.export.write(out, SELECT, updatedSince, (rs, row) -> {
+            final var duration = rs.getBigDecimal("duration");
+            return new VideoExportResponse(
+                    rs.getString("id"),
+                    rs.getString("title"),
+                    rs.getString("description"),
+                    rs.getInt("launch_year"),
+                    duration != null ? duration.doubleValue() : null,
+                    rs.getString("rating"),
+                    rs.getBoolean("opened"),
+                    rs.getBoolean("published"),
+                    instant(rs, "created_at"),
+                    instant(rs, "updated_at"),
+                    List.of(),
+                    List.of(),
+                    List.of()
+            );
+        }, this::withLinks);
+    }
+
+    private List<VideoExportResponse> withLinks(final List<VideoExportResponse> videos) {
+        final var ids = videos.stream().map(VideoExportResponse::id).toList();
+        final var categories = this.export.links(CATEGORIES, ids);
+        final var genres = this.export.links(GENRES, ids);
+        final var members = this.export.links(MEMBERS, ids);
+        return videos.stream()
+                .map(video -> video.with(
+                        categories.getOrDefault(video.id(), List.of()),
+                        genres.getOrDefault(video.id(), List.of()),
+                        members.getOrDefault(video.id(), List.of())
+                ))
+                .toList();
+    }
+}
@@ -0,0 +1,9 @@
+package com.codemagic.catalog.admin.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CompleteSignedUploadRequest(
+        @JsonProperty("name") String name,
+        @JsonProperty("checksum") String checksum
+) {
+}
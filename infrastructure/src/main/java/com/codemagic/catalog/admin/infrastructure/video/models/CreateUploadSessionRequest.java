@@ -0,0 +1,11 @@
+package com.codemagic.catalog.admin.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CreateUploadSessionRequest(
+        @JsonProperty("name") String name,
+        @JsonProperty("content_type") String contentType,
+        @JsonProperty("length") Long length,
+        @JsonProperty("checksum") String checksum
+) {
+}
@@ -0,0 +1,8 @@
+package com.codemagic.catalog.admin.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record SignUploadUrlRequest(
+        @JsonProperty("content_type") String contentType
+) {
+}
@@ -0,0 +1,13 @@
+package com.codemagic.catalog.admin.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+public record SignedUrlResponse(
+        @JsonProperty("url") String url,
+        @JsonProperty("method") String method,
+        @JsonProperty("content_type") String contentType,
+        @JsonProperty("expires_at") Instant expiresAt
+) {
+}
@@ -0,0 +1,9 @@
+package com.codemagic.catalog.admin.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record UploadMediaResponse(
+        @JsonProperty("video_id") String videoId,
+        @JsonProperty("media_type") String mediaType
+) {
+}
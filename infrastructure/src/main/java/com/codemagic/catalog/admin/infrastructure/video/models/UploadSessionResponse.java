@@ -0,0 +1,15 @@
+package com.codemagic.catalog.admin.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record UploadSessionResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("video_id") String videoId,
+        @JsonProperty("type") String type,
+        @JsonProperty("length") long length,
+        @JsonProperty("received_ranges") List<String> receivedRanges,
+        @JsonProperty("complete") boolean complete
+) {
+}
@@ -0,0 +1,30 @@
+package com.codemagic.catalog.admin.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+import java.util.List;
+
+public record VideoExportResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("title") String title,
+        @JsonProperty("description") String description,
+        @JsonProperty("year_launched") int launchYear,
+        @JsonProperty("duration") Double duration,
+        @JsonProperty("rating") String rating,
+        @JsonProperty("opened") boolean opened,
+        @JsonProperty("published") boolean published,
+        @JsonProperty("created_at") Instant createdAt,
+        @JsonProperty("updated_at") Instant updatedAt,
+        @JsonProperty("categories_id") List<String> categories,
+        @JsonProperty("genres_id") List<String> genres,
+        @JsonProperty("cast_members_id") List<String> members
+) {
+
+    public VideoExportResponse with(final List<String> categories, final List<String> genres, final List<String> members) {
+        return new VideoExportResponse(
+                id, title, description, launchYear, duration, rating, opened, published, createdAt, updatedAt,
+                categories, genres, members
+        );
+    }
+}
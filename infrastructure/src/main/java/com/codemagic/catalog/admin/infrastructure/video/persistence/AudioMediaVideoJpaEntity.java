@@ -50,11 +50,20 @@ public class AudioMediaVideoJpaEntity {
                 media.checksum(),
                 media.name(),
                 media.rawLocation(),
-                media.rawLocation(),
+                media.encodedLocation(),
                 media.status()
         );
     }
 
+    public AudioMediaVideoJpaEntity update(final AudioMediaVideo media) {
+        this.checksum = media.checksum();
+        this.name = media.name();
+        this.localPath = media.rawLocation();
+        this.encodedPath = media.encodedLocation();
+        this.status = media.status();
+        return this;
+    }
+
     public AudioMediaVideo toDomain() {
         return AudioMediaVideo.with(
                 this.getId(),
@@ -1,5 +1,6 @@
 package com.codemagic.catalog.admin.infrastructure.video.persistence;
 
+import com.codemagic.catalog.admin.domain.util.IdentifierUtil;
 import com.codemagic.catalog.admin.domain.video.ImageMedia;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -13,6 +14,9 @@ public class ImageMediaJpaEntity {
     @Id
     private String id;
 
+    @Column(name = "checksum", nullable = false)
+    private String checksum;
+
     @Column(name = "name", nullable = false)
     private String name;
 
@@ -23,23 +27,33 @@ public class ImageMediaJpaEntity {
 
     public ImageMediaJpaEntity(
             final String id,
+            final String checksum,
             final String name,
             final String location) {
         this.id = id;
+        this.checksum = checksum;
         this.name = name;
         this.location = location;
     }
 
     public static ImageMediaJpaEntity from(final ImageMedia media) {
         return new ImageMediaJpaEntity(
+                IdentifierUtil.uuid(),
                 media.checksum(),
                 media.name(),
                 media.location());
     }
 
+    public ImageMediaJpaEntity update(final ImageMedia media) {
+        this.checksum = media.checksum();
+        this.name = media.name();
+        this.location = media.location();
+        return this;
+    }
+
     public ImageMedia toDomain() {
         return ImageMedia.with(
-                this.getId(),
+                this.getChecksum(),
                 this.getName(),
                 this.getLocation());
     }
@@ -52,6 +66,14 @@ public class ImageMediaJpaEntity {
         this.id = id;
     }
 
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public void setChecksum(String checksum) {
+        this.checksum = checksum;
+    }
+
     public String getName() {
         return name;
     }
@@ -0,0 +1,91 @@
+package com.codemagic.catalog.admin.infrastructure.video.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+@Table(name = "media_blobs")
+@Entity(name = "MediaBlob")
+public class MediaBlobJpaEntity {
+
+    @Id
+    private String id;
+
+    @Column(name = "checksum", nullable = false)
+    private String checksum;
+
+    @Column(name = "content_length", nullable = false)
+    private long length;
+
+    @Column(name = "location", nullable = false)
+    private String location;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    public MediaBlobJpaEntity() {}
+
+    private MediaBlobJpaEntity(
+            final String id,
+            final String checksum,
+            final long length,
+            final String location,
+            final Instant createdAt) {
+        this.id = id;
+        this.checksum = checksum;
+        this.length = length;
+        this.location = location;
+        this.createdAt = createdAt;
+    }
+
+    public static MediaBlobJpaEntity with(
+            final String digest,
+            final String checksum,
+            final long length,
+            final String location) {
+        return new MediaBlobJpaEntity(digest.toLowerCase(), checksum, length, location, Instant.now());
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public void setChecksum(String checksum) {
+        this.checksum = checksum;
+    }
+
+    public long getLength() {
+        return length;
+    }
+
+    public void setLength(long length) {
+        this.length = length;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,21 @@
+package com.codemagic.catalog.admin.infrastructure.video.persistence;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+public interface MediaBlobRepository extends JpaRepository<MediaBlobJpaEntity, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<MediaBlobJpaEntity> findLockedById(String id);
+
+    @Query("select b.location from MediaBlob b where b.location in :locations")
+    Set<String> findReferencedLocations(@Param("locations") Collection<String> locations);
+
+}
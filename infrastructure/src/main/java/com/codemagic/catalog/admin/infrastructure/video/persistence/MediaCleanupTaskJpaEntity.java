@@ -0,0 +1,127 @@
+package com.codemagic.catalog.admin.infrastructure.video.persistence;
+
+import com.codemagic.catalog.admin.domain.util.IdentifierUtil;
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+@Table(name = "media_cleanup_tasks")
+@Entity(name = "MediaCleanupTask")
+public class MediaCleanupTaskJpaEntity {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    private String id;
+
+    @Column(name = "target", nullable = false)
+    private String target;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false)
+    private TargetType targetType;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    public MediaCleanupTaskJpaEntity() {}
+
+    private MediaCleanupTaskJpaEntity(final String target, final TargetType targetType, final Instant now) {
+        this.id = IdentifierUtil.uuid();
+        this.target = target;
+        this.targetType = targetType;
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+        this.createdAt = now;
+    }
+
+    public static MediaCleanupTaskJpaEntity prefix(final String prefix) {
+        return new MediaCleanupTaskJpaEntity(prefix, TargetType.PREFIX, Instant.now());
+    }
+
+    public static MediaCleanupTaskJpaEntity object(final String name) {
+        return new MediaCleanupTaskJpaEntity(name, TargetType.OBJECT, Instant.now());
+    }
+
+    public boolean isPrefix() {
+        return this.targetType == TargetType.PREFIX;
+    }
+
+    public void failed(final String error, final Instant retryAt) {
+        this.attempts = this.attempts + 1;
+        this.nextAttemptAt = retryAt;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getTarget() {
+        return target;
+    }
+
+    public void setTarget(String target) {
+        this.target = target;
+    }
+
+    public TargetType getTargetType() {
+        return targetType;
+    }
+
+    public void setTargetType(TargetType targetType) {
+        this.targetType = targetType;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public enum TargetType {
+        PREFIX,
+        OBJECT
+    }
+}
@@ -0,0 +1,33 @@
+package com.codemagic.catalog.admin.infrastructure.video.persistence;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface MediaCleanupTaskRepository extends JpaRepository<MediaCleanupTaskJpaEntity, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select t from MediaCleanupTask t
+            where t.nextAttemptAt <= :now and t.attempts < :maxAttempts
+            order by t.nextAttemptAt
+            """)
+    List<MediaCleanupTaskJpaEntity> findDue(
+            @Param("now") Instant now,
+            @Param("maxAttempts") int maxAttempts,
+            Pageable page);
+
+    long countByAttemptsLessThan(int attempts);
+
+    long countByAttemptsGreaterThanEqual(int attempts);
+
+}
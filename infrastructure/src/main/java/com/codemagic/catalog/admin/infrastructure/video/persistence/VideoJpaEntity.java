@@ -3,10 +3,14 @@ package com.codemagic.catalog.admin.infrastructure.video.persistence;
 import com.codemagic.catalog.admin.domain.castmember.CastMemberID;
 import com.codemagic.catalog.admin.domain.category.CategoryID;
 import com.codemagic.catalog.admin.domain.genre.GenreID;
+import com.codemagic.catalog.admin.domain.video.AudioMediaVideo;
+import com.codemagic.catalog.admin.domain.video.ImageMedia;
 import com.codemagic.catalog.admin.domain.video.Rating;
 import com.codemagic.catalog.admin.domain.video.Video;
 import com.codemagic.catalog.admin.domain.video.VideoID;
+import com.codemagic.catalog.admin.infrastructure.util.AssociationUtil;
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
 
 import java.time.Instant;
 import java.time.Year;
@@ -15,9 +19,11 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static com.codemagic.catalog.admin.domain.util.CollectionUtil.mapTo;
+
 @Table(name = "videos")
 @Entity(name = "Video")
-public class VideoJpaEntity {
+public class VideoJpaEntity implements Persistable<String> {
 
     @Id
     private String id;
@@ -78,6 +84,9 @@ public class VideoJpaEntity {
     @OneToMany(mappedBy = "video", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<VideoCastMemberJpaEntity> members;
 
+    @Transient
+    private boolean isNew;
+
     public VideoJpaEntity() {}
 
     public VideoJpaEntity(final String id,
@@ -139,6 +148,42 @@ public class VideoJpaEntity {
         return entity;
     }
 
+    public VideoJpaEntity update(final Video video) {
+        this.title = video.getTitle();
+        this.description = video.getDescription();
+        this.launchedAt = video.getLaunchedAt().getValue();
+        this.rating = video.getRating();
+        this.duration = video.getDuration();
+        this.opened = video.isOpened();
+        this.published = video.isPublished();
+        this.updatedAt = video.getUpdatedAt();
+        this.trailer = sync(this.trailer, video.getTrailer());
+        this.video = sync(this.video, video.getVideo());
+        this.banner = sync(this.banner, video.getBanner());
+        this.thumbnail = sync(this.thumbnail, video.getThumbnail());
+        this.thumbnailHalf = sync(this.thumbnailHalf, video.getThumbnailHalf());
+
+        AssociationUtil.sync(this.categories, mapTo(video.getCategories(), CategoryID::getValue),
+                it -> it.getId().getCategoryId(), id -> VideoCategoryJpaEntity.from(this, CategoryID.from(id)));
+        AssociationUtil.sync(this.genres, mapTo(video.getGenres(), GenreID::getValue),
+                it -> it.getId().getGenreId(), id -> VideoGenreJpaEntity.from(this, GenreID.from(id)));
+        AssociationUtil.sync(this.members, mapTo(video.getCastMembers(), CastMemberID::getValue),
+                it -> it.getId().getCastMemberId(), id -> VideoCastMemberJpaEntity.from(this, CastMemberID.from(id)));
+        return this;
+    }
+
+    private static AudioMediaVideoJpaEntity sync(final AudioMediaVideoJpaEntity current, final Optional<AudioMediaVideo> media) {
+        return media
+                .map(it -> current != null && current.getId().equals(it.id()) ? current.update(it) : AudioMediaVideoJpaEntity.from(it))
+                .orElse(null);
+    }
+
+    private static ImageMediaJpaEntity sync(final ImageMediaJpaEntity current, final Optional<ImageMedia> media) {
+        return media
+                .map(it -> current != null ? current.update(it) : ImageMediaJpaEntity.from(it))
+                .orElse(null);
+    }
+
     private void addCastMembers(final CastMemberID memberId) {
         this.members.add(VideoCastMemberJpaEntity.from(this, memberId));
     }
@@ -180,6 +225,22 @@ public class VideoJpaEntity {
         );
     }
 
+    public VideoJpaEntity markNew() {
+        this.isNew = true;
+        return this;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     public String getId() {
         return id;
     }
@@ -0,0 +1,4 @@
+package com.codemagic.catalog.admin.infrastructure.video.persistence;
+
+public record VideoLink(String videoId, String targetId) {
+}
@@ -0,0 +1,57 @@
+package com.codemagic.catalog.admin.infrastructure.video.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+@Embeddable
+public class VideoMediaManifestID implements Serializable {
+
+    @Column(name = "video_id", nullable = false)
+    private String videoId;
+
+    @Column(name = "resource_type", nullable = false)
+    private String resourceType;
+
+    public VideoMediaManifestID() {}
+
+    private VideoMediaManifestID(final String videoId, final String resourceType) {
+        this.videoId = videoId;
+        this.resourceType = resourceType;
+    }
+
+    public static VideoMediaManifestID from(final String videoId, final String resourceType) {
+        return new VideoMediaManifestID(videoId, resourceType);
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public void setVideoId(String videoId) {
+        this.videoId = videoId;
+    }
+
+    public String getResourceType() {
+        return resourceType;
+    }
+
+    public void setResourceType(String resourceType) {
+        this.resourceType = resourceType;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final VideoMediaManifestID that = (VideoMediaManifestID) o;
+        return Objects.equals(videoId, that.videoId) && Objects.equals(resourceType, that.resourceType);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(videoId, resourceType);
+    }
+}
@@ -0,0 +1,49 @@
+package com.codemagic.catalog.admin.infrastructure.video.persistence;
+
+import com.codemagic.catalog.admin.domain.video.VideoID;
+import com.codemagic.catalog.admin.domain.video.VideoResourceType;
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+@Entity(name = "VideoMediaManifest")
+@Table(name = "videos_media_manifest")
+public class VideoMediaManifestJpaEntity {
+
+    @EmbeddedId
+    private VideoMediaManifestID id;
+
+    @Column(name = "blob_id", nullable = false)
+    private String blobId;
+
+    public VideoMediaManifestJpaEntity() {}
+
+    private VideoMediaManifestJpaEntity(final VideoMediaManifestID id, final String blobId) {
+        this.id = id;
+        this.blobId = blobId;
+    }
+
+    public static VideoMediaManifestJpaEntity with(
+            final VideoID videoId,
+            final VideoResourceType type,
+            final String blobId) {
+        return new VideoMediaManifestJpaEntity(VideoMediaManifestID.from(videoId.getValue(), type.name()), blobId);
+    }
+
+    public VideoMediaManifestID getId() {
+        return id;
+    }
+
+    public void setId(VideoMediaManifestID id) {
+        this.id = id;
+    }
+
+    public String getBlobId() {
+        return blobId;
+    }
+
+    public void setBlobId(String blobId) {
+        this.blobId = blobId;
+    }
+}
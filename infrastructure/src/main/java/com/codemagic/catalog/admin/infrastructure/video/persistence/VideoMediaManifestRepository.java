@@ -0,0 +1,13 @@
+package com.codemagic.catalog.admin.infrastructure.video.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface VideoMediaManifestRepository extends JpaRepository<VideoMediaManifestJpaEntity, VideoMediaManifestID> {
+
+    List<VideoMediaManifestJpaEntity> findAllByIdVideoId(String videoId);
+
+    long countByBlobId(String blobId);
+
+}
@@ -0,0 +1,56 @@
+package com.codemagic.catalog.admin.infrastructure.video.persistence;
+
+import com.codemagic.catalog.admin.domain.Identifier;
+import com.codemagic.catalog.admin.domain.video.Rating;
+import com.codemagic.catalog.admin.domain.video.VideoSearchQuery;
+import com.codemagic.catalog.admin.infrastructure.search.FullTextSearch;
+
+import java.util.Set;
+
+import static com.codemagic.catalog.admin.domain.util.CollectionUtil.mapTo;
+import static com.codemagic.catalog.admin.domain.util.CollectionUtil.nullIfEmpty;
+import static com.codemagic.catalog.admin.domain.util.SQLUtil.like;
+
+public record VideoPreviewFilter(
+        String terms,
+        String match,
+        Set<String> members,
+        Set<String> categories,
+        Set<String> genres,
+        Set<Rating> ratings,
+        Integer launchedFrom,
+        Integer launchedTo,
+        Double durationFrom,
+        Double durationTo,
+        Boolean published,
+        Boolean opened
+) {
+
+    public static VideoPreviewFilter from(final VideoSearchQuery query, final FullTextSearch search) {
+        final var match = search.against(query.terms());
+        return new VideoPreviewFilter(
+                match == null ? like(query.terms()) : null,
+                match,
+                nullIfEmpty(mapTo(query.members(), Identifier::getValue)),
+                nullIfEmpty(mapTo(query.categories(), Identifier::getValue)),
+                nullIfEmpty(mapTo(query.genres(), Identifier::getValue)),
+                nullIfEmpty(query.ratings()),
+                query.launchYears().from(),
+                query.launchYears().to(),
+                query.durations().from(),
+                query.durations().to(),
+                query.published(),
+                query.opened()
+        );
+    }
+
+    public boolean isEmpty() {
+        return terms == null && match == null && members == null && categories == null && genres == null
+                && !hasAttributeFilters();
+    }
+
+    public boolean hasAttributeFilters() {
+        return ratings != null || launchedFrom != null || launchedTo != null
+                || durationFrom != null || durationTo != null || published != null || opened != null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.codemagic.catalog.admin.infrastructure.video.persistence;
+
+import com.codemagic.catalog.admin.domain.video.VideoFacets;
+import com.codemagic.catalog.admin.domain.video.VideoPreview;
+import com.codemagic.catalog.admin.infrastructure.pagination.Keyset;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+public interface VideoPreviewRepository {
+
+    List<VideoPreview> seekPreviews(VideoPreviewFilter filter, Keyset<VideoPreview> keyset);
+
+    List<VideoPreview> slicePreviews(VideoPreviewFilter filter, Sort sort, long offset, int limit);
+
+    long countPreviews(VideoPreviewFilter filter);
+
+    VideoFacets facets(VideoPreviewFilter filter, int limit);
+}
@@ -0,0 +1,158 @@
+package com.codemagic.catalog.admin.infrastructure.video.persistence;
+
+import com.codemagic.catalog.admin.domain.video.Rating;
+import com.codemagic.catalog.admin.domain.video.VideoFacets;
+import com.codemagic.catalog.admin.domain.video.VideoPreview;
+import com.codemagic.catalog.admin.infrastructure.pagination.Keyset;
+import com.codemagic.catalog.admin.infrastructure.search.FullTextSearch;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.metamodel.Attribute;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static com.codemagic.catalog.admin.infrastructure.video.persistence.VideoRepository.PREVIEW_FILTER;
+import static com.codemagic.catalog.admin.infrastructure.video.persistence.VideoRepository.PREVIEW_SELECT;
+
+public class VideoPreviewRepositoryImpl implements VideoPreviewRepository {
+
+    private static final String MATCH = FullTextSearch.function(2) + "(v.title, v.description, :match)";
+
+    private static final List<AttributeFilter> ATTRIBUTES = List.of(
+            new AttributeFilter("ratings", "v.rating in", VideoPreviewFilter::ratings),
+            new AttributeFilter("launchedFrom", "v.launchedAt >=", VideoPreviewFilter::launchedFrom),
+            new AttributeFilter("launchedTo", "v.launchedAt <=", VideoPreviewFilter::launchedTo),
+            new AttributeFilter("durationFrom", "v.duration >=", VideoPreviewFilter::durationFrom),
+            new AttributeFilter("durationTo", "v.duration <=", VideoPreviewFilter::durationTo),
+            new AttributeFilter("published", "v.published =", VideoPreviewFilter::published),
+            new AttributeFilter("opened", "v.opened =", VideoPreviewFilter::opened)
+    );
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<VideoPreview> seekPreviews(final VideoPreviewFilter filter, final Keyset<VideoPreview> keyset) {
+        final var attribute = attribute(keyset.sort());
+        final var key = "v." + attribute.getName();
+        final var direction = keyset.direction().name();
+        final var after = keyset.after();
+
+        final var jpql = new StringBuilder(PREVIEW_SELECT).append(filter(filter));
+        if (after != null) {
+            final var operator = keyset.direction().isAscending() ? ">" : "<";
+            jpql.append(" and %1$s %2$s= :key and ( %1$s %2$s :key or v.id %2$s :id )".formatted(key, operator));
+        }
+        jpql.append(" order by %1$s %2$s, v.id %2$s".formatted(key, direction));
+
+        final var query = bind(this.entityManager.createQuery(jpql.toString(), VideoPreview.class), filter)
+                .setMaxResults(keyset.limit());
+
+        if (after != null) {
+            query.setParameter("key", after.value(attribute.getJavaType()))
+                    .setParameter("id", after.id());
+        }
+
+        return query.getResultList();
+    }
+
+    @Override
+    public List<VideoPreview> slicePreviews(final VideoPreviewFilter filter, final Sort sort, final long offset, final int limit) {
+        final var orders = new ArrayList<String>();
+        for (final var order : sort) {
+            if (FullTextSearch.isRelevance(order.getProperty())) {
+                if (filter.match() != null) {
+                    orders.add("%s %s".formatted(MATCH, order.getDirection().name()));
+                }
+                continue;
+            }
+            orders.add("v.%s %s".formatted(attribute(order.getProperty()).getName(), order.getDirection().name()));
+        }
+        final var orderBy = orders.isEmpty() ? "" : " order by " + String.join(", ", orders);
+
+        return bind(this.entityManager.createQuery(PREVIEW_SELECT + filter(filter) + orderBy, VideoPreview.class), filter)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public long countPreviews(final VideoPreviewFilter filter) {
+        return bind(this.entityManager.createQuery("select count(v.id) " + filter(filter), Long.class), filter)
+                .getSingleResult();
+    }
+
+    @Override
+    public VideoFacets facets(final VideoPreviewFilter filter, final int limit) {
+        final var matching = " in (select v.id " + filter(filter) + ")";
+        return new VideoFacets(
+                facet(filter, limit, String.class, """
+                        select f.id.categoryId, count(f.id.videoId) from VideoCategory f
+                        where f.id.videoId %s
+                        group by f.id.categoryId
+                        order by count(f.id.videoId) desc, f.id.categoryId
+                        """.formatted(matching)),
+                facet(filter, limit, String.class, """
+                        select f.id.genreId, count(f.id.videoId) from VideoGenre f
+                        where f.id.videoId %s
+                        group by f.id.genreId
+                        order by count(f.id.videoId) desc, f.id.genreId
+                        """.formatted(matching)),
+                facet(filter, limit, Rating.class,
+                        "select v.rating, count(v.id) " + filter(filter) + " group by v.rating order by count(v.id) desc, v.rating"),
+                facet(filter, limit, Integer.class,
+                        "select v.launchedAt, count(v.id) " + filter(filter) + " group by v.launchedAt order by count(v.id) desc, v.launchedAt desc")
+        );
+    }
+
+    private <K> Map<K, Long> facet(final VideoPreviewFilter filter, final int limit, final Class<K> type, final String jpql) {
+        final var counts = new LinkedHashMap<K, Long>();
+        bind(this.entityManager.createQuery(jpql, Object[].class), filter)
+                .setMaxResults(limit)
+                .getResultList()
+                .forEach(row -> counts.put(type.cast(row[0]), ((Number) row[1]).longValue()));
+        return counts;
+    }
+
+    private Attribute<? super VideoJpaEntity, ?> attribute(final String name) {
+        return this.entityManager.getMetamodel()
+                .entity(VideoJpaEntity.class)
+                .getAttribute(name);
+    }
+
+    private static String filter(final VideoPreviewFilter filter) {
+        final var jpql = new StringBuilder(PREVIEW_FILTER);
+        ATTRIBUTES.stream()
+                .filter(attribute -> attribute.value().apply(filter) != null)
+                .forEach(attribute -> jpql.append(" and %s :%s ".formatted(attribute.predicate(), attribute.parameter())));
+        if (filter.match() != null) {
+            jpql.append(" and %s > 0 ".formatted(MATCH));
+        }
+        return jpql.toString();
+    }
+
+    private static <T> TypedQuery<T> bind(final TypedQuery<T> query, final VideoPreviewFilter filter) {
+        for (final var attribute : ATTRIBUTES) {
+            final var value = attribute.value().apply(filter);
+            if (value != null) {
+                query.setParameter(attribute.parameter(), value);
+            }
+        }
+        if (filter.match() != null) {
+            query.setParameter("match", filter.match());
+        }
+        return query.setParameter("terms", filter.terms())
+                .setParameter("members", filter.members())
+                .setParameter("categories", filter.categories())
+                .setParameter("genres", filter.genres());
+    }
+
+    private record AttributeFilter(String parameter, String predicate, Function<VideoPreviewFilter, Object> value) {
+    }
+}
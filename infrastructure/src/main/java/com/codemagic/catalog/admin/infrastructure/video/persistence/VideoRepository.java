@@ -1,33 +1,51 @@
 package com.codemagic.catalog.admin.infrastructure.video.persistence;
 
+import com.codemagic.catalog.admin.domain.video.MediaStatus;
 import com.codemagic.catalog.admin.domain.video.VideoPreview;
+import com.codemagic.catalog.admin.infrastructure.video.search.VideoDocument;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
-public interface VideoRepository extends JpaRepository<VideoJpaEntity, String> {
+public interface VideoRepository extends JpaRepository<VideoJpaEntity, String>, VideoPreviewRepository {
 
-    @Query("""
-            select distinct new com.codemagic.catalog.admin.domain.video.VideoPreview(
-            	v.id as id,
-            	v.title as title,
-            	v.description as description,
-            	v.createdAt as createdAt,
-            	v.updatedAt as updatedAt
-            ) from Video v
-                left join v.categories categories
-                left join v.genres genres
-                left join v.members members
+    String PREVIEW_SELECT = """
+            select new com.codemagic.catalog.admin.domain.video.VideoPreview(
+                v.id as id,
+                v.title as title,
+                v.createdAt as createdAt,
+                v.updatedAt as updatedAt
+            )
+            """;
+
+    String PREVIEW_FILTER = """
+            from Video v
             where
                 ( :terms is null or UPPER(v.title) like :terms ) and
-                ( :members is  null or members.id.castMemberId in :members ) and
-            	( :categories is null or categories.id.categoryId in :categories ) and
-            	( :genres is null or genres.id.genreId in :genres )
-            """)
+                ( :members is null or exists (
+                    select 1 from VideoCastMember vm
+                    where vm.id.videoId = v.id and vm.id.castMemberId in :members ) ) and
+                ( :categories is null or exists (
+                    select 1 from VideoCategory vc
+                    where vc.id.videoId = v.id and vc.id.categoryId in :categories ) ) and
+                ( :genres is null or exists (
+                    select 1 from VideoGenre vg
+                    where vg.id.videoId = v.id and vg.id.genreId in :genres ) )
+            """;
+
+    @Query(PREVIEW_SELECT + PREVIEW_FILTER)
     Page<VideoPreview> findAll(
             @Param("terms") String terms,
             @Param("members") Set<String> members,
@@ -36,4 +54,66 @@ public interface VideoRepository extends JpaRepository<VideoJpaEntity, String> {
             Pageable page
     );
 
+    @Query("select m.localPath from AudioMediaVideo m where m.localPath in :paths")
+    Set<String> findReferencedAudioVideoPaths(@Param("paths") Collection<String> paths);
+
+    @Query("select m.location from ImageMedia m where m.location in :paths")
+    Set<String> findReferencedImagePaths(@Param("paths") Collection<String> paths);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            select new com.codemagic.catalog.admin.infrastructure.video.search.VideoDocument(
+                v.id, v.title, v.description, v.rating, v.createdAt, v.updatedAt
+            )
+            from Video v
+            """)
+    Stream<VideoDocument> streamDocuments();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(PREVIEW_SELECT + "from Video v")
+    Stream<VideoPreview> streamPreviews();
+
+    @Query(PREVIEW_SELECT + "from Video v where v.id in :ids")
+    List<VideoPreview> findPreviews(@Param("ids") Collection<String> ids);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.codemagic.catalog.admin.infrastructure.video.persistence.VideoLink(vc.id.videoId, vc.id.categoryId) from VideoCategory vc")
+    Stream<VideoLink> streamCategoryLinks();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.codemagic.catalog.admin.infrastructure.video.persistence.VideoLink(vg.id.videoId, vg.id.genreId) from VideoGenre vg")
+    Stream<VideoLink> streamGenreLinks();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.codemagic.catalog.admin.infrastructure.video.persistence.VideoLink(vm.id.videoId, vm.id.castMemberId) from VideoCastMember vm")
+    Stream<VideoLink> streamCastMemberLinks();
+
+    @Query("select new com.codemagic.catalog.admin.infrastructure.video.persistence.VideoLink(vc.id.videoId, vc.id.categoryId) from VideoCategory vc where vc.id.videoId in :ids")
+    List<VideoLink> findCategoryLinks(@Param("ids") Collection<String> ids);
+
+    @Query("select new com.codemagic.catalog.admin.infrastructure.video.persistence.VideoLink(vg.id.videoId, vg.id.genreId) from VideoGenre vg where vg.id.videoId in :ids")
+    List<VideoLink> findGenreLinks(@Param("ids") Collection<String> ids);
+
+    @Query("select new com.codemagic.catalog.admin.infrastructure.video.persistence.VideoLink(vm.id.videoId, vm.id.castMemberId) from VideoCastMember vm where vm.id.videoId in :ids")
+    List<VideoLink> findCastMemberLinks(@Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query("""
+            update AudioMediaVideo m
+            set m.status = :status, m.encodedPath = coalesce(:encodedPath, m.encodedPath)
+            where m.id = :resourceId and m.status in :predecessors and exists (
+                select 1 from Video v
+                where v.id = :videoId and ( v.video.id = m.id or v.trailer.id = m.id ) )
+            """)
+    int updateMediaStatus(
+            @Param("videoId") String videoId,
+            @Param("resourceId") String resourceId,
+            @Param("status") MediaStatus status,
+            @Param("predecessors") Set<MediaStatus> predecessors,
+            @Param("encodedPath") String encodedPath);
+
+    @Modifying
+    @Query("update Video v set v.updatedAt = :updatedAt where v.id = :videoId")
+    int touch(@Param("videoId") String videoId, @Param("updatedAt") Instant updatedAt);
+
 }
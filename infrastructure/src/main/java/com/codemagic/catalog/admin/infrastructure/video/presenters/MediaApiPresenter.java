@@ -0,0 +1,184 @@
+package com.codemagic.catalog.admin.infrastructure.video.presenters;
+
+import com.codemagic.catalog.admin.application.media.get.MediaOutput;
+import com.codemagic.catalog.admin.domain.util.IdentifierUtil;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface MediaApiPresenter {
+
+    int TRANSFER_BUFFER_SIZE = 64 * 1024;
+    int MAX_RANGES = 100;
+
+    static ResponseEntity<StreamingResponseBody> present(final MediaOutput output, final HttpHeaders request) {
+        final var checksum = output.checksum();
+        final var etag = checksum != null && !checksum.isBlank() ? "\"%s\"".formatted(checksum) : null;
+        final var length = output.length();
+
+        final List<HttpRange> ranges;
+        try {
+            ranges = length >= 0 && ifRangeMatches(request, etag) ? request.getRange() : List.of();
+        } catch (IllegalArgumentException e) {
+            return notSatisfiable(etag, length);
+        }
+
+        if (ranges.isEmpty()) {
+            final var response = ResponseEntity.ok()
+                    .headers(eTag(etag))
+                    .header(HttpHeaders.ACCEPT_RANGES, length >= 0 ? "bytes" : "none")
+                    .contentType(MediaType.parseMediaType(output.contentType()));
+
+            if (length >= 0) {
+                response.contentLength(length);
+            }
+
+            return response.body(out -> write(output, 0, length, out));
+        }
+
+        final var regions = ranges.stream()
+                .filter(range -> isSatisfiable(range, length))
+                .map(range -> new long[]{range.getRangeStart(length), range.getRangeEnd(length)})
+                .toList();
+
+        // Same guard as HttpRange.toResourceRegions: many or overlapping ranges must not amplify the response
+        final var total = regions.stream().mapToLong(region -> region[1] - region[0] + 1).sum();
+        if (regions.isEmpty() || ranges.size() > MAX_RANGES || (regions.size() > 1 && total >= length)) {
+            return notSatisfiable(etag, length);
+        }
+
+        if (regions.size() == 1) {
+            final var start = regions.get(0)[0];
+            final var end = regions.get(0)[1];
+
+            return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                    .headers(eTag(etag))
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .header(HttpHeaders.CONTENT_RANGE, contentRange(start, end, length))
+                    .contentType(MediaType.parseMediaType(output.contentType()))
+                    .contentLength(end - start + 1)
+                    .body(out -> write(output, start, end - start + 1, out));
+        }
+
+        final var boundary = IdentifierUtil.uuid();
+
+        return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                .headers(eTag(etag))
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .contentType(MediaType.parseMediaType("multipart/byteranges; boundary=" + boundary))
+                .body(out -> {
+                    for (final var region : regions) {
+                        final var part = "\r\n--%s\r\n%s: %s\r\n%s: %s\r\n\r\n".formatted(
+                                boundary,
+                                HttpHeaders.CONTENT_TYPE, output.contentType(),
+                                HttpHeaders.CONTENT_RANGE, contentRange(region[0], region[1], length));
+                        out.write(part.getBytes(StandardCharsets.US_ASCII));
+                        write(output, region[0], region[1] - region[0] + 1, out);
+                    }
+                    out.write("\r\n--%s--\r\n".formatted(boundary).getBytes(StandardCharsets.US_ASCII));
+                });
+    }
+
+    private static ResponseEntity<StreamingResponseBody> notSatisfiable(final String etag, final long length) {
+        return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .headers(eTag(etag))
+                .header(HttpHeaders.CONTENT_RANGE, "bytes */%d".formatted(length))
+                .build();
+    }
+
+    private static Consumer<HttpHeaders> eTag(final String etag) {
+        return headers -> {
+            if (etag != null) {
+                headers.setETag(etag);
+            }
+        };
+    }
+
+    // Without a checksum there is no validator an If-Range could match, so it falls back to the full media
+    private static boolean ifRangeMatches(final HttpHeaders request, final String etag) {
+        final var ifRange = request.getFirst(HttpHeaders.IF_RANGE);
+        return ifRange == null || ifRange.equals(etag);
+    }
+
+    private static boolean isSatisfiable(final HttpRange range, final long length) {
+        try {
+            return range.getRangeStart(length) <= range.getRangeEnd(length);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static String contentRange(final long start, final long end, final long length) {
+        return "bytes %d-%d/%d".formatted(start, end, length);
+    }
+
+    private static void write(
+            final MediaOutput output,
+            final long position,
+            final long count,
+            final OutputStream out
+    ) throws IOException {
+        try (final var source = output.channel(position)) {
+            transfer(source, count, out);
+        }
+        out.flush();
+    }
+
+    private static void transfer(
+            final ReadableByteChannel source,
+            final long count,
+            final OutputStream out
+    ) throws IOException {
+        final var target = Channels.newChannel(out);
+
+        if (source instanceof FileChannel file) {
+            var position = file.position();
+            var remaining = count >= 0 ? count : file.size() - position;
+            while (remaining > 0) {
+                final var sent = file.transferTo(position, remaining, target);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+            return;
+        }
+
+        final var buffer = ByteBuffer.allocate(TRANSFER_BUFFER_SIZE);
+        var remaining = count;
+        while (remaining != 0) {
+            buffer.clear();
+            if (remaining > 0) {
+                buffer.limit((int) Math.min(buffer.capacity(), remaining));
+            }
+
+            final var read = source.read(buffer);
+            if (read < 0) {
+                break;
+            }
+
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                target.write(buffer);
+            }
+
+            if (remaining > 0) {
+                remaining -= read;
+            }
+        }
+    }
+}
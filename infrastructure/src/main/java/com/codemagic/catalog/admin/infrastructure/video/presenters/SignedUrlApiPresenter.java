@@ -0,0 +1,17 @@
+package com.codemagic.catalog.admin.infrastructure.video.presenters;
+
+import com.codemagic.catalog.admin.application.media.url.SignedUrlOutput;
+import com.codemagic.catalog.admin.infrastructure.video.models.SignedUrlResponse;
+
+public interface SignedUrlApiPresenter {
+
+    static SignedUrlResponse present(final SignedUrlOutput output) {
+        return new SignedUrlResponse(
+                output.url(),
+                output.method(),
+                output.contentType(),
+                output.expiresAt()
+        );
+    }
+
+}
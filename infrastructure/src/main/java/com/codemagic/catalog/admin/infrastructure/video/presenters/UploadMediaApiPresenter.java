@@ -0,0 +1,15 @@
+package com.codemagic.catalog.admin.infrastructure.video.presenters;
+
+import com.codemagic.catalog.admin.application.media.upload.UploadMediaOutput;
+import com.codemagic.catalog.admin.infrastructure.video.models.UploadMediaResponse;
+
+public interface UploadMediaApiPresenter {
+
+    static UploadMediaResponse present(final UploadMediaOutput output) {
+        return new UploadMediaResponse(
+                output.id(),
+                output.mediaType().name()
+        );
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.codemagic.catalog.admin.infrastructure.video.presenters;
+
+import com.codemagic.catalog.admin.application.media.session.UploadSessionOutput;
+import com.codemagic.catalog.admin.infrastructure.video.models.UploadSessionResponse;
+
+public interface UploadSessionApiPresenter {
+
+    static UploadSessionResponse present(final UploadSessionOutput output) {
+        return new UploadSessionResponse(
+                output.id(),
+                output.videoId(),
+                output.type().name(),
+                output.length(),
+                output.receivedRanges().stream()
+                        .map(range -> "%d-%d".formatted(range.offset(), range.end()))
+                        .toList(),
+                output.complete()
+        );
+    }
+
+}
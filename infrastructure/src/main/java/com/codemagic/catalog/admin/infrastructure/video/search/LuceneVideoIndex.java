@@ -0,0 +1,441 @@
+package com.codemagic.catalog.admin.infrastructure.video.search;
+
+import com.codemagic.catalog.admin.domain.Identifier;
+import com.codemagic.catalog.admin.domain.pagination.Pagination;
+import com.codemagic.catalog.admin.domain.pagination.TotalMode;
+import com.codemagic.catalog.admin.domain.video.Rating;
+import com.codemagic.catalog.admin.domain.video.VideoPreview;
+import com.codemagic.catalog.admin.domain.video.VideoSearchQuery;
+import com.codemagic.catalog.admin.infrastructure.pagination.OffsetSlice;
+import com.codemagic.catalog.admin.infrastructure.search.FullTextSearch;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PhraseQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.ThreadInterruptedException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static com.codemagic.catalog.admin.domain.util.CollectionUtil.mapTo;
+
+public class LuceneVideoIndex implements Closeable {
+
+    private static final String ID = "id";
+    private static final String GENERATION = "reindex_generation";
+    private static final String TITLE = "title";
+    private static final String TITLE_SORT = "title_sort";
+    private static final String DESCRIPTION = "description";
+    private static final String RATING = "rating";
+    private static final String CATEGORY = "category";
+    private static final String GENRE = "genre";
+    private static final String MEMBER = "member";
+    private static final String CREATED_AT = "created_at";
+    private static final String CREATED_AT_SORT = "created_at_sort";
+    private static final String UPDATED_AT = "updated_at";
+    private static final String UPDATED_AT_VALUE = "updated_at_value";
+
+    private static final int REINDEX_BATCH_SIZE = 500;
+    // A search waiting for a write reopens within the min staleness, otherwise the searcher reopens every second
+    private static final double MAX_STALE_SECONDS = 1.0;
+    private static final double MIN_STALE_SECONDS = 0.025;
+
+    private static final Set<String> SORTS = Set.of("title", "createdAt", FullTextSearch.RELEVANCE);
+    private static final Pattern PHRASE = Pattern.compile("\"([^\"]*)\"");
+
+    private final Directory directory;
+    private final Analyzer analyzer;
+    private final IndexWriter writer;
+    private final SearcherManager searchers;
+    private final ControlledRealTimeReopenThread<IndexSearcher> reopener;
+    private final AtomicLong written = new AtomicLong(-1);
+    private final Object deletes = new Object();
+    private volatile Set<String> deletedDuringReindex;
+    private volatile long generation;
+
+    private LuceneVideoIndex(final Directory directory) throws IOException {
+        this.directory = directory;
+        this.analyzer = new StandardAnalyzer();
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(this.analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searchers = new SearcherManager(this.writer, true, false, new SearcherFactory());
+        this.reopener = new ControlledRealTimeReopenThread<>(this.writer, this.searchers, MAX_STALE_SECONDS, MIN_STALE_SECONDS);
+        this.reopener.setName("lucene-video-index-reopen");
+        this.reopener.setDaemon(true);
+        this.reopener.start();
+        this.generation = newGeneration();
+    }
+
+    public static LuceneVideoIndex open(final Path path) throws IOException {
+        Files.createDirectories(path);
+        return new LuceneVideoIndex(new MMapDirectory(path));
+    }
+
+    public static boolean supports(final String sort) {
+        return SORTS.contains(sort);
+    }
+
+    public void index(final VideoDocument video) {
+        write(() -> this.writer.updateDocument(new Term(ID, video.id()), document(video)));
+    }
+
+    /**
+     * Moves the updatedAt of an indexed video in place, for writes like media status changes that touch nothing else
+     * the index holds.
+     */
+    public void touch(final String id, final Instant updatedAt) {
+        write(() -> this.writer.updateNumericDocValue(new Term(ID, id), UPDATED_AT_VALUE, micros(updatedAt)));
+    }
+
+    public void delete(final String id) {
+        synchronized (this.deletes) {
+            final var deleted = this.deletedDuringReindex;
+            if (deleted != null) {
+                deleted.add(id);
+            }
+            write(() -> this.writer.deleteDocuments(new Term(ID, id)));
+        }
+    }
+
+    /**
+     * Replaces the index with the streamed rows. A document written by {@link #index} after its row was read is newer
+     * than the row, so it is only marked as seen and kept, and a row deleted since the reindex started is skipped.
+     */
+    public synchronized long reindex(final Stream<VideoDocument> videos) {
+        this.generation = newGeneration();
+        this.deletedDuringReindex = ConcurrentHashMap.newKeySet();
+        try {
+            var indexed = 0L;
+            final var batch = new ArrayList<VideoDocument>(REINDEX_BATCH_SIZE);
+            final var iterator = videos.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == REINDEX_BATCH_SIZE || !iterator.hasNext()) {
+                    indexed += reindex(batch);
+                    batch.clear();
+                }
+            }
+
+            write(() -> this.writer.deleteDocuments(new BooleanQuery.Builder()
+                    .add(new MatchAllDocsQuery(), Occur.MUST)
+                    .add(NumericDocValuesField.newSlowExactQuery(GENERATION, this.generation), Occur.MUST_NOT)
+                    .build()));
+            return indexed;
+        } finally {
+            this.deletedDuringReindex = null;
+        }
+    }
+
+    /**
+     * Writes are visible to the next search, but only durable once committed, so callers commit periodically instead
+     * of paying an fsync per write.
+     */
+    public void commit() {
+        try {
+            if (this.writer.hasUncommittedChanges()) {
+                this.writer.commit();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int size() {
+        return read(searcher -> searcher.getIndexReader().numDocs());
+    }
+
+    public Pagination<VideoPreview> search(final VideoSearchQuery query, final boolean exact) {
+        final var criteria = query(query);
+        final var from = query.page() * query.perPage();
+
+        return read(searcher -> {
+            final var hits = searcher.search(criteria, from + query.perPage() + 1, sort(query.sort(), query.direction()));
+            final var stored = searcher.storedFields();
+
+            final var rows = new ArrayList<VideoPreview>();
+            for (int i = from; i < hits.scoreDocs.length; i++) {
+                final var doc = hits.scoreDocs[i].doc;
+                rows.add(preview(stored.document(doc), updatedAt(searcher, doc)));
+            }
+
+            final var page = OffsetSlice.of(query.page(), query.perPage(), rows);
+            return exact ? page.withTotal(searcher.count(criteria), TotalMode.EXACT) : page;
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reopener.close();
+        this.searchers.close();
+        this.writer.commit();
+        this.writer.close();
+        this.analyzer.close();
+        this.directory.close();
+    }
+
+    private Query query(final VideoSearchQuery query) {
+        final var builder = new BooleanQuery.Builder();
+        final var matching = terms(builder, query.terms());
+
+        if (!matching) {
+            builder.add(new MatchAllDocsQuery(), Occur.MUST);
+        }
+
+        filter(builder, CATEGORY, mapTo(query.categories(), Identifier::getValue));
+        filter(builder, GENRE, mapTo(query.genres(), Identifier::getValue));
+        filter(builder, MEMBER, mapTo(query.members(), Identifier::getValue));
+        filter(builder, RATING, mapTo(query.ratings(), Rating::name));
+        return builder.build();
+    }
+
+    private boolean terms(final BooleanQuery.Builder builder, final String terms) {
+        if (terms == null || terms.isBlank()) {
+            return false;
+        }
+
+        var matching = false;
+        final var phrases = PHRASE.matcher(terms);
+        while (phrases.find()) {
+            final var words = analyze(phrases.group(1));
+            if (words.size() > 1) {
+                builder.add(new BooleanQuery.Builder()
+                        .add(new BoostQuery(new PhraseQuery(TITLE, words.toArray(String[]::new)), 4f), Occur.SHOULD)
+                        .add(new PhraseQuery(DESCRIPTION, words.toArray(String[]::new)), Occur.SHOULD)
+                        .build(), Occur.MUST);
+                matching = true;
+            } else if (words.size() == 1) {
+                builder.add(word(words.get(0)), Occur.MUST);
+                matching = true;
+            }
+        }
+
+        for (final var word : analyze(PHRASE.matcher(terms).replaceAll(" "))) {
+            builder.add(word(word), Occur.MUST);
+            matching = true;
+        }
+        return matching;
+    }
+
+    private static Query word(final String word) {
+        final var title = new Term(TITLE, word);
+        final var clause = new BooleanQuery.Builder()
+                .add(new BoostQuery(new TermQuery(title), 4f), Occur.SHOULD)
+                .add(new BoostQuery(new PrefixQuery(title), 2f), Occur.SHOULD)
+                .add(new TermQuery(new Term(DESCRIPTION, word)), Occur.SHOULD);
+
+        final var edits = word.length() <= 2 ? 0 : word.length() <= 5 ? 1 : 2;
+        if (edits > 0) {
+            clause.add(new FuzzyQuery(title, edits, 1), Occur.SHOULD);
+        }
+        return clause.build();
+    }
+
+    private static void filter(final BooleanQuery.Builder builder, final String field, final Set<String> values) {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+        builder.add(new TermInSetQuery(field, values.stream().map(BytesRef::new).toList()), Occur.FILTER);
+    }
+
+    private static Sort sort(final String sort, final String direction) {
+        final var reverse = "desc".equalsIgnoreCase(direction);
+        final var id = new SortField(ID, SortField.Type.STRING);
+
+        return switch (sort) {
+            case "title" -> new Sort(new SortField(TITLE_SORT, SortField.Type.STRING, reverse), id);
+            case "createdAt" -> new Sort(new SortField(CREATED_AT_SORT, SortField.Type.LONG, reverse), id);
+            default -> new Sort(SortField.FIELD_SCORE, new SortField(TITLE_SORT, SortField.Type.STRING), id);
+        };
+    }
+
+    private List<String> analyze(final String text) {
+        final var words = new ArrayList<String>();
+        try (final var stream = this.analyzer.tokenStream(TITLE, text)) {
+            final var term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                words.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return words;
+    }
+
+    private Document document(final VideoDocument video) {
+        final var document = new Document();
+        document.add(new StringField(ID, video.id(), Field.Store.YES));
+        document.add(new SortedDocValuesField(ID, new BytesRef(video.id())));
+        document.add(new NumericDocValuesField(GENERATION, this.generation));
+        document.add(new TextField(TITLE, video.title(), Field.Store.YES));
+        document.add(new SortedDocValuesField(TITLE_SORT, new BytesRef(video.title().toLowerCase(Locale.ROOT))));
+        if (video.description() != null) {
+            document.add(new TextField(DESCRIPTION, video.description(), Field.Store.NO));
+        }
+        document.add(new StringField(RATING, video.rating(), Field.Store.NO));
+        video.categories().forEach(id -> document.add(new StringField(CATEGORY, id, Field.Store.NO)));
+        video.genres().forEach(id -> document.add(new StringField(GENRE, id, Field.Store.NO)));
+        video.members().forEach(id -> document.add(new StringField(MEMBER, id, Field.Store.NO)));
+        document.add(new StoredField(CREATED_AT, video.createdAt().toString()));
+        document.add(new NumericDocValuesField(CREATED_AT_SORT, micros(video.createdAt())));
+        document.add(new NumericDocValuesField(UPDATED_AT_VALUE, micros(video.updatedAt())));
+        return document;
+    }
+
+    private long reindex(final List<VideoDocument> batch) {
+        final var indexed = indexedUpdatedAt(batch.stream().map(VideoDocument::id).toList());
+
+        var written = 0L;
+        for (final var video : batch) {
+            synchronized (this.deletes) {
+                if (this.deletedDuringReindex.contains(video.id())) {
+                    continue;
+                }
+
+                final var term = new Term(ID, video.id());
+                final var current = indexed.get(video.id());
+                if (current != null && video.updatedAt().isBefore(current)) {
+                    write(() -> this.writer.updateNumericDocValue(term, GENERATION, this.generation));
+                } else {
+                    write(() -> this.writer.updateDocument(term, document(video)));
+                }
+            }
+            written++;
+        }
+        return written;
+    }
+
+    private Map<String, Instant> indexedUpdatedAt(final Collection<String> ids) {
+        return read(searcher -> {
+            final var found = new HashMap<String, Instant>();
+            final var terms = ids.stream().map(BytesRef::new).toList();
+            final var hits = searcher.search(new TermInSetQuery(ID, terms), Math.max(1, ids.size()));
+            final var stored = searcher.storedFields();
+            for (final var hit : hits.scoreDocs) {
+                found.put(stored.document(hit.doc, Set.of(ID)).get(ID), updatedAt(searcher, hit.doc));
+            }
+            return found;
+        });
+    }
+
+    /**
+     * Reads the updatedAt doc value of a hit. Documents indexed before it became updatable only carry a stored value.
+     */
+    private static Instant updatedAt(final IndexSearcher searcher, final int doc) throws IOException {
+        final var leaves = searcher.getIndexReader().leaves();
+        final var leaf = leaves.get(ReaderUtil.subIndex(doc, leaves));
+        final var values = DocValues.getNumeric(leaf.reader(), UPDATED_AT_VALUE);
+        if (values.advanceExact(doc - leaf.docBase)) {
+            return Instant.EPOCH.plus(values.longValue(), ChronoUnit.MICROS);
+        }
+        return Instant.parse(searcher.storedFields().document(doc, Set.of(UPDATED_AT)).get(UPDATED_AT));
+    }
+
+    private static long micros(final Instant instant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+
+    private static long newGeneration() {
+        return UUID.randomUUID().getMostSignificantBits();
+    }
+
+    private static VideoPreview preview(final Document document, final Instant updatedAt) {
+        return new VideoPreview(
+                document.get(ID),
+                document.get(TITLE),
+                Instant.parse(document.get(CREATED_AT)),
+                updatedAt
+        );
+    }
+
+    private void write(final Write write) {
+        try {
+            final var sequence = write.apply();
+            this.written.accumulateAndGet(sequence, Math::max);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Waits for the searcher to include the latest write, so a search reads its own writes while a burst of writes
+     * shares a single reopen.
+     */
+    private <T> T read(final Read<T> read) {
+        try {
+            final var sequence = this.written.get();
+            if (sequence >= 0) {
+                this.reopener.waitForGeneration(sequence);
+            }
+            final var searcher = this.searchers.acquire();
+            try {
+                return read.apply(searcher);
+            } finally {
+                this.searchers.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ThreadInterruptedException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Write {
+        long apply() throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Read<T> {
+        T apply(IndexSearcher searcher) throws IOException;
+    }
+}
@@ -0,0 +1,294 @@
+package com.codemagic.catalog.admin.infrastructure.video.search;
+
+import com.codemagic.catalog.admin.domain.Identifier;
+import com.codemagic.catalog.admin.domain.video.VideoPreview;
+import com.codemagic.catalog.admin.domain.video.VideoSearchQuery;
+import com.codemagic.catalog.admin.infrastructure.video.persistence.VideoLink;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static com.codemagic.catalog.admin.domain.util.CollectionUtil.mapTo;
+
+public class VideoBitmapIndex {
+
+    private static final Comparator<Entry> BY_TITLE = Comparator
+            .comparing(Entry::titleKey)
+            .thenComparing(Entry::id);
+
+    private static final Comparator<Entry> BY_CREATED_AT = Comparator
+            .comparing(Entry::createdAt)
+            .thenComparing(Entry::id);
+
+    private static final Set<String> SORTS = Set.of("title", "createdAt");
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Primary strength ignores case and accents, like the utf8mb4_0900_ai_ci collation MySQL sorts titles with
+    private final Collator collator = collator();
+    private State state = new State();
+    private List<Consumer<State>> pending;
+    private volatile boolean ready;
+
+    public static boolean supports(final VideoSearchQuery query) {
+        return (query.terms() == null || query.terms().isBlank())
+                && !query.isCursor()
+                && SORTS.contains(query.sort())
+                && query.ratings().isEmpty()
+                && query.launchYears().isUnbounded()
+                && query.durations().isUnbounded()
+                && query.published() == null
+                && query.opened() == null
+                && (isPresent(query.members()) || isPresent(query.categories()) || isPresent(query.genres()));
+    }
+
+    public boolean isReady() {
+        return this.ready;
+    }
+
+    /**
+     * Builds the bitmaps from scratch without blocking searches, which keep reading the previous state meanwhile.
+     * Puts and removes arriving after the load started are replayed onto the new state before it is swapped in, so
+     * the streams must only be opened by this method for the replay to cover everything their snapshot misses.
+     */
+    public long load(
+            final Supplier<Stream<VideoPreview>> videos,
+            final Supplier<Stream<VideoLink>> categories,
+            final Supplier<Stream<VideoLink>> genres,
+            final Supplier<Stream<VideoLink>> members
+    ) {
+        write(() -> this.pending = new ArrayList<>());
+        try {
+            final var loaded = new State();
+            try (final var rows = videos.get()) {
+                rows.forEach(video -> loaded.add(entry(video.id(), video.title(), video.createdAt())));
+            }
+            loaded.link(loaded.categories, categories);
+            loaded.link(loaded.genres, genres);
+            loaded.link(loaded.members, members);
+            loaded.optimize();
+
+            return write(() -> {
+                this.pending.forEach(change -> change.accept(loaded));
+                this.state = loaded;
+                this.ready = true;
+                return loaded.live.getLongCardinality();
+            });
+        } finally {
+            write(() -> this.pending = null);
+        }
+    }
+
+    public void put(final VideoDocument video) {
+        final var entry = entry(video.id(), video.title(), video.createdAt());
+        apply(state -> state.put(entry, video));
+    }
+
+    public void remove(final String id) {
+        apply(state -> state.remove(id));
+    }
+
+    public long size() {
+        return read(() -> this.state.live.getLongCardinality());
+    }
+
+    public Hits search(final VideoSearchQuery query) {
+        return read(() -> {
+            final var state = this.state;
+            var matches = state.live.clone();
+            matches = restrict(matches, state.members, ids(query.members()));
+            matches = restrict(matches, state.categories, ids(query.categories()));
+            matches = restrict(matches, state.genres, ids(query.genres()));
+
+            final var from = query.page() * query.perPage();
+            final var wanted = from + query.perPage() + 1;
+            final var order = "createdAt".equals(query.sort()) ? BY_CREATED_AT : BY_TITLE;
+            final var ascending = !"desc".equalsIgnoreCase(query.direction());
+            final var comparator = ascending ? order : order.reversed();
+
+            final var top = new PriorityQueue<Entry>(Math.max(1, wanted), comparator.reversed());
+            for (final int ordinal : matches) {
+                final var entry = state.entries.get(ordinal);
+                if (top.size() < wanted) {
+                    top.add(entry);
+                } else if (comparator.compare(entry, top.peek()) < 0) {
+                    top.poll();
+                    top.add(entry);
+                }
+            }
+
+            final var sorted = new ArrayList<>(top);
+            sorted.sort(comparator);
+            final var page = sorted.subList(Math.min(from, sorted.size()), sorted.size()).stream()
+                    .map(Entry::id)
+                    .toList();
+            return new Hits(page, matches.getLongCardinality());
+        });
+    }
+
+    private Entry entry(final String id, final String title, final Instant createdAt) {
+        return new Entry(id, this.collator.getCollationKey(title == null ? "" : title), createdAt);
+    }
+
+    private void apply(final Consumer<State> change) {
+        write(() -> {
+            change.accept(this.state);
+            if (this.pending != null) {
+                this.pending.add(change);
+            }
+            return null;
+        });
+    }
+
+    private static Collator collator() {
+        final var collator = Collator.getInstance(Locale.ROOT);
+        collator.setStrength(Collator.PRIMARY);
+        collator.setDecomposition(Collator.CANONICAL_DECOMPOSITION);
+        return collator;
+    }
+
+    private static RoaringBitmap restrict(
+            final RoaringBitmap matches,
+            final Map<String, RoaringBitmap> bitmaps,
+            final Set<String> targets
+    ) {
+        if (targets.isEmpty()) {
+            return matches;
+        }
+
+        final var union = RoaringBitmap.or(targets.stream()
+                .map(bitmaps::get)
+                .filter(Objects::nonNull)
+                .iterator());
+        return RoaringBitmap.and(matches, union);
+    }
+
+    private static <T extends Identifier> Set<String> ids(final Set<T> ids) {
+        return ids == null ? Set.of() : mapTo(ids, Identifier::getValue);
+    }
+
+    private static boolean isPresent(final Set<?> ids) {
+        return ids != null && !ids.isEmpty();
+    }
+
+    private <T> T read(final Supplier<T> action) {
+        this.lock.readLock().lock();
+        try {
+            return action.get();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    private <T> T write(final Supplier<T> action) {
+        this.lock.writeLock().lock();
+        try {
+            return action.get();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private static final class State {
+
+        private final Map<String, Integer> ordinals = new HashMap<>();
+        private final List<Entry> entries = new ArrayList<>();
+        private final RoaringBitmap live = new RoaringBitmap();
+        private final RoaringBitmap free = new RoaringBitmap();
+        private final Map<String, RoaringBitmap> categories = new HashMap<>();
+        private final Map<String, RoaringBitmap> genres = new HashMap<>();
+        private final Map<String, RoaringBitmap> members = new HashMap<>();
+
+        private void put(final Entry entry, final VideoDocument video) {
+            final var existing = this.ordinals.get(entry.id());
+            final int ordinal;
+            if (existing != null) {
+                ordinal = existing;
+                this.entries.set(ordinal, entry);
+                unlink(ordinal);
+            } else {
+                ordinal = add(entry);
+            }
+
+            link(this.categories, video.categories(), ordinal);
+            link(this.genres, video.genres(), ordinal);
+            link(this.members, video.members(), ordinal);
+        }
+
+        private void remove(final String id) {
+            final var ordinal = this.ordinals.remove(id);
+            if (ordinal != null) {
+                this.entries.set(ordinal, null);
+                this.live.remove(ordinal);
+                this.free.add(ordinal);
+                unlink(ordinal);
+            }
+        }
+
+        private int add(final Entry entry) {
+            final int ordinal;
+            if (this.free.isEmpty()) {
+                ordinal = this.entries.size();
+                this.entries.add(entry);
+            } else {
+                ordinal = this.free.first();
+                this.free.remove(ordinal);
+                this.entries.set(ordinal, entry);
+            }
+            this.ordinals.put(entry.id(), ordinal);
+            this.live.add(ordinal);
+            return ordinal;
+        }
+
+        private void link(final Map<String, RoaringBitmap> bitmaps, final Supplier<Stream<VideoLink>> links) {
+            try (final var rows = links.get()) {
+                rows.forEach(link -> {
+                    final var ordinal = this.ordinals.get(link.videoId());
+                    if (ordinal != null) {
+                        bitmaps.computeIfAbsent(link.targetId(), key -> new RoaringBitmap()).add(ordinal);
+                    }
+                });
+            }
+        }
+
+        private static void link(final Map<String, RoaringBitmap> bitmaps, final Collection<String> targets, final int ordinal) {
+            if (targets == null) {
+                return;
+            }
+            targets.forEach(target -> bitmaps.computeIfAbsent(target, key -> new RoaringBitmap()).add(ordinal));
+        }
+
+        private void unlink(final int ordinal) {
+            Stream.of(this.categories, this.genres, this.members).forEach(bitmaps ->
+                    bitmaps.values().removeIf(bitmap -> bitmap.checkedRemove(ordinal) && bitmap.isEmpty()));
+        }
+
+        private void optimize() {
+            Stream.of(this.categories, this.genres, this.members)
+                    .flatMap(bitmaps -> bitmaps.values().stream())
+                    .forEach(RoaringBitmap::runOptimize);
+        }
+    }
+
+    public record Hits(List<String> ids, long total) {
+    }
+
+    private record Entry(String id, CollationKey titleKey, Instant createdAt) {
+    }
+}
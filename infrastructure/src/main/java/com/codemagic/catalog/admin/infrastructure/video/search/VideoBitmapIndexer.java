@@ -0,0 +1,45 @@
+package com.codemagic.catalog.admin.infrastructure.video.search;
+
+import com.codemagic.catalog.admin.infrastructure.video.persistence.VideoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Objects;
+
+public class VideoBitmapIndexer {
+
+    private static final Logger log = LoggerFactory.getLogger(VideoBitmapIndexer.class);
+
+    private final VideoBitmapIndex index;
+    private final VideoRepository repository;
+    private final TransactionTemplate transaction;
+
+    public VideoBitmapIndexer(
+            final VideoBitmapIndex index,
+            final VideoRepository repository,
+            final PlatformTransactionManager transactionManager) {
+        this.index = Objects.requireNonNull(index);
+        this.repository = Objects.requireNonNull(repository);
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        final var started = System.nanoTime();
+
+        final long loaded = this.transaction.execute(status -> this.index.load(
+                this.repository::streamPreviews,
+                this.repository::streamCategoryLinks,
+                this.repository::streamGenreLinks,
+                this.repository::streamCastMemberLinks
+        ));
+
+        log.info("Video bitmap index loaded with {} videos in {}", loaded, Duration.ofNanos(System.nanoTime() - started));
+    }
+}
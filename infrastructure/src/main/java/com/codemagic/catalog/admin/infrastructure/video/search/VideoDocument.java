@@ -0,0 +1,52 @@
+package com.codemagic.catalog.admin.infrastructure.video.search;
+
+import com.codemagic.catalog.admin.domain.Identifier;
+import com.codemagic.catalog.admin.domain.video.Rating;
+import com.codemagic.catalog.admin.domain.video.Video;
+
+import java.time.Instant;
+import java.util.Set;
+
+import static com.codemagic.catalog.admin.domain.util.CollectionUtil.mapTo;
+
+public record VideoDocument(
+        String id,
+        String title,
+        String description,
+        String rating,
+        Instant createdAt,
+        Instant updatedAt,
+        Set<String> categories,
+        Set<String> genres,
+        Set<String> members
+) {
+
+    public VideoDocument(
+            final String id,
+            final String title,
+            final String description,
+            final Rating rating,
+            final Instant createdAt,
+            final Instant updatedAt
+    ) {
+        this(id, title, description, rating.name(), createdAt, updatedAt, Set.of(), Set.of(), Set.of());
+    }
+
+    public static VideoDocument from(final Video video) {
+        return new VideoDocument(
+                video.getId().getValue(),
+                video.getTitle(),
+                video.getDescription(),
+                video.getRating().name(),
+                video.getCreatedAt(),
+                video.getUpdatedAt(),
+                mapTo(video.getCategories(), Identifier::getValue),
+                mapTo(video.getGenres(), Identifier::getValue),
+                mapTo(video.getCastMembers(), Identifier::getValue)
+        );
+    }
+
+    public VideoDocument withRelations(final Set<String> categories, final Set<String> genres, final Set<String> members) {
+        return new VideoDocument(id, title, description, rating, createdAt, updatedAt, categories, genres, members);
+    }
+}
@@ -0,0 +1,101 @@
+package com.codemagic.catalog.admin.infrastructure.video.search;
+
+import com.codemagic.catalog.admin.infrastructure.video.persistence.VideoLink;
+import com.codemagic.catalog.admin.infrastructure.video.persistence.VideoRepository;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Streams;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Endpoint(id = "videoindex")
+public class VideoIndexer {
+
+    private static final Logger log = LoggerFactory.getLogger(VideoIndexer.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    private final LuceneVideoIndex index;
+    private final VideoRepository repository;
+    private final TransactionTemplate transaction;
+
+    public VideoIndexer(
+            final LuceneVideoIndex index,
+            final VideoRepository repository,
+            final PlatformTransactionManager transactionManager) {
+        this.index = Objects.requireNonNull(index);
+        this.repository = Objects.requireNonNull(repository);
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void indexIfEmpty() {
+        if (this.index.size() == 0) {
+            reindex();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${search.lucene.commit-interval:PT30S}")
+    public void commit() {
+        this.index.commit();
+    }
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return Map.of("documents", this.index.size());
+    }
+
+    @WriteOperation
+    public Map<String, Object> rebuild() {
+        return Map.of("indexed", reindex());
+    }
+
+    public long reindex() {
+        final var started = System.nanoTime();
+
+        final long indexed = this.transaction.execute(status -> {
+            try (final var rows = this.repository.streamDocuments()) {
+                final var batches = Iterators.partition(rows.iterator(), BATCH_SIZE);
+                return this.index.reindex(Streams.stream(batches).flatMap(batch -> withRelations(batch).stream()));
+            }
+        });
+
+        log.info("Video search index rebuilt with {} videos in {}", indexed, Duration.ofNanos(System.nanoTime() - started));
+        return indexed;
+    }
+
+    private List<VideoDocument> withRelations(final List<VideoDocument> batch) {
+        final var ids = batch.stream().map(VideoDocument::id).toList();
+        final var categories = group(this.repository.findCategoryLinks(ids));
+        final var genres = group(this.repository.findGenreLinks(ids));
+        final var members = group(this.repository.findCastMemberLinks(ids));
+
+        return batch.stream()
+                .map(video -> video.withRelations(
+                        categories.getOrDefault(video.id(), Set.of()),
+                        genres.getOrDefault(video.id(), Set.of()),
+                        members.getOrDefault(video.id(), Set.of())))
+                .toList();
+    }
+
+    private static Map<String, Set<String>> group(final List<VideoLink> links) {
+        return links.stream().collect(Collectors.groupingBy(
+                VideoLink::videoId,
+                Collectors.mapping(VideoLink::targetId, Collectors.toSet())));
+    }
+}
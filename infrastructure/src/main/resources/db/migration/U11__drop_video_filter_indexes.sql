@@ -0,0 +1,4 @@
+drop index idx_videos_duration on videos;
+drop index idx_videos_published_created_at on videos;
+drop index idx_videos_published_launch_year on videos;
+drop index idx_videos_published_rating_launch_year on videos;
@@ -0,0 +1,4 @@
+drop index idx_videos_updated_at on videos;
+drop index idx_cast_members_updated_at on cast_members;
+drop index idx_genres_updated_at on genres;
+drop index idx_categories_updated_at on categories;
@@ -0,0 +1 @@
+alter table videos_image_media drop column checksum;
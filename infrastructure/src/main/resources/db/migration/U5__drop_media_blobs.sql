@@ -0,0 +1,2 @@
+drop table videos_media_manifest;
+drop table media_blobs;
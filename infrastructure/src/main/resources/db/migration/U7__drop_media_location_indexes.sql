@@ -0,0 +1,3 @@
+drop index idx_media_blobs_location on media_blobs;
+drop index idx_videos_image_media_local_path on videos_image_media;
+drop index idx_videos_video_media_local_path on videos_video_media;
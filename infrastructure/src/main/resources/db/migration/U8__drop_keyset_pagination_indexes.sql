@@ -0,0 +1,7 @@
+drop index idx_videos_created_at on videos;
+drop index idx_cast_members_created_at on cast_members;
+drop index idx_cast_members_name on cast_members;
+drop index idx_genres_created_at on genres;
+drop index idx_genres_name on genres;
+drop index idx_categories_created_at on categories;
+drop index idx_categories_name on categories;
@@ -0,0 +1,3 @@
+drop index idx_videos_cast_members_cast_member_id_video_id on videos_cast_members;
+drop index idx_videos_genres_genre_id_video_id on videos_genres;
+drop index idx_videos_categories_category_id_video_id on videos_categories;
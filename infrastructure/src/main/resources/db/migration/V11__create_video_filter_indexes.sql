@@ -0,0 +1,4 @@
+create index idx_videos_published_rating_launch_year on videos(published, rating, launch_year);
+create index idx_videos_published_launch_year on videos(published, launch_year);
+create index idx_videos_published_created_at on videos(published, created_at);
+create index idx_videos_duration on videos(duration);
@@ -0,0 +1,4 @@
+create index idx_categories_updated_at on categories(updated_at);
+create index idx_genres_updated_at on genres(updated_at);
+create index idx_cast_members_updated_at on cast_members(updated_at);
+create index idx_videos_updated_at on videos(updated_at);
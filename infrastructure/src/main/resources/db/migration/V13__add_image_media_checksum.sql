@@ -0,0 +1,3 @@
+alter table videos_image_media add column checksum varchar(255) not null default '';
+
+update videos_image_media set checksum = id;
@@ -0,0 +1,18 @@
+create table media_blobs (
+    id varchar(64) not null,
+    checksum varchar(32) not null,
+    content_length bigint not null,
+    location varchar(500) not null,
+    created_at datetime(6) not null,
+    constraint pk_media_blobs primary key (id)
+);
+
+create table videos_media_manifest (
+    video_id char(32) not null,
+    resource_type varchar(30) not null,
+    blob_id varchar(64) not null,
+    constraint pk_videos_media_manifest primary key (video_id, resource_type),
+    constraint fk_videos_media_manifest_blob_id foreign key (blob_id) references media_blobs(id)
+);
+
+create index idx_videos_media_manifest_blob_id on videos_media_manifest(blob_id);
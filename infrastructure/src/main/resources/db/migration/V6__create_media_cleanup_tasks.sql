@@ -0,0 +1,12 @@
+create table media_cleanup_tasks (
+    id char(32) not null,
+    target varchar(500) not null,
+    target_type varchar(16) not null,
+    attempts int not null,
+    next_attempt_at datetime(6) not null,
+    last_error varchar(1000),
+    created_at datetime(6) not null,
+    constraint pk_media_cleanup_tasks primary key (id)
+);
+
+create index idx_media_cleanup_tasks_next_attempt_at on media_cleanup_tasks(next_attempt_at);
@@ -0,0 +1,3 @@
+create index idx_videos_video_media_local_path on videos_video_media(local_path);
+create index idx_videos_image_media_local_path on videos_image_media(local_path);
+create index idx_media_blobs_location on media_blobs(location);
@@ -0,0 +1,7 @@
+create index idx_categories_name on categories(name);
+create index idx_categories_created_at on categories(created_at);
+create index idx_genres_name on genres(name);
+create index idx_genres_created_at on genres(created_at);
+create index idx_cast_members_name on cast_members(name);
+create index idx_cast_members_created_at on cast_members(created_at);
+create index idx_videos_created_at on videos(created_at);
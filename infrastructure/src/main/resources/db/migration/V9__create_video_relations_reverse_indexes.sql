@@ -0,0 +1,3 @@
+create index idx_videos_categories_category_id_video_id on videos_categories(category_id, video_id);
+create index idx_videos_genres_genre_id_video_id on videos_genres(genre_id, video_id);
+create index idx_videos_cast_members_cast_member_id_video_id on videos_cast_members(cast_member_id, video_id);
@@ -3,6 +3,9 @@ package com.codemagic.catalog.admin;
 import com.codemagic.catalog.admin.infrastructure.castmember.persistence.CastMemberRepository;
 import com.codemagic.catalog.admin.infrastructure.category.persistence.CategoryRepository;
 import com.codemagic.catalog.admin.infrastructure.genre.persistence.GenreRepository;
+import com.codemagic.catalog.admin.infrastructure.video.persistence.MediaBlobRepository;
+import com.codemagic.catalog.admin.infrastructure.video.persistence.MediaCleanupTaskRepository;
+import com.codemagic.catalog.admin.infrastructure.video.persistence.VideoMediaManifestRepository;
 import com.codemagic.catalog.admin.infrastructure.video.persistence.VideoRepository;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -20,7 +23,10 @@ public class CleanUpExtension implements BeforeEachCallback {
                 appContext.getBean(GenreRepository.class),
                 appContext.getBean(CategoryRepository.class),
                 appContext.getBean(CastMemberRepository.class),
-                appContext.getBean(VideoRepository.class)
+                appContext.getBean(VideoRepository.class),
+                appContext.getBean(VideoMediaManifestRepository.class),
+                appContext.getBean(MediaBlobRepository.class),
+                appContext.getBean(MediaCleanupTaskRepository.class)
         ));
     }
 
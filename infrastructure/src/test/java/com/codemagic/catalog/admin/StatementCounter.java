@@ -0,0 +1,33 @@
+package com.codemagic.catalog.admin;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+public class StatementCounter {
+
+    private final EntityManager entityManager;
+    private final Statistics statistics;
+
+    private StatementCounter(final EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public static StatementCounter of(final EntityManager entityManager) {
+        return new StatementCounter(entityManager);
+    }
+
+    public long count(final Runnable action) {
+        return record(action).getPrepareStatementCount();
+    }
+
+    public Statistics record(final Runnable action) {
+        this.entityManager.flush();
+        this.entityManager.clear();
+        this.statistics.clear();
+        action.run();
+        this.entityManager.flush();
+        return this.statistics;
+    }
+}
@@ -2,13 +2,16 @@ package com.codemagic.catalog.admin.infrastructure.api;
 
 import com.codemagic.catalog.admin.ControllerTest;
 import com.codemagic.catalog.admin.Fixture;
+import com.codemagic.catalog.admin.application.castmember.create.BulkCreateCastMembersUseCase;
 import com.codemagic.catalog.admin.application.castmember.create.CreateCastMemberOutput;
 import com.codemagic.catalog.admin.application.castmember.create.CreateCastMemberUseCase;
 import com.codemagic.catalog.admin.application.castmember.delete.DeleteCastMemberUseCase;
+import com.codemagic.catalog.admin.application.castmember.retrieve.export.ExportCastMembersUseCase;
 import com.codemagic.catalog.admin.application.castmember.retrieve.get.CastMemberOutput;
 import com.codemagic.catalog.admin.application.castmember.retrieve.get.GetCastMemberByIDUseCase;
 import com.codemagic.catalog.admin.application.castmember.retrieve.list.ListCastMembersOutput;
 import com.codemagic.catalog.admin.application.castmember.retrieve.list.ListCastMembersUseCase;
+import com.codemagic.catalog.admin.application.castmember.retrieve.suggest.SuggestCastMembersUseCase;
 import com.codemagic.catalog.admin.application.castmember.update.UpdateCastMemberOutput;
 import com.codemagic.catalog.admin.application.castmember.update.UpdateCastMemberUseCase;
 import com.codemagic.catalog.admin.domain.castmember.CastMember;
@@ -50,6 +53,9 @@ public class CastMemberAPITest {
     @MockBean
     private CreateCastMemberUseCase createCastMemberUseCase;
 
+    @MockBean
+    private BulkCreateCastMembersUseCase bulkCreateCastMembersUseCase;
+
     @MockBean
     private UpdateCastMemberUseCase updateCastMemberUseCase;
 
@@ -62,6 +68,12 @@ public class CastMemberAPITest {
     @MockBean
     private ListCastMembersUseCase listCastMembersUseCase;
 
+    @MockBean
+    private SuggestCastMembersUseCase suggestCastMembersUseCase;
+
+    @MockBean
+    private ExportCastMembersUseCase exportCastMembersUseCase;
+
     @Test
     void testDependencies() {
         assertNotNull(mvc);
@@ -1,13 +1,19 @@
 package com.codemagic.catalog.admin.infrastructure.api;
 
 import com.codemagic.catalog.admin.ControllerTest;
+import com.codemagic.catalog.admin.application.BulkCreateOutput;
+import com.codemagic.catalog.admin.application.ExportCommand;
+import com.codemagic.catalog.admin.application.category.create.BulkCreateCategoriesUseCase;
 import com.codemagic.catalog.admin.application.category.create.CreateCategoryOutput;
 import com.codemagic.catalog.admin.application.category.create.CreateCategoryUseCase;
 import com.codemagic.catalog.admin.application.category.delete.DeleteCategoryUseCase;
+import com.codemagic.catalog.admin.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.codemagic.catalog.admin.application.category.retrieve.get.CategoryOutput;
 import com.codemagic.catalog.admin.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.codemagic.catalog.admin.application.category.retrieve.list.CategoryListOutput;
 import com.codemagic.catalog.admin.application.category.retrieve.list.ListCategoriesUseCase;
+import com.codemagic.catalog.admin.application.category.retrieve.suggest.CategorySuggestionOutput;
+import com.codemagic.catalog.admin.application.category.retrieve.suggest.SuggestCategoriesUseCase;
 import com.codemagic.catalog.admin.application.category.update.UpdateCategoryOutput;
 import com.codemagic.catalog.admin.application.category.update.UpdateCategoryUseCase;
 import com.codemagic.catalog.admin.domain.category.Category;
@@ -15,6 +21,7 @@ import com.codemagic.catalog.admin.domain.category.CategoryID;
 import com.codemagic.catalog.admin.domain.exceptions.DomainException;
 import com.codemagic.catalog.admin.domain.exceptions.NotFoundException;
 import com.codemagic.catalog.admin.domain.pagination.Pagination;
+import com.codemagic.catalog.admin.domain.pagination.TotalMode;
 import com.codemagic.catalog.admin.domain.validation.Error;
 import com.codemagic.catalog.admin.domain.validation.handler.Notification;
 import com.codemagic.catalog.admin.infrastructure.category.models.CreateCategoryRequest;
@@ -27,6 +34,8 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 
@@ -51,6 +60,9 @@ public class CategoryAPITest {
     @MockBean
     private CreateCategoryUseCase createCategoryUseCase;
 
+    @MockBean
+    private BulkCreateCategoriesUseCase bulkCreateCategoriesUseCase;
+
     @MockBean
     private GetCategoryByIdUseCase getCategoryByIdUseCase;
 
@@ -63,6 +75,39 @@ public class CategoryAPITest {
     @MockBean
     private ListCategoriesUseCase listCategoriesUseCase;
 
+    @MockBean
+    private SuggestCategoriesUseCase suggestCategoriesUseCase;
+
+    @MockBean
+    private ExportCategoriesUseCase exportCategoriesUseCase;
+
+    @Test
+    void givenAnUpdatedSince_whenCallsExportCategories_thenShouldStreamNdjson() throws Exception {
+        final var expectedUpdatedSince = Instant.parse("2024-01-01T00:00:00Z");
+        final var expectedBody = "{\"id\":\"123\"}\n{\"id\":\"456\"}\n";
+
+        when(exportCategoriesUseCase.execute(any())).thenAnswer(call -> {
+            call.getArgument(0, ExportCommand.class).output().write(expectedBody.getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        });
+
+        final var request = get("/categories/export")
+                .queryParam("updated_since", "2024-01-01T00:00:00Z");
+
+        final var result = this.mvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mvc.perform(asyncDispatch(result))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(content().string(expectedBody));
+
+        verify(exportCategoriesUseCase, times(1))
+                .execute(argThat(command -> Objects.equals(expectedUpdatedSince, command.updatedSince())));
+    }
+
     @Test
     void givenAValidCommand_whenCallsCreateCategory_thenShouldCreateACategory() throws Exception {
         final var expectedName = "Movies";
@@ -92,6 +137,41 @@ public class CategoryAPITest {
 
     }
 
+    @Test
+    void givenItemsWithAnInvalidOne_whenCallsBulkCreateCategories_thenShouldReturnMultiStatusWithErrorsPerItem() throws Exception {
+        final var expectedErrorMessage = "'name' should not be null";
+
+        final var input = List.of(
+                new CreateCategoryRequest("Movies", "The most watched movies"),
+                new CreateCategoryRequest(null, "Without a name")
+        );
+
+        when(bulkCreateCategoriesUseCase.execute(any()))
+                .thenReturn(BulkCreateOutput.from(List.of(
+                        BulkCreateOutput.Item.created(0, "123"),
+                        BulkCreateOutput.Item.rejected(1, List.of(new Error(expectedErrorMessage)))
+                )));
+
+        final var request = MockMvcRequestBuilders.post("/categories/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(input));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.created", equalTo(1)))
+                .andExpect(jsonPath("$.rejected", equalTo(1)))
+                .andExpect(jsonPath("$.items[0].id", equalTo("123")))
+                .andExpect(jsonPath("$.items[1].index", equalTo(1)))
+                .andExpect(jsonPath("$.items[1].errors[0].message", equalTo(expectedErrorMessage)));
+
+        verify(bulkCreateCategoriesUseCase, times(1)).execute(argThat(command ->
+                command.items().size() == 2
+                        && Objects.equals("Movies", command.items().get(0).name())
+                        && command.items().get(1).name() == null
+        ));
+    }
+
     @Test
     void givenAnInvalidCommand_whenCallsCreateCategory_thenShouldReturnANotification() throws Exception {
         final String expectedName = null;
@@ -377,4 +457,93 @@ public class CategoryAPITest {
 
     }
 
+    @Test
+    void givenACursor_whenListCategories_thenShouldReturnNextCursor() throws Exception {
+        final var movies = Category.newCategory("Movies", "The most watched movies");
+
+        final var expectedPerPage = 1;
+        final var expectedAfter = "bmFtZQ.QVND.TW92aWVz.aWQ";
+        final var expectedNext = "bmFtZQ.QVND.U2VyaWVz.aWQ";
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(Pagination.cursor(expectedPerPage, List.of(CategoryListOutput.from(movies)), expectedNext));
+
+        final var request = get("/categories")
+                .queryParam("perPage", String.valueOf(expectedPerPage))
+                .queryParam("after", expectedAfter);
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.per_page", equalTo(expectedPerPage)))
+                .andExpect(jsonPath("$.total", equalTo((int) Pagination.UNKNOWN_TOTAL)))
+                .andExpect(jsonPath("$.next", equalTo(expectedNext)))
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id", equalTo(movies.getId().getValue())));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                query.isCursor() && Objects.equals(expectedAfter, query.after())
+        ));
+    }
+
+    @Test
+    void givenATotalMode_whenListCategories_thenShouldReturnHasNextAndTotalMode() throws Exception {
+        final var movies = Category.newCategory("Movies", "The most watched movies");
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(Pagination.slice(0, 1, List.of(CategoryListOutput.from(movies)), true));
+
+        final var request = get("/categories")
+                .queryParam("perPage", "1")
+                .queryParam("total", "none");
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total_mode", equalTo("NONE")))
+                .andExpect(jsonPath("$.has_next", equalTo(true)))
+                .andExpect(jsonPath("$.items", hasSize(1)));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                TotalMode.NONE == query.totalMode() && !query.isCursor()
+        ));
+    }
+
+    @Test
+    void givenAnInvalidTotalMode_whenListCategories_thenShouldReturnUnprocessableEntity() throws Exception {
+        final var request = get("/categories")
+                .queryParam("total", "approximately");
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message", equalTo("Invalid total mode 'approximately'")));
+
+        verify(listCategoriesUseCase, never()).execute(any());
+    }
+
+    @Test
+    void givenATermsPrefix_whenCallsSuggestCategories_thenShouldReturnIdAndName() throws Exception {
+        final var movies = Category.newCategory("Movies", "The most watched movies");
+        final var expectedId = movies.getId().getValue();
+
+        when(suggestCategoriesUseCase.execute(any()))
+                .thenReturn(List.of(new CategorySuggestionOutput(expectedId, "Movies")));
+
+        final var request = get("/categories/suggestions")
+                .queryParam("terms", "mov")
+                .queryParam("limit", "5");
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", equalTo(expectedId)))
+                .andExpect(jsonPath("$[0].name", equalTo("Movies")));
+
+        verify(suggestCategoriesUseCase, times(1)).execute(argThat(query ->
+                "mov".equals(query.terms()) && query.limit() == 5
+        ));
+    }
+
 }
@@ -1,13 +1,16 @@
 package com.codemagic.catalog.admin.infrastructure.api;
 
 import com.codemagic.catalog.admin.ControllerTest;
+import com.codemagic.catalog.admin.application.genre.create.BulkCreateGenresUseCase;
 import com.codemagic.catalog.admin.application.genre.create.CreateGenreOutput;
 import com.codemagic.catalog.admin.application.genre.create.CreateGenreUseCase;
 import com.codemagic.catalog.admin.application.genre.delete.DeleteGenreUseCase;
+import com.codemagic.catalog.admin.application.genre.retrieve.export.ExportGenresUseCase;
 import com.codemagic.catalog.admin.application.genre.retrieve.get.GenreOutput;
 import com.codemagic.catalog.admin.application.genre.retrieve.get.GetGenreByIDUseCase;
 import com.codemagic.catalog.admin.application.genre.retrieve.list.GenreListOutput;
 import com.codemagic.catalog.admin.application.genre.retrieve.list.ListGenresUseCase;
+import com.codemagic.catalog.admin.application.genre.retrieve.suggest.SuggestGenresUseCase;
 import com.codemagic.catalog.admin.application.genre.update.UpdateGenreOutput;
 import com.codemagic.catalog.admin.application.genre.update.UpdateGenreUseCase;
 import com.codemagic.catalog.admin.domain.category.Category;
@@ -49,6 +52,9 @@ public class GenreAPITest {
     @MockBean
     private CreateGenreUseCase createGenreUseCase;
 
+    @MockBean
+    private BulkCreateGenresUseCase bulkCreateGenresUseCase;
+
     @MockBean
     private GetGenreByIDUseCase getGenreByIDUseCase;
 
@@ -61,6 +67,12 @@ public class GenreAPITest {
     @MockBean
     private ListGenresUseCase listGenresUseCase;
 
+    @MockBean
+    private SuggestGenresUseCase suggestGenresUseCase;
+
+    @MockBean
+    private ExportGenresUseCase exportGenresUseCase;
+
     @Test
     void givenAValidCommand_whenCallsCreateGenre_thenShouldReturnANewGenre() throws Exception {
         // given
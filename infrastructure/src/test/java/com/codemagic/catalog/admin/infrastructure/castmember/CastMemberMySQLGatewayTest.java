@@ -2,12 +2,14 @@ package com.codemagic.catalog.admin.infrastructure.castmember;
 
 import com.codemagic.catalog.admin.Fixture;
 import com.codemagic.catalog.admin.MySQLGatewayTest;
+import com.codemagic.catalog.admin.StatementCounter;
 import com.codemagic.catalog.admin.domain.castmember.CastMember;
 import com.codemagic.catalog.admin.domain.castmember.CastMemberID;
 import com.codemagic.catalog.admin.domain.castmember.CastMemberType;
 import com.codemagic.catalog.admin.domain.pagination.SearchQuery;
 import com.codemagic.catalog.admin.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import com.codemagic.catalog.admin.infrastructure.castmember.persistence.CastMemberRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -26,12 +28,25 @@ public class CastMemberMySQLGatewayTest {
     @Autowired
     private CastMemberRepository repository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void testDependencies() {
         assertNotNull(gateway);
         assertNotNull(repository);
     }
 
+    @Test
+    void givenANewMember_whenCallsCreate_thenShouldOnlyIssueTheInsert() {
+        final var member = CastMember.newMember(Fixture.name(), Fixture.CastMembers.type());
+
+        final var statements = StatementCounter.of(this.entityManager).count(() -> this.gateway.create(member));
+
+        assertEquals(1, statements);
+        assertEquals(1, repository.count());
+    }
+
     @Test
     void givenAValidParams_whenCallsCreateMember_thenShouldCreateAMember() {
         // given
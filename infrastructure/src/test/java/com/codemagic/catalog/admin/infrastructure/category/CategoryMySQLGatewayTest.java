@@ -2,13 +2,22 @@ package com.codemagic.catalog.admin.infrastructure.category;
 
 import com.codemagic.catalog.admin.domain.category.Category;
 import com.codemagic.catalog.admin.domain.category.CategoryID;
+import com.codemagic.catalog.admin.domain.exceptions.DomainException;
+import com.codemagic.catalog.admin.domain.pagination.Pagination;
 import com.codemagic.catalog.admin.domain.pagination.SearchQuery;
+import com.codemagic.catalog.admin.domain.pagination.Suggestion;
+import com.codemagic.catalog.admin.domain.pagination.SuggestionQuery;
+import com.codemagic.catalog.admin.domain.pagination.TotalMode;
 import com.codemagic.catalog.admin.MySQLGatewayTest;
+import com.codemagic.catalog.admin.StatementCounter;
 import com.codemagic.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
 import com.codemagic.catalog.admin.infrastructure.category.persistence.CategoryRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -22,6 +31,19 @@ public class CategoryMySQLGatewayTest {
     @Autowired
     private CategoryRepository repository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void givenANewCategory_whenCallsCreate_thenShouldOnlyIssueTheInsert() {
+        final var category = Category.newCategory("Movies", "The most watched movies");
+
+        final var statements = StatementCounter.of(this.entityManager).count(() -> gateway.create(category));
+
+        assertEquals(1, statements);
+        assertEquals(1, repository.count());
+    }
+
     @Test
     void givenAValidCategory_whenCallsCreate_thenShouldCreateACategory() {
         final var expectedName = "Movies";
@@ -374,6 +396,171 @@ public class CategoryMySQLGatewayTest {
         assertNull(movies.getDeletedAt());
     }
 
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllWithCursorAndFollowNext_thenShouldSeekThroughAllPages() {
+        final var expectedPerPage = 2;
+
+        final var movies = Category.newCategory("Movies", "The most watched movies");
+        final var series = Category.newCategory("Series", "The most viewed series");
+        final var documentaries = Category.newCategory("Documentaries", "The most liked documentaries");
+        final var animes = Category.newCategory("Animes", "The most liked animes");
+        final var kids = Category.newCategory("Kids", "The most liked kids shows");
+
+        this.repository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries),
+                CategoryJpaEntity.from(animes),
+                CategoryJpaEntity.from(kids)
+        ));
+
+        // Page <0>
+        var actualResult = this.gateway.findAll(new SearchQuery(0, expectedPerPage, "", "name", "asc", ""));
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        assertEquals(expectedPerPage, actualResult.perPage());
+        assertEquals(List.of(animes.getId(), documentaries.getId()), actualResult.items().stream().map(Category::getId).toList());
+        assertNotNull(actualResult.next());
+
+        // Page <1>
+        actualResult = this.gateway.findAll(new SearchQuery(0, expectedPerPage, "", "name", "asc", actualResult.next()));
+
+        assertEquals(List.of(kids.getId(), movies.getId()), actualResult.items().stream().map(Category::getId).toList());
+        assertNotNull(actualResult.next());
+
+        // Page <2>
+        actualResult = this.gateway.findAll(new SearchQuery(0, expectedPerPage, "", "name", "asc", actualResult.next()));
+
+        assertEquals(List.of(series.getId()), actualResult.items().stream().map(Category::getId).toList());
+        assertNull(actualResult.next());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllWithCursorDescendingByCreatedAt_thenShouldSeekThroughAllPages() {
+        final var movies = Category.newCategory("Movies", "The most watched movies");
+        final var series = Category.newCategory("Series", "The most viewed series");
+        final var documentaries = Category.newCategory("Documentaries", "The most liked documentaries");
+
+        this.repository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries)
+        ));
+
+        final var expectedIds = this.repository.findAll().stream()
+                .sorted(Comparator.comparing(CategoryJpaEntity::getCreatedAt)
+                        .thenComparing(CategoryJpaEntity::getId)
+                        .reversed())
+                .map(it -> CategoryID.from(it.getId()))
+                .toList();
+
+        final var actualIds = new ArrayList<CategoryID>();
+        String next = "";
+        do {
+            final var actualResult = this.gateway.findAll(new SearchQuery(0, 1, "", "createdAt", "desc", next));
+            actualResult.items().forEach(category -> actualIds.add(category.getId()));
+            next = actualResult.next();
+        } while (next != null);
+
+        assertEquals(expectedIds, actualIds);
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllWithoutTotal_thenShouldReturnASliceWithoutCounting() {
+        final var movies = Category.newCategory("Movies", "The most watched movies");
+        final var series = Category.newCategory("Series", "The most viewed series");
+        final var documentaries = Category.newCategory("Documentaries", "The most liked documentaries");
+
+        this.repository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries)
+        ));
+
+        var actualResult = this.gateway.findAll(new SearchQuery(0, 2, "", "name", "asc", null, TotalMode.NONE));
+
+        assertEquals(TotalMode.NONE, actualResult.totalMode());
+        assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        assertTrue(actualResult.hasNext());
+        assertEquals(List.of(documentaries.getId(), movies.getId()), actualResult.items().stream().map(Category::getId).toList());
+
+        actualResult = this.gateway.findAll(new SearchQuery(1, 2, "", "name", "asc", null, TotalMode.NONE));
+
+        assertFalse(actualResult.hasNext());
+        assertEquals(List.of(series.getId()), actualResult.items().stream().map(Category::getId).toList());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllWithEstimatedTotal_thenShouldOnlyEstimateUnfilteredListings() {
+        this.repository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Movies", "The most watched movies")),
+                CategoryJpaEntity.from(Category.newCategory("Series", "The most viewed series")),
+                CategoryJpaEntity.from(Category.newCategory("Documentaries", "The most liked documentaries"))
+        ));
+
+        final var actualEstimated = this.gateway.findAll(new SearchQuery(0, 1, "", "name", "asc", null, TotalMode.ESTIMATED));
+
+        assertEquals(TotalMode.ESTIMATED, actualEstimated.totalMode());
+        assertEquals(3, actualEstimated.total());
+        assertTrue(actualEstimated.hasNext());
+        assertEquals(1, actualEstimated.items().size());
+
+        final var actualFiltered = this.gateway.findAll(new SearchQuery(0, 1, "most", "name", "asc", null, TotalMode.ESTIMATED));
+
+        assertEquals(TotalMode.EXACT, actualFiltered.totalMode());
+        assertEquals(3, actualFiltered.total());
+        assertTrue(actualFiltered.hasNext());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllSortedByRelevance_thenShouldRankNameMatchesFirst() {
+        final var movies = Category.newCategory("Movies", "The most watched movies");
+        final var series = Category.newCategory("Series", "Series based on movies");
+        final var documentaries = Category.newCategory("Documentaries", "The most liked documentaries");
+
+        this.repository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries),
+                CategoryJpaEntity.from(movies)
+        ));
+
+        final var actualResult = this.gateway.findAll(new SearchQuery(0, 10, "movies", "relevance", "asc"));
+
+        assertEquals(2, actualResult.total());
+        assertEquals(List.of(movies.getId(), series.getId()), actualResult.items().stream().map(Category::getId).toList());
+
+        final var actualSlice = this.gateway.findAll(new SearchQuery(0, 1, "movies", "relevance", "asc", null, TotalMode.NONE));
+
+        assertTrue(actualSlice.hasNext());
+        assertEquals(List.of(movies.getId()), actualSlice.items().stream().map(Category::getId).toList());
+
+        final var actualUnfiltered = this.gateway.findAll(new SearchQuery(0, 10, "", "relevance", "asc"));
+
+        assertEquals(List.of(documentaries.getId(), movies.getId(), series.getId()),
+                actualUnfiltered.items().stream().map(Category::getId).toList());
+        assertThrows(DomainException.class,
+                () -> this.gateway.findAll(new SearchQuery(0, 1, "movies", "relevance", "asc", "")));
+    }
+
+    @Test
+    void givenACursorForAnotherSort_whenCallsFindAll_thenShouldThrowDomainException() {
+        this.repository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Movies", "The most watched movies")),
+                CategoryJpaEntity.from(Category.newCategory("Series", "The most viewed series"))
+        ));
+
+        final var next = this.gateway.findAll(new SearchQuery(0, 1, "", "name", "asc", "")).next();
+
+        final var actualException = assertThrows(DomainException.class,
+                () -> this.gateway.findAll(new SearchQuery(0, 1, "", "createdAt", "asc", next)));
+
+        assertEquals("Cursor was issued for a different sort, restart the listing", actualException.getErrors().get(0).message());
+        assertThrows(DomainException.class,
+                () -> this.gateway.findAll(new SearchQuery(0, 1, "", "description", "asc", "")));
+        assertThrows(DomainException.class,
+                () -> this.gateway.findAll(new SearchQuery(0, 1, "", "name", "asc", "not-a-cursor")));
+    }
+
     @Test
     void givenPrePersistedCategories_whenCallsExistsByIDs_thenShouldReturnCategoryIds() {
         final var movies = Category.newCategory("Movies", "The most watched movies");
@@ -398,4 +585,24 @@ public class CategoryMySQLGatewayTest {
         assertEquals(2, actualResult.size());
     }
 
+    @Test
+    void givenPrePersistedCategories_whenCallsSuggest_thenShouldMatchNamePrefixesFromMemory() {
+        repository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Movies", "The most watched movies")),
+                CategoryJpaEntity.from(Category.newCategory("Documentaries", null))
+        ));
+        gateway.loadNames();
+
+        final var series = gateway.create(Category.newCategory("Tv Series", null));
+
+        assertEquals(List.of("Movies"), gateway.suggest(new SuggestionQuery("mo", 10)).stream()
+                .map(Suggestion::name).toList());
+        assertEquals(List.of(series.getId().getValue()), gateway.suggest(new SuggestionQuery("ser", 10)).stream()
+                .map(Suggestion::id).toList());
+
+        gateway.deleteById(series.getId());
+
+        assertTrue(gateway.suggest(new SuggestionQuery("ser", 10)).isEmpty());
+    }
+
 }
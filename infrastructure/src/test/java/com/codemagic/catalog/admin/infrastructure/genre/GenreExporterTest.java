@@ -0,0 +1,120 @@
+package com.codemagic.catalog.admin.infrastructure.genre;
+
+import com.codemagic.catalog.admin.MySQLGatewayTest;
+import com.codemagic.catalog.admin.domain.category.Category;
+import com.codemagic.catalog.admin.domain.category.CategoryGateway;
+import com.codemagic.catalog.admin.domain.genre.Genre;
+import com.codemagic.catalog.admin.domain.genre.GenreGateway;
+import com.codemagic.catalog.admin.infrastructure.configuration.ObjectMapperConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MySQLGatewayTest
+@Import({GenreExporter.class, ObjectMapperConfig.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+public class GenreExporterTest {
+
+    @Autowired
+    private GenreExporter exporter;
+
+    @Autowired
+    private GenreGateway genreGateway;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Test
+    void givenGenresWithCategories_whenCallsExport_thenShouldWriteOneLinePerGenreWithItsCategories() throws Exception {
+        final var movies = categoryGateway.create(Category.newCategory("Movies", null));
+        final var series = categoryGateway.create(Category.newCategory("Series", null));
+        final var drama = genreGateway.create(Genre.newGenre("Drama").addCategories(List.of(movies.getId())));
+        final var action = genreGateway.create(Genre.newGenre("Action").addCategories(List.of(movies.getId(), series.getId())));
+        final var horror = genreGateway.create(Genre.newGenre("Horror"));
+        this.entityManager.flush();
+
+        final var out = new ByteArrayOutputStream();
+        final var actualCount = exporter.export(null, out);
+
+        final var lines = lines(out);
+        assertEquals(3, actualCount);
+        assertEquals(3, lines.size());
+
+        final var byId = lines.stream().collect(Collectors.toMap(line -> line.get("id").asText(), Function.identity()));
+        assertEquals("Drama", byId.get(drama.getId().getValue()).get("name").asText());
+        assertTrue(byId.get(drama.getId().getValue()).get("is_active").asBoolean());
+        assertEquals(Set.of(movies.getId().getValue()), ids(byId.get(drama.getId().getValue())));
+        assertEquals(Set.of(movies.getId().getValue(), series.getId().getValue()), ids(byId.get(action.getId().getValue())));
+        assertEquals(Set.of(), ids(byId.get(horror.getId().getValue())));
+    }
+
+    @Test
+    void givenMoreGenresThanAChunk_whenCallsExport_thenShouldWriteEveryGenreOnce() throws Exception {
+        final var expectedCount = 1201;
+        genreGateway.createAll(IntStream.range(0, expectedCount)
+                .mapToObj(i -> Genre.newGenre("Genre " + i))
+                .toList());
+        this.entityManager.flush();
+
+        final var out = new ByteArrayOutputStream();
+        final var actualCount = exporter.export(null, out);
+
+        final var lines = lines(out);
+        assertEquals(expectedCount, actualCount);
+        assertEquals(expectedCount, lines.stream().map(line -> line.get("id").asText()).distinct().count());
+    }
+
+    @Test
+    void givenAnUpdatedSince_whenCallsExport_thenShouldOnlyWriteGenresUpdatedFromThen() throws Exception {
+        final var genre = genreGateway.create(Genre.newGenre("Drama"));
+        this.entityManager.flush();
+
+        final var future = new ByteArrayOutputStream();
+        assertEquals(0, exporter.export(Instant.now().plusSeconds(60), future));
+        assertEquals(0, future.size());
+
+        final var since = new ByteArrayOutputStream();
+        assertEquals(1, exporter.export(genre.getUpdatedAt().minusSeconds(1), since));
+        assertEquals(genre.getId().getValue(), lines(since).get(0).get("id").asText());
+    }
+
+    private List<JsonNode> lines(final ByteArrayOutputStream out) throws Exception {
+        final var content = out.toString(StandardCharsets.UTF_8);
+        assertTrue(content.isEmpty() || content.endsWith("\n"));
+        final var lines = new ArrayList<JsonNode>();
+        for (final var line : content.lines().toList()) {
+            lines.add(this.mapper.readTree(line));
+        }
+        return lines;
+    }
+
+    private static Set<String> ids(final JsonNode genre) {
+        return StreamSupport.stream(genre.get("categories_id").spliterator(), false)
+                .map(JsonNode::asText)
+                .collect(Collectors.toSet());
+    }
+}
@@ -1,6 +1,7 @@
 package com.codemagic.catalog.admin.infrastructure.genre;
 
 import com.codemagic.catalog.admin.MySQLGatewayTest;
+import com.codemagic.catalog.admin.StatementCounter;
 import com.codemagic.catalog.admin.domain.category.Category;
 import com.codemagic.catalog.admin.domain.category.CategoryGateway;
 import com.codemagic.catalog.admin.domain.category.CategoryID;
@@ -10,13 +11,16 @@ import com.codemagic.catalog.admin.domain.genre.GenreID;
 import com.codemagic.catalog.admin.domain.pagination.SearchQuery;
 import com.codemagic.catalog.admin.infrastructure.genre.persistence.GenreJpaEntity;
 import com.codemagic.catalog.admin.infrastructure.genre.persistence.GenreRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -32,6 +36,9 @@ public class GenreMySQLGatewayTest {
     @Autowired
     private GenreRepository genreRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void givenAValidGenre_whenCallsCreateGenre_thenShouldPersistAGenre() {
         final var movies = categoryGateway.create(
@@ -69,6 +76,53 @@ public class GenreMySQLGatewayTest {
         assertNull(persistedGenre.getDeletedAt());
     }
 
+    @Test
+    void givenANewGenreWithCategories_whenCallsCreateGenre_thenShouldOnlyIssueTheInserts() {
+        final var movies = categoryGateway.create(Category.newCategory("Movies", "The most watched movies"));
+        final var series = categoryGateway.create(Category.newCategory("Series", "The most watched series"));
+        final var genre = Genre.newGenre("Action").addCategories(List.of(movies.getId(), series.getId()));
+
+        final var statements = StatementCounter.of(this.entityManager).count(() -> genreGateway.create(genre));
+
+        assertEquals(3, statements);
+        assertEquals(2, genreRepository.findById(genre.getId().getValue()).orElseThrow().getCategoriesID().size());
+    }
+
+    @Test
+    void givenGenresWithCategories_whenCallsCreateAll_thenShouldOnlyInsertWithoutReadingThemBack() {
+        final var movies = categoryGateway.create(Category.newCategory("Movies", "The most watched movies"));
+        final var series = categoryGateway.create(Category.newCategory("Series", "The most watched series"));
+        final var genres = IntStream.range(0, 3)
+                .mapToObj(i -> Genre.newGenre("Genre " + i).addCategories(List.of(movies.getId(), series.getId())))
+                .toList();
+
+        final var statistics = StatementCounter.of(this.entityManager).record(() -> genreGateway.createAll(genres));
+
+        assertEquals(9, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(3, genreRepository.count());
+        genres.forEach(genre -> assertEquals(2,
+                genreRepository.findById(genre.getId().getValue()).orElseThrow().getCategoriesID().size()));
+    }
+
+    @Test
+    void givenAGenreWithCategories_whenCallsUpdateGenre_thenShouldOnlyWriteTheChangedLinks() {
+        final var movies = categoryGateway.create(Category.newCategory("Movies", "The most watched movies"));
+        final var series = categoryGateway.create(Category.newCategory("Series", "The most watched series"));
+        final var documentaries = categoryGateway.create(Category.newCategory("Documentaries", "The most watched documentaries"));
+        final var genre = genreGateway.create(Genre.newGenre("Action").addCategories(List.of(movies.getId(), series.getId())));
+
+        final var statistics = StatementCounter.of(this.entityManager).record(() -> genreGateway.update(
+                Genre.with(genre).update("Action", true, List.of(movies.getId(), documentaries.getId()))));
+
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(1, statistics.getEntityDeleteCount());
+
+        final var actualCategories = genreRepository.findById(genre.getId().getValue()).orElseThrow().getCategoriesID();
+        assertEquals(2, actualCategories.size());
+        assertTrue(actualCategories.containsAll(List.of(movies.getId(), documentaries.getId())));
+    }
+
     @Test
     void givenAValidGenreWithoutCategories_whenCallsCreateGenre_thenShouldPersistAGenre() {
         final var expectedName = "Action";
@@ -448,6 +502,30 @@ public class GenreMySQLGatewayTest {
         }
     }
 
+    @Test
+    void givenGenresWithCategories_whenCallsFindAllWithGrowingPages_thenShouldIssueTheSameNumberOfStatements() {
+        final var movies = categoryGateway.create(Category.newCategory("Movies", "The most watched movies"));
+        final var series = categoryGateway.create(Category.newCategory("Series", "The most watched series"));
+
+        this.genreRepository.saveAllAndFlush(IntStream.range(0, 12)
+                .mapToObj(i -> Genre.newGenre("Genre " + i).addCategories(List.of(movies.getId(), series.getId())))
+                .map(GenreJpaEntity::from)
+                .toList());
+
+        final var counter = StatementCounter.of(this.entityManager);
+        final var statements = new ArrayList<Long>();
+        for (final var perPage : List.of(2, 6, 12)) {
+            statements.add(counter.count(() -> {
+                final var actualPage = this.genreGateway.findAll(new SearchQuery(0, perPage, "", "name", "asc"));
+
+                assertEquals(perPage, actualPage.items().size());
+                actualPage.items().forEach(genre -> assertEquals(2, genre.getCategories().size()));
+            }));
+        }
+
+        assertEquals(1, statements.stream().distinct().count(), "statements per page: " + statements);
+    }
+
     private void mockGenres() {
         this.genreRepository.saveAllAndFlush(List.of(
                 GenreJpaEntity.from(Genre.newGenre("Romantic Comedy")),
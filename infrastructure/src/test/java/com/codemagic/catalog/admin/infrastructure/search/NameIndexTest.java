@@ -0,0 +1,73 @@
+package com.codemagic.catalog.admin.infrastructure.search;
+
+import com.codemagic.catalog.admin.domain.pagination.Suggestion;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NameIndexTest {
+
+    @Test
+    void givenLoadedNames_whenCallsSuggest_thenShouldMatchAnyWordPrefixIgnoringCaseAndAccents() {
+        final var index = new NameIndex();
+        index.load(() -> List.of(
+                new Suggestion("1", "A\u00e7\u00e3o"),
+                new Suggestion("2", "Science Fiction"),
+                new Suggestion("3", "Documentary")
+        ));
+
+        assertEquals(List.of(new Suggestion("1", "A\u00e7\u00e3o")), index.suggest("aca", 10));
+        assertEquals(List.of(new Suggestion("2", "Science Fiction")), index.suggest("FIC", 10));
+        assertEquals(List.of(new Suggestion("2", "Science Fiction")), index.suggest("science  fi", 10));
+        assertTrue(index.suggest("xyz", 10).isEmpty());
+        assertTrue(index.suggest(" ", 10).isEmpty());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void givenAName_whenItMatchesOnSeveralWords_thenShouldReturnItOnce() {
+        final var index = new NameIndex();
+        index.load(() -> List.of(new Suggestion("1", "Super Star"), new Suggestion("2", "Star Wars")));
+
+        final var actual = index.suggest("s", 10);
+
+        assertEquals(2, actual.size());
+        assertEquals(1, index.suggest("s", 1).size());
+    }
+
+    @Test
+    void givenAnIndexedName_whenCallsPutAndRemove_thenShouldReflectTheChange() {
+        final var index = new NameIndex();
+        index.put("1", "Movies");
+
+        index.put("1", "Series");
+        assertTrue(index.suggest("mov", 10).isEmpty());
+        assertEquals(List.of(new Suggestion("1", "Series")), index.suggest("ser", 10));
+
+        index.remove("1");
+        assertTrue(index.suggest("ser", 10).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void givenChangesDuringALoad_whenTheLoadFinishes_thenShouldReplayThemOntoTheLoadedNames() {
+        final var index = new NameIndex();
+        index.put("1", "Movies");
+
+        index.load(() -> {
+            final var snapshot = List.of(new Suggestion("1", "Movies"), new Suggestion("2", "Series"));
+            index.put("3", "Shows");
+            index.put("1", "Films");
+            index.remove("2");
+            return snapshot;
+        });
+
+        assertEquals(List.of(new Suggestion("1", "Films")), index.suggest("fil", 10));
+        assertEquals(List.of(new Suggestion("3", "Shows")), index.suggest("sho", 10));
+        assertTrue(index.suggest("mov", 10).isEmpty());
+        assertTrue(index.suggest("ser", 10).isEmpty());
+        assertEquals(2, index.size());
+    }
+}
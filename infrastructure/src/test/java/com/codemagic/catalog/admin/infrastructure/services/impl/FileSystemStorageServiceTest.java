@@ -0,0 +1,274 @@
+package com.codemagic.catalog.admin.infrastructure.services.impl;
+
+import com.codemagic.catalog.admin.Fixture;
+import com.codemagic.catalog.admin.domain.resource.Resource;
+import com.codemagic.catalog.admin.domain.util.ChecksumUtil;
+import com.codemagic.catalog.admin.domain.util.IdentifierUtil;
+import com.codemagic.catalog.admin.domain.video.VideoResourceType;
+import com.codemagic.catalog.admin.infrastructure.services.StorageObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FileSystemStorageServiceTest {
+
+    @TempDir
+    Path root;
+
+    private FileSystemStorageService service;
+
+    @BeforeEach
+    void setup() {
+        this.service = new FileSystemStorageService(this.root);
+    }
+
+    @Test
+    void givenAValidResource_whenCallsStore_thenShouldWriteItUnderTheRootDirectory() throws Exception {
+        // given
+        final var expectedName = "videoId-%s/type-VIDEO".formatted(IdentifierUtil.uuid());
+        final var expectedResource = Fixture.Videos.resource(VideoResourceType.VIDEO);
+
+        // when
+        this.service.store(expectedName, expectedResource);
+
+        // then
+        final var actualFile = this.root.resolve(expectedName);
+        assertTrue(Files.isRegularFile(actualFile));
+        assertArrayEquals(expectedResource.content(), Files.readAllBytes(actualFile));
+        try (final var files = Files.list(actualFile.getParent())) {
+            assertTrue(files.noneMatch(file -> file.getFileName().toString().endsWith(".tmp")));
+        }
+    }
+
+    @Test
+    void givenAStoredObject_whenCallsStoreWithAnUnexpectedChecksum_thenShouldKeepTheStoredObject() throws Exception {
+        // given
+        final var expectedName = "videoId-%s/type-VIDEO".formatted(IdentifierUtil.uuid());
+        final var expectedResource = Fixture.Videos.resource(VideoResourceType.VIDEO);
+        this.service.store(expectedName, expectedResource);
+
+        final var corrupted = "corrupted".getBytes();
+        final var corruptedResource = Resource.with("00000000", new ByteArrayInputStream(corrupted),
+                corrupted.length, "video/mp4", VideoResourceType.VIDEO.name());
+
+        // when
+        final var actualChecksum = this.service.store(expectedName, corruptedResource);
+
+        // then
+        assertEquals(ChecksumUtil.crc32c(corrupted), actualChecksum);
+        assertArrayEquals(expectedResource.content(), Files.readAllBytes(this.root.resolve(expectedName)));
+        assertEquals(expectedResource.checksum(), this.service.get(expectedName).orElseThrow().checksum());
+    }
+
+    @Test
+    void givenAStreamingResource_whenCallsStore_thenShouldWriteItsContent() throws Exception {
+        // given
+        final var expectedName = "videoId-%s/type-TRAILER".formatted(IdentifierUtil.uuid());
+        final var content = Fixture.Videos.resource(VideoResourceType.TRAILER).content();
+        final var expectedChecksum = ChecksumUtil.crc32c(content);
+        final var expectedResource = Resource.with(null, new ByteArrayInputStream(content),
+                Resource.UNKNOWN_LENGTH, "video/mp4", VideoResourceType.TRAILER.name());
+
+        // when
+        final var actualChecksum = this.service.store(expectedName, expectedResource);
+
+        // then
+        assertEquals(expectedChecksum, actualChecksum);
+        assertEquals(expectedChecksum, this.service.get(expectedName).orElseThrow().checksum());
+        assertArrayEquals(content, Files.readAllBytes(this.root.resolve(expectedName)));
+    }
+
+    @Test
+    void givenAFailingStream_whenCallsStore_thenShouldNotLeaveTemporaryFiles() throws Exception {
+        // given
+        final var expectedName = "videoId-%s/type-VIDEO".formatted(IdentifierUtil.uuid());
+        final var failingResource = Resource.with(null, () -> new ReadableByteChannel() {
+            @Override
+            public int read(final ByteBuffer dst) throws IOException {
+                throw new IOException("connection reset");
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        }, Resource.UNKNOWN_LENGTH, "video/mp4", "VIDEO");
+
+        // when
+        assertThrows(UncheckedIOException.class, () -> this.service.store(expectedName, failingResource));
+
+        // then
+        try (final var files = Files.list(this.root.resolve(expectedName).getParent())) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void givenAStoredResource_whenCallsGetResource_thenShouldReturnAFileBackedResource() throws Exception {
+        // given
+        final var expectedName = "videoId-%s/type-BANNER".formatted(IdentifierUtil.uuid());
+        final var expectedResource = Fixture.Videos.resource(VideoResourceType.BANNER);
+        this.service.store(expectedName, expectedResource);
+
+        // when
+        final var actualResource = this.service.get(expectedName).orElseThrow();
+
+        // then
+        assertEquals(expectedResource, actualResource);
+        assertEquals(expectedResource.contentType(), actualResource.contentType());
+        assertEquals(expectedResource.content().length, actualResource.length());
+        assertArrayEquals(expectedResource.content(), actualResource.content());
+
+        try (final var actualChannel = actualResource.channel(2)) {
+            assertInstanceOf(FileChannel.class, actualChannel);
+            assertEquals(2, ((FileChannel) actualChannel).position());
+        }
+    }
+
+    @Test
+    void givenAnInvalidName_whenCallsGetResource_thenShouldReturnEmpty() {
+        assertTrue(this.service.get("videoId-%s/type-VIDEO".formatted(IdentifierUtil.uuid())).isEmpty());
+    }
+
+    @Test
+    void givenANameOutsideTheRoot_whenCallsGetResource_thenShouldThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> this.service.get("../outside"));
+    }
+
+    @Test
+    void givenAValidPrefix_whenCallsList_thenShouldReturnOnlyMatchingNames() {
+        // given
+        final var videoId = IdentifierUtil.uuid();
+        final var expectedNames = List.of(
+                "videoId-%s/type-VIDEO".formatted(videoId),
+                "videoId-%s/type-BANNER".formatted(videoId)
+        );
+        expectedNames.forEach(it -> this.service.store(it, Fixture.Videos.resource(VideoResourceType.VIDEO)));
+        this.service.store("videoId-%s/type-VIDEO".formatted(IdentifierUtil.uuid()),
+                Fixture.Videos.resource(VideoResourceType.VIDEO));
+
+        // when
+        final var actualNames = this.service.list("videoId-%s".formatted(videoId));
+
+        // then
+        assertEquals(expectedNames.size(), actualNames.size());
+        assertTrue(actualNames.containsAll(expectedNames));
+    }
+
+    @Test
+    void givenAPrefixNamingAFolder_whenCallsListAndObjects_thenShouldReturnTheFolderContents() {
+        // given
+        final var sessionId = IdentifierUtil.uuid();
+        final var expectedNames = Set.of(
+                "uploads/%s/session".formatted(sessionId),
+                "uploads/%s/part-00000000000000000000-10".formatted(sessionId)
+        );
+        expectedNames.forEach(it -> this.service.store(it, Fixture.Videos.resource(VideoResourceType.BANNER)));
+        this.service.store("uploads/%s/session".formatted(IdentifierUtil.uuid()), Fixture.Videos.resource(VideoResourceType.BANNER));
+
+        // when
+        final var actualNames = this.service.list("uploads/%s".formatted(sessionId));
+        final Set<String> actualObjects;
+        try (final var objects = this.service.objects("uploads/%s/".formatted(sessionId))) {
+            actualObjects = objects.map(StorageObject::name).collect(Collectors.toSet());
+        }
+
+        // then
+        assertEquals(expectedNames, actualNames);
+        assertEquals(expectedNames, actualObjects);
+    }
+
+    @Test
+    void givenStoredResources_whenCallsObjects_thenShouldStreamNamesAndModificationTimes() throws Exception {
+        // given
+        final var videoId = IdentifierUtil.uuid();
+        final var expectedName = "videoId-%s/type-VIDEO".formatted(videoId);
+        this.service.store(expectedName, Fixture.Videos.resource(VideoResourceType.VIDEO));
+        this.service.store("uploads/%s/session".formatted(IdentifierUtil.uuid()), Fixture.Videos.resource(VideoResourceType.BANNER));
+        final var expectedUpdatedAt = Files.getLastModifiedTime(this.root.resolve(expectedName)).toInstant();
+
+        // when
+        final List<StorageObject> actualObjects;
+        try (final var objects = this.service.objects("videoId-")) {
+            actualObjects = objects.toList();
+        }
+
+        // then
+        assertEquals(List.of(new StorageObject(expectedName, expectedUpdatedAt)), actualObjects);
+        try (final var objects = this.service.objects("")) {
+            assertEquals(2, objects.count());
+        }
+    }
+
+    @Test
+    void givenContentWithoutMetadata_whenCallsGet_thenShouldReturnEmpty() throws Exception {
+        // given
+        final var expectedName = "videoId-%s/type-VIDEO".formatted(IdentifierUtil.uuid());
+        final var file = this.root.resolve(expectedName);
+        Files.createDirectories(file.getParent());
+        Files.write(file, "interrupted".getBytes());
+
+        // when
+        final var actualResource = this.service.get(expectedName);
+
+        // then
+        assertTrue(actualResource.isEmpty());
+    }
+
+    @Test
+    void givenAStoredResource_whenCallsMove_thenShouldReplaceTheTargetAndRemoveTheSource() {
+        // given
+        final var expectedSource = "uploads/staging/%s".formatted(IdentifierUtil.uuid());
+        final var expectedTarget = "videoId-%s/type-VIDEO".formatted(IdentifierUtil.uuid());
+        final var expectedResource = Fixture.Videos.resource(VideoResourceType.VIDEO);
+        this.service.store(expectedTarget, Fixture.Videos.resource(VideoResourceType.BANNER));
+        this.service.store(expectedSource, expectedResource);
+
+        // when
+        this.service.move(expectedSource, expectedTarget);
+
+        // then
+        final var actualResource = this.service.get(expectedTarget).orElseThrow();
+        assertArrayEquals(expectedResource.content(), actualResource.content());
+        assertEquals(expectedResource.contentType(), actualResource.contentType());
+        assertTrue(this.service.get(expectedSource).isEmpty());
+        assertFalse(Files.exists(this.root.resolve("uploads")));
+    }
+
+    @Test
+    void givenAnValidNames_whenCallsDeleteAll_thenShouldDeleteFilesAndEmptyFolders() {
+        // given
+        final var videoId = IdentifierUtil.uuid();
+        final var names = Set.of(
+                "videoId-%s/type-VIDEO".formatted(videoId),
+                "videoId-%s/type-BANNER".formatted(videoId)
+        );
+        names.forEach(it -> this.service.store(it, Fixture.Videos.resource(VideoResourceType.BANNER)));
+
+        // when
+        this.service.deleteAll(names);
+
+        // then
+        assertTrue(this.service.list("videoId-%s".formatted(videoId)).isEmpty());
+        assertFalse(Files.exists(this.root.resolve("videoId-%s".formatted(videoId))));
+    }
+
+}
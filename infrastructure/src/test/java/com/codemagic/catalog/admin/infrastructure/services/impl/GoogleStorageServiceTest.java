@@ -2,9 +2,12 @@ package com.codemagic.catalog.admin.infrastructure.services.impl;
 
 import com.codemagic.catalog.admin.Fixture;
 import com.codemagic.catalog.admin.domain.resource.Resource;
+import com.codemagic.catalog.admin.domain.util.ChecksumUtil;
 import com.codemagic.catalog.admin.domain.util.IdentifierUtil;
 import com.codemagic.catalog.admin.domain.video.VideoResourceType;
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
@@ -13,11 +16,17 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 public class GoogleStorageServiceTest {
@@ -41,7 +50,7 @@ public class GoogleStorageServiceTest {
         doReturn(blob).when(this.storage).create(any(BlobInfo.class), any());
 
         // when
-        this.service.store(expectedName, expectedResource);
+        final var actualChecksum = this.service.store(expectedName, expectedResource);
 
         // then
         final var captor = ArgumentCaptor.forClass(BlobInfo.class);
@@ -49,6 +58,8 @@ public class GoogleStorageServiceTest {
         verify(this.storage, times(1))
                 .create(captor.capture(), eq(expectedResource.content()));
 
+        assertEquals(expectedResource.checksum(), actualChecksum);
+
         final var actualBlob = captor.getValue();
         assertEquals(this.bucket, actualBlob.getBlobId().getBucket());
         assertEquals(expectedName, actualBlob.getName());
@@ -57,6 +68,90 @@ public class GoogleStorageServiceTest {
         assertEquals(expectedResource.contentType(), actualBlob.getContentType());
     }
 
+    @Test
+    void givenAResourceWithAnUnexpectedChecksum_whenCallsStore_thenShouldNotWriteIt() {
+        // given
+        final var content = Fixture.Videos.resource(VideoResourceType.VIDEO).content();
+        final var expectedResource = Resource.with("00000000", content, "video/mp4", VideoResourceType.VIDEO.name());
+
+        // when
+        final var actualChecksum = this.service.store(IdentifierUtil.uuid(), expectedResource);
+
+        // then
+        assertEquals(ChecksumUtil.crc32c(content), actualChecksum);
+        verify(this.storage, never()).create(any(BlobInfo.class), any(byte[].class));
+    }
+
+    @Test
+    void givenAStreamingResourceWithAChecksum_whenCallsStore_thenShouldAskTheBucketToMatchIt() throws Exception {
+        // given
+        final var content = Fixture.Videos.resource(VideoResourceType.VIDEO).content();
+        final var expectedChecksum = ChecksumUtil.crc32c(content);
+        final var expectedResource = Resource.with(expectedChecksum, new ByteArrayInputStream(content),
+                content.length, "video/mp4", VideoResourceType.VIDEO.name());
+
+        final var writer = mock(WriteChannel.class);
+        when(writer.write(any(ByteBuffer.class))).thenAnswer(invocation -> {
+            final ByteBuffer buffer = invocation.getArgument(0);
+            final var remaining = buffer.remaining();
+            buffer.position(buffer.limit());
+            return remaining;
+        });
+        doReturn(writer).when(this.storage).writer(any(BlobInfo.class), any(Storage.BlobWriteOption.class));
+
+        // when
+        final var actualChecksum = this.service.store(IdentifierUtil.uuid(), expectedResource);
+
+        // then
+        final var captor = ArgumentCaptor.forClass(BlobInfo.class);
+        verify(this.storage, times(1)).writer(captor.capture(), eq(Storage.BlobWriteOption.crc32cMatch()));
+        assertEquals(expectedChecksum, captor.getValue().getCrc32cToHexString());
+        assertEquals(expectedChecksum, actualChecksum);
+    }
+
+    @Test
+    void givenAStreamingResource_whenCallsStore_thenShouldWriteThroughAChunkedChannel() throws Exception {
+        // given
+        final var expectedName = IdentifierUtil.uuid();
+        final var expectedChunkSize = 256 * 1024;
+        final var content = Fixture.Videos.resource(VideoResourceType.VIDEO).content();
+        final var expectedChecksum = ChecksumUtil.crc32c(content);
+        final var expectedResource = Resource.with(null, new ByteArrayInputStream(content),
+                content.length, "video/mp4", VideoResourceType.VIDEO.name());
+
+        final var written = new ByteArrayOutputStream();
+        final var writer = mock(WriteChannel.class);
+        when(writer.write(any(ByteBuffer.class))).thenAnswer(invocation -> {
+            final ByteBuffer buffer = invocation.getArgument(0);
+            final var remaining = buffer.remaining();
+            final var bytes = new byte[remaining];
+            buffer.get(bytes);
+            written.write(bytes);
+            return remaining;
+        });
+        doReturn(writer).when(this.storage).writer(any(BlobInfo.class));
+
+        this.service = new GoogleStorageService(this.bucket, this.storage, expectedChunkSize);
+
+        // when
+        final var actualChecksum = this.service.store(expectedName, expectedResource);
+
+        // then
+        final var captor = ArgumentCaptor.forClass(BlobInfo.class);
+
+        verify(this.storage, times(1)).writer(captor.capture());
+        verify(this.storage, never()).create(any(BlobInfo.class), any(byte[].class));
+        verify(writer, times(1)).setChunkSize(eq(expectedChunkSize));
+        verify(writer, times(1)).close();
+
+        final var actualBlob = captor.getValue();
+        assertEquals(expectedName, actualBlob.getName());
+        assertNull(actualBlob.getCrc32cToHexString());
+        assertEquals(expectedChecksum, actualChecksum);
+        assertEquals(expectedResource.contentType(), actualBlob.getContentType());
+        assertArrayEquals(content, written.toByteArray());
+    }
+
     @Test
     void givenAValidName_whenCallsGetResource_thenShouldReturnAResource() {
         // given
@@ -75,6 +170,36 @@ public class GoogleStorageServiceTest {
         assertEquals(expectedResource, actualResource.orElseThrow());
     }
 
+    @Test
+    void givenAValidName_whenReadsAResourceFromAPosition_thenShouldSeekTheReadChannel() throws Exception {
+        // given
+        final var expectedName = IdentifierUtil.uuid();
+        final var expectedPosition = 1024L;
+        final var expectedChunkSize = 512 * 1024;
+        final var expectedResource = Fixture.Videos.resource(VideoResourceType.VIDEO);
+        final var blob = mockBlob(expectedName, expectedResource);
+        when(blob.getSize()).thenReturn(4096L);
+        doReturn(blob).when(this.storage).get(anyString(), anyString());
+
+        final var reader = mock(ReadChannel.class);
+        doReturn(reader).when(this.storage).reader(any(BlobId.class));
+
+        this.service = new GoogleStorageService(this.bucket, this.storage, 256 * 1024, expectedChunkSize);
+
+        // when
+        final var actualResource = this.service.get(expectedName).orElseThrow();
+        final var actualChannel = actualResource.channel(expectedPosition);
+
+        // then
+        verify(blob, never()).getContent();
+        verify(reader, times(1)).setChunkSize(eq(expectedChunkSize));
+        verify(reader, times(1)).seek(eq(expectedPosition));
+
+        assertSame(reader, actualChannel);
+        assertTrue(actualResource.isStreaming());
+        assertEquals(4096L, actualResource.length());
+    }
+
     @Test
     void givenAnInvalidName_whenCallsGetResource_thenShouldReturnEmpty() {
         // given
@@ -145,6 +270,70 @@ public class GoogleStorageServiceTest {
                 actualResources.containsAll(expectedResourcesNames));
     }
 
+    @Test
+    void givenSomeParts_whenCallsCompose_thenShouldComposeOnTheServer() {
+        // given
+        final var expectedName = "videoId-123/type-VIDEO";
+        final var expectedParts = List.of("uploads/1/part-0", "uploads/1/part-1");
+        final var expectedResource = Fixture.Videos.resource(VideoResourceType.VIDEO);
+        final var blob = mockBlob(expectedName, expectedResource);
+        when(this.storage.compose(any())).thenReturn(blob);
+
+        // when
+        final var actualChecksum = this.service.compose(expectedName, "video/mp4", "master.mp4", expectedParts);
+
+        // then
+        final var captor = ArgumentCaptor.forClass(Storage.ComposeRequest.class);
+        verify(this.storage, times(1)).compose(captor.capture());
+        verify(this.storage, never()).delete(anyList());
+
+        final var actualRequest = captor.getValue();
+        assertEquals(expectedResource.checksum(), actualChecksum);
+        assertEquals(expectedName, actualRequest.getTarget().getName());
+        assertEquals(expectedParts, actualRequest.getSourceBlobs().stream().map(Storage.ComposeRequest.SourceBlob::getName).toList());
+    }
+
+    @Test
+    void givenMoreThanTheComposeLimit_whenCallsCompose_thenShouldComposeIntermediatesAndDeleteThem() {
+        // given
+        final var expectedName = "videoId-123/type-VIDEO";
+        final var expectedParts = IntStream.range(0, 40).mapToObj(i -> "uploads/1/part-" + i).toList();
+        final var blob = mockBlob(expectedName, Fixture.Videos.resource(VideoResourceType.VIDEO));
+        when(this.storage.compose(any())).thenReturn(blob);
+
+        // when
+        this.service.compose(expectedName, "video/mp4", "master.mp4", expectedParts);
+
+        // then
+        final var captor = ArgumentCaptor.forClass(Storage.ComposeRequest.class);
+        verify(this.storage, times(3)).compose(captor.capture());
+        verify(this.storage, times(1)).delete(anyList());
+
+        final var actualRequests = captor.getAllValues();
+        assertEquals(32, actualRequests.get(0).getSourceBlobs().size());
+        assertEquals(8, actualRequests.get(1).getSourceBlobs().size());
+        assertEquals(expectedName, actualRequests.get(2).getTarget().getName());
+        assertEquals(2, actualRequests.get(2).getSourceBlobs().size());
+    }
+
+    @Test
+    void givenMoreNamesThanABatch_whenCallsDeleteAll_thenShouldDeleteInBatches() {
+        // given
+        final var expectedNames = IntStream.range(0, 250)
+                .mapToObj(i -> "videoId-%d/type-VIDEO".formatted(i))
+                .collect(Collectors.toSet());
+
+        // when
+        this.service.deleteAll(expectedNames);
+
+        // then
+        final var captor = ArgumentCaptor.forClass(List.class);
+        verify(this.storage, times(3)).delete(captor.capture());
+
+        final var actualSizes = captor.getAllValues().stream().map(List::size).toList();
+        assertEquals(List.of(100, 100, 50), actualSizes);
+    }
+
     private Blob mockBlob(final String name, final Resource resource) {
         final var blob = mock(Blob.class);
         when(blob.getBlobId()).thenReturn(BlobId.of(this.bucket, name));
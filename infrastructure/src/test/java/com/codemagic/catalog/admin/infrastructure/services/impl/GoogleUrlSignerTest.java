@@ -0,0 +1,46 @@
+package com.codemagic.catalog.admin.infrastructure.services.impl;
+
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.net.URL;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class GoogleUrlSignerTest {
+
+    @Test
+    void givenAName_whenCallsSignUpload_thenShouldSignAV4PutUrl() throws Exception {
+        // given
+        final var storage = mock(Storage.class);
+        final var clock = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+        final var signer = new GoogleUrlSigner("test_bucket", storage, clock);
+        final var expectedUrl = new URL("https://storage.googleapis.com/test_bucket/videoId-123/type-VIDEO?X-Goog-Signature=abc");
+
+        when(storage.signUrl(any(BlobInfo.class), anyLong(), any(TimeUnit.class), any(Storage.SignUrlOption[].class)))
+                .thenReturn(expectedUrl);
+
+        // when
+        final var actualUrl = signer.signUpload("videoId-123/type-VIDEO", "video/mp4", Duration.ofMinutes(10));
+
+        // then
+        final var captor = ArgumentCaptor.forClass(BlobInfo.class);
+        verify(storage, times(1)).signUrl(captor.capture(), eq(600L), eq(TimeUnit.SECONDS), any(Storage.SignUrlOption[].class));
+
+        assertEquals(expectedUrl.toString(), actualUrl.url());
+        assertEquals("PUT", actualUrl.method());
+        assertEquals(Instant.parse("2026-01-01T00:10:00Z"), actualUrl.expiresAt());
+        assertEquals("test_bucket", captor.getValue().getBucket());
+        assertEquals("videoId-123/type-VIDEO", captor.getValue().getName());
+        assertEquals("video/mp4", captor.getValue().getContentType());
+    }
+}
@@ -1,11 +1,14 @@
 package com.codemagic.catalog.admin.infrastructure.services.impl;
 
 import com.codemagic.catalog.admin.Fixture;
+import com.codemagic.catalog.admin.domain.resource.Resource;
+import com.codemagic.catalog.admin.domain.util.ChecksumUtil;
 import com.codemagic.catalog.admin.domain.util.IdentifierUtil;
 import com.codemagic.catalog.admin.domain.video.VideoResourceType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.util.List;
 import java.util.Set;
 
@@ -35,6 +38,26 @@ public class LocalStorageServiceTest {
         assertEquals(expectedResource, service.storage().get(expectedName));
     }
 
+    @Test
+    void givenAStreamingResource_whenCallsStore_thenShouldStoreItsContent() {
+        // given
+        final var expectedName = "video".concat(IdentifierUtil.uuid());
+        final var content = Fixture.Videos.resource(VideoResourceType.VIDEO).content();
+        final var expectedChecksum = ChecksumUtil.crc32c(content);
+        final var expectedResource = Resource.with(null, new ByteArrayInputStream(content),
+                Resource.UNKNOWN_LENGTH, "video/mp4", VideoResourceType.VIDEO.name());
+
+        // when
+        final var actualChecksum = service.store(expectedName, expectedResource);
+
+        // then
+        final var actualResource = service.storage().get(expectedName);
+        assertEquals(expectedChecksum, actualChecksum);
+        assertEquals(expectedChecksum, actualResource.checksum());
+        assertFalse(actualResource.isStreaming());
+        assertArrayEquals(content, actualResource.content());
+    }
+
     @Test
     void givenAValidName_whenCallsGetResource_thenShouldReturnAResource() {
         // given
@@ -0,0 +1,185 @@
+package com.codemagic.catalog.admin.infrastructure.video;
+
+import com.codemagic.catalog.admin.Fixture;
+import com.codemagic.catalog.admin.IntegrationTest;
+import com.codemagic.catalog.admin.domain.exceptions.DomainException;
+import com.codemagic.catalog.admin.domain.resource.Resource;
+import com.codemagic.catalog.admin.domain.video.MediaResourceGateway;
+import com.codemagic.catalog.admin.domain.video.VideoID;
+import com.codemagic.catalog.admin.domain.video.VideoResource;
+import com.codemagic.catalog.admin.infrastructure.services.StorageService;
+import com.codemagic.catalog.admin.infrastructure.video.persistence.MediaBlobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayInputStream;
+
+import static com.codemagic.catalog.admin.domain.video.VideoResourceType.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@IntegrationTest
+@TestPropertySource(properties = "storage.catalog-media.content-addressed=true")
+public class ContentAddressedMediaResourceGatewayTest {
+
+    @Autowired
+    private MediaResourceGateway gateway;
+
+    @SpyBean
+    private StorageService storageService;
+
+    @Autowired
+    private MediaBlobRepository blobRepository;
+
+    @Autowired
+    private MediaCleanupQueue cleanupQueue;
+
+    @BeforeEach
+    void setUp() {
+        this.storageService.deleteAll(this.storageService.list(""));
+    }
+
+    @Test
+    void testDependencies() {
+        assertInstanceOf(ContentAddressedMediaResourceGateway.class, gateway);
+    }
+
+    @Test
+    void givenTheSameContentForTwoVideos_whenCallsStore_thenShouldStoreASingleBlob() {
+        // given
+        final var expectedResource = Fixture.Videos.resource(TRAILER);
+        final var firstVideoId = VideoID.unique();
+        final var secondVideoId = VideoID.unique();
+
+        // when
+        final var firstMedia = this.gateway.storeAudioVideo(firstVideoId, VideoResource.with(expectedResource, TRAILER));
+        final var secondMedia = this.gateway.storeAudioVideo(secondVideoId, VideoResource.with(expectedResource, VIDEO));
+
+        // then
+        assertEquals(1, this.blobRepository.count());
+        assertEquals(1, this.storageService.list("blobs/").size());
+        assertEquals(firstMedia.rawLocation(), secondMedia.rawLocation());
+        assertEquals(expectedResource.checksum(), secondMedia.checksum());
+        assertArrayEquals(expectedResource.content(), this.gateway.getResource(firstVideoId, TRAILER).orElseThrow().content());
+        assertArrayEquals(expectedResource.content(), this.gateway.getResource(secondVideoId, VIDEO).orElseThrow().content());
+    }
+
+    @Test
+    void givenAnAlreadyStoredContent_whenCallsStore_thenShouldNotWriteItToTheStoreAgain() {
+        // given
+        final var expectedResource = Fixture.Videos.resource(TRAILER);
+        final var expectedMedia = this.gateway.storeAudioVideo(VideoID.unique(), VideoResource.with(expectedResource, TRAILER));
+
+        // when
+        final var actualMedia = this.gateway.storeAudioVideo(VideoID.unique(), VideoResource.with(expectedResource, TRAILER));
+
+        // then
+        assertEquals(expectedMedia.rawLocation(), actualMedia.rawLocation());
+        verify(this.storageService, times(1)).store(startsWith("blobs/"), any());
+    }
+
+    @Test
+    void givenADifferentContentClaimingAnExistingChecksum_whenCallsStore_thenShouldNotLinkTheExistingBlob() {
+        // given
+        final var existingResource = Fixture.Videos.resource(TRAILER);
+        final var existingVideoId = VideoID.unique();
+        this.gateway.storeAudioVideo(existingVideoId, VideoResource.with(existingResource, TRAILER));
+
+        final var forged = existingResource.content().clone();
+        forged[0] ^= 0x1;
+        final var forgedResource = Resource.with(existingResource.checksum(), forged, "video/mp4", TRAILER.name());
+
+        // when
+        assertThrows(DomainException.class,
+                () -> this.gateway.storeAudioVideo(VideoID.unique(), VideoResource.with(forgedResource, TRAILER)));
+
+        // then
+        assertEquals(1, this.blobRepository.count());
+        assertEquals(1, this.storageService.list("blobs/").size());
+        assertArrayEquals(existingResource.content(), this.gateway.getResource(existingVideoId, TRAILER).orElseThrow().content());
+    }
+
+    @Test
+    void givenAStreamingResourceWithoutChecksum_whenCallsStoreExistingContent_thenShouldDiscardTheDuplicate() {
+        // given
+        final var expectedResource = Fixture.Videos.resource(BANNER);
+        final var content = expectedResource.content();
+        final var streaming = Resource.with(null, new ByteArrayInputStream(content),
+                Resource.UNKNOWN_LENGTH, "image/jpeg", BANNER.name());
+
+        final var firstMedia = this.gateway.storeImage(VideoID.unique(), VideoResource.with(expectedResource, BANNER));
+
+        // when
+        final var actualMedia = this.gateway.storeImage(VideoID.unique(), VideoResource.with(streaming, BANNER));
+
+        // then
+        assertEquals(firstMedia.location(), actualMedia.location());
+        assertEquals(expectedResource.checksum(), actualMedia.checksum());
+        assertEquals(1, this.storageService.list("blobs/").size());
+    }
+
+    @Test
+    void givenASharedBlob_whenCallsClear_thenShouldOnlyDeleteUnreferencedBlobs() {
+        // given
+        final var sharedResource = Fixture.Videos.resource(THUMBNAIL);
+        final var ownResource = Fixture.Videos.resource(BANNER);
+        final var keptVideoId = VideoID.unique();
+        final var clearedVideoId = VideoID.unique();
+
+        this.gateway.storeImage(keptVideoId, VideoResource.with(sharedResource, THUMBNAIL));
+        this.gateway.storeImage(clearedVideoId, VideoResource.with(sharedResource, THUMBNAIL));
+        final var ownMedia = this.gateway.storeImage(clearedVideoId, VideoResource.with(ownResource, BANNER));
+
+        // when
+        this.gateway.clear(clearedVideoId);
+        this.cleanupQueue.process();
+
+        // then
+        assertEquals(1, this.blobRepository.count());
+        assertTrue(this.storageService.get(ownMedia.location()).isEmpty());
+        assertTrue(this.gateway.getResource(clearedVideoId, THUMBNAIL).isEmpty());
+        assertTrue(this.gateway.getResource(keptVideoId, THUMBNAIL).isPresent());
+
+        this.gateway.clear(keptVideoId);
+        this.cleanupQueue.process();
+
+        assertEquals(0, this.blobRepository.count());
+        assertTrue(this.storageService.list("blobs/").isEmpty());
+    }
+
+    @Test
+    void givenAReplacedMedia_whenCallsStore_thenShouldReleaseThePreviousBlob() {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var previousMedia = this.gateway.storeImage(expectedVideoId,
+                VideoResource.with(Fixture.Videos.resource(BANNER), BANNER));
+
+        // when
+        final var actualMedia = this.gateway.storeImage(expectedVideoId,
+                VideoResource.with(Fixture.Videos.resource(THUMBNAIL), BANNER));
+        this.cleanupQueue.process();
+
+        // then
+        assertNotEquals(previousMedia.location(), actualMedia.location());
+        assertEquals(1, this.blobRepository.count());
+        assertTrue(this.storageService.get(previousMedia.location()).isEmpty());
+    }
+
+    @Test
+    void givenAResourceWithAnUnexpectedChecksum_whenCallsStore_thenShouldRejectIt() {
+        // given
+        final var content = Fixture.Videos.resource(VIDEO).content();
+        final var expectedResource = Resource.with("00000000", content, "video/mp4", VIDEO.name());
+
+        // when
+        assertThrows(DomainException.class,
+                () -> this.gateway.storeAudioVideo(VideoID.unique(), VideoResource.with(expectedResource, VIDEO)));
+
+        // then
+        assertEquals(0, this.blobRepository.count());
+        assertTrue(this.storageService.list("blobs/").isEmpty());
+    }
+}
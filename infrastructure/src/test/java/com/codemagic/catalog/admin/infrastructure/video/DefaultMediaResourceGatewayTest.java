@@ -2,10 +2,14 @@ package com.codemagic.catalog.admin.infrastructure.video;
 
 import com.codemagic.catalog.admin.Fixture;
 import com.codemagic.catalog.admin.IntegrationTest;
+import com.codemagic.catalog.admin.domain.exceptions.DomainException;
+import com.codemagic.catalog.admin.domain.resource.Resource;
+import com.codemagic.catalog.admin.domain.util.ChecksumUtil;
 import com.codemagic.catalog.admin.domain.video.MediaResourceGateway;
 import com.codemagic.catalog.admin.domain.video.MediaStatus;
 import com.codemagic.catalog.admin.domain.video.VideoID;
 import com.codemagic.catalog.admin.domain.video.VideoResource;
+import com.codemagic.catalog.admin.infrastructure.services.StorageService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -18,6 +22,12 @@ public class DefaultMediaResourceGatewayTest {
     @Autowired
     private MediaResourceGateway gateway;
 
+    @Autowired
+    private StorageService storageService;
+
+    @Autowired
+    private MediaCleanupQueue cleanupQueue;
+
     @Test
     void testDependencies() {
         assertNotNull(gateway);
@@ -60,6 +70,105 @@ public class DefaultMediaResourceGatewayTest {
         assertEquals(expectedResource.checksum(), actualMedia.checksum());
     }
 
+    @Test
+    void givenAResourceWithAnUnexpectedChecksum_whenCallsStore_thenShouldRejectAndDiscardIt() {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var content = Fixture.Videos.resource(VIDEO).content();
+        final var expectedResource = Resource.with("00000000", content, "video/mp4", VIDEO.name());
+        final var videoResource = VideoResource.with(expectedResource, VIDEO);
+
+        // when
+        final var actualException = assertThrows(DomainException.class,
+                () -> this.gateway.storeAudioVideo(expectedVideoId, videoResource));
+
+        // then
+        assertTrue(actualException.getMessage().startsWith("Checksum mismatch for VIDEO"));
+        assertTrue(this.gateway.getResource(expectedVideoId, VIDEO).isEmpty());
+    }
+
+    @Test
+    void givenAStoredMedia_whenCallsStoreWithAnUnexpectedChecksum_thenShouldKeepTheStoredMedia() {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var expectedResource = Fixture.Videos.resource(VIDEO);
+        this.gateway.storeAudioVideo(expectedVideoId, VideoResource.with(expectedResource, VIDEO));
+
+        final var corruptedResource = Resource.with("00000000", "corrupted".getBytes(), "video/mp4", VIDEO.name());
+
+        // when
+        assertThrows(DomainException.class,
+                () -> this.gateway.storeAudioVideo(expectedVideoId, VideoResource.with(corruptedResource, VIDEO)));
+
+        // then
+        assertArrayEquals(expectedResource.content(), this.gateway.getResource(expectedVideoId, VIDEO).orElseThrow().content());
+        assertEquals(1, this.storageService.list("videoId-%s/".formatted(expectedVideoId.getValue())).size());
+    }
+
+    @Test
+    void givenAResourceWithoutChecksum_whenCallsStore_thenShouldComputeIt() {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var content = Fixture.Videos.resource(BANNER).content();
+        final var expectedChecksum = ChecksumUtil.crc32c(content);
+        final var videoResource = VideoResource.with(Resource.with(null, content, "image/jpeg", BANNER.name()), BANNER);
+
+        // when
+        final var actualMedia = this.gateway.storeImage(expectedVideoId, videoResource);
+
+        // then
+        assertEquals(expectedChecksum, actualMedia.checksum());
+    }
+
+    @Test
+    void givenADirectlyUploadedMedia_whenCallsLink_thenShouldRecordItsMetadata() {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var content = Fixture.Videos.resource(TRAILER).content();
+        final var expectedChecksum = ChecksumUtil.crc32c(content);
+        final var expectedLocation = "videoId-%s/type-%s".formatted(expectedVideoId.getValue(), TRAILER.name());
+        this.storageService.store(expectedLocation, Resource.with(null, content, "video/mp4", "upload"));
+
+        // when
+        final var actualMedia = this.gateway.linkAudioVideo(expectedVideoId, TRAILER, "trailer.mp4", expectedChecksum)
+                .orElseThrow();
+
+        // then
+        assertEquals(expectedLocation, actualMedia.rawLocation());
+        assertEquals(expectedChecksum, actualMedia.checksum());
+        assertEquals("trailer.mp4", actualMedia.name());
+        assertEquals(MediaStatus.PENDING, actualMedia.status());
+    }
+
+    @Test
+    void givenAMissingOrCorruptedDirectUpload_whenCallsLink_thenShouldNotRecordIt() {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var content = Fixture.Videos.resource(BANNER).content();
+        final var expectedLocation = "videoId-%s/type-%s".formatted(expectedVideoId.getValue(), BANNER.name());
+
+        // when
+        final var actualMissing = this.gateway.linkImage(expectedVideoId, BANNER, "banner.jpg", null);
+        this.storageService.store(expectedLocation, Resource.with(null, content, "image/jpeg", "upload"));
+        final var actualException = assertThrows(DomainException.class,
+                () -> this.gateway.linkImage(expectedVideoId, BANNER, "banner.jpg", "00000000"));
+
+        // then
+        assertTrue(actualMissing.isEmpty());
+        assertTrue(actualException.getMessage().startsWith("Checksum mismatch for banner.jpg"));
+        assertTrue(this.gateway.getResource(expectedVideoId, BANNER).isEmpty());
+    }
+
+    @Test
+    void givenSignedUrlsDisabled_whenCallsSignUpload_thenShouldReturnADomainException() {
+        // when
+        final var actualException = assertThrows(DomainException.class,
+                () -> this.gateway.signUpload(VideoID.unique(), VIDEO, "video/mp4"));
+
+        // then
+        assertEquals("Signed URLs are disabled", actualException.getMessage());
+    }
+
     @Test
     void givenAValidMedia_whenCallsGetResource_thenShouldReturnAResource() {
         // given
@@ -119,6 +228,9 @@ public class DefaultMediaResourceGatewayTest {
         this.gateway.clear(deletedVideoID);
 
         // then
+        assertTrue(this.gateway.getResource(deletedVideoID, VIDEO).isPresent());
+        assertEquals(1, this.cleanupQueue.process());
+
         assertTrue(this.gateway.getResource(deletedVideoID, VIDEO).isEmpty());
         assertTrue(this.gateway.getResource(deletedVideoID, THUMBNAIL).isEmpty());
 
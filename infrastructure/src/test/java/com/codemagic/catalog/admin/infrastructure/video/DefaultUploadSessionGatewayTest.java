@@ -0,0 +1,80 @@
+package com.codemagic.catalog.admin.infrastructure.video;
+
+import com.codemagic.catalog.admin.IntegrationTest;
+import com.codemagic.catalog.admin.domain.exceptions.DomainException;
+import com.codemagic.catalog.admin.domain.resource.Resource;
+import com.codemagic.catalog.admin.domain.util.ChecksumUtil;
+import com.codemagic.catalog.admin.domain.video.UploadSession;
+import com.codemagic.catalog.admin.domain.video.UploadSessionGateway;
+import com.codemagic.catalog.admin.domain.video.VideoID;
+import com.codemagic.catalog.admin.infrastructure.services.StorageService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.codemagic.catalog.admin.domain.video.VideoResourceType.VIDEO;
+import static org.junit.jupiter.api.Assertions.*;
+
+@IntegrationTest
+public class DefaultUploadSessionGatewayTest {
+
+    @Autowired
+    private UploadSessionGateway gateway;
+
+    @Autowired
+    private StorageService storageService;
+
+    @Test
+    void givenOutOfOrderChunks_whenCallsComplete_thenShouldAssembleTheMedia() {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var content = "hello resumable world".getBytes(StandardCharsets.UTF_8);
+        final var expectedChecksum = ChecksumUtil.crc32c(content);
+        final var expectedLocation = "videoId-%s/type-%s".formatted(expectedVideoId.getValue(), VIDEO.name());
+
+        final var session = this.gateway.create(UploadSession.newSession(
+                expectedVideoId, VIDEO, "master.mp4", "video/mp4", content.length, expectedChecksum));
+
+        // when
+        this.gateway.storeChunk(session, 10, chunk(content, 10, content.length));
+        final var partialSession = this.gateway.storeChunk(session, 0, chunk(content, 0, 10));
+        final var actualMedia = this.gateway.completeAudioVideo(partialSession);
+
+        // then
+        assertEquals(List.of(UploadSession.Range.of(0, content.length)), partialSession.receivedRanges());
+        assertEquals(expectedLocation, actualMedia.rawLocation());
+        assertEquals(expectedChecksum, actualMedia.checksum());
+        assertArrayEquals(content, this.storageService.get(expectedLocation).orElseThrow().content());
+        assertTrue(this.gateway.findById(session.id()).isEmpty());
+    }
+
+    @Test
+    void givenAStoredSession_whenCallsFindById_thenShouldReturnReceivedParts() {
+        // given
+        final var session = this.gateway.create(UploadSession.newSession(
+                VideoID.unique(), VIDEO, "master.mp4", "video/mp4", 30, null));
+        this.gateway.storeChunk(session, 20, chunk(new byte[30], 20, 30));
+
+        // when
+        final var actualSession = this.gateway.findById(session.id()).orElseThrow();
+
+        // then
+        assertEquals(session.videoId(), actualSession.videoId());
+        assertEquals(30, actualSession.length());
+        assertEquals(List.of(UploadSession.Range.of(20, 10)), actualSession.receivedRanges());
+        assertThrows(DomainException.class, () -> this.gateway.completeAudioVideo(actualSession));
+    }
+
+    @Test
+    void givenAnInvalidId_whenCallsFindById_thenShouldReturnEmpty() {
+        assertTrue(this.gateway.findById("../videoId-123").isEmpty());
+        assertTrue(this.gateway.findById("0123456789abcdef0123456789abcdef").isEmpty());
+    }
+
+    private static Resource chunk(final byte[] content, final int from, final int to) {
+        return Resource.with(null, Arrays.copyOfRange(content, from, to), "application/octet-stream", "chunk");
+    }
+}
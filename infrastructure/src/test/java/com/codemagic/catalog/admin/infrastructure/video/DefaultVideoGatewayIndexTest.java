@@ -0,0 +1,60 @@
+package com.codemagic.catalog.admin.infrastructure.video;
+
+import com.codemagic.catalog.admin.Fixture;
+import com.codemagic.catalog.admin.IntegrationTest;
+import com.codemagic.catalog.admin.domain.video.AudioMediaVideo;
+import com.codemagic.catalog.admin.domain.video.MediaStatus;
+import com.codemagic.catalog.admin.domain.video.Video;
+import com.codemagic.catalog.admin.domain.video.VideoSearchQuery;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Year;
+import java.util.Collections;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@IntegrationTest
+@TestPropertySource(properties = "search.lucene.directory=build/lucene/${random.uuid}")
+public class DefaultVideoGatewayIndexTest {
+
+    @Autowired
+    private DefaultVideoGateway videoGateway;
+
+    @Test
+    void givenAnIndexedVideo_whenCallsUpdateMediaStatus_thenShouldReindexTheTouchedVideo() {
+        // given
+        final var media = AudioMediaVideo.with(
+                Fixture.AudioMediaVideo.checksum(),
+                Fixture.AudioMediaVideo.name(),
+                Fixture.AudioMediaVideo.location());
+        final var video = this.videoGateway.create(Video.newVideo(
+                "Severance",
+                "Office workers surgically divide their memories",
+                Year.of(Fixture.Videos.launchedAt()),
+                Fixture.Videos.duration(),
+                Fixture.Videos.rating(),
+                Fixture.Videos.opened(),
+                Fixture.Videos.published(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        ).setVideo(media));
+        final var query = new VideoSearchQuery(
+                0, 10, "severance", "relevance", "asc",
+                Collections.emptySet(), Collections.emptySet(), Collections.emptySet());
+
+        // when
+        assertTrue(this.videoGateway.updateMediaStatus(video.getId(), media.id(), MediaStatus.PROCESSING, null));
+
+        // then
+        final var expectedUpdatedAt = this.videoGateway.findById(video.getId()).orElseThrow().getUpdatedAt();
+        final var actualPage = this.videoGateway.findAll(query);
+
+        assertEquals(1, actualPage.items().size());
+        assertTrue(expectedUpdatedAt.isAfter(video.getUpdatedAt()));
+        assertEquals(expectedUpdatedAt, actualPage.items().get(0).updatedAt());
+    }
+}
@@ -2,6 +2,7 @@ package com.codemagic.catalog.admin.infrastructure.video;
 
 import com.codemagic.catalog.admin.Fixture;
 import com.codemagic.catalog.admin.IntegrationTest;
+import com.codemagic.catalog.admin.StatementCounter;
 import com.codemagic.catalog.admin.domain.castmember.CastMember;
 import com.codemagic.catalog.admin.domain.castmember.CastMemberGateway;
 import com.codemagic.catalog.admin.domain.castmember.CastMemberID;
@@ -12,8 +13,12 @@ import com.codemagic.catalog.admin.domain.category.CategoryID;
 import com.codemagic.catalog.admin.domain.genre.Genre;
 import com.codemagic.catalog.admin.domain.genre.GenreGateway;
 import com.codemagic.catalog.admin.domain.genre.GenreID;
+import com.codemagic.catalog.admin.domain.pagination.Pagination;
+import com.codemagic.catalog.admin.domain.pagination.Range;
+import com.codemagic.catalog.admin.domain.pagination.TotalMode;
 import com.codemagic.catalog.admin.domain.video.*;
 import com.codemagic.catalog.admin.infrastructure.video.persistence.VideoRepository;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,7 +27,9 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.time.Year;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -45,6 +52,9 @@ public class DefaultVideoGatewayTest {
     @Autowired
     private VideoRepository videoRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private CastMember ford;
     private CastMember portman;
 
@@ -75,6 +85,192 @@ public class DefaultVideoGatewayTest {
         assertNotNull(videoRepository);
     }
 
+    @Test
+    @Transactional
+    void givenANewVideo_whenCallsCreateVideo_thenShouldOnlyIssueTheInserts() {
+        // given
+        final var video = Video.newVideo(
+                Fixture.Videos.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.Videos.launchedAt()),
+                Fixture.Videos.duration(),
+                Fixture.Videos.rating(),
+                Fixture.Videos.opened(),
+                Fixture.Videos.published(),
+                Set.of(movies.getId()),
+                Set.of(drama.getId()),
+                Set.of(ford.getId())
+        );
+
+        // when
+        final var statements = StatementCounter.of(this.entityManager).count(() -> this.videoGateway.create(video));
+
+        // then
+        assertEquals(4, statements);
+        assertEquals(1, videoRepository.count());
+    }
+
+    @Test
+    @Transactional
+    void givenATaggedVideo_whenCallsUpdateVideo_thenShouldOnlyWriteTheChangedRows() {
+        // given
+        final var video = this.videoGateway.create(Video.newVideo(
+                Fixture.Videos.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.Videos.launchedAt()),
+                Fixture.Videos.duration(),
+                Fixture.Videos.rating(),
+                Fixture.Videos.opened(),
+                Fixture.Videos.published(),
+                Set.of(movies.getId(), series.getId()),
+                Set.of(drama.getId(), action.getId()),
+                Set.of(ford.getId(), portman.getId())
+        ).setBanner(ImageMedia.with(Fixture.ImageMedia.checksum(), Fixture.ImageMedia.name(), Fixture.ImageMedia.location())));
+        final var counter = StatementCounter.of(this.entityManager);
+
+        // when
+        final var retitled = counter.record(() -> this.videoGateway.update(Video.with(video).update(
+                "Retitled",
+                video.getDescription(),
+                video.getLaunchedAt(),
+                video.getDuration(),
+                video.getRating(),
+                video.isOpened(),
+                video.isPublished(),
+                video.getCategories(),
+                video.getGenres(),
+                video.getCastMembers())));
+
+        // then
+        assertEquals(0, retitled.getEntityInsertCount());
+        assertEquals(0, retitled.getEntityDeleteCount());
+        assertEquals(1, retitled.getEntityUpdateCount());
+
+        // when
+        final var retagged = counter.record(() -> this.videoGateway.update(Video.with(video).update(
+                "Retitled",
+                video.getDescription(),
+                video.getLaunchedAt(),
+                video.getDuration(),
+                video.getRating(),
+                video.isOpened(),
+                video.isPublished(),
+                Set.of(movies.getId()),
+                video.getGenres(),
+                video.getCastMembers())));
+
+        // then
+        assertEquals(0, retagged.getEntityInsertCount());
+        assertEquals(1, retagged.getEntityDeleteCount());
+
+        final var actualVideo = this.videoGateway.findById(video.getId()).orElseThrow();
+        assertEquals("Retitled", actualVideo.getTitle());
+        assertEquals(Set.of(movies.getId()), actualVideo.getCategories());
+        assertEquals(2, actualVideo.getGenres().size());
+        assertEquals(video.getBanner(), actualVideo.getBanner());
+    }
+
+    @Test
+    @Transactional
+    void givenPendingMedia_whenCallsUpdateMediaStatus_thenShouldOnlyMoveForwardWithOneConditionalUpdate() {
+        // given
+        final var media = AudioMediaVideo.with(
+                Fixture.AudioMediaVideo.checksum(),
+                Fixture.AudioMediaVideo.name(),
+                Fixture.AudioMediaVideo.location());
+        final var trailer = AudioMediaVideo.with(
+                Fixture.AudioMediaVideo.checksum(),
+                Fixture.AudioMediaVideo.name(),
+                Fixture.AudioMediaVideo.location());
+        final var video = this.videoGateway.create(Video.newVideo(
+                Fixture.Videos.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.Videos.launchedAt()),
+                Fixture.Videos.duration(),
+                Fixture.Videos.rating(),
+                Fixture.Videos.opened(),
+                Fixture.Videos.published(),
+                Set.of(movies.getId()),
+                Set.of(drama.getId()),
+                Set.of(ford.getId())
+        ).setVideo(media).setTrailer(trailer));
+        final var otherVideo = VideoID.unique();
+        final var counter = StatementCounter.of(this.entityManager);
+
+        // when
+        final var statements = counter.count(() -> assertTrue(
+                this.videoGateway.updateMediaStatus(video.getId(), media.id(), MediaStatus.COMPLETED, "encoded/video.mp4")));
+
+        // then
+        assertEquals(2, statements);
+        assertFalse(this.videoGateway.updateMediaStatus(video.getId(), media.id(), MediaStatus.COMPLETED, "encoded/other.mp4"));
+        assertFalse(this.videoGateway.updateMediaStatus(video.getId(), media.id(), MediaStatus.PROCESSING, null));
+        assertFalse(this.videoGateway.updateMediaStatus(otherVideo, trailer.id(), MediaStatus.PROCESSING, null));
+        assertFalse(this.videoGateway.updateMediaStatus(video.getId(), trailer.id(), MediaStatus.PENDING, null));
+        assertTrue(this.videoGateway.updateMediaStatus(video.getId(), trailer.id(), MediaStatus.PROCESSING, null));
+
+        this.entityManager.clear();
+        final var actualVideo = this.videoGateway.findById(video.getId()).orElseThrow();
+        final var actualMedia = actualVideo.getVideo().orElseThrow();
+        final var actualTrailer = actualVideo.getTrailer().orElseThrow();
+
+        assertEquals(MediaStatus.COMPLETED, actualMedia.status());
+        assertEquals("encoded/video.mp4", actualMedia.encodedLocation());
+        assertEquals(MediaStatus.PROCESSING, actualTrailer.status());
+        assertEquals(trailer.rawLocation(), actualTrailer.rawLocation());
+        assertTrue(actualVideo.getUpdatedAt().isAfter(video.getUpdatedAt()));
+    }
+
+    @Test
+    @Transactional
+    void givenACompletedMedia_whenCallsUpdateVideo_thenShouldKeepTheEncodedPath() {
+        // given
+        final var media = AudioMediaVideo.with(
+                Fixture.AudioMediaVideo.checksum(),
+                Fixture.AudioMediaVideo.name(),
+                Fixture.AudioMediaVideo.location());
+        final var video = this.videoGateway.create(Video.newVideo(
+                Fixture.Videos.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.Videos.launchedAt()),
+                Fixture.Videos.duration(),
+                Fixture.Videos.rating(),
+                Fixture.Videos.opened(),
+                Fixture.Videos.published(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        ).setVideo(media));
+        assertTrue(this.videoGateway.updateMediaStatus(video.getId(), media.id(), MediaStatus.PROCESSING, null));
+        assertTrue(this.videoGateway.updateMediaStatus(video.getId(), media.id(), MediaStatus.COMPLETED, "encoded/video.mp4"));
+        this.entityManager.flush();
+        this.entityManager.clear();
+
+        final var current = this.videoGateway.findById(video.getId()).orElseThrow();
+
+        // when
+        this.videoGateway.update(Video.with(current).update(
+                "Another title",
+                current.getDescription(),
+                current.getLaunchedAt(),
+                current.getDuration(),
+                current.getRating(),
+                current.isOpened(),
+                current.isPublished(),
+                current.getCategories(),
+                current.getGenres(),
+                current.getCastMembers()
+        ));
+        this.entityManager.flush();
+        this.entityManager.clear();
+
+        // then
+        final var persistedMedia = this.videoRepository.findById(video.getId().getValue()).orElseThrow().getVideo();
+        assertEquals("encoded/video.mp4", persistedMedia.getEncodedPath());
+        assertEquals(media.rawLocation(), persistedMedia.getLocalPath());
+        assertEquals(MediaStatus.COMPLETED, persistedMedia.getStatus());
+    }
+
     @Test
     @Transactional
     void givenAValidVideo_whenCallsCreateVideo_thenShouldPersistAVideo() {
@@ -490,6 +686,52 @@ public class DefaultVideoGatewayTest {
         assertEquals(0, videoRepository.count());
     }
 
+    @Test
+    @Transactional
+    void givenTwoVideosWithTheSameImage_whenCallsDeleteVideoById_thenShouldKeepTheOtherVideoImage() {
+        // given
+        final var expectedBanner = ImageMedia.with(
+                Fixture.ImageMedia.checksum(),
+                Fixture.ImageMedia.name(),
+                Fixture.ImageMedia.location());
+
+        final var deletedVideo = this.videoGateway.create(Video.newVideo(
+                Fixture.Videos.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.Videos.launchedAt()),
+                Fixture.Videos.duration(),
+                Fixture.Videos.rating(),
+                Fixture.Videos.opened(),
+                Fixture.Videos.published(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        ).setBanner(expectedBanner));
+        final var keptVideo = this.videoGateway.create(Video.newVideo(
+                Fixture.Videos.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.Videos.launchedAt()),
+                Fixture.Videos.duration(),
+                Fixture.Videos.rating(),
+                Fixture.Videos.opened(),
+                Fixture.Videos.published(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        ).setBanner(expectedBanner));
+        this.entityManager.flush();
+        this.entityManager.clear();
+
+        // when
+        this.videoGateway.deleteById(deletedVideo.getId());
+        this.entityManager.flush();
+        this.entityManager.clear();
+
+        // then
+        assertEquals(1, videoRepository.count());
+        assertEquals(expectedBanner, this.videoGateway.findById(keptVideo.getId()).orElseThrow().getBanner().orElseThrow());
+    }
+
     @Test
     @Transactional
     void givenAValidVideoId_whenCallsGetVideoById_thenShouldReturnAVideo() {
@@ -918,7 +1160,203 @@ public class DefaultVideoGatewayTest {
         }
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "title,asc,1923;Breaking Bad;Dune: Part Two;Indiana Jones and the Last Crusade;Star Wars: Episode II – Attack of the Clones;V for Vendetta",
+            "title,desc,V for Vendetta;Star Wars: Episode II – Attack of the Clones;Indiana Jones and the Last Crusade;Dune: Part Two;Breaking Bad;1923",
+            "createdAt,asc,Breaking Bad;V for Vendetta;1923;Star Wars: Episode II – Attack of the Clones;Indiana Jones and the Last Crusade;Dune: Part Two",
+            "createdAt,desc,Dune: Part Two;Indiana Jones and the Last Crusade;Star Wars: Episode II – Attack of the Clones;1923;V for Vendetta;Breaking Bad"
+    })
+    void givenACursor_whenCallFindAllAndFollowNext_thenShouldSeekThroughAllPages(
+            final String expectedSort,
+            final String expectedDirection,
+            final String expectedVideos
+    ) {
+        // given
+        mockVideos();
+        final var expectedPerPage = 4;
+        final var actualTitles = new ArrayList<String>();
+
+        // when
+        String next = "";
+        do {
+            final var actualPage = this.videoGateway.findAll(new VideoSearchQuery(
+                    0,
+                    expectedPerPage,
+                    "",
+                    expectedSort,
+                    expectedDirection,
+                    Collections.emptySet(),
+                    Collections.emptySet(),
+                    Collections.emptySet(),
+                    next));
+
+            assertEquals(Pagination.UNKNOWN_TOTAL, actualPage.total());
+            assertTrue(actualPage.items().size() <= expectedPerPage);
+            actualPage.items().forEach(video -> actualTitles.add(video.title()));
+            next = actualPage.next();
+        } while (next != null);
+
+        // then
+        assertEquals(List.of(expectedVideos.split(";")), actualTitles);
+    }
+
+    @Test
+    void givenACursorAndAValidCategory_whenCallFindAll_thenShouldSeekFilteredList() {
+        // given
+        mockVideos();
+
+        final var firstPage = this.videoGateway.findAll(new VideoSearchQuery(
+                0, 2, "", "title", "asc",
+                Collections.emptySet(), Set.of(movies.getId()), Collections.emptySet(), ""));
+
+        // when
+        final var actualPage = this.videoGateway.findAll(new VideoSearchQuery(
+                0, 2, "", "title", "asc",
+                Collections.emptySet(), Set.of(movies.getId()), Collections.emptySet(), firstPage.next()));
+
+        // then
+        assertEquals(List.of("Indiana Jones and the Last Crusade", "Star Wars: Episode II – Attack of the Clones"),
+                firstPage.items().stream().map(VideoPreview::title).toList());
+        assertEquals(List.of("V for Vendetta"), actualPage.items().stream().map(VideoPreview::title).toList());
+        assertNull(actualPage.next());
+    }
+
+    @Test
+    void givenATotalModeNone_whenCallFindAllWithFilter_thenShouldReturnASliceWithoutTotal() {
+        // given
+        mockVideos();
+        final var query = new VideoSearchQuery(
+                0, 2, "", "title", "asc",
+                Collections.emptySet(), Set.of(movies.getId()), Collections.emptySet(),
+                null, TotalMode.NONE);
+
+        // when
+        final var actualPage = this.videoGateway.findAll(query);
+
+        // then
+        assertEquals(TotalMode.NONE, actualPage.totalMode());
+        assertEquals(Pagination.UNKNOWN_TOTAL, actualPage.total());
+        assertTrue(actualPage.hasNext());
+        assertEquals(List.of("Indiana Jones and the Last Crusade", "Star Wars: Episode II – Attack of the Clones"),
+                actualPage.items().stream().map(VideoPreview::title).toList());
+    }
+
+    @Test
+    void givenATotalModeEstimated_whenCallFindAll_thenShouldEstimateOnlyUnfilteredListings() {
+        // given
+        mockVideos();
+
+        // when
+        final var actualEstimated = this.videoGateway.findAll(new VideoSearchQuery(
+                1, 4, "", "title", "asc",
+                Collections.emptySet(), Collections.emptySet(), Collections.emptySet(),
+                null, TotalMode.ESTIMATED));
+        final var actualFiltered = this.videoGateway.findAll(new VideoSearchQuery(
+                0, 4, "", "title", "asc",
+                Collections.emptySet(), Collections.emptySet(), Set.of(drama.getId()),
+                null, TotalMode.ESTIMATED));
+
+        // then
+        assertEquals(TotalMode.ESTIMATED, actualEstimated.totalMode());
+        assertEquals(6, actualEstimated.total());
+        assertFalse(actualEstimated.hasNext());
+        assertEquals(List.of("Star Wars: Episode II – Attack of the Clones", "V for Vendetta"),
+                actualEstimated.items().stream().map(VideoPreview::title).toList());
+
+        assertEquals(TotalMode.EXACT, actualFiltered.totalMode());
+        assertEquals(3, actualFiltered.total());
+        assertFalse(actualFiltered.hasNext());
+    }
+
+    @Test
+    void givenATermAndRelevanceSort_whenCallFindAll_thenShouldReturnMatchesWithExactTotal() {
+        // given
+        mockVideos();
+        final var query = new VideoSearchQuery(
+                0, 10, "the", "relevance", "asc",
+                Collections.emptySet(), Collections.emptySet(), Collections.emptySet());
+
+        // when
+        final var actualPage = this.videoGateway.findAll(query);
+
+        // then
+        assertEquals(TotalMode.EXACT, actualPage.totalMode());
+        assertEquals(2, actualPage.total());
+        assertFalse(actualPage.hasNext());
+        assertEquals(List.of("Indiana Jones and the Last Crusade", "Star Wars: Episode II – Attack of the Clones"),
+                actualPage.items().stream().map(VideoPreview::title).toList());
+    }
+
     @Transactional
+    @Test
+    void givenVideosWithDifferentAttributes_whenCallsFindAllWithRangeAndFlagFilters_thenShouldFilterOnTheDatabase() {
+        final var classic = this.videoGateway.create(Video.newVideo(
+                "Classic", Fixture.Videos.description(), Year.of(2010), 120.0, Rating.AGE_12,
+                false, true, Set.of(), Set.of(), Set.of()));
+        final var recent = this.videoGateway.create(Video.newVideo(
+                "Recent", Fixture.Videos.description(), Year.of(2015), 90.5, Rating.AGE_16,
+                true, true, Set.of(), Set.of(), Set.of()));
+        final var draft = this.videoGateway.create(Video.newVideo(
+                "Draft", Fixture.Videos.description(), Year.of(2020), 150.0, Rating.L,
+                true, false, Set.of(), Set.of(), Set.of()));
+
+        final var byRatingAndYear = this.videoGateway.findAll(filtered(
+                Set.of(Rating.AGE_12, Rating.AGE_16), Range.between(2012, 2020), null, null, null));
+        final var byPublished = this.videoGateway.findAll(filtered(
+                Set.of(), null, null, true, null));
+        final var byDuration = this.videoGateway.findAll(filtered(
+                Set.of(), null, Range.between(100.0, null), null, true));
+
+        assertEquals(List.of(recent.getId().getValue()), ids(byRatingAndYear));
+        assertEquals(1, byRatingAndYear.total());
+        assertEquals(List.of(classic.getId().getValue(), recent.getId().getValue()), ids(byPublished));
+        assertEquals(2, byPublished.total());
+        assertEquals(List.of(draft.getId().getValue()), ids(byDuration));
+        assertEquals(1, byDuration.total());
+    }
+
+    private static VideoSearchQuery filtered(
+            final Set<Rating> ratings,
+            final Range<Integer> launchYears,
+            final Range<Double> durations,
+            final Boolean published,
+            final Boolean opened
+    ) {
+        return new VideoSearchQuery(0, 10, "", "title", "asc", Set.of(), Set.of(), Set.of(),
+                ratings, launchYears, durations, published, opened, null, null);
+    }
+
+    private static List<String> ids(final Pagination<VideoPreview> page) {
+        return page.items().stream().map(VideoPreview::id).toList();
+    }
+
+    @Test
+    void givenAFilteredQueryWithFacets_whenCallsFacets_thenShouldCountValuesOfTheMatchingVideos() {
+        // given
+        mockVideos();
+        final var all = new VideoSearchQuery(0, 10, "", "title", "asc", Set.of(), Set.of(), Set.of()).withFacets(10);
+        final var byFord = new VideoSearchQuery(0, 10, "", "title", "asc",
+                Set.of(ford.getId()), Set.of(), Set.of()).withFacets(1);
+
+        // when
+        final var allFacets = this.videoGateway.facets(all);
+        final var fordFacets = this.videoGateway.facets(byFord);
+
+        // then
+        assertEquals(List.of(movies.getId().getValue(), series.getId().getValue()), List.copyOf(allFacets.categories().keySet()));
+        assertEquals(3L, allFacets.categories().get(movies.getId().getValue()));
+        assertEquals(2L, allFacets.categories().get(series.getId().getValue()));
+        assertEquals(3L, allFacets.genres().get(drama.getId().getValue()));
+        assertEquals(2L, allFacets.genres().get(action.getId().getValue()));
+        assertEquals(6L, allFacets.ratings().values().stream().mapToLong(Long::longValue).sum());
+        assertEquals(6L, allFacets.launchYears().values().stream().mapToLong(Long::longValue).sum());
+
+        assertEquals(1, fordFacets.categories().size());
+        assertEquals(1, fordFacets.genres().size());
+        assertEquals(1L, fordFacets.categories().values().iterator().next());
+    }
+
     void mockVideos() {
         this.videoGateway.create(Video.newVideo(
                 "Breaking Bad",
@@ -0,0 +1,73 @@
+package com.codemagic.catalog.admin.infrastructure.video;
+
+import com.codemagic.catalog.admin.domain.exceptions.DomainException;
+import com.codemagic.catalog.admin.infrastructure.configuration.properties.storage.StorageProperties;
+import com.codemagic.catalog.admin.infrastructure.services.StorageService;
+import com.codemagic.catalog.admin.infrastructure.services.UrlSigner;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class MediaChecksTest {
+
+    @Test
+    void givenSignedUrlsEnabledWithoutASigner_whenCallsSigner_thenShouldFailFast() {
+        // given
+        final var props = new StorageProperties();
+        props.setSignedUrls(true);
+        final ObjectProvider<UrlSigner> signers = mock(ObjectProvider.class);
+
+        // when
+        final var actualException = assertThrows(IllegalStateException.class, () -> MediaChecks.signer(props, signers));
+
+        // then
+        assertEquals("storage.catalog-media.signed-urls requires an object store that signs URLs", actualException.getMessage());
+    }
+
+    @Test
+    void givenSignedUrlsDisabled_whenCallsRequireSigner_thenShouldReturnADomainException() {
+        // given
+        final var props = new StorageProperties();
+        final ObjectProvider<UrlSigner> signers = mock(ObjectProvider.class);
+
+        // when
+        final var actualSigner = MediaChecks.signer(props, signers);
+        final var actualException = assertThrows(DomainException.class, () -> MediaChecks.requireSigner(actualSigner));
+
+        // then
+        assertNull(actualSigner);
+        assertEquals("Signed URLs are disabled", actualException.getMessage());
+        verifyNoInteractions(signers);
+    }
+
+    @Test
+    void givenAMismatchedChecksum_whenCallsVerify_thenShouldDeleteTheStoredObjectAndReject() {
+        // given
+        final var service = mock(StorageService.class);
+
+        // when
+        final var actualException = assertThrows(DomainException.class,
+                () -> MediaChecks.verify(service, true, "blobs/1", "video.mp4", "00000000", "ffffffff"));
+
+        // then
+        assertEquals("Checksum mismatch for video.mp4: expected 00000000 but was ffffffff", actualException.getMessage());
+        verify(service, times(1)).deleteAll(Set.of("blobs/1"));
+    }
+
+    @Test
+    void givenNoExpectedChecksum_whenCallsVerify_thenShouldKeepTheStoredObject() {
+        // given
+        final var service = mock(StorageService.class);
+
+        // when
+        final var actualChecksum = MediaChecks.verify(service, true, "blobs/1", "video.mp4", null, "ffffffff");
+
+        // then
+        assertEquals("ffffffff", actualChecksum);
+        verifyNoInteractions(service);
+    }
+}
@@ -0,0 +1,114 @@
+package com.codemagic.catalog.admin.infrastructure.video;
+
+import com.codemagic.catalog.admin.IntegrationTest;
+import com.codemagic.catalog.admin.domain.resource.Resource;
+import com.codemagic.catalog.admin.infrastructure.configuration.properties.storage.StorageProperties;
+import com.codemagic.catalog.admin.infrastructure.services.impl.LocalStorageService;
+import com.codemagic.catalog.admin.infrastructure.video.persistence.MediaCleanupTaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@IntegrationTest
+public class MediaCleanupQueueTest {
+
+    @Autowired
+    private MediaCleanupTaskRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private FlakyStorageService storageService;
+    private SimpleMeterRegistry registry;
+    private MediaCleanupQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        final var props = new StorageProperties();
+        props.setCleanupBatchSize(10);
+        props.setCleanupMaxAttempts(2);
+
+        this.storageService = new FlakyStorageService();
+        this.registry = new SimpleMeterRegistry();
+        this.queue = new MediaCleanupQueue(props, this.storageService, this.repository, this.transactionManager, this.registry);
+    }
+
+    @Test
+    void givenManyClearedVideos_whenCallsProcess_thenShouldDeleteTheirObjectsInBatches() {
+        // given
+        IntStream.range(0, 8).forEach(video -> {
+            IntStream.range(0, 30).forEach(media -> store("videoId-%d/type-%d".formatted(video, media)));
+            this.queue.enqueuePrefix("videoId-%d".formatted(video));
+        });
+        store("videoId-kept/type-VIDEO");
+
+        // when
+        final var actualProcessed = this.queue.process();
+
+        // then
+        assertEquals(8, actualProcessed);
+        assertEquals(Set.of("videoId-kept/type-VIDEO"), this.storageService.list(""));
+        assertEquals(List.of(100, 100, 40), this.storageService.batches);
+        assertEquals(0, this.repository.count());
+        assertEquals(0, this.registry.get("media.cleanup.queue.depth").gauge().value());
+        assertEquals(240, this.registry.get("media.cleanup.objects.deleted").counter().count());
+    }
+
+    @Test
+    void givenAFailingDelete_whenCallsProcess_thenShouldRescheduleAndEventuallyGiveUp() {
+        // given
+        store("blobs/1");
+        this.queue.enqueueObjects(Set.of("blobs/1"));
+        this.storageService.failures.set(2);
+
+        // when
+        this.queue.process();
+
+        // then
+        final var actualTask = this.repository.findAll().get(0);
+        assertEquals(1, actualTask.getAttempts());
+        assertTrue(actualTask.getNextAttemptAt().isAfter(Instant.now()));
+        assertTrue(actualTask.getLastError().contains("storage unavailable"));
+        assertEquals(0, this.queue.process());
+        assertEquals(1, this.registry.get("media.cleanup.queue.depth").gauge().value());
+
+        actualTask.setNextAttemptAt(Instant.now());
+        this.repository.save(actualTask);
+        this.queue.process();
+
+        assertEquals(0, this.registry.get("media.cleanup.queue.depth").gauge().value());
+        assertEquals(1, this.registry.get("media.cleanup.queue.dead").gauge().value());
+        assertEquals(2, this.registry.get("media.cleanup.failures").counter().count());
+        assertTrue(this.storageService.get("blobs/1").isPresent());
+    }
+
+    private void store(final String name) {
+        this.storageService.store(name, Resource.with(null, name.getBytes(), "text/plain", name));
+    }
+
+    private static class FlakyStorageService extends LocalStorageService {
+
+        private final AtomicInteger failures = new AtomicInteger();
+        private final List<Integer> batches = new ArrayList<>();
+
+        @Override
+        public void deleteAll(final Set<String> names) {
+            if (this.failures.getAndUpdate(remaining -> Math.max(remaining - 1, 0)) > 0) {
+                throw new IllegalStateException("storage unavailable");
+            }
+            this.batches.add(names.size());
+            super.deleteAll(names);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.codemagic.catalog.admin.infrastructure.video;
+
+import com.codemagic.catalog.admin.Fixture;
+import com.codemagic.catalog.admin.IntegrationTest;
+import com.codemagic.catalog.admin.domain.resource.Resource;
+import com.codemagic.catalog.admin.domain.video.ImageMedia;
+import com.codemagic.catalog.admin.domain.video.Video;
+import com.codemagic.catalog.admin.domain.video.VideoGateway;
+import com.codemagic.catalog.admin.domain.video.VideoID;
+import com.codemagic.catalog.admin.infrastructure.configuration.properties.storage.StorageProperties;
+import com.codemagic.catalog.admin.infrastructure.services.impl.LocalStorageService;
+import com.codemagic.catalog.admin.infrastructure.video.persistence.MediaBlobRepository;
+import com.codemagic.catalog.admin.infrastructure.video.persistence.VideoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@IntegrationTest
+public class OrphanMediaSweeperTest {
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private MediaBlobRepository blobRepository;
+
+    private MovableClock clock;
+    private LocalStorageService storageService;
+    private OrphanMediaSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        final var props = new StorageProperties();
+        props.setFilenamePattern("type-{type}");
+        props.setLocationPattern("videoId-{videoId}");
+        props.setOrphanSweepGracePeriod(Duration.ofHours(1));
+        props.setUploadSessionTtl(Duration.ofHours(12));
+        props.setOrphanSweepBatchSize(2);
+
+        this.clock = new MovableClock(Instant.now().minus(Duration.ofDays(1)));
+        this.storageService = new LocalStorageService(this.clock);
+        this.sweeper = new OrphanMediaSweeper(props, this.storageService, this.videoRepository, this.blobRepository);
+    }
+
+    @Test
+    void givenReferencedAndOrphanedObjects_whenCallsSweep_thenShouldOnlyDeleteOldOrphans() {
+        // given
+        final var video = Fixture.Videos.video();
+        final var referencedBanner = "videoId-%s/type-BANNER".formatted(video.getId().getValue());
+        this.videoGateway.create(Video.with(video).setBanner(ImageMedia.with("checksum", "banner.png", referencedBanner)));
+
+        final var replacedThumbnail = "videoId-%s/type-THUMBNAIL".formatted(video.getId().getValue());
+        final var deletedVideoMedia = "videoId-%s/type-VIDEO".formatted(VideoID.unique().getValue());
+        final var staleUploadPart = "uploads/%s/part-00000000000000000000-10".formatted(VideoID.unique().getValue());
+        final var encodedOutput = "videoId-%s/encoded/master.m3u8".formatted(video.getId().getValue());
+        store(referencedBanner, replacedThumbnail, deletedVideoMedia, staleUploadPart, encodedOutput);
+
+        this.clock.now = Instant.now();
+        final var recentUpload = "videoId-%s/type-TRAILER".formatted(VideoID.unique().getValue());
+        store(recentUpload);
+
+        final var expectedOrphans = Set.of(replacedThumbnail, deletedVideoMedia, staleUploadPart);
+
+        // when
+        final var actualDryRun = this.sweeper.sweep(true);
+        final var actualReport = this.sweeper.sweep(false);
+
+        // then
+        assertEquals(6, actualDryRun.scanned());
+        assertEquals(1, actualDryRun.ignored());
+        assertEquals(1, actualDryRun.recent());
+        assertEquals(1, actualDryRun.referenced());
+        assertEquals(3, actualDryRun.orphans());
+        assertEquals(0, actualDryRun.deleted());
+        assertEquals(expectedOrphans, Set.copyOf(actualDryRun.sample()));
+
+        assertEquals(3, actualReport.orphans());
+        assertEquals(3, actualReport.deleted());
+        assertEquals(Set.of(referencedBanner, encodedOutput, recentUpload), this.storageService.list(""));
+    }
+
+    @Test
+    void givenAnUploadSessionWithARecentPart_whenCallsSweep_thenShouldKeepTheWholeSession() {
+        // given
+        final var liveSession = "uploads/%s/".formatted(VideoID.unique().getValue());
+        final var expiredSession = "uploads/%s/".formatted(VideoID.unique().getValue());
+        final var expiredDirectUpload = "uploads/direct/%s/VIDEO".formatted(VideoID.unique().getValue());
+        store(liveSession + "session", liveSession + "part-00000000000000000000-10",
+                expiredSession + "session", expiredSession + "part-00000000000000000000-10", expiredDirectUpload);
+
+        this.clock.now = Instant.now().minus(Duration.ofHours(2));
+        final var recentDirectUpload = "uploads/direct/%s/VIDEO".formatted(VideoID.unique().getValue());
+        store(liveSession + "part-00000000000000000010-10", recentDirectUpload);
+
+        // when
+        final var actualReport = this.sweeper.sweep(false);
+
+        // then
+        assertEquals(4, actualReport.recent());
+        assertEquals(3, actualReport.deleted());
+        assertEquals(Set.of(liveSession + "session", liveSession + "part-00000000000000000000-10",
+                liveSession + "part-00000000000000000010-10", recentDirectUpload), this.storageService.list(""));
+    }
+
+    private void store(final String... names) {
+        List.of(names).forEach(name -> this.storageService.store(name,
+                Resource.with(null, name.getBytes(), "application/octet-stream", name)));
+    }
+
+    private static final class MovableClock extends Clock {
+
+        private Instant now;
+
+        private MovableClock(final Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return this.now;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.codemagic.catalog.admin.infrastructure.video.presenters;
+
+import com.codemagic.catalog.admin.application.media.get.MediaOutput;
+import com.codemagic.catalog.admin.domain.resource.Resource;
+import com.codemagic.catalog.admin.domain.util.IdentifierUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MediaApiPresenterTest {
+
+    private static final String CONTENT = "0123456789abcdefghij";
+
+    @Test
+    void givenNoRangeHeader_whenCallsPresent_thenShouldStreamTheWholeMedia() throws Exception {
+        // given
+        final var output = output();
+
+        // when
+        final var actualResponse = MediaApiPresenter.present(output, new HttpHeaders());
+
+        // then
+        assertEquals(HttpStatus.OK, actualResponse.getStatusCode());
+        assertEquals(CONTENT.length(), actualResponse.getHeaders().getContentLength());
+        assertEquals("bytes", actualResponse.getHeaders().getFirst(HttpHeaders.ACCEPT_RANGES));
+        assertEquals("\"%s\"".formatted(output.checksum()), actualResponse.getHeaders().getETag());
+        assertEquals(CONTENT, body(actualResponse));
+    }
+
+    @Test
+    void givenASingleRange_whenCallsPresent_thenShouldStreamOnlyThatRange() throws Exception {
+        // given
+        final var output = output();
+        final var headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=5-9");
+
+        // when
+        final var actualResponse = MediaApiPresenter.present(output, headers);
+
+        // then
+        assertEquals(HttpStatus.PARTIAL_CONTENT, actualResponse.getStatusCode());
+        assertEquals("bytes 5-9/20", actualResponse.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        assertEquals(5, actualResponse.getHeaders().getContentLength());
+        assertEquals("56789", body(actualResponse));
+    }
+
+    @Test
+    void givenASuffixRange_whenCallsPresent_thenShouldStreamTheLastBytes() throws Exception {
+        // given
+        final var headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=-3");
+
+        // when
+        final var actualResponse = MediaApiPresenter.present(output(), headers);
+
+        // then
+        assertEquals(HttpStatus.PARTIAL_CONTENT, actualResponse.getStatusCode());
+        assertEquals("bytes 17-19/20", actualResponse.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        assertEquals("hij", body(actualResponse));
+    }
+
+    @Test
+    void givenMultipleRanges_whenCallsPresent_thenShouldStreamAMultipartByteranges() throws Exception {
+        // given
+        final var headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=0-1,10-11");
+
+        // when
+        final var actualResponse = MediaApiPresenter.present(output(), headers);
+
+        // then
+        assertEquals(HttpStatus.PARTIAL_CONTENT, actualResponse.getStatusCode());
+        assertEquals("multipart", actualResponse.getHeaders().getContentType().getType());
+        assertEquals("byteranges", actualResponse.getHeaders().getContentType().getSubtype());
+
+        final var actualBody = body(actualResponse);
+        assertTrue(actualBody.contains("Content-Range: bytes 0-1/20\r\n\r\n01"));
+        assertTrue(actualBody.contains("Content-Range: bytes 10-11/20\r\n\r\nab"));
+        assertTrue(actualBody.endsWith("--\r\n"));
+    }
+
+    @Test
+    void givenAnUnsatisfiableRange_whenCallsPresent_thenShouldReturnRangeNotSatisfiable() {
+        // given
+        final var headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=50-60");
+
+        // when
+        final var actualResponse = MediaApiPresenter.present(output(), headers);
+
+        // then
+        assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, actualResponse.getStatusCode());
+        assertEquals("bytes */20", actualResponse.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        assertNull(actualResponse.getBody());
+    }
+
+    @Test
+    void givenOverlappingRangesCoveringTheMedia_whenCallsPresent_thenShouldReturnRangeNotSatisfiable() {
+        // given
+        final var headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=0-15,5-19");
+
+        // when
+        final var actualResponse = MediaApiPresenter.present(output(), headers);
+
+        // then
+        assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, actualResponse.getStatusCode());
+        assertEquals("bytes */20", actualResponse.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void givenTooManyRanges_whenCallsPresent_thenShouldReturnRangeNotSatisfiable() {
+        // given
+        final var headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=" + "0-0,".repeat(MediaApiPresenter.MAX_RANGES) + "1-1");
+
+        // when
+        final var actualResponse = MediaApiPresenter.present(output(), headers);
+
+        // then
+        assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, actualResponse.getStatusCode());
+    }
+
+    @Test
+    void givenAMediaWithoutChecksum_whenCallsPresentWithIfRange_thenShouldOmitTheETagAndStreamTheWholeMedia() throws Exception {
+        // given
+        final var output = MediaOutput.from(Resource.with(null, CONTENT.getBytes(StandardCharsets.US_ASCII), "video/mp4", "VIDEO"));
+        final var headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=0-3");
+        headers.set(HttpHeaders.IF_RANGE, "\"null\"");
+
+        // when
+        final var actualResponse = MediaApiPresenter.present(output, headers);
+
+        // then
+        assertEquals(HttpStatus.OK, actualResponse.getStatusCode());
+        assertNull(actualResponse.getHeaders().getETag());
+        assertEquals(CONTENT, body(actualResponse));
+    }
+
+    @Test
+    void givenAStaleIfRange_whenCallsPresent_thenShouldStreamTheWholeMedia() throws Exception {
+        // given
+        final var headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=5-9");
+        headers.set(HttpHeaders.IF_RANGE, "\"stale-checksum\"");
+
+        // when
+        final var actualResponse = MediaApiPresenter.present(output(), headers);
+
+        // then
+        assertEquals(HttpStatus.OK, actualResponse.getStatusCode());
+        assertEquals(CONTENT, body(actualResponse));
+    }
+
+    @Test
+    void givenAMatchingIfRange_whenCallsPresent_thenShouldStreamTheRange() throws Exception {
+        // given
+        final var output = output();
+        final var headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=0-3");
+        headers.set(HttpHeaders.IF_RANGE, "\"%s\"".formatted(output.checksum()));
+
+        // when
+        final var actualResponse = MediaApiPresenter.present(output, headers);
+
+        // then
+        assertEquals(HttpStatus.PARTIAL_CONTENT, actualResponse.getStatusCode());
+        assertEquals("0123", body(actualResponse));
+    }
+
+    private MediaOutput output() {
+        return MediaOutput.from(Resource.with(
+                IdentifierUtil.uuid(),
+                CONTENT.getBytes(StandardCharsets.US_ASCII),
+                "video/mp4",
+                "VIDEO"
+        ));
+    }
+
+    private String body(final ResponseEntity<StreamingResponseBody> response) throws Exception {
+        final var out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toString(StandardCharsets.US_ASCII);
+    }
+}
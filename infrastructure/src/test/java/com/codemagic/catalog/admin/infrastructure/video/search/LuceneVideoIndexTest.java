@@ -0,0 +1,220 @@
+package com.codemagic.catalog.admin.infrastructure.video.search;
+
+import com.codemagic.catalog.admin.domain.category.CategoryID;
+import com.codemagic.catalog.admin.domain.pagination.TotalMode;
+import com.codemagic.catalog.admin.domain.util.IdentifierUtil;
+import com.codemagic.catalog.admin.domain.video.VideoPreview;
+import com.codemagic.catalog.admin.domain.video.VideoSearchQuery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LuceneVideoIndexTest {
+
+    private static final String MOVIES = IdentifierUtil.uuid();
+    private static final String SERIES = IdentifierUtil.uuid();
+
+    @TempDir
+    Path root;
+
+    private LuceneVideoIndex index;
+
+    @BeforeEach
+    void setup() throws Exception {
+        this.index = LuceneVideoIndex.open(this.root);
+    }
+
+    @AfterEach
+    void cleanUp() throws Exception {
+        this.index.close();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "vendeta,V for Vendetta",
+            "indi,Indiana Jones and the Last Crusade",
+            "\"last crusade\",Indiana Jones and the Last Crusade",
+            "clones,Star Wars: Episode II – Attack of the Clones",
+            "desert,Dune: Part Two"
+    })
+    void givenIndexedVideos_whenCallsSearch_thenShouldMatchTyposPrefixesAndPhrases(final String terms, final String expectedTitle) {
+        // given
+        indexVideos();
+
+        // when
+        final var actualPage = this.index.search(query(terms, "relevance", Set.of()), true);
+
+        // then
+        assertEquals(TotalMode.EXACT, actualPage.totalMode());
+        assertEquals(1, actualPage.total());
+        assertEquals(expectedTitle, actualPage.items().get(0).title());
+    }
+
+    @Test
+    void givenIndexedVideos_whenCallsSearchWithAPhraseOutOfOrder_thenShouldNotMatch() {
+        // given
+        indexVideos();
+
+        // when
+        final var actualPage = this.index.search(query("\"crusade last\"", "relevance", Set.of()), true);
+
+        // then
+        assertEquals(0, actualPage.total());
+        assertTrue(actualPage.items().isEmpty());
+    }
+
+    @Test
+    void givenIndexedVideos_whenCallsSearchWithACategoryAndPaging_thenShouldFilterAndSlice() {
+        // given
+        indexVideos();
+
+        // when
+        final var firstPage = this.index.search(new VideoSearchQuery(
+                0, 1, "the", "title", "asc",
+                Collections.emptySet(), Set.of(CategoryID.from(MOVIES)), Collections.emptySet()), false);
+        final var secondPage = this.index.search(new VideoSearchQuery(
+                1, 1, "the", "title", "asc",
+                Collections.emptySet(), Set.of(CategoryID.from(MOVIES)), Collections.emptySet()), true);
+
+        // then
+        assertEquals(TotalMode.NONE, firstPage.totalMode());
+        assertTrue(firstPage.hasNext());
+        assertEquals(List.of("Indiana Jones and the Last Crusade"), titles(firstPage.items()));
+
+        assertEquals(2, secondPage.total());
+        assertFalse(secondPage.hasNext());
+        assertEquals(List.of("Star Wars: Episode II – Attack of the Clones"), titles(secondPage.items()));
+    }
+
+    @Test
+    void givenAnIndexedVideo_whenCallsIndexAgainAndDelete_thenShouldBeVisibleImmediately() {
+        // given
+        final var expected = video("Breaking Bad", "A chemistry teacher turns to crime", SERIES, 0);
+        this.index.index(expected);
+
+        // when
+        this.index.index(expected.withRelations(Set.of(SERIES), Set.of(), Set.of()));
+
+        // then
+        final var actualPage = this.index.search(query("breaking", "relevance", Set.of()), true);
+        assertEquals(1, actualPage.total());
+        assertEquals(expected.id(), actualPage.items().get(0).id());
+        assertEquals(expected.createdAt(), actualPage.items().get(0).createdAt());
+        assertEquals(expected.updatedAt(), actualPage.items().get(0).updatedAt());
+
+        this.index.delete(expected.id());
+        assertEquals(0, this.index.search(query("breaking", "relevance", Set.of()), true).total());
+        assertEquals(0, this.index.size());
+    }
+
+    @Test
+    void givenAnIndexedVideo_whenCallsTouch_thenShouldOnlyMoveItsUpdatedAt() {
+        // given
+        final var expected = video("Slow Horses", "Failed spies work in a dead-end office", SERIES, 6);
+        final var expectedUpdatedAt = expected.updatedAt().plusSeconds(90);
+        this.index.index(expected);
+
+        // when
+        this.index.touch(expected.id(), expectedUpdatedAt);
+
+        // then
+        final var actualPage = this.index.search(query("spies", "relevance", Set.of(CategoryID.from(SERIES))), true);
+        assertEquals(1, actualPage.total());
+        assertEquals(expected.title(), actualPage.items().get(0).title());
+        assertEquals(expected.createdAt(), actualPage.items().get(0).createdAt());
+        assertEquals(expectedUpdatedAt, actualPage.items().get(0).updatedAt());
+    }
+
+    @Test
+    void givenStaleDocuments_whenCallsReindex_thenShouldKeepOnlyStreamedVideos() {
+        // given
+        indexVideos();
+        final var expected = video("1923", "A western family saga", SERIES, 10);
+
+        // when
+        final var actualIndexed = this.index.reindex(Stream.of(expected));
+
+        // then
+        assertEquals(1, actualIndexed);
+        assertEquals(1, this.index.size());
+        assertEquals(0, this.index.search(query("vendetta", "relevance", Set.of()), true).total());
+        assertEquals(expected.id(), this.index.search(query("western", "createdAt", Set.of()), true).items().get(0).id());
+    }
+
+    @Test
+    void givenADocumentNewerThanItsRow_whenCallsReindex_thenShouldKeepTheDocument() {
+        // given
+        final var row = video("The Bear", "A chef returns home to run the family sandwich shop", SERIES, 5);
+        final var expected = new VideoDocument(
+                row.id(), "The Bear: Season Two", row.description(), row.rating(), row.createdAt(),
+                row.updatedAt().plusSeconds(60), row.categories(), row.genres(), row.members());
+        this.index.index(expected);
+
+        // when
+        final var actualIndexed = this.index.reindex(Stream.of(row));
+        this.index.commit();
+
+        // then
+        assertEquals(1, actualIndexed);
+        assertEquals(1, this.index.size());
+        final var actualPage = this.index.search(query("chef", "relevance", Set.of()), true);
+        assertEquals(expected.title(), actualPage.items().get(0).title());
+        assertEquals(expected.updatedAt(), actualPage.items().get(0).updatedAt());
+    }
+
+    @Test
+    void givenAVideoDeletedWhileReindexing_whenCallsReindex_thenShouldNotRestoreIt() {
+        // given
+        final var expected = video("Shogun", "A shipwrecked navigator in feudal Japan", SERIES, 6);
+        final var deleted = video("Fallout", "A vault dweller leaves for the wasteland", SERIES, 7);
+        this.index.index(deleted);
+
+        // when
+        final var actualIndexed = this.index.reindex(Stream.of(expected, deleted)
+                .peek(row -> {
+                    if (row == deleted) {
+                        this.index.delete(deleted.id());
+                    }
+                }));
+
+        // then
+        assertEquals(1, actualIndexed);
+        assertEquals(1, this.index.size());
+        assertEquals(0, this.index.search(query("wasteland", "relevance", Set.of()), true).total());
+    }
+
+    private void indexVideos() {
+        this.index.index(video("V for Vendetta", "A masked vigilante fights a totalitarian regime", MOVIES, 1));
+        this.index.index(video("Indiana Jones and the Last Crusade", "The archaeologist searches for the Holy Grail", MOVIES, 2));
+        this.index.index(video("Star Wars: Episode II – Attack of the Clones", "The clone army is revealed", MOVIES, 3));
+        this.index.index(video("Dune: Part Two", "Paul unites the desert people", SERIES, 4));
+    }
+
+    private static VideoDocument video(final String title, final String description, final String category, final int minutes) {
+        final var createdAt = Instant.parse("2024-01-01T00:00:00.123456Z").plus(minutes, ChronoUnit.MINUTES);
+        return new VideoDocument(
+                IdentifierUtil.uuid(), title, description, "L", createdAt, createdAt.plusSeconds(5),
+                Set.of(category), Set.of(), Set.of());
+    }
+
+    private static VideoSearchQuery query(final String terms, final String sort, final Set<CategoryID> categories) {
+        return new VideoSearchQuery(0, 10, terms, sort, "asc", Collections.emptySet(), categories, Collections.emptySet());
+    }
+
+    private static List<String> titles(final List<VideoPreview> items) {
+        return items.stream().map(VideoPreview::title).toList();
+    }
+}
@@ -0,0 +1,140 @@
+package com.codemagic.catalog.admin.infrastructure.video.search;
+
+import com.codemagic.catalog.admin.domain.castmember.CastMemberID;
+import com.codemagic.catalog.admin.domain.category.CategoryID;
+import com.codemagic.catalog.admin.domain.genre.GenreID;
+import com.codemagic.catalog.admin.domain.video.VideoPreview;
+import com.codemagic.catalog.admin.domain.video.VideoSearchQuery;
+import com.codemagic.catalog.admin.infrastructure.video.persistence.VideoLink;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VideoBitmapIndexTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private VideoBitmapIndex index;
+
+    @BeforeEach
+    void setup() {
+        this.index = new VideoBitmapIndex();
+        this.index.load(
+                () -> Stream.of(
+                        new VideoPreview("1", "Dune", NOW, NOW),
+                        new VideoPreview("2", "Alien", NOW.plusSeconds(1), NOW),
+                        new VideoPreview("3", "Casablanca", NOW.plusSeconds(2), NOW)
+                ),
+                () -> Stream.of(new VideoLink("1", "movies"), new VideoLink("2", "movies"), new VideoLink("3", "classics")),
+                () -> Stream.of(new VideoLink("1", "scifi"), new VideoLink("2", "scifi"), new VideoLink("2", "horror")),
+                () -> Stream.of(new VideoLink("3", "bogart"), new VideoLink("unknown", "bogart"))
+        );
+    }
+
+    @Test
+    void givenLoadedLinks_whenCallsSearch_thenShouldUnionWithinAndIntersectAcrossAssociations() {
+        assertTrue(this.index.isReady());
+        assertEquals(3, this.index.size());
+
+        final var anyCategory = this.index.search(query(Set.of(), Set.of("movies", "classics"), Set.of(), "title", "asc"));
+        assertEquals(List.of("2", "3", "1"), anyCategory.ids());
+        assertEquals(3, anyCategory.total());
+
+        final var moviesAndHorror = this.index.search(query(Set.of(), Set.of("movies"), Set.of("horror"), "title", "asc"));
+        assertEquals(List.of("2"), moviesAndHorror.ids());
+
+        final var unknown = this.index.search(query(Set.of("nobody"), Set.of(), Set.of(), "title", "asc"));
+        assertTrue(unknown.ids().isEmpty());
+        assertEquals(0, unknown.total());
+    }
+
+    @Test
+    void givenLoadedLinks_whenCallsSearchWithPaging_thenShouldReturnThePageAndOneLookahead() {
+        final var query = new VideoSearchQuery(0, 1, "", "createdAt", "desc",
+                Set.of(), Set.of(CategoryID.from("movies"), CategoryID.from("classics")), Set.of());
+
+        final var actual = this.index.search(query);
+
+        assertEquals(List.of("3", "2"), actual.ids());
+        assertEquals(3, actual.total());
+    }
+
+    @Test
+    void givenAnIndexedVideo_whenCallsPutAndRemove_thenShouldMoveItsOrdinalBetweenBitmaps() {
+        this.index.put(new VideoDocument("2", "Alien", null, "L", NOW, NOW,
+                Set.of("classics"), Set.of("horror"), Set.of()));
+        this.index.put(new VideoDocument("4", "Blade Runner", null, "L", NOW, NOW,
+                Set.of("movies"), Set.of("scifi"), Set.of()));
+
+        assertEquals(List.of("4", "1"), this.index.search(query(Set.of(), Set.of("movies"), Set.of(), "title", "asc")).ids());
+        assertEquals(List.of("2", "3"), this.index.search(query(Set.of(), Set.of("classics"), Set.of(), "title", "asc")).ids());
+
+        this.index.remove("1");
+        this.index.put(new VideoDocument("5", "Arrival", null, "L", NOW, NOW,
+                Set.of("movies"), Set.of(), Set.of()));
+
+        assertEquals(List.of("5", "4"), this.index.search(query(Set.of(), Set.of("movies"), Set.of(), "title", "asc")).ids());
+        assertEquals(List.of("4"), this.index.search(query(Set.of(), Set.of(), Set.of("scifi"), "title", "asc")).ids());
+        assertEquals(4, this.index.size());
+    }
+
+    @Test
+    void givenWritesDuringALoad_whenTheLoadFinishes_thenShouldReplayThemOntoTheLoadedBitmaps() {
+        final var actualLoaded = this.index.load(
+                () -> {
+                    // Committed after the load snapshot was taken, so the rows below do not include them
+                    this.index.put(new VideoDocument("4", "Blade Runner", null, "L", NOW, NOW,
+                            Set.of("movies"), Set.of("scifi"), Set.of()));
+                    this.index.remove("2");
+                    return Stream.of(
+                            new VideoPreview("1", "Dune", NOW, NOW),
+                            new VideoPreview("2", "Alien", NOW.plusSeconds(1), NOW));
+                },
+                () -> Stream.of(new VideoLink("1", "movies"), new VideoLink("2", "movies")),
+                Stream::empty,
+                Stream::empty
+        );
+
+        assertEquals(2, actualLoaded);
+        assertEquals(List.of("4", "1"), this.index.search(query(Set.of(), Set.of("movies"), Set.of(), "title", "asc")).ids());
+    }
+
+    @Test
+    void givenTitlesDifferingInCaseAndAccents_whenCallsSearchByTitle_thenShouldSortThemLikeTheDatabaseCollation() {
+        this.index.put(new VideoDocument("4", "\u00c9den", null, "L", NOW, NOW, Set.of("classics"), Set.of(), Set.of()));
+        this.index.put(new VideoDocument("5", "batman", null, "L", NOW, NOW, Set.of("classics"), Set.of(), Set.of()));
+        this.index.put(new VideoDocument("6", "Zorro", null, "L", NOW, NOW, Set.of("classics"), Set.of(), Set.of()));
+
+        assertEquals(List.of("5", "3", "4", "6"),
+                this.index.search(query(Set.of(), Set.of("classics"), Set.of(), "title", "asc")).ids());
+    }
+
+    @Test
+    void givenQueries_whenCallsSupports_thenShouldOnlyAcceptPureAssociationFilters() {
+        assertTrue(VideoBitmapIndex.supports(query(Set.of(), Set.of("movies"), Set.of(), "title", "asc")));
+        assertFalse(VideoBitmapIndex.supports(query(Set.of(), Set.of(), Set.of(), "title", "asc")));
+        assertFalse(VideoBitmapIndex.supports(query(Set.of(), Set.of("movies"), Set.of(), "relevance", "asc")));
+        assertFalse(VideoBitmapIndex.supports(new VideoSearchQuery(0, 10, "dune", "title", "asc",
+                Set.of(), Set.of(CategoryID.from("movies")), Set.of())));
+    }
+
+    private static VideoSearchQuery query(
+            final Set<String> members,
+            final Set<String> categories,
+            final Set<String> genres,
+            final String sort,
+            final String direction
+    ) {
+        return new VideoSearchQuery(0, 10, "", sort, direction,
+                members.stream().map(CastMemberID::from).collect(Collectors.toSet()),
+                categories.stream().map(CategoryID::from).collect(Collectors.toSet()),
+                genres.stream().map(GenreID::from).collect(Collectors.toSet()));
+    }
+}